@@ -0,0 +1,57 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http;
+
+import com.github.ljtfreitas.restify.http.contract.AcceptJson;
+import com.github.ljtfreitas.restify.http.contract.BodyParameter;
+import com.github.ljtfreitas.restify.http.contract.CookieParameter;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Header;
+import com.github.ljtfreitas.restify.http.contract.HeaderParameter;
+import com.github.ljtfreitas.restify.http.contract.JsonContent;
+import com.github.ljtfreitas.restify.http.contract.Path;
+import com.github.ljtfreitas.restify.http.contract.PathParameter;
+import com.github.ljtfreitas.restify.http.contract.Post;
+import com.github.ljtfreitas.restify.http.contract.QueryParameter;
+
+@Path("/models")
+@AcceptJson
+@Header(name = "User-Agent", value = "java-restify-benchmarks")
+public interface BenchmarkApi {
+
+	@Path("/{id}")
+	@Get
+	public BenchmarkModel find(@PathParameter("id") String id);
+
+	@Path("/{id}/name")
+	@Get
+	public String name(@PathParameter("id") String id, @QueryParameter("format") String format,
+			@HeaderParameter("X-Request-Id") String requestId, @CookieParameter("session") String session);
+
+	@Post
+	@JsonContent
+	public BenchmarkModel create(@BodyParameter BenchmarkModel model);
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process HTTP server used by the end-to-end benchmarks, backed by the JDK {@link HttpServer}.
+ * GET requests receive a small JSON document; POST requests receive their own body.
+ */
+public class LocalHttpServer implements Closeable {
+
+	private static final byte[] JSON = "{\"name\":\"Tiago de Freitas Lima\",\"age\":31}".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] TEXT = "Tiago de Freitas Lima".getBytes(StandardCharsets.UTF_8);
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	static {
+		// the JDK server writes status line and body separately; without TCP_NODELAY every call pays the delayed-ack penalty
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+	}
+
+	public LocalHttpServer() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.executor = Executors.newFixedThreadPool(4);
+
+		server.setExecutor(executor);
+		server.createContext("/", this::handle);
+		server.start();
+	}
+
+	public String endpoint() {
+		return "http://localhost:" + server.getAddress().getPort();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		byte[] response;
+		String contentType;
+
+		if ("POST".equals(exchange.getRequestMethod())) {
+			response = read(exchange.getRequestBody());
+			contentType = "application/json";
+
+		} else if (exchange.getRequestURI().getPath().endsWith("/name")) {
+			response = TEXT;
+			contentType = "text/plain";
+
+		} else {
+			drain(exchange.getRequestBody());
+			response = JSON;
+			contentType = "application/json";
+		}
+
+		exchange.getResponseHeaders().add("Content-Type", contentType);
+		exchange.sendResponseHeaders(200, response.length);
+
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(response);
+		}
+	}
+
+	private byte[] read(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		byte[] buffer = new byte[1024];
+		int len;
+		while ((len = input.read(buffer)) != -1) {
+			output.write(buffer, 0, len);
+		}
+
+		return output.toByteArray();
+	}
+
+	private void drain(InputStream input) throws IOException {
+		while (input.read() != -1);
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.client.call.EndpointMethodExecutor;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.contract.metadata.Contract;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestifyProxyHandlerBenchmark {
+
+	private static final BenchmarkModel MODEL = new BenchmarkModel("Tiago de Freitas Lima", 31);
+
+	private BenchmarkApi dispatch;
+	private BenchmarkApi bytecodeDispatch;
+	private BenchmarkApi pipeline;
+	private BenchmarkApi bytecodePipeline;
+
+	@Setup
+	public void setup() {
+		EndpointType endpointType = new Contract(new DefaultContractReader())
+				.read(new EndpointTarget(BenchmarkApi.class, "http://localhost:8080"));
+
+		dispatch = (BenchmarkApi) Proxy.newProxyInstance(BenchmarkApi.class.getClassLoader(), new Class[] { BenchmarkApi.class },
+				new RestifyProxyHandler(endpointType, new ConstantEndpointMethodExecutor()));
+
+		bytecodeDispatch = new BytecodeProxyFactory(new RestifyProxyHandler(endpointType, new ConstantEndpointMethodExecutor()))
+				.create(BenchmarkApi.class);
+
+		pipeline = new RestifyProxyBuilder()
+				.executor(new ConstantEndpointRequestExecutor())
+				.target(BenchmarkApi.class, "http://localhost:8080")
+					.build();
+
+		bytecodePipeline = new RestifyProxyBuilder()
+				.engine(ProxyEngine.BYTECODE)
+				.executor(new ConstantEndpointRequestExecutor())
+				.target(BenchmarkApi.class, "http://localhost:8080")
+					.build();
+	}
+
+	@Benchmark
+	public Object endpointMethodDispatch() {
+		return dispatch.find("1");
+	}
+
+	@Benchmark
+	public Object bytecodeEndpointMethodDispatch() {
+		return bytecodeDispatch.find("1");
+	}
+
+	@Benchmark
+	public Object objectMethodDispatch() {
+		return dispatch.hashCode();
+	}
+
+	@Benchmark
+	public Object bytecodeObjectMethodDispatch() {
+		return bytecodeDispatch.hashCode();
+	}
+
+	@Benchmark
+	public Object inMemoryPipeline() {
+		return pipeline.find("1");
+	}
+
+	@Benchmark
+	public Object bytecodeInMemoryPipeline() {
+		return bytecodePipeline.find("1");
+	}
+
+	@Benchmark
+	public Object inMemoryPipelineWithParameters() {
+		return pipeline.name("1", "plain", "abc", "xyz");
+	}
+
+	private static class ConstantEndpointMethodExecutor extends EndpointMethodExecutor {
+
+		private ConstantEndpointMethodExecutor() {
+			super(null, null, null);
+		}
+
+		@Override
+		public Object execute(EndpointMethod endpointMethod, Object[] args) {
+			return MODEL;
+		}
+	}
+
+	private static class ConstantEndpointRequestExecutor implements EndpointRequestExecutor {
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
+			Object body = endpointRequest.responseType().is(String.class) ? MODEL.getName() : MODEL;
+			return EndpointResponse.of(StatusCode.ok(), (T) body);
+		}
+	}
+}
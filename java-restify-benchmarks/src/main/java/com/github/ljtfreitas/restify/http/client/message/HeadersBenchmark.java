@@ -0,0 +1,104 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeadersBenchmark {
+
+	@Param({"4", "16"})
+	private int size;
+
+	private Header[] source;
+	private Headers headers;
+	private String last;
+
+	@Setup
+	public void setup() {
+		source = new Header[size];
+		for (int i = 0; i < size; i++) {
+			source[i] = Header.of("X-Header-" + i, "value-" + i);
+		}
+		headers = new Headers(source);
+		last = "x-header-" + (size - 1);
+	}
+
+	@Benchmark
+	public Headers addOneByOne() {
+		Headers headers = new Headers();
+		for (Header header : source) {
+			headers = headers.add(header);
+		}
+		return headers;
+	}
+
+	@Benchmark
+	public Headers addWithBuilder() {
+		Headers.Builder builder = new Headers.Builder();
+		for (Header header : source) {
+			builder.add(header);
+		}
+		return builder.build();
+	}
+
+	@Benchmark
+	public Optional<Header> get() {
+		return headers.get(last);
+	}
+
+	@Benchmark
+	public Headers replace() {
+		return headers.replace(last, "replaced");
+	}
+
+	@Benchmark
+	public int iterate() {
+		int count = 0;
+		for (Header header : headers) {
+			count += header.value().length();
+		}
+		return count;
+	}
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.converter;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.BenchmarkModel;
+import com.github.ljtfreitas.restify.http.client.message.ContentType;
+import com.github.ljtfreitas.restify.http.client.message.converter.json.JacksonMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.converter.text.ScalarMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.converter.text.TextHtmlMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.converter.text.TextPlainMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.converter.xml.JaxBXmlMessageConverter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpMessageConvertersBenchmark {
+
+	private final HttpMessageConverters converters = new HttpMessageConverters(Arrays.asList(
+			new TextPlainMessageConverter(), new TextHtmlMessageConverter(), new ScalarMessageConverter(),
+			new JaxBXmlMessageConverter<>(), new JacksonMessageConverter<>()));
+
+	private final ContentType json = ContentType.of("application/json");
+	private final ContentType jsonWithCharset = ContentType.of("application/json; charset=UTF-8");
+	private final ContentType text = ContentType.of("text/plain");
+
+	@Benchmark
+	public Optional<HttpMessageReader<Object>> readerOfJson() {
+		return converters.readerOf(json, BenchmarkModel.class);
+	}
+
+	@Benchmark
+	public Optional<HttpMessageReader<Object>> readerOfJsonWithCharset() {
+		return converters.readerOf(jsonWithCharset, BenchmarkModel.class);
+	}
+
+	@Benchmark
+	public Optional<HttpMessageReader<Object>> readerOfText() {
+		return converters.readerOf(text, String.class);
+	}
+
+	@Benchmark
+	public Optional<HttpMessageWriter<Object>> writerOfJson() {
+		return converters.writerOf(json, BenchmarkModel.class);
+	}
+}
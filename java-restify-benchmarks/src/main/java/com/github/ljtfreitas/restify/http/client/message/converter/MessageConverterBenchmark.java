@@ -0,0 +1,221 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.BenchmarkModel;
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.converter.json.GsonMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.converter.json.JacksonMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.converter.json.JsonBMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.converter.json.JsonPMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.converter.xml.JaxBXmlMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.request.BufferedByteArrayHttpRequestBody;
+import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestBody;
+import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.InputStreamHttpResponseBody;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageConverterBenchmark {
+
+	private static final String JSON = "{\"name\":\"Tiago de Freitas Lima\",\"age\":31}";
+	private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><model><age>31</age><name>Tiago de Freitas Lima</name></model>";
+
+	@Param({"jackson", "gson", "jsonb", "jsonp", "jaxb"})
+	private String converter;
+
+	private HttpMessageReader<Object> reader;
+	private HttpMessageWriter<Object> writer;
+
+	private Class<?> type;
+	private Object body;
+	private byte[] source;
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Setup
+	public void setup() {
+		BenchmarkModel model = new BenchmarkModel("Tiago de Freitas Lima", 31);
+
+		HttpMessageConverter messageConverter;
+
+		type = BenchmarkModel.class;
+		body = model;
+		source = JSON.getBytes(StandardCharsets.UTF_8);
+
+		switch (converter) {
+			case "jackson":
+				messageConverter = new JacksonMessageConverter<>();
+				break;
+
+			case "gson":
+				messageConverter = new GsonMessageConverter<>();
+				break;
+
+			case "jsonb":
+				messageConverter = new JsonBMessageConverter<>();
+				break;
+
+			case "jsonp":
+				messageConverter = new JsonPMessageConverter();
+				type = JsonObject.class;
+				body = Json.createReader(new StringReader(JSON)).readObject();
+				break;
+
+			case "jaxb":
+				messageConverter = new JaxBXmlMessageConverter<>();
+				source = XML.getBytes(StandardCharsets.UTF_8);
+				break;
+
+			default:
+				throw new IllegalArgumentException("Unsupported converter: " + converter);
+		}
+
+		reader = (HttpMessageReader) messageConverter;
+		writer = (HttpMessageWriter) messageConverter;
+	}
+
+	@Benchmark
+	public Object read() {
+		return reader.read(new SimpleHttpResponseMessage(source), type);
+	}
+
+	@Benchmark
+	public int write() {
+		SimpleHttpRequestMessage request = new SimpleHttpRequestMessage();
+		writer.write(body, request);
+
+		int size = request.body.size();
+		request.body.release();
+
+		return size;
+	}
+
+	static class SimpleHttpRequestMessage implements HttpRequestMessage {
+
+		private final BufferedByteArrayHttpRequestBody body = new BufferedByteArrayHttpRequestBody(StandardCharsets.UTF_8);
+		private final Headers headers = new Headers();
+
+		@Override
+		public Headers headers() {
+			return headers;
+		}
+
+		@Override
+		public URI uri() {
+			return URI.create("http://localhost:8080");
+		}
+
+		@Override
+		public String method() {
+			return "POST";
+		}
+
+		@Override
+		public HttpRequestBody body() {
+			return body;
+		}
+
+		@Override
+		public Charset charset() {
+			return StandardCharsets.UTF_8;
+		}
+
+		@Override
+		public HttpRequestMessage replace(Header header) {
+			return this;
+		}
+	}
+
+	static class SimpleHttpResponseMessage implements HttpResponseMessage {
+
+		private final HttpResponseBody body;
+		private final Headers headers = new Headers();
+
+		SimpleHttpResponseMessage(byte[] source) {
+			this.body = new InputStreamHttpResponseBody(new ByteArrayInputStream(source));
+		}
+
+		@Override
+		public Headers headers() {
+			return headers;
+		}
+
+		@Override
+		public StatusCode status() {
+			return StatusCode.ok();
+		}
+
+		@Override
+		public HttpResponseBody body() {
+			return body;
+		}
+
+		@Override
+		public boolean available() {
+			return true;
+		}
+
+		@Override
+		public HttpRequestMessage request() {
+			return null;
+		}
+
+		@Override
+		public void close() throws IOException {
+		}
+	}
+}
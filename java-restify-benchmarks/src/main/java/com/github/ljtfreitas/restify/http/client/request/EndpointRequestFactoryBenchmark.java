@@ -0,0 +1,102 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.BenchmarkApi;
+import com.github.ljtfreitas.restify.http.BenchmarkModel;
+import com.github.ljtfreitas.restify.http.contract.metadata.Contract;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EndpointRequestFactoryBenchmark {
+
+	private final EndpointRequestFactory endpointRequestFactory = new EndpointRequestFactory();
+
+	private EndpointMethod find;
+	private EndpointMethod name;
+	private EndpointMethod create;
+
+	private Object[] findArgs;
+	private Object[] nameArgs;
+	private Object[] createArgs;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		EndpointType endpointType = new Contract(new DefaultContractReader())
+				.read(new EndpointTarget(BenchmarkApi.class, "http://localhost:8080"));
+
+		find = endpointType.find(BenchmarkApi.class.getMethod("find", String.class)).get();
+		name = endpointType.find(BenchmarkApi.class.getMethod("name", String.class, String.class, String.class, String.class)).get();
+		create = endpointType.find(BenchmarkApi.class.getMethod("create", BenchmarkModel.class)).get();
+
+		findArgs = new Object[] { "1" };
+		nameArgs = new Object[] { "1", "plain", "abc", "xyz" };
+		createArgs = new Object[] { new BenchmarkModel("Tiago de Freitas Lima", 31) };
+	}
+
+	@Benchmark
+	public EndpointRequest pathParameter() {
+		return endpointRequestFactory.createWith(find, findArgs);
+	}
+
+	@Benchmark
+	public EndpointRequest pathQueryHeaderAndCookieParameters() {
+		return endpointRequestFactory.createWith(name, nameArgs);
+	}
+
+	@Benchmark
+	public EndpointRequest bodyParameter() {
+		return endpointRequestFactory.createWith(create, createArgs);
+	}
+
+	@Benchmark
+	public URI expand() throws URISyntaxException {
+		return name.expand(nameArgs);
+	}
+}
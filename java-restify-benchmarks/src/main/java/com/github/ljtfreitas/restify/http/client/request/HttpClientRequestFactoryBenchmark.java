@@ -0,0 +1,131 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.BenchmarkApi;
+import com.github.ljtfreitas.restify.http.BenchmarkModel;
+import com.github.ljtfreitas.restify.http.LocalHttpServer;
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.client.apache.httpclient.ApacheHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.jdk.JdkHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.message.converter.json.JacksonMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.converter.text.TextPlainMessageConverter;
+import com.github.ljtfreitas.restify.http.client.netty.NettyHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.okhttp.OkHttpClientRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.vertx.VertxHttpClientRequestFactory;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpClientRequestFactoryBenchmark {
+
+	@Param({"jdk", "apache", "okhttp", "netty", "vertx"})
+	private String client;
+
+	private LocalHttpServer server;
+	private HttpClientRequestFactory httpClientRequestFactory;
+	private BenchmarkApi api;
+
+	private final BenchmarkModel model = new BenchmarkModel("Tiago de Freitas Lima", 31);
+
+	@Setup
+	public void setup() throws IOException {
+		server = new LocalHttpServer();
+
+		httpClientRequestFactory = newHttpClientRequestFactory();
+
+		api = new RestifyProxyBuilder()
+				.client(httpClientRequestFactory)
+				.converters(new JacksonMessageConverter<>(), new TextPlainMessageConverter())
+				.target(BenchmarkApi.class, server.endpoint())
+					.build();
+	}
+
+	private HttpClientRequestFactory newHttpClientRequestFactory() {
+		switch (client) {
+			case "jdk":
+				return new JdkHttpClientRequestFactory();
+
+			case "apache":
+				return new ApacheHttpClientRequestFactory();
+
+			case "okhttp":
+				return new OkHttpClientRequestFactory();
+
+			case "netty":
+				return new NettyHttpClientRequestFactory();
+
+			case "vertx":
+				return new VertxHttpClientRequestFactory();
+
+			default:
+				throw new IllegalArgumentException("Unsupported client: " + client);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		if (httpClientRequestFactory instanceof Closeable) {
+			((Closeable) httpClientRequestFactory).close();
+		}
+		server.close();
+	}
+
+	@Benchmark
+	public BenchmarkModel get() {
+		return api.find("1");
+	}
+
+	@Benchmark
+	public String getWithParameters() {
+		return api.name("1", "plain", "abc", "xyz");
+	}
+
+	@Benchmark
+	public BenchmarkModel post() {
+		return api.create(model);
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.BenchmarkModel;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader.ReadingMode;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContractReaderBenchmark {
+
+	private final EndpointTarget target = new EndpointTarget(LargeBenchmarkApi.class, "http://localhost:8080");
+
+	private DefaultContractReader eager;
+	private DefaultContractReader lazy;
+	private DefaultContractReader parallel;
+
+	private Method[] usedMethods;
+
+	@Setup
+	public void setup() throws Exception {
+		SimpleContractExpressionResolver resolver = new SimpleContractExpressionResolver();
+
+		eager = new DefaultContractReader(resolver, ReadingMode.EAGER);
+		lazy = new DefaultContractReader(resolver, ReadingMode.LAZY);
+		parallel = new DefaultContractReader(resolver, ReadingMode.PARALLEL);
+
+		usedMethods = new Method[] {
+			LargeBenchmarkApi.class.getMethod("findOrders", String.class),
+			LargeBenchmarkApi.class.getMethod("createOrders", BenchmarkModel.class),
+			LargeBenchmarkApi.class.getMethod("searchProducts", String.class, int.class, String.class)
+		};
+	}
+
+	@Benchmark
+	public Object eager() {
+		return eager.read(target);
+	}
+
+	@Benchmark
+	public Object parallel() {
+		return parallel.read(target);
+	}
+
+	@Benchmark
+	public Object lazy() {
+		return lazy.read(target);
+	}
+
+	@Benchmark
+	public Object lazyWithThreeMethodsUsed() {
+		EndpointMethods endpointMethods = lazy.read(target);
+
+		for (Method method : usedMethods) {
+			endpointMethods.find(method);
+		}
+
+		return endpointMethods;
+	}
+}
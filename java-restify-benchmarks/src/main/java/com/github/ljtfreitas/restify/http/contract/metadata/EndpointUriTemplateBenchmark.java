@@ -0,0 +1,153 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ljtfreitas.restify.http.BenchmarkApi;
+
+/**
+ * Compares {@link EndpointMethod#expand(Object[])} (a template compiled when the contract is read) with the expansion it
+ * replaced, kept here as {@link RegexExpansion}: a placeholder regex on every call, followed by the query parameters
+ * joined from streams and a second parsing of the URI.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EndpointUriTemplateBenchmark {
+
+	private EndpointMethod find;
+	private EndpointMethod name;
+
+	private Object[] findArgs;
+	private Object[] nameArgs;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		EndpointType endpointType = new Contract(new DefaultContractReader())
+				.read(new EndpointTarget(BenchmarkApi.class, "http://localhost:8080"));
+
+		find = endpointType.find(BenchmarkApi.class.getMethod("find", String.class)).get();
+		name = endpointType.find(BenchmarkApi.class.getMethod("name", String.class, String.class, String.class, String.class)).get();
+
+		findArgs = new Object[] { "1" };
+		nameArgs = new Object[] { "1", "plain", "abc", "xyz" };
+	}
+
+	@Benchmark
+	public URI templatePath() throws URISyntaxException {
+		return find.expand(findArgs);
+	}
+
+	@Benchmark
+	public URI regexPath() throws URISyntaxException {
+		return RegexExpansion.expand(find, findArgs);
+	}
+
+	@Benchmark
+	public URI templatePathAndQuery() throws URISyntaxException {
+		return name.expand(nameArgs);
+	}
+
+	@Benchmark
+	public URI regexPathAndQuery() throws URISyntaxException {
+		return RegexExpansion.expand(name, nameArgs);
+	}
+
+	/**
+	 * The former expansion of {@link EndpointMethod} (with PathParameterResolver and QueryParameterResolver),
+	 * kept as the reference of this benchmark.
+	 */
+	private static class RegexExpansion {
+
+		private static URI expand(EndpointMethod endpointMethod, Object[] args) throws URISyntaxException {
+			URI endpoint = new URI(path(endpointMethod.path(), endpointMethod.parameters(), args));
+
+			String query = Stream.of(endpoint.getQuery(), query(endpointMethod.parameters().query(), args))
+					.filter(s -> s != null && !s.trim().isEmpty())
+						.collect(Collectors.joining("&"));
+
+			return new URI(endpoint.getScheme(), endpoint.getUserInfo(), endpoint.getHost(),
+					endpoint.getPort(), endpoint.getPath(), "".equals(query) ? null : query, endpoint.getFragment());
+		}
+
+		private static String path(String path, EndpointMethodParameters parameters, Object[] args) {
+			StringBuffer builder = new StringBuffer();
+
+			Matcher matcher = DynamicParameterMatcher.matches(path);
+
+			while (matcher.find()) {
+				MatchResult match = matcher.toMatchResult();
+
+				String name = match.group(1);
+
+				parameters.find(name)
+					.filter(p -> p.path())
+						.ifPresent(p -> matcher.appendReplacement(builder,
+								Optional.ofNullable(args[p.position()]).map(a -> p.resolve(a))
+									.orElseThrow(() -> new IllegalArgumentException("Your path argument [" + name + "] cannot be null."))));
+			}
+
+			matcher.appendTail(builder);
+
+			return builder.toString();
+		}
+
+		private static String query(Collection<EndpointMethodParameter> parameters, Object[] args) {
+			String query = parameters.stream().filter(EndpointMethodParameter::query)
+				.map(p -> args.length < p.position() ? "" : Optional.ofNullable(args[p.position()]).map(p::resolve).orElse(""))
+					.filter(p -> !"".equals(p))
+						.collect(Collectors.joining("&"));
+
+			return Optional.ofNullable(query)
+					.map(String::trim)
+						.filter(s -> !s.isEmpty())
+							.orElse("");
+		}
+	}
+}
@@ -0,0 +1,589 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import com.github.ljtfreitas.restify.http.BenchmarkModel;
+import com.github.ljtfreitas.restify.http.contract.AcceptJson;
+import com.github.ljtfreitas.restify.http.contract.BodyParameter;
+import com.github.ljtfreitas.restify.http.contract.CookieParameter;
+import com.github.ljtfreitas.restify.http.contract.Delete;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Header;
+import com.github.ljtfreitas.restify.http.contract.HeaderParameter;
+import com.github.ljtfreitas.restify.http.contract.JsonContent;
+import com.github.ljtfreitas.restify.http.contract.Path;
+import com.github.ljtfreitas.restify.http.contract.PathParameter;
+import com.github.ljtfreitas.restify.http.contract.Post;
+import com.github.ljtfreitas.restify.http.contract.QueryParameter;
+
+/**
+ * An interface with 120 endpoint methods (30 resources with 4 methods each), used to measure contract reading.
+ */
+@Path("/api")
+@AcceptJson
+@Header(name = "User-Agent", value = "java-restify-benchmarks")
+public interface LargeBenchmarkApi {
+
+	@Path("/accounts/{id}")
+	@Get
+	public BenchmarkModel findAccounts(@PathParameter("id") String id);
+
+	@Path("/accounts")
+	@Get
+	public String searchAccounts(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/accounts")
+	@Post
+	@JsonContent
+	public BenchmarkModel createAccounts(@BodyParameter BenchmarkModel model);
+
+	@Path("/accounts/{id}")
+	@Delete
+	public void deleteAccounts(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/addresses/{id}")
+	@Get
+	public BenchmarkModel findAddresses(@PathParameter("id") String id);
+
+	@Path("/addresses")
+	@Get
+	public String searchAddresses(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/addresses")
+	@Post
+	@JsonContent
+	public BenchmarkModel createAddresses(@BodyParameter BenchmarkModel model);
+
+	@Path("/addresses/{id}")
+	@Delete
+	public void deleteAddresses(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/attachments/{id}")
+	@Get
+	public BenchmarkModel findAttachments(@PathParameter("id") String id);
+
+	@Path("/attachments")
+	@Get
+	public String searchAttachments(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/attachments")
+	@Post
+	@JsonContent
+	public BenchmarkModel createAttachments(@BodyParameter BenchmarkModel model);
+
+	@Path("/attachments/{id}")
+	@Delete
+	public void deleteAttachments(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/audits/{id}")
+	@Get
+	public BenchmarkModel findAudits(@PathParameter("id") String id);
+
+	@Path("/audits")
+	@Get
+	public String searchAudits(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/audits")
+	@Post
+	@JsonContent
+	public BenchmarkModel createAudits(@BodyParameter BenchmarkModel model);
+
+	@Path("/audits/{id}")
+	@Delete
+	public void deleteAudits(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/batches/{id}")
+	@Get
+	public BenchmarkModel findBatches(@PathParameter("id") String id);
+
+	@Path("/batches")
+	@Get
+	public String searchBatches(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/batches")
+	@Post
+	@JsonContent
+	public BenchmarkModel createBatches(@BodyParameter BenchmarkModel model);
+
+	@Path("/batches/{id}")
+	@Delete
+	public void deleteBatches(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/campaigns/{id}")
+	@Get
+	public BenchmarkModel findCampaigns(@PathParameter("id") String id);
+
+	@Path("/campaigns")
+	@Get
+	public String searchCampaigns(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/campaigns")
+	@Post
+	@JsonContent
+	public BenchmarkModel createCampaigns(@BodyParameter BenchmarkModel model);
+
+	@Path("/campaigns/{id}")
+	@Delete
+	public void deleteCampaigns(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/carts/{id}")
+	@Get
+	public BenchmarkModel findCarts(@PathParameter("id") String id);
+
+	@Path("/carts")
+	@Get
+	public String searchCarts(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/carts")
+	@Post
+	@JsonContent
+	public BenchmarkModel createCarts(@BodyParameter BenchmarkModel model);
+
+	@Path("/carts/{id}")
+	@Delete
+	public void deleteCarts(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/categories/{id}")
+	@Get
+	public BenchmarkModel findCategories(@PathParameter("id") String id);
+
+	@Path("/categories")
+	@Get
+	public String searchCategories(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/categories")
+	@Post
+	@JsonContent
+	public BenchmarkModel createCategories(@BodyParameter BenchmarkModel model);
+
+	@Path("/categories/{id}")
+	@Delete
+	public void deleteCategories(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/comments/{id}")
+	@Get
+	public BenchmarkModel findComments(@PathParameter("id") String id);
+
+	@Path("/comments")
+	@Get
+	public String searchComments(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/comments")
+	@Post
+	@JsonContent
+	public BenchmarkModel createComments(@BodyParameter BenchmarkModel model);
+
+	@Path("/comments/{id}")
+	@Delete
+	public void deleteComments(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/contacts/{id}")
+	@Get
+	public BenchmarkModel findContacts(@PathParameter("id") String id);
+
+	@Path("/contacts")
+	@Get
+	public String searchContacts(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/contacts")
+	@Post
+	@JsonContent
+	public BenchmarkModel createContacts(@BodyParameter BenchmarkModel model);
+
+	@Path("/contacts/{id}")
+	@Delete
+	public void deleteContacts(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/contracts/{id}")
+	@Get
+	public BenchmarkModel findContracts(@PathParameter("id") String id);
+
+	@Path("/contracts")
+	@Get
+	public String searchContracts(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/contracts")
+	@Post
+	@JsonContent
+	public BenchmarkModel createContracts(@BodyParameter BenchmarkModel model);
+
+	@Path("/contracts/{id}")
+	@Delete
+	public void deleteContracts(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/coupons/{id}")
+	@Get
+	public BenchmarkModel findCoupons(@PathParameter("id") String id);
+
+	@Path("/coupons")
+	@Get
+	public String searchCoupons(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/coupons")
+	@Post
+	@JsonContent
+	public BenchmarkModel createCoupons(@BodyParameter BenchmarkModel model);
+
+	@Path("/coupons/{id}")
+	@Delete
+	public void deleteCoupons(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/customers/{id}")
+	@Get
+	public BenchmarkModel findCustomers(@PathParameter("id") String id);
+
+	@Path("/customers")
+	@Get
+	public String searchCustomers(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/customers")
+	@Post
+	@JsonContent
+	public BenchmarkModel createCustomers(@BodyParameter BenchmarkModel model);
+
+	@Path("/customers/{id}")
+	@Delete
+	public void deleteCustomers(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/deliveries/{id}")
+	@Get
+	public BenchmarkModel findDeliveries(@PathParameter("id") String id);
+
+	@Path("/deliveries")
+	@Get
+	public String searchDeliveries(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/deliveries")
+	@Post
+	@JsonContent
+	public BenchmarkModel createDeliveries(@BodyParameter BenchmarkModel model);
+
+	@Path("/deliveries/{id}")
+	@Delete
+	public void deleteDeliveries(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/devices/{id}")
+	@Get
+	public BenchmarkModel findDevices(@PathParameter("id") String id);
+
+	@Path("/devices")
+	@Get
+	public String searchDevices(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/devices")
+	@Post
+	@JsonContent
+	public BenchmarkModel createDevices(@BodyParameter BenchmarkModel model);
+
+	@Path("/devices/{id}")
+	@Delete
+	public void deleteDevices(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/documents/{id}")
+	@Get
+	public BenchmarkModel findDocuments(@PathParameter("id") String id);
+
+	@Path("/documents")
+	@Get
+	public String searchDocuments(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/documents")
+	@Post
+	@JsonContent
+	public BenchmarkModel createDocuments(@BodyParameter BenchmarkModel model);
+
+	@Path("/documents/{id}")
+	@Delete
+	public void deleteDocuments(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/events/{id}")
+	@Get
+	public BenchmarkModel findEvents(@PathParameter("id") String id);
+
+	@Path("/events")
+	@Get
+	public String searchEvents(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/events")
+	@Post
+	@JsonContent
+	public BenchmarkModel createEvents(@BodyParameter BenchmarkModel model);
+
+	@Path("/events/{id}")
+	@Delete
+	public void deleteEvents(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/groups/{id}")
+	@Get
+	public BenchmarkModel findGroups(@PathParameter("id") String id);
+
+	@Path("/groups")
+	@Get
+	public String searchGroups(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/groups")
+	@Post
+	@JsonContent
+	public BenchmarkModel createGroups(@BodyParameter BenchmarkModel model);
+
+	@Path("/groups/{id}")
+	@Delete
+	public void deleteGroups(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/invoices/{id}")
+	@Get
+	public BenchmarkModel findInvoices(@PathParameter("id") String id);
+
+	@Path("/invoices")
+	@Get
+	public String searchInvoices(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/invoices")
+	@Post
+	@JsonContent
+	public BenchmarkModel createInvoices(@BodyParameter BenchmarkModel model);
+
+	@Path("/invoices/{id}")
+	@Delete
+	public void deleteInvoices(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/items/{id}")
+	@Get
+	public BenchmarkModel findItems(@PathParameter("id") String id);
+
+	@Path("/items")
+	@Get
+	public String searchItems(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/items")
+	@Post
+	@JsonContent
+	public BenchmarkModel createItems(@BodyParameter BenchmarkModel model);
+
+	@Path("/items/{id}")
+	@Delete
+	public void deleteItems(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/jobs/{id}")
+	@Get
+	public BenchmarkModel findJobs(@PathParameter("id") String id);
+
+	@Path("/jobs")
+	@Get
+	public String searchJobs(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/jobs")
+	@Post
+	@JsonContent
+	public BenchmarkModel createJobs(@BodyParameter BenchmarkModel model);
+
+	@Path("/jobs/{id}")
+	@Delete
+	public void deleteJobs(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/messages/{id}")
+	@Get
+	public BenchmarkModel findMessages(@PathParameter("id") String id);
+
+	@Path("/messages")
+	@Get
+	public String searchMessages(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/messages")
+	@Post
+	@JsonContent
+	public BenchmarkModel createMessages(@BodyParameter BenchmarkModel model);
+
+	@Path("/messages/{id}")
+	@Delete
+	public void deleteMessages(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/notes/{id}")
+	@Get
+	public BenchmarkModel findNotes(@PathParameter("id") String id);
+
+	@Path("/notes")
+	@Get
+	public String searchNotes(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/notes")
+	@Post
+	@JsonContent
+	public BenchmarkModel createNotes(@BodyParameter BenchmarkModel model);
+
+	@Path("/notes/{id}")
+	@Delete
+	public void deleteNotes(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/orders/{id}")
+	@Get
+	public BenchmarkModel findOrders(@PathParameter("id") String id);
+
+	@Path("/orders")
+	@Get
+	public String searchOrders(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/orders")
+	@Post
+	@JsonContent
+	public BenchmarkModel createOrders(@BodyParameter BenchmarkModel model);
+
+	@Path("/orders/{id}")
+	@Delete
+	public void deleteOrders(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/payments/{id}")
+	@Get
+	public BenchmarkModel findPayments(@PathParameter("id") String id);
+
+	@Path("/payments")
+	@Get
+	public String searchPayments(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/payments")
+	@Post
+	@JsonContent
+	public BenchmarkModel createPayments(@BodyParameter BenchmarkModel model);
+
+	@Path("/payments/{id}")
+	@Delete
+	public void deletePayments(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/permissions/{id}")
+	@Get
+	public BenchmarkModel findPermissions(@PathParameter("id") String id);
+
+	@Path("/permissions")
+	@Get
+	public String searchPermissions(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/permissions")
+	@Post
+	@JsonContent
+	public BenchmarkModel createPermissions(@BodyParameter BenchmarkModel model);
+
+	@Path("/permissions/{id}")
+	@Delete
+	public void deletePermissions(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/products/{id}")
+	@Get
+	public BenchmarkModel findProducts(@PathParameter("id") String id);
+
+	@Path("/products")
+	@Get
+	public String searchProducts(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/products")
+	@Post
+	@JsonContent
+	public BenchmarkModel createProducts(@BodyParameter BenchmarkModel model);
+
+	@Path("/products/{id}")
+	@Delete
+	public void deleteProducts(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/projects/{id}")
+	@Get
+	public BenchmarkModel findProjects(@PathParameter("id") String id);
+
+	@Path("/projects")
+	@Get
+	public String searchProjects(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/projects")
+	@Post
+	@JsonContent
+	public BenchmarkModel createProjects(@BodyParameter BenchmarkModel model);
+
+	@Path("/projects/{id}")
+	@Delete
+	public void deleteProjects(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/reports/{id}")
+	@Get
+	public BenchmarkModel findReports(@PathParameter("id") String id);
+
+	@Path("/reports")
+	@Get
+	public String searchReports(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/reports")
+	@Post
+	@JsonContent
+	public BenchmarkModel createReports(@BodyParameter BenchmarkModel model);
+
+	@Path("/reports/{id}")
+	@Delete
+	public void deleteReports(@PathParameter("id") String id, @CookieParameter("session") String session);
+
+	@Path("/shipments/{id}")
+	@Get
+	public BenchmarkModel findShipments(@PathParameter("id") String id);
+
+	@Path("/shipments")
+	@Get
+	public String searchShipments(@QueryParameter("q") String query, @QueryParameter("page") int page,
+			@HeaderParameter("X-Request-Id") String requestId);
+
+	@Path("/shipments")
+	@Post
+	@JsonContent
+	public BenchmarkModel createShipments(@BodyParameter BenchmarkModel model);
+
+	@Path("/shipments/{id}")
+	@Delete
+	public void deleteShipments(@PathParameter("id") String id, @CookieParameter("session") String session);
+}
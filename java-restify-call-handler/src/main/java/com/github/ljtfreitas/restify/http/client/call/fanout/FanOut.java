@@ -0,0 +1,250 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.call.fanout;
+
+import static com.github.ljtfreitas.restify.util.Preconditions.isTrue;
+import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import com.github.ljtfreitas.restify.http.client.HttpException;
+import com.github.ljtfreitas.restify.util.async.DisposableExecutors;
+
+/**
+ * Invokes the same endpoint method with many arguments, keeping at most {@code concurrency} calls in flight.
+ * Results are returned in the order of the arguments.
+ * <p>
+ * Asynchronous methods (returning {@link CompletionStage}) are invoked with {@link #executeAsync(Collection, Function)}
+ * and don't hold any thread while waiting; synchronous methods are submitted to the configured {@link Executor}.
+ * <p>
+ * In {@link FanOutMode#FAIL_FAST} mode, the first failure completes the result and no further calls are started.
+ * In {@link FanOutMode#COLLECT_PARTIAL} mode, all calls are executed and failures are reported together
+ * by a {@link FanOutException}, which also carries the successful results.
+ */
+public class FanOut {
+
+	private final int concurrency;
+	private final FanOutMode mode;
+	private final Executor executor;
+
+	private FanOut(int concurrency, FanOutMode mode, Executor executor) {
+		this.concurrency = concurrency;
+		this.mode = mode;
+		this.executor = executor;
+	}
+
+	public int concurrency() {
+		return concurrency;
+	}
+
+	public FanOutMode mode() {
+		return mode;
+	}
+
+	public <A, T> List<T> execute(Collection<A> arguments, Function<A, T> call) {
+		try {
+			return submit(arguments, call).toCompletableFuture().get();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HttpException("Interrupted exception on fan-out execution.", e);
+
+		} catch (ExecutionException e) {
+			Throwable cause = deepCause(e.getCause());
+			throw (cause instanceof RuntimeException) ? (RuntimeException) cause : new HttpException(cause);
+		}
+	}
+
+	public <A, T> CompletionStage<List<T>> submit(Collection<A> arguments, Function<A, T> call) {
+		nonNull(call, "Fan-out call cannot be null.");
+		return executeAsync(arguments, a -> CompletableFuture.supplyAsync(() -> call.apply(a), executor));
+	}
+
+	public <A, T> CompletionStage<List<T>> executeAsync(Collection<A> arguments, Function<A, ? extends CompletionStage<T>> call) {
+		nonNull(arguments, "Fan-out arguments cannot be null.");
+		nonNull(call, "Fan-out call cannot be null.");
+		return new FanOutExecution<>(new ArrayList<>(arguments), call).start();
+	}
+
+	private static Throwable deepCause(Throwable throwable) {
+		return (throwable instanceof CompletionException && throwable.getCause() != null) ?
+				deepCause(throwable.getCause()) :
+					throwable;
+	}
+
+	@Override
+	public String toString() {
+		return "FanOut: [concurrency: " + concurrency + ", mode: " + mode + "]";
+	}
+
+	public static FanOut of(int concurrency) {
+		return new Builder().concurrency(concurrency).build();
+	}
+
+	public enum FanOutMode {
+		FAIL_FAST, COLLECT_PARTIAL;
+	}
+
+	private class FanOutExecution<A, T> {
+
+		private final List<A> arguments;
+		private final Function<A, ? extends CompletionStage<T>> call;
+		private final AtomicReferenceArray<T> results;
+		private final Map<Integer, Throwable> failures = new TreeMap<>();
+		private final CompletableFuture<List<T>> future = new CompletableFuture<>();
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicInteger completed = new AtomicInteger();
+		private final AtomicInteger draining = new AtomicInteger();
+
+		private int next = 0;
+
+		private FanOutExecution(List<A> arguments, Function<A, ? extends CompletionStage<T>> call) {
+			this.arguments = arguments;
+			this.call = call;
+			this.results = new AtomicReferenceArray<>(arguments.size());
+		}
+
+		private CompletionStage<List<T>> start() {
+			if (arguments.isEmpty()) {
+				future.complete(new ArrayList<>());
+			} else {
+				drain();
+			}
+			return future;
+		}
+
+		private void drain() {
+			if (draining.getAndIncrement() != 0) return;
+
+			do {
+				while (!future.isDone() && next < arguments.size() && inFlight.get() < concurrency) {
+					inFlight.incrementAndGet();
+					launch(next++);
+				}
+			} while (draining.decrementAndGet() != 0);
+		}
+
+		private void launch(int index) {
+			try {
+				CompletionStage<T> stage = nonNull(call.apply(arguments.get(index)), "Fan-out call returned a null CompletionStage.");
+				stage.whenComplete((r, e) -> onComplete(index, r, e));
+
+			} catch (Throwable e) {
+				onComplete(index, null, e);
+			}
+		}
+
+		private void onComplete(int index, T result, Throwable throwable) {
+			if (throwable != null) {
+				Throwable cause = deepCause(throwable);
+
+				if (mode == FanOutMode.FAIL_FAST) {
+					future.completeExceptionally(cause);
+					return;
+				}
+
+				synchronized (failures) {
+					failures.put(index, cause);
+				}
+
+			} else {
+				results.set(index, result);
+			}
+
+			inFlight.decrementAndGet();
+
+			if (completed.incrementAndGet() == arguments.size()) {
+				finish();
+			} else {
+				drain();
+			}
+		}
+
+		private void finish() {
+			List<T> values = new ArrayList<>(results.length());
+			for (int i = 0; i < results.length(); i++) {
+				values.add(results.get(i));
+			}
+
+			if (failures.isEmpty()) {
+				future.complete(values);
+			} else {
+				future.completeExceptionally(new FanOutException(values, failures));
+			}
+		}
+	}
+
+	public static class Builder {
+
+		private int concurrency = Runtime.getRuntime().availableProcessors();
+		private FanOutMode mode = FanOutMode.FAIL_FAST;
+		private Executor executor;
+
+		public Builder concurrency(int concurrency) {
+			isTrue(concurrency > 0, "Fan-out concurrency must be greater than zero.");
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		public Builder failFast() {
+			this.mode = FanOutMode.FAIL_FAST;
+			return this;
+		}
+
+		public Builder collectPartial() {
+			this.mode = FanOutMode.COLLECT_PARTIAL;
+			return this;
+		}
+
+		public Builder executor(Executor executor) {
+			this.executor = nonNull(executor, "Fan-out executor cannot be null.");
+			return this;
+		}
+
+		public FanOut build() {
+			return new FanOut(concurrency, mode, executor == null ? DefaultExecutorHolder.EXECUTOR : executor);
+		}
+	}
+
+	private static class DefaultExecutorHolder {
+
+		private static final Executor EXECUTOR = DisposableExecutors.newCachedThreadPool();
+
+	}
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.call.fanout;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.github.ljtfreitas.restify.http.client.HttpException;
+
+public class FanOutException extends HttpException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient List<?> results;
+	private final transient Map<Integer, Throwable> failures;
+
+	public FanOutException(List<?> results, Map<Integer, Throwable> failures) {
+		super(failures.size() + " of " + results.size() + " fan-out calls failed. Failed argument indexes: " + failures.keySet(),
+				failures.values().iterator().next());
+		this.results = Collections.unmodifiableList(results);
+		this.failures = Collections.unmodifiableMap(new TreeMap<>(failures));
+		failures.values().stream().skip(1).forEach(this::addSuppressed);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> List<T> results() {
+		return (List<T>) results;
+	}
+
+	public Map<Integer, Throwable> failures() {
+		return failures;
+	}
+}
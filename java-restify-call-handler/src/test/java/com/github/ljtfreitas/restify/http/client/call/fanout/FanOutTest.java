@@ -0,0 +1,156 @@
+package com.github.ljtfreitas.restify.http.client.call.fanout;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class FanOutTest {
+
+	@Test
+	public void shouldReturnResultsInArgumentsOrder() {
+		FanOut fanOut = FanOut.of(4);
+
+		List<String> results = fanOut.execute(Arrays.asList(3, 1, 2), i -> {
+			sleep(i * 10);
+			return "result-" + i;
+		});
+
+		assertThat(results, contains("result-3", "result-1", "result-2"));
+	}
+
+	@Test
+	public void shouldNotExceedConcurrencyLimit() throws Exception {
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger max = new AtomicInteger();
+
+		List<CompletableFuture<Integer>> pending = new ArrayList<>();
+
+		FanOut fanOut = FanOut.of(3);
+
+		CompletionStage<List<Integer>> stage = fanOut.executeAsync(range(10), i -> {
+			max.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+			CompletableFuture<Integer> future = new CompletableFuture<>();
+
+			synchronized (pending) {
+				pending.add(future);
+			}
+			return future;
+		});
+
+		for (int i = 0; i < 10; i++) {
+			CompletableFuture<Integer> future;
+			synchronized (pending) {
+				future = pending.get(i);
+			}
+			inFlight.decrementAndGet();
+			future.complete(i);
+		}
+
+		assertThat(stage.toCompletableFuture().get(), contains(range(10).toArray(new Integer[0])));
+		assertThat(max.get(), lessThanOrEqualTo(3));
+	}
+
+	@Test
+	public void shouldHandleLargeNumberOfCompletedStages() throws Exception {
+		FanOut fanOut = FanOut.of(2);
+
+		List<Integer> results = fanOut.<Integer, Integer> executeAsync(range(100000), CompletableFuture::completedFuture)
+				.toCompletableFuture().get();
+
+		assertEquals(100000, results.size());
+		assertEquals(Integer.valueOf(99999), results.get(99999));
+	}
+
+	@Test
+	public void shouldStopOnFirstFailureInFailFastMode() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+
+		FanOut fanOut = new FanOut.Builder().concurrency(1).failFast().build();
+
+		CompletionStage<List<Integer>> stage = fanOut.executeAsync(range(10), i -> {
+			calls.incrementAndGet();
+
+			CompletableFuture<Integer> future = new CompletableFuture<>();
+			if (i == 2) {
+				future.completeExceptionally(new IllegalStateException("failure on " + i));
+			} else {
+				future.complete(i);
+			}
+			return future;
+		});
+
+		try {
+			stage.toCompletableFuture().get();
+			fail("the fan-out execution should fail");
+
+		} catch (ExecutionException e) {
+			assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+		}
+
+		assertEquals(3, calls.get());
+	}
+
+	@Test
+	public void shouldCollectPartialResults() {
+		FanOut fanOut = new FanOut.Builder().concurrency(2).collectPartial().build();
+
+		try {
+			fanOut.execute(range(5), i -> {
+				if (i % 2 == 1) throw new IllegalArgumentException("failure on " + i);
+				return i;
+			});
+			fail("the fan-out execution should fail");
+
+		} catch (FanOutException e) {
+			List<Integer> results = e.results();
+
+			assertEquals(Integer.valueOf(0), results.get(0));
+			assertNull(results.get(1));
+			assertEquals(Integer.valueOf(2), results.get(2));
+			assertNull(results.get(3));
+			assertEquals(Integer.valueOf(4), results.get(4));
+
+			assertThat(e.failures().keySet(), contains(1, 3));
+			assertTrue(e.failures().values().stream().allMatch(IllegalArgumentException.class::isInstance));
+		}
+	}
+
+	@Test
+	public void shouldCompleteWithEmptyListWhenThereAreNoArguments() throws Exception {
+		List<Object> results = FanOut.of(1).executeAsync(new ArrayList<>(), a -> CompletableFuture.completedFuture(a))
+				.toCompletableFuture().get();
+
+		assertTrue(results.isEmpty());
+	}
+
+	private Collection<Integer> range(int size) {
+		return IntStream.range(0, size).boxed().collect(Collectors.toList());
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.processor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+
+class ContractAnnotations {
+
+	private final Elements elements;
+
+	ContractAnnotations(Elements elements) {
+		this.elements = elements;
+	}
+
+	Optional<AnnotationMirror> get(Element element, Class<?> annotationType) {
+		return element.getAnnotationMirrors().stream()
+				.filter(a -> is(a, annotationType))
+					.map(a -> (AnnotationMirror) a)
+						.findFirst();
+	}
+
+	Optional<AnnotationMirror> scan(Element element, Class<?> annotationType) {
+		Optional<AnnotationMirror> annotation = get(element, annotationType);
+
+		return annotation.isPresent() ? annotation : with(element, annotationType)
+				.flatMap(a -> get(a.getAnnotationType().asElement(), annotationType));
+	}
+
+	Collection<AnnotationMirror> scanAll(Element element, Class<?> annotationType, Class<?> containerType) {
+		Collection<AnnotationMirror> annotations = new ArrayList<>();
+
+		get(element, annotationType).ifPresent(annotations::add);
+		get(element, containerType).ifPresent(container -> annotations.addAll(values(container)));
+
+		annotations.addAll(meta(element, annotationType)
+				.map(a -> get(a.getAnnotationType().asElement(), annotationType).get())
+					.collect(Collectors.toList()));
+
+		return annotations;
+	}
+
+	Optional<AnnotationMirror> with(Element element, Class<?> annotationType) {
+		return meta(element, annotationType).findFirst();
+	}
+
+	long countWith(Element element, Class<?> annotationType) {
+		return meta(element, annotationType).count();
+	}
+
+	private Stream<AnnotationMirror> meta(Element element, Class<?> annotationType) {
+		return element.getAnnotationMirrors().stream()
+				.map(a -> (AnnotationMirror) a)
+					.filter(a -> get(a.getAnnotationType().asElement(), annotationType).isPresent());
+	}
+
+	/**
+	 * Whether the element is annotated with the given annotation type, directly or as a meta-annotation; used for annotations
+	 * (JAX-RS, Spring Web) that are not on the classpath of the processor.
+	 */
+	boolean present(Element element, String annotationType) {
+		return element.getAnnotationMirrors().stream()
+				.map(a -> (TypeElement) a.getAnnotationType().asElement())
+					.anyMatch(a -> a.getQualifiedName().contentEquals(annotationType) || a.getAnnotationMirrors().stream()
+							.anyMatch(m -> ((TypeElement) m.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationType)));
+	}
+
+	boolean is(AnnotationMirror annotation, Class<?> annotationType) {
+		TypeElement element = (TypeElement) annotation.getAnnotationType().asElement();
+		return element.getQualifiedName().contentEquals(annotationType.getCanonicalName());
+	}
+
+	Object value(AnnotationMirror annotation, String name) {
+		return elements.getElementValuesWithDefaults(annotation).entrySet().stream()
+				.filter(e -> e.getKey().getSimpleName().contentEquals(name))
+					.map(Map.Entry::getValue)
+						.map(AnnotationValue::getValue)
+							.findFirst()
+								.orElse(null);
+	}
+
+	String string(AnnotationMirror annotation, String name) {
+		return (String) value(annotation, name);
+	}
+
+	@SuppressWarnings("unchecked")
+	Collection<AnnotationMirror> values(AnnotationMirror container) {
+		List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) value(container, "value");
+		return values.stream()
+				.map(v -> (AnnotationMirror) v.getValue())
+					.collect(Collectors.toList());
+	}
+}
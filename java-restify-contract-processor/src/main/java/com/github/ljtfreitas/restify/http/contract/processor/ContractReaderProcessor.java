@@ -0,0 +1,452 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.FilerException;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+import com.github.ljtfreitas.restify.http.contract.BodyParameter;
+import com.github.ljtfreitas.restify.http.contract.CallbackParameter;
+import com.github.ljtfreitas.restify.http.contract.Cookie;
+import com.github.ljtfreitas.restify.http.contract.CookieParameter;
+import com.github.ljtfreitas.restify.http.contract.Cookies;
+import com.github.ljtfreitas.restify.http.contract.DefaultParameterSerializer;
+import com.github.ljtfreitas.restify.http.contract.Header;
+import com.github.ljtfreitas.restify.http.contract.HeaderParameter;
+import com.github.ljtfreitas.restify.http.contract.Headers;
+import com.github.ljtfreitas.restify.http.contract.Method;
+import com.github.ljtfreitas.restify.http.contract.Parameter;
+import com.github.ljtfreitas.restify.http.contract.Path;
+import com.github.ljtfreitas.restify.http.contract.PathParameter;
+import com.github.ljtfreitas.restify.http.contract.QueryParameter;
+import com.github.ljtfreitas.restify.http.contract.QueryParameters;
+import com.github.ljtfreitas.restify.http.contract.SaveTo;
+import com.github.ljtfreitas.restify.http.contract.Version;
+import com.github.ljtfreitas.restify.http.contract.metadata.GeneratedContractReaders;
+
+/**
+ * Generates, for each interface with HTTP methods declared using the java-restify annotations, a
+ * {@link com.github.ljtfreitas.restify.http.contract.metadata.ContractReader} with the contract metadata already read.
+ * The generated reader is used by {@link com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader}
+ * instead of scanning the interface annotations at runtime.
+ * <p>
+ * Methods that cannot be described at compile time are left out of the generated reader, and are read using reflection.
+ * <p>
+ * When java-restify is on the classpath, an implementation class is generated too, for interfaces with HTTP methods declared
+ * using the java-restify, JAX-RS or Spring Web annotations; RestifyProxyBuilder uses it instead of creating a proxy at runtime.
+ * The contract metadata of JAX-RS and Spring Web interfaces is still read at runtime, by their own contract readers.
+ */
+public class ContractReaderProcessor extends AbstractProcessor {
+
+	private static final Set<String> DESTINATION_TYPES = new HashSet<>(Arrays.asList("java.nio.file.Path", "java.io.File", "java.lang.String"));
+
+	private static final String PROXY_TYPE = "com.github.ljtfreitas.restify.http.BytecodeProxy";
+
+	private static final Collection<String> HTTP_METHOD_TYPES = Arrays.asList("javax.ws.rs.HttpMethod",
+			"org.springframework.web.bind.annotation.RequestMapping");
+
+	private ContractAnnotations annotations;
+
+	private boolean proxies;
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton("*");
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> elements, RoundEnvironment roundEnvironment) {
+		if (annotations == null) {
+			annotations = new ContractAnnotations(processingEnv.getElementUtils());
+			proxies = processingEnv.getElementUtils().getTypeElement(PROXY_TYPE) != null;
+		}
+
+		Collection<TypeElement> interfaces = interfacesOf(roundEnvironment.getRootElements());
+
+		interfaces.stream()
+			.filter(this::isEndpointType)
+				.forEach(this::generate);
+
+		if (proxies) {
+			interfaces.stream()
+				.filter(this::isProxyType)
+					.forEach(this::generateProxy);
+		}
+
+		return false;
+	}
+
+	private Collection<TypeElement> interfacesOf(Collection<? extends Element> elements) {
+		Collection<TypeElement> interfaces = new ArrayList<>();
+
+		ElementFilter.typesIn(elements).forEach(type -> {
+			if (type.getKind() == ElementKind.INTERFACE) {
+				interfaces.add(type);
+			}
+			interfaces.addAll(interfacesOf(type.getEnclosedElements()));
+		});
+
+		return interfaces;
+	}
+
+	private boolean isEndpointType(TypeElement type) {
+		return hierarchyOf(type).isPresent()
+			&& methodsOf(type).stream().anyMatch(m -> annotations.scan(m, Method.class).isPresent());
+	}
+
+	private Optional<List<TypeElement>> hierarchyOf(TypeElement type) {
+		LinkedList<TypeElement> hierarchy = new LinkedList<>();
+
+		TypeElement current = type;
+		while (current != null) {
+			List<? extends TypeMirror> parents = current.getInterfaces();
+
+			if (parents.size() > 1) return Optional.empty();
+
+			hierarchy.addFirst(current);
+
+			current = parents.isEmpty() ? null : (TypeElement) ((DeclaredType) parents.get(0)).asElement();
+		}
+
+		return Optional.of(hierarchy);
+	}
+
+	private Collection<ExecutableElement> methodsOf(TypeElement type) {
+		return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+				.filter(m -> m.getEnclosingElement().getKind() == ElementKind.INTERFACE)
+					.filter(m -> !m.getModifiers().contains(Modifier.STATIC))
+						.collect(Collectors.toList());
+	}
+
+	private void generate(TypeElement type) {
+		List<TypeElement> hierarchy = hierarchyOf(type).get();
+
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+
+		String generatedName = GeneratedContractReaders.nameOf(processingEnv.getElementUtils().getBinaryName(type).toString());
+		String generatedSimpleName = packageName.isEmpty() ? generatedName : generatedName.substring(packageName.length() + 1);
+
+		List<String> typePaths = hierarchy.stream()
+				.map(t -> annotations.scan(t, Path.class))
+					.filter(Optional::isPresent)
+						.map(p -> annotations.string(p.get(), "value"))
+							.collect(Collectors.toList());
+
+		ContractReaderSource source = new ContractReaderSource(packageName, generatedSimpleName, type.getQualifiedName().toString(), typePaths);
+
+		hierarchy.forEach(t -> {
+			typeAnnotations(t, Header.class, Headers.class).forEach(h -> source.typeHeader(annotations.string(h, "name"), annotations.string(h, "value")));
+			typeAnnotations(t, Cookie.class, Cookies.class).forEach(c -> source.typeCookie(annotations.string(c, "name"), annotations.string(c, "value")));
+		});
+
+		Optional<AnnotationMirror> typeVersion = typeVersion(hierarchy);
+
+		methodsOf(type).forEach(m -> method(source, m, typeVersion));
+
+		write(type, source.name(), source.build());
+	}
+
+	private Collection<AnnotationMirror> typeAnnotations(TypeElement type, Class<?> annotationType, Class<?> containerType) {
+		return annotations.get(type, containerType)
+				.map(annotations::values)
+					.orElseGet(() -> annotations.scanAll(type, annotationType, containerType));
+	}
+
+	private Optional<AnnotationMirror> typeVersion(List<TypeElement> hierarchy) {
+		for (int i = hierarchy.size() - 1; i >= 0; i--) {
+			Optional<AnnotationMirror> version = annotations.get(hierarchy.get(i), Version.class);
+			if (version.isPresent()) return version;
+		}
+		return Optional.empty();
+	}
+
+	private void method(ContractReaderSource source, ExecutableElement method, Optional<AnnotationMirror> typeVersion) {
+		Optional<AnnotationMirror> httpMethod = annotations.scan(method, Method.class);
+
+		if (!httpMethod.isPresent() || !parametersAreDescribable(method)) return;
+
+		source.method(signatureOf(method), annotations.string(httpMethod.get(), "value").toUpperCase());
+
+		annotations.get(method, Path.class)
+			.map(p -> annotations.string(p, "value"))
+				.ifPresent(source::path);
+
+		Optional<AnnotationMirror> methodVersion = annotations.scan(method, Version.class);
+
+		String versionPath = methodVersion.filter(this::uri)
+				.map(Optional::of)
+					.orElseGet(() -> typeVersion.filter(this::uri))
+						.map(v -> annotations.string(v, "value"))
+							.orElse("");
+
+		String version = (methodVersion.isPresent() ? methodVersion : typeVersion)
+				.map(v -> annotations.string(v, "value"))
+					.filter(v -> !v.trim().isEmpty())
+						.orElse(null);
+
+		source.version(version, versionPath);
+
+		annotations.scanAll(method, Header.class, Headers.class)
+			.forEach(h -> source.header(annotations.string(h, "name"), annotations.string(h, "value")));
+
+		annotations.scanAll(method, Cookie.class, Cookies.class)
+			.forEach(c -> source.cookie(annotations.string(c, "name"), annotations.string(c, "value")));
+
+		method.getParameters().forEach(p -> parameter(source, p));
+
+		source.endMethod();
+	}
+
+	private boolean uri(AnnotationMirror version) {
+		return (Boolean) annotations.value(version, "uri");
+	}
+
+	private boolean parametersAreDescribable(ExecutableElement method) {
+		Set<TypeMirror> callbacks = new HashSet<>();
+		int destinations = 0;
+
+		for (VariableElement parameter : method.getParameters()) {
+			if (annotations.countWith(parameter, Parameter.class) > 1) return false;
+
+			if (annotations.get(parameter, SaveTo.class).isPresent()) {
+				if (++destinations > 1 || !DESTINATION_TYPES.contains(parameter.asType().toString())) return false;
+			}
+
+			if (annotations.get(parameter, CallbackParameter.class).isPresent()) {
+				TypeMirror callbackType = processingEnv.getTypeUtils().erasure(parameter.asType());
+				if (callbacks.stream().anyMatch(c -> processingEnv.getTypeUtils().isSameType(c, callbackType))) return false;
+				callbacks.add(callbackType);
+			}
+
+			Optional<String> serializer = serializerOf(parameter);
+			if (serializer.isPresent() && !instantiable(serializer.get())) return false;
+		}
+
+		return true;
+	}
+
+	private void parameter(ContractReaderSource source, VariableElement parameter) {
+		Optional<AnnotationMirror> annotationParameter = annotations.with(parameter, Parameter.class);
+
+		String type = annotationParameter.map(a ->
+				annotations.is(a, PathParameter.class) ? "PATH" :
+					annotations.is(a, HeaderParameter.class) ? "HEADER" :
+						annotations.is(a, BodyParameter.class) ? "BODY" :
+							annotations.is(a, QueryParameter.class) || annotations.is(a, QueryParameters.class) ? "QUERY_STRING" :
+								annotations.is(a, CookieParameter.class) ? "COOKIE" :
+									annotations.is(a, SaveTo.class) ? "DESTINATION" :
+										"ENDPOINT_CALLBACK")
+				.orElse("PATH");
+
+		String name = annotationParameter
+				.filter(a -> annotations.is(a, PathParameter.class) || annotations.is(a, HeaderParameter.class)
+						|| annotations.is(a, CookieParameter.class) || annotations.is(a, QueryParameter.class))
+					.map(a -> annotations.string(a, "value"))
+						.filter(n -> !n.trim().isEmpty())
+							.orElseGet(() -> parameter.getSimpleName().toString());
+
+		source.parameter(name, type, serializerOf(parameter).orElse(null));
+	}
+
+	private Optional<String> serializerOf(VariableElement parameter) {
+		Optional<AnnotationMirror> annotation = annotations.get(parameter, PathParameter.class);
+		if (!annotation.isPresent()) annotation = annotations.get(parameter, QueryParameter.class);
+		if (!annotation.isPresent()) annotation = annotations.get(parameter, QueryParameters.class);
+
+		if (annotation.isPresent()) {
+			TypeMirror serializer = (TypeMirror) annotations.value(annotation.get(), "serializer");
+			return Optional.of(((TypeElement) processingEnv.getTypeUtils().asElement(serializer)).getQualifiedName().toString());
+
+		} else if (annotations.get(parameter, CallbackParameter.class).isPresent() || annotations.get(parameter, SaveTo.class).isPresent()) {
+			return Optional.empty();
+
+		} else {
+			return Optional.of(DefaultParameterSerializer.class.getCanonicalName());
+		}
+	}
+
+	private boolean instantiable(String className) {
+		TypeElement type = processingEnv.getElementUtils().getTypeElement(className);
+
+		if (type == null || type.getModifiers().contains(Modifier.ABSTRACT)) return false;
+
+		for (Element element = type; element.getKind() != ElementKind.PACKAGE; element = element.getEnclosingElement()) {
+			if (!element.getModifiers().contains(Modifier.PUBLIC)) return false;
+
+			if (element.getKind() == ElementKind.CLASS && element.getEnclosingElement().getKind() != ElementKind.PACKAGE
+					&& !element.getModifiers().contains(Modifier.STATIC)) return false;
+		}
+
+		return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+				.anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+	}
+
+	private String signatureOf(ExecutableElement method) {
+		return method.getParameters().stream()
+				.map(p -> typeNameOf(processingEnv.getTypeUtils().erasure(p.asType())))
+					.collect(Collectors.joining(",", method.getSimpleName() + "(", ")"));
+	}
+
+	private String typeNameOf(TypeMirror type) {
+		if (type.getKind() == TypeKind.ARRAY) {
+			return typeNameOf(((ArrayType) type).getComponentType()) + "[]";
+
+		} else if (type.getKind() == TypeKind.DECLARED) {
+			TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+			return processingEnv.getElementUtils().getBinaryName(element).toString();
+
+		} else {
+			return type.toString();
+		}
+	}
+
+	private boolean isProxyType(TypeElement type) {
+		return accessible(type) && methodsOf(type).stream()
+				.anyMatch(m -> annotations.scan(m, Method.class).isPresent()
+						|| HTTP_METHOD_TYPES.stream().anyMatch(a -> annotations.present(m, a)));
+	}
+
+	private boolean accessible(TypeElement type) {
+		for (Element element = type; element.getKind() != ElementKind.PACKAGE; element = element.getEnclosingElement()) {
+			if (element.getModifiers().contains(Modifier.PRIVATE)) return false;
+		}
+		return true;
+	}
+
+	private void generateProxy(TypeElement type) {
+		Types types = processingEnv.getTypeUtils();
+
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+
+		String generatedName = GeneratedContractReaders.proxyNameOf(processingEnv.getElementUtils().getBinaryName(type).toString());
+		String generatedSimpleName = packageName.isEmpty() ? generatedName : generatedName.substring(packageName.length() + 1);
+
+		ProxySource source = new ProxySource(packageName, generatedSimpleName, type.getQualifiedName().toString());
+
+		// generic interfaces are implemented as raw types, since the type arguments are unknown
+		DeclaredType declaredType = (DeclaredType) (type.getTypeParameters().isEmpty() ? type.asType() : types.erasure(type.asType()));
+
+		Set<String> signatures = new HashSet<>();
+
+		methodsOf(type).stream()
+			.filter(m -> !m.isDefault() && !isObjectMethod(m))
+				.filter(m -> signatures.add(signatureOf(m)))
+					.forEach(m -> {
+						ExecutableType methodType = (ExecutableType) types.asMemberOf(declaredType, m);
+
+						source.method(m.getSimpleName().toString(),
+								types.erasure(methodType.getReturnType()).toString(),
+								erasure(methodType.getParameterTypes()),
+								m.isVarArgs(),
+								erasure(m.getParameters().stream().map(Element::asType).collect(Collectors.toList())),
+								checkedExceptionsOf(methodType));
+					});
+
+		write(type, source.name(), source.build());
+	}
+
+	private boolean isObjectMethod(ExecutableElement method) {
+		TypeElement objectType = processingEnv.getElementUtils().getTypeElement(Object.class.getCanonicalName());
+
+		return ElementFilter.methodsIn(objectType.getEnclosedElements()).stream()
+				.anyMatch(m -> signatureOf(m).equals(signatureOf(method)));
+	}
+
+	private List<String> erasure(List<? extends TypeMirror> types) {
+		return types.stream()
+				.map(t -> processingEnv.getTypeUtils().erasure(t).toString())
+					.collect(Collectors.toList());
+	}
+
+	private Collection<String> checkedExceptionsOf(ExecutableType methodType) {
+		Types types = processingEnv.getTypeUtils();
+
+		TypeMirror runtimeException = processingEnv.getElementUtils().getTypeElement(RuntimeException.class.getCanonicalName()).asType();
+		TypeMirror error = processingEnv.getElementUtils().getTypeElement(Error.class.getCanonicalName()).asType();
+
+		List<TypeMirror> exceptions = methodType.getThrownTypes().stream()
+				.map(types::erasure)
+					.filter(e -> !types.isSubtype(e, runtimeException) && !types.isSubtype(e, error))
+						.collect(Collectors.toList());
+
+		// a catch clause of a subtype after its supertype doesn't compile
+		return exceptions.stream()
+				.filter(e -> exceptions.stream().noneMatch(other -> !types.isSameType(e, other) && types.isSubtype(e, other)))
+					.map(TypeMirror::toString)
+						.distinct()
+							.collect(Collectors.toList());
+	}
+
+	private void write(TypeElement type, String name, String source) {
+		try (Writer writer = processingEnv.getFiler().createSourceFile(name, type).openWriter()) {
+			writer.write(source);
+
+		} catch (FilerException e) {
+			// the source of this type was already generated, in a previous round
+
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Cannot generate " + name + " of type " + type + ": " + e.getMessage(), type);
+		}
+	}
+}
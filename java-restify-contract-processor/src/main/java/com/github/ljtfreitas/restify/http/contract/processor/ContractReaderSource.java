@@ -0,0 +1,167 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.processor;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+class ContractReaderSource {
+
+	private static final String INDENT = "\t";
+
+	private final StringBuilder source = new StringBuilder();
+
+	private final String packageName;
+	private final String simpleName;
+
+	ContractReaderSource(String packageName, String simpleName, String typeName, Collection<String> typePaths) {
+		this.packageName = packageName;
+		this.simpleName = simpleName;
+
+		if (!packageName.isEmpty()) {
+			line(0, "package " + packageName + ";").line(0, "");
+		}
+
+		line(0, "/**");
+		line(0, " * Contract metadata of {@code " + typeName + "}, generated by java-restify contract annotation processor.");
+		line(0, " */");
+		line(0, "public final class " + simpleName + " implements com.github.ljtfreitas.restify.http.contract.metadata.ContractReader {");
+		line(0, "");
+		line(1, "private final com.github.ljtfreitas.restify.http.contract.metadata.ContractExpressionResolver expressionResolver;");
+		line(1, "private final com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader.ReadingMode mode;");
+		line(1, "private final java.util.concurrent.ForkJoinPool pool;");
+		line(0, "");
+		line(1, "public " + simpleName + "(com.github.ljtfreitas.restify.http.contract.metadata.ContractExpressionResolver expressionResolver, "
+				+ "com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader.ReadingMode mode, java.util.concurrent.ForkJoinPool pool) {");
+		line(2, "this.expressionResolver = expressionResolver;");
+		line(2, "this.mode = mode;");
+		line(2, "this.pool = pool;");
+		line(1, "}");
+		line(0, "");
+		line(1, "@Override");
+		line(1, "public com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethods read(com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget target) {");
+		line(2, "com.github.ljtfreitas.restify.http.contract.metadata.GeneratedEndpointMethods endpointMethods = "
+				+ "new com.github.ljtfreitas.restify.http.contract.metadata.GeneratedEndpointMethods(target, expressionResolver, mode, pool"
+				+ typePaths.stream().map(p -> ", " + literal(p)).collect(Collectors.joining()) + ");");
+		line(0, "");
+	}
+
+	String name() {
+		return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+	}
+
+	ContractReaderSource typeHeader(String name, String value) {
+		return line(2, "endpointMethods.header(" + literal(name) + ", " + literal(value) + ");");
+	}
+
+	ContractReaderSource typeCookie(String name, String value) {
+		return line(2, "endpointMethods.cookie(" + literal(name) + ", " + literal(value) + ");");
+	}
+
+	ContractReaderSource method(String signature, String httpMethod) {
+		return line(0, "").line(2, "endpointMethods.method(" + literal(signature) + ", " + literal(httpMethod) + ")");
+	}
+
+	ContractReaderSource path(String path) {
+		return line(3, ".path(" + literal(path) + ")");
+	}
+
+	ContractReaderSource version(String version, String versionPath) {
+		if (version != null) line(3, ".version(" + literal(version) + ")");
+		if (!versionPath.isEmpty()) line(3, ".versionPath(" + literal(versionPath) + ")");
+		return this;
+	}
+
+	ContractReaderSource header(String name, String value) {
+		return line(3, ".header(" + literal(name) + ", " + literal(value) + ")");
+	}
+
+	ContractReaderSource cookie(String name, String value) {
+		return line(3, ".cookie(" + literal(name) + ", " + literal(value) + ")");
+	}
+
+	ContractReaderSource parameter(String name, String type, String serializer) {
+		return line(3, ".parameter(" + literal(name) + ", "
+				+ "com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter.EndpointMethodParameterType." + type + ", "
+				+ (serializer == null ? "null" : "new " + serializer + "()") + ")");
+	}
+
+	ContractReaderSource endMethod() {
+		source.setLength(source.length() - 1);
+		source.append(";\n");
+		return this;
+	}
+
+	String build() {
+		line(0, "");
+		line(2, "return endpointMethods.build();");
+		line(1, "}");
+		line(0, "}");
+		return source.toString();
+	}
+
+	private ContractReaderSource line(int indent, String line) {
+		for (int i = 0; i < indent; i++) {
+			source.append(INDENT);
+		}
+		source.append(line).append('\n');
+		return this;
+	}
+
+	private String literal(String value) {
+		if (value == null) return "null";
+
+		StringBuilder literal = new StringBuilder("\"");
+
+		for (char c : value.toCharArray()) {
+			switch (c) {
+				case '"':
+					literal.append("\\\"");
+					break;
+				case '\\':
+					literal.append("\\\\");
+					break;
+				case '\n':
+					literal.append("\\n");
+					break;
+				case '\r':
+					literal.append("\\r");
+					break;
+				case '\t':
+					literal.append("\\t");
+					break;
+				default:
+					if (c < 0x20 || c > 0x7e) {
+						literal.append(String.format("\\u%04x", (int) c));
+					} else {
+						literal.append(c);
+					}
+			}
+		}
+
+		return literal.append('"').toString();
+	}
+}
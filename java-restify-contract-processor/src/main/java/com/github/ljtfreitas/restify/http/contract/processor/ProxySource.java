@@ -0,0 +1,168 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.processor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ProxySource {
+
+	private static final String INDENT = "\t";
+
+	private final StringBuilder source = new StringBuilder();
+
+	private final Collection<String> methods = new ArrayList<>();
+
+	private final String packageName;
+	private final String simpleName;
+	private final String typeName;
+
+	ProxySource(String packageName, String simpleName, String typeName) {
+		this.packageName = packageName;
+		this.simpleName = simpleName;
+		this.typeName = typeName;
+
+		if (!packageName.isEmpty()) {
+			line(0, "package " + packageName + ";").line(0, "");
+		}
+
+		line(0, "/**");
+		line(0, " * Implementation of {@code " + typeName + "}, generated by java-restify contract annotation processor.");
+		line(0, " */");
+		line(0, "@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+		line(0, "public final class " + simpleName + " extends com.github.ljtfreitas.restify.http.BytecodeProxy implements " + typeName + " {");
+		line(0, "");
+		line(1, "private static final java.lang.reflect.Method[] METHODS = methods();");
+		line(0, "");
+		line(1, "public " + simpleName + "(com.github.ljtfreitas.restify.http.RestifyProxyHandler handler) {");
+		line(2, "super(handler, METHODS);");
+		line(1, "}");
+	}
+
+	String name() {
+		return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+	}
+
+	/**
+	 * @param returnType the (erased) return type, or {@code void}
+	 * @param parameterTypes the (erased) parameter types of the implementation
+	 * @param javaParameterTypes the (erased) parameter types of the interface method, used to find it with reflection
+	 * @param exceptionTypes checked exceptions declared by the method, that are declared and rethrown as is
+	 */
+	ProxySource method(String name, String returnType, List<String> parameterTypes, boolean varargs, List<String> javaParameterTypes,
+			Collection<String> exceptionTypes) {
+
+		int index = methods.size();
+
+		methods.add(typeName + ".class.getMethod(" + literal(name)
+				+ javaParameterTypes.stream().map(t -> ", " + t + ".class").collect(Collectors.joining()) + ")");
+
+		String parameters = IntStream.range(0, parameterTypes.size())
+				.mapToObj(i -> (varargs && i == parameterTypes.size() - 1 ?
+						parameterTypes.get(i).substring(0, parameterTypes.get(i).length() - 2) + "..." :
+							parameterTypes.get(i)) + " arg" + i)
+					.collect(Collectors.joining(", "));
+
+		String arguments = IntStream.range(0, parameterTypes.size())
+				.mapToObj(i -> "arg" + i)
+					.collect(Collectors.joining(", "));
+
+		String dispatch = "dispatch(" + index + ", " + (arguments.isEmpty() ? "new java.lang.Object[0]" : "new java.lang.Object[] { " + arguments + " }") + ")";
+
+		line(0, "");
+		line(1, "@Override");
+		String exceptions = exceptionTypes.isEmpty() ? "" : " throws " + String.join(", ", exceptionTypes);
+
+		line(1, "public " + returnType + " " + name + "(" + parameters + ")" + exceptions + " {");
+		line(2, "try {");
+		line(3, "void".equals(returnType) ? dispatch + ";" : "return (" + boxed(returnType) + ") " + dispatch + ";");
+		line(2, "} catch (java.lang.RuntimeException | java.lang.Error e) {");
+		line(3, "throw e;");
+		exceptionTypes.forEach(e -> {
+			line(2, "} catch (" + e + " e) {");
+			line(3, "throw e;");
+		});
+		line(2, "} catch (java.lang.Throwable e) {");
+		line(3, "throw new java.lang.reflect.UndeclaredThrowableException(e);");
+		line(2, "}");
+		line(1, "}");
+
+		return this;
+	}
+
+	String build() {
+		line(0, "");
+		line(1, "private static java.lang.reflect.Method[] methods() {");
+		line(2, "try {");
+		line(3, "return new java.lang.reflect.Method[] {");
+		methods.forEach(m -> line(4, m + ","));
+		line(3, "};");
+		line(2, "} catch (java.lang.NoSuchMethodException e) {");
+		line(3, "throw new java.lang.IllegalStateException(e);");
+		line(2, "}");
+		line(1, "}");
+		line(0, "}");
+		return source.toString();
+	}
+
+	private String boxed(String type) {
+		switch (type) {
+			case "boolean":
+				return "java.lang.Boolean";
+			case "byte":
+				return "java.lang.Byte";
+			case "char":
+				return "java.lang.Character";
+			case "short":
+				return "java.lang.Short";
+			case "int":
+				return "java.lang.Integer";
+			case "long":
+				return "java.lang.Long";
+			case "float":
+				return "java.lang.Float";
+			case "double":
+				return "java.lang.Double";
+			default:
+				return type;
+		}
+	}
+
+	private ProxySource line(int indent, String line) {
+		for (int i = 0; i < indent; i++) {
+			source.append(INDENT);
+		}
+		source.append(line).append('\n');
+		return this;
+	}
+
+	private String literal(String value) {
+		return "\"" + value + "\"";
+	}
+}
@@ -0,0 +1,452 @@
+package com.github.ljtfreitas.restify.http.contract.processor;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import com.github.ljtfreitas.restify.http.BytecodeProxy;
+import com.github.ljtfreitas.restify.http.ProxyEngine;
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.RestifyProxyHandler;
+import com.github.ljtfreitas.restify.http.client.call.EndpointMethodExecutor;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+
+import com.github.ljtfreitas.restify.http.contract.BodyParameter;
+import com.github.ljtfreitas.restify.http.contract.CallbackParameter;
+import com.github.ljtfreitas.restify.http.contract.Cookie;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Header;
+import com.github.ljtfreitas.restify.http.contract.HeaderParameter;
+import com.github.ljtfreitas.restify.http.contract.JsonContent;
+import com.github.ljtfreitas.restify.http.contract.Method;
+import com.github.ljtfreitas.restify.http.contract.Parameters;
+import com.github.ljtfreitas.restify.http.contract.Path;
+import com.github.ljtfreitas.restify.http.contract.PathParameter;
+import com.github.ljtfreitas.restify.http.contract.Post;
+import com.github.ljtfreitas.restify.http.contract.QueryParameter;
+import com.github.ljtfreitas.restify.http.contract.QueryParameters;
+import com.github.ljtfreitas.restify.http.contract.Version;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader.ReadingMode;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointHeader;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethods;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointType;
+import com.github.ljtfreitas.restify.http.contract.metadata.GeneratedContractReaders;
+import com.github.ljtfreitas.restify.http.contract.metadata.LazyEndpointMethods;
+import com.github.ljtfreitas.restify.http.contract.metadata.SimpleContractExpressionResolver;
+import com.github.ljtfreitas.restify.reflection.JavaType;
+
+public class ContractReaderProcessorTest {
+
+	private DefaultContractReader contractReader;
+
+	@Before
+	public void setup() {
+		contractReader = new DefaultContractReader();
+	}
+
+	@Test
+	public void shouldGenerateContractReaderOfInterfaceWithHttpMethods() throws Exception {
+		Class<?> generated = Class.forName(GeneratedContractReaders.nameOf(MyApiType.class.getName()));
+
+		assertEquals("com.github.ljtfreitas.restify.http.contract.processor.ContractReaderProcessorTest_MyApiType_RestifyContractReader",
+				generated.getName());
+
+		assertTrue(GeneratedContractReaders.of(MyApiType.class, new SimpleContractExpressionResolver()).isPresent());
+	}
+
+	@Test
+	public void shouldNotGenerateContractReaderOfInterfaceWithoutHttpMethods() {
+		assertFalse(GeneratedContractReaders.of(MyCallback.class, new SimpleContractExpressionResolver()).isPresent());
+	}
+
+	@Test
+	public void shouldReadEndpointMethodFromGeneratedContractReader() throws Exception {
+		EndpointMethod endpointMethod = read(new EndpointTarget(MyApiType.class), MyApiType.class.getMethod("method", String.class, String.class, Object.class));
+
+		assertEquals("GET", endpointMethod.httpMethod());
+		assertEquals("http://my.api.com/{path}", endpointMethod.path());
+		assertEquals(JavaType.of(String.class), endpointMethod.returnType());
+
+		EndpointMethodParameter pathParameter = endpointMethod.parameters().get(0).get();
+		assertEquals("path", pathParameter.name());
+		assertTrue(pathParameter.path());
+		assertEquals("value", pathParameter.resolve("value"));
+
+		EndpointMethodParameter headerParameter = endpointMethod.parameters().get(1).get();
+		assertEquals("X-Custom-Header", headerParameter.name());
+		assertTrue(headerParameter.header());
+
+		EndpointMethodParameter bodyParameter = endpointMethod.parameters().get(2).get();
+		assertEquals("body", bodyParameter.name());
+		assertTrue(bodyParameter.body());
+
+		assertThat(endpointMethod.headers().all(), containsInAnyOrder(new EndpointHeader("X-My-Type", "MyApiType"),
+				new EndpointHeader("Cookie", "type-cookie=type-cookie-value")));
+	}
+
+	@Test
+	public void shouldMergeHeadersAndMetaAnnotationsOfTypeAndMethod() throws Exception {
+		EndpointMethod endpointMethod = read(new EndpointTarget(MyApiType.class), MyApiType.class.getMethod("metaHeaders"));
+
+		assertEquals("POST", endpointMethod.httpMethod());
+		assertEquals("http://my.api.com/metaHeaders", endpointMethod.path());
+
+		assertThat(endpointMethod.headers().all(), containsInAnyOrder(new EndpointHeader("X-My-Type", "MyApiType"),
+				new EndpointHeader("Cookie", "type-cookie=type-cookie-value"),
+				new EndpointHeader("Content-Type", "application/json"),
+				new EndpointHeader("User-Agent", "Restify-Agent"),
+				new EndpointHeader("Cookie", "method-cookie=method-cookie-value")));
+	}
+
+	@Test
+	public void shouldReadQueryAndCallbackParametersFromGeneratedContractReader() throws Exception {
+		EndpointMethod endpointMethod = read(new EndpointTarget(MyApiType.class), MyApiType.class.getMethod("query", String.class, Parameters.class, MyCallback.class));
+
+		assertEquals("http://my.api.com/query", endpointMethod.path());
+		assertTrue(endpointMethod.runnableAsync());
+
+		EndpointMethodParameter queryParameter = endpointMethod.parameters().get(0).get();
+		assertEquals("q", queryParameter.name());
+		assertTrue(queryParameter.query());
+		assertEquals("q=value", queryParameter.resolve("value"));
+
+		EndpointMethodParameter queryParameters = endpointMethod.parameters().get(1).get();
+		assertTrue(queryParameters.query());
+
+		EndpointMethodParameter callbackParameter = endpointMethod.parameters().get(2).get();
+		assertTrue(callbackParameter.callback());
+		assertEquals(JavaType.of(MyCallback.class), callbackParameter.javaType());
+	}
+
+	@Test
+	public void shouldResolveEndpointAndPathExpressionsOnGeneratedContractReader() throws Exception {
+		EndpointTarget target = new EndpointTarget(MyContextApi.class, "http://my.api.com");
+
+		EndpointMethods endpointMethods = new DefaultContractReader(e -> e.replace("@{context}", "context")).read(target);
+
+		EndpointMethod endpointMethod = endpointMethods.find(MyContextApi.class.getMethod("method")).get();
+
+		assertEquals("http://my.api.com/context/any", endpointMethod.path());
+		assertNull(endpointMethod.version().orElse(null));
+	}
+
+	@Test
+	public void shouldReadInheritedAndGenericMethodsFromGeneratedContractReader() throws Exception {
+		EndpointTarget target = new EndpointTarget(MySpecificApi.class);
+
+		EndpointMethod find = read(target, MySpecificApi.class.getMethod("find", int.class));
+
+		assertEquals("http://my.model.api/v1/find", find.path());
+		assertEquals(JavaType.of(MyModel.class), find.returnType());
+		assertEquals("v1", find.version().get());
+
+		EndpointMethod all = read(target, MySpecificApi.class.getMethod("all"));
+
+		assertEquals(List.class, all.returnType().classType());
+		assertTrue(all.returnType().parameterized());
+
+		EndpointMethod update = read(target, MySpecificApi.class.getMethod("update", Object.class));
+
+		assertEquals("http://my.model.api/v1/update", update.path());
+		assertEquals("v2", update.version().get());
+		assertEquals(JavaType.of(MyModel.class), update.parameters().get(0).get().javaType());
+	}
+
+	@Test
+	public void shouldReadEndpointMethodsLazilyFromGeneratedContractReader() throws Exception {
+		EndpointMethods endpointMethods = new DefaultContractReader(new SimpleContractExpressionResolver(), ReadingMode.LAZY)
+				.read(new EndpointTarget(MyApiType.class));
+
+		assertTrue(endpointMethods instanceof LazyEndpointMethods);
+		assertEquals("[]", endpointMethods.toString());
+
+		EndpointMethod endpointMethod = endpointMethods.find(MyApiType.class.getMethod("metaHeaders")).get();
+
+		assertEquals("http://my.api.com/metaHeaders", endpointMethod.path());
+		assertEquals("[" + Optional.of(endpointMethod) + "]", endpointMethods.toString());
+	}
+
+	@Test
+	public void shouldReadEndpointMethodsInParallelFromGeneratedContractReader() throws Exception {
+		AtomicInteger threads = new AtomicInteger();
+
+		ForkJoinPool pool = new ForkJoinPool(1, p -> {
+			threads.incrementAndGet();
+			return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+		}, null, false);
+
+		try {
+			EndpointMethods endpointMethods = new DefaultContractReader(new SimpleContractExpressionResolver(), ReadingMode.PARALLEL, pool)
+					.read(new EndpointTarget(MyApiType.class));
+
+			assertEquals("http://my.api.com/metaHeaders", endpointMethods.find(MyApiType.class.getMethod("metaHeaders")).get().path());
+			assertEquals(1, threads.get());
+
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void shouldGenerateImplementationClassUsedByRestifyProxyBuilder() throws Exception {
+		Class<?> generated = Class.forName(GeneratedContractReaders.proxyNameOf(MyProxyApi.class.getName()));
+
+		MyProxyApi myProxyApi = new RestifyProxyBuilder()
+				.executor(new ConstantEndpointRequestExecutor())
+					.target(MyProxyApi.class)
+						.build();
+
+		assertSame(generated, myProxyApi.getClass());
+		assertTrue(myProxyApi instanceof BytecodeProxy);
+
+		assertEquals("result", myProxyApi.find("1"));
+		assertEquals(42, myProxyApi.count());
+	}
+
+	@Test
+	public void shouldInvokeDefaultMethodOfGeneratedImplementationClass() throws Exception {
+		RestifyProxyBuilder builder = new RestifyProxyBuilder();
+
+		builder.contract().lazy();
+
+		MyDefaultMethodApi myDefaultMethodApi = builder
+				.executor(new ConstantEndpointRequestExecutor())
+					.target(MyDefaultMethodApi.class)
+						.build();
+
+		assertTrue(myDefaultMethodApi instanceof BytecodeProxy);
+		assertEquals("default: result", myDefaultMethodApi.defaultFind());
+	}
+
+	@Test
+	public void shouldRebindGeneratedImplementationClass() throws Exception {
+		MyProxyApi myProxyApi = new RestifyProxyBuilder()
+				.executor(new ConstantEndpointRequestExecutor())
+					.target(MyProxyApi.class)
+						.build();
+
+		MyProxyApi rebound = RestifyProxyBuilder.rebind(myProxyApi, "http://other.api.com");
+
+		assertSame(myProxyApi.getClass(), rebound.getClass());
+		assertEquals("result", rebound.find("1"));
+	}
+
+	@Test
+	public void shouldUseExplicitlySetEngineInsteadOfGeneratedImplementationClass() throws Exception {
+		MyProxyApi myProxyApi = new RestifyProxyBuilder()
+				.engine(ProxyEngine.JDK)
+				.executor(new ConstantEndpointRequestExecutor())
+					.target(MyProxyApi.class)
+						.build();
+
+		assertTrue(Proxy.isProxyClass(myProxyApi.getClass()));
+		assertEquals("result", myProxyApi.find("1"));
+
+		MyProxyApi rebound = RestifyProxyBuilder.rebind(myProxyApi, "http://other.api.com");
+
+		assertTrue(Proxy.isProxyClass(rebound.getClass()));
+		assertEquals("result", rebound.find("1"));
+	}
+
+	@Test
+	public void shouldGenerateImplementationClassOfGenericInterface() throws Exception {
+		MySpecificApi mySpecificApi = new RestifyProxyBuilder()
+				.executor(new ConstantEndpointRequestExecutor())
+					.target(MySpecificApi.class)
+						.build();
+
+		assertEquals(GeneratedContractReaders.proxyNameOf(MySpecificApi.class.getName()), mySpecificApi.getClass().getName());
+	}
+
+	@Test
+	public void shouldGenerateImplementationClassOfJaxRsInterface() throws Exception {
+		assertEquals("result", generatedProxyOf(MyJaxRsApi.class, MyJaxRsApi.class.getMethod("find", String.class)).find("1"));
+
+		assertFalse(GeneratedContractReaders.of(MyJaxRsApi.class, new SimpleContractExpressionResolver()).isPresent());
+	}
+
+	@Test
+	public void shouldGenerateImplementationClassOfSpringWebInterface() throws Exception {
+		assertEquals("result", generatedProxyOf(MySpringWebApi.class, MySpringWebApi.class.getMethod("find", String.class)).find("1"));
+
+		assertFalse(GeneratedContractReaders.of(MySpringWebApi.class, new SimpleContractExpressionResolver()).isPresent());
+	}
+
+	@Test
+	public void shouldNotGenerateImplementationClassOfInterfaceWithoutHttpMethods() {
+		try {
+			Class.forName(GeneratedContractReaders.proxyNameOf(MyCallback.class.getName()));
+			fail("No implementation class should be generated for interface without HTTP methods");
+		} catch (ClassNotFoundException e) {
+		}
+	}
+
+	private <T> T generatedProxyOf(Class<T> type, java.lang.reflect.Method javaMethod) throws Exception {
+		EndpointTarget target = new EndpointTarget(type, "http://my.api.com");
+
+		EndpointType endpointType = new EndpointType(target, new EndpointMethods(Arrays.asList(new EndpointMethod(javaMethod, "/", "GET"))));
+
+		Object proxy = Class.forName(GeneratedContractReaders.proxyNameOf(type.getName()))
+				.getConstructor(RestifyProxyHandler.class)
+					.newInstance(new RestifyProxyHandler(endpointType, new ConstantEndpointMethodExecutor()));
+
+		return type.cast(proxy);
+	}
+
+	private EndpointMethod read(EndpointTarget target, java.lang.reflect.Method javaMethod) {
+		return contractReader.read(target).find(javaMethod)
+				.orElseThrow(() -> new IllegalStateException("Method not found..."));
+	}
+
+	@Path("http://my.api.com")
+	@Header(name = "X-My-Type", value = "MyApiType")
+	@Cookie(name = "type-cookie", value = "type-cookie-value")
+	interface MyApiType {
+
+		@Path("/{path}")
+		@Method("GET")
+		public String method(@PathParameter String path, @HeaderParameter("X-Custom-Header") String header, @BodyParameter Object body);
+
+		@Path("/metaHeaders")
+		@Post
+		@JsonContent
+		@Header(name = "User-Agent", value = "Restify-Agent")
+		@Cookie(name = "method-cookie", value = "method-cookie-value")
+		public String metaHeaders();
+
+		@Path("/query")
+		@Get
+		public void query(@QueryParameter("q") String query, @QueryParameters Parameters parameters, @CallbackParameter MyCallback callback);
+	}
+
+	@Path("@{context}")
+	interface MyContextApi {
+
+		@Path("/any")
+		@Get
+		public String method();
+	}
+
+	@Version("v1")
+	interface MyGenericApi<T> {
+
+		@Path("/find")
+		@Get
+		public T find(int id);
+
+		@Path("/all")
+		@Get
+		public List<T> all();
+
+		@Path("/update")
+		@Post
+		@Version(value = "v2", uri = false)
+		public T update(T model);
+	}
+
+	@Path("http://my.model.api")
+	interface MySpecificApi extends MyGenericApi<MyModel> {
+	}
+
+	@Path("http://my.api.com")
+	interface MyProxyApi {
+
+		@Path("/{id}")
+		@Get
+		public String find(@PathParameter String id);
+
+		@Path("/count")
+		@Get
+		public int count();
+
+		@Path("/ping")
+		@Get
+		public void ping() throws IOException;
+
+		@Path("/search")
+		@Get
+		public String search(@QueryParameter("q") String... terms);
+	}
+
+	@Path("http://my.api.com")
+	interface MyDefaultMethodApi {
+
+		@Path("/{id}")
+		@Get
+		public String find(@PathParameter String id);
+
+		public default String defaultFind() {
+			return "default: " + find("1");
+		}
+	}
+
+	@javax.ws.rs.Path("/jaxrs")
+	interface MyJaxRsApi {
+
+		@javax.ws.rs.Path("/{id}")
+		@javax.ws.rs.GET
+		public String find(@javax.ws.rs.PathParam("id") String id);
+	}
+
+	interface MySpringWebApi {
+
+		@GetMapping("/spring/{id}")
+		public String find(@PathVariable("id") String id);
+	}
+
+	interface MyCallback {
+
+		void callback(Collection<String> values);
+	}
+
+	class MyModel {
+	}
+
+	private static class ConstantEndpointRequestExecutor implements EndpointRequestExecutor {
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
+			Object body = endpointRequest.responseType().is(String.class) ? "result" : 42;
+			return EndpointResponse.of(StatusCode.ok(), (T) body);
+		}
+	}
+
+	private static class ConstantEndpointMethodExecutor extends EndpointMethodExecutor {
+
+		private ConstantEndpointMethodExecutor() {
+			super(null, null, null);
+		}
+
+		@Override
+		public Object execute(EndpointMethod endpointMethod, Object[] args) {
+			return "result";
+		}
+	}
+}
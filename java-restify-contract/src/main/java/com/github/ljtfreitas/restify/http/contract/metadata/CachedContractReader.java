@@ -25,47 +25,30 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.contract.metadata;
 
-import java.util.Optional;
-import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
+import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
 
-class PathParameterResolver {
+public class CachedContractReader implements ContractReader {
 
-	private final String path;
-	private final EndpointMethodParameters parameters;
+	private final ContractReader delegate;
+	private final ContractExpressionResolver resolver;
+	private final ContractCache cache;
 
-	public PathParameterResolver(String path, EndpointMethodParameters parameters) {
-		this.path = path;
-		this.parameters = parameters;
+	public CachedContractReader(ContractReader delegate) {
+		this(delegate, new SimpleContractExpressionResolver());
 	}
 
-	public String resolve(Object[] args) {
-		StringBuilder endpoint = new StringBuilder();
-
-		endpoint.append(path(args));
-
-		return endpoint.toString();
+	public CachedContractReader(ContractReader delegate, ContractExpressionResolver resolver) {
+		this(delegate, resolver, ContractCache.shared());
 	}
 
-	private String path(Object[] args) {
-		StringBuffer builder = new StringBuffer();
-
-		Matcher matcher = DynamicParameterMatcher.matches(path);
-
-		while (matcher.find()) {
-			MatchResult match = matcher.toMatchResult();
-
-			String name = match.group(1);
-
-			parameters.find(name)
-				.filter(p -> p.path())
-					.ifPresent(p -> matcher.appendReplacement(builder,
-							Optional.ofNullable(args[p.position()]).map(a -> p.resolve(a))
-								.orElseThrow(() -> new IllegalArgumentException("Your path argument [" + name + "] cannot be null."))));
-		}
-
-		matcher.appendTail(builder);
+	public CachedContractReader(ContractReader delegate, ContractExpressionResolver resolver, ContractCache cache) {
+		this.delegate = nonNull(delegate, "ContractReader cannot be null.");
+		this.resolver = nonNull(resolver, "ContractExpressionResolver cannot be null.");
+		this.cache = nonNull(cache, "ContractCache cannot be null.");
+	}
 
-		return builder.toString();
+	@Override
+	public EndpointMethods read(EndpointTarget target) {
+		return cache.read(target, delegate, resolver);
 	}
 }
@@ -45,6 +45,6 @@ public class Contract {
 
 		EndpointMethods endpointMethods = reader.read(target);
 
-		return new EndpointType(target, endpointMethods);
+		return new EndpointType(target, endpointMethods, reader);
 	}
 }
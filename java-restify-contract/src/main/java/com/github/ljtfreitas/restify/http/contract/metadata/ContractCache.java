@@ -0,0 +1,81 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the contract of each interface, per class and {@link ContractReader#cacheKey() key} of the reader, read without any
+ * endpoint. The cached {@link EndpointMethods} are bound to the endpoint of each {@link EndpointTarget} lazily, so many proxies
+ * of the same interface share a single reading of the contract. Readers without a key are not cached.
+ * <p>
+ * The cache is attached to each interface with a {@link ClassValue}, and does not prevent its class loader to be unloaded.
+ */
+public class ContractCache {
+
+	private static final ContractCache SHARED = new ContractCache();
+
+	private final ClassValue<Map<List<Object>, EndpointMethods>> contracts = new ClassValue<Map<List<Object>, EndpointMethods>>() {
+		@Override
+		protected Map<List<Object>, EndpointMethods> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	public EndpointMethods read(EndpointTarget target, ContractReader reader, ContractExpressionResolver resolver) {
+		nonNull(target, "Endpoint target cannot be null.");
+		nonNull(reader, "ContractReader cannot be null.");
+		nonNull(resolver, "ContractExpressionResolver cannot be null.");
+
+		Optional<Object> cacheKey = reader.cacheKey();
+		if (!cacheKey.isPresent()) return reader.read(target);
+
+		List<Object> key = Arrays.asList(reader.getClass(), cacheKey.get());
+
+		Map<List<Object>, EndpointMethods> byReader = contracts.get(target.type());
+
+		EndpointMethods endpointMethods = byReader.get(key);
+		if (endpointMethods == null) {
+			endpointMethods = byReader.computeIfAbsent(key, k -> reader.read(new EndpointTarget(target.type())));
+		}
+
+		return new RebasedEndpointMethods(endpointMethods, resolver, target.endpoint().orElse(null));
+	}
+
+	public void evict(Class<?> type) {
+		contracts.remove(type);
+	}
+
+	public static ContractCache shared() {
+		return SHARED;
+	}
+}
@@ -41,6 +41,7 @@ import com.github.ljtfreitas.restify.http.contract.ParameterSerializer;
 import com.github.ljtfreitas.restify.http.contract.PathParameter;
 import com.github.ljtfreitas.restify.http.contract.QueryParameter;
 import com.github.ljtfreitas.restify.http.contract.QueryParameters;
+import com.github.ljtfreitas.restify.http.contract.SaveTo;
 import com.github.ljtfreitas.restify.http.contract.DefaultParameterSerializer;
 import com.github.ljtfreitas.restify.reflection.JavaAnnotationScanner;
 import com.github.ljtfreitas.restify.reflection.JavaType;
@@ -68,6 +69,7 @@ class ContractMethodParameterMetadata {
 		Optional<QueryParameter> queryParameter = annotationScanner.scan(QueryParameter.class);
 		Optional<QueryParameters> queryParameters = annotationScanner.scan(QueryParameters.class);
 		Optional<CallbackParameter> callbackParameter = annotationScanner.scan(CallbackParameter.class);
+		Optional<SaveTo> saveTo = annotationScanner.scan(SaveTo.class);
 
 		isTrue(Stream.of(javaMethodParameter.getAnnotations())
 				.filter(a -> a.annotationType().isAnnotationPresent(Parameter.class))
@@ -91,7 +93,7 @@ class ContractMethodParameterMetadata {
 		this.serializerType = pathParameter.isPresent() ? pathParameter.map(PathParameter::serializer).get() :
 				queryParameter.isPresent() ? queryParameter.map(QueryParameter::serializer).get() :
 					queryParameters.isPresent() ? queryParameters.map(QueryParameters::serializer).get() :
-						callbackParameter.isPresent() ? null : DefaultParameterSerializer.class;
+						callbackParameter.isPresent() || saveTo.isPresent() ? null : DefaultParameterSerializer.class;
 	}
 
 	private boolean needName() {
@@ -133,6 +135,10 @@ class ContractMethodParameterMetadata {
 		return annotationParameter instanceof CallbackParameter;
 	}
 
+	public boolean destination() {
+		return annotationParameter instanceof SaveTo;
+	}
+
 	public Class<? extends ParameterSerializer> serializer() {
 		return serializerType;
 	}
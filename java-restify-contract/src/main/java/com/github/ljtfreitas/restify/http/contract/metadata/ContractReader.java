@@ -25,8 +25,17 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.contract.metadata;
 
+import java.util.Optional;
+
 public interface ContractReader {
 
 	public EndpointMethods read(EndpointTarget endpointTarget);
 
+	/**
+	 * The configuration that determines the contracts read by this reader, used to share them (see {@link ContractCache}).
+	 * Readers of the same class and with equal keys must read the same contracts. Readers without a key are never cached.
+	 */
+	public default Optional<Object> cacheKey() {
+		return Optional.empty();
+	}
 }
\ No newline at end of file
@@ -26,7 +26,9 @@
 package com.github.ljtfreitas.restify.http.contract.metadata;
 
 import static com.github.ljtfreitas.restify.util.Preconditions.isTrue;
+import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
 
+import java.io.File;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
@@ -34,6 +36,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -43,32 +48,90 @@ import com.github.ljtfreitas.restify.http.contract.ParameterSerializer;
 import com.github.ljtfreitas.restify.http.contract.Path;
 import com.github.ljtfreitas.restify.http.contract.Version;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter.EndpointMethodParameterType;
+import com.github.ljtfreitas.restify.reflection.JavaType;
 
 public class DefaultContractReader implements ContractReader {
 
 	private final ContractExpressionResolver expressionResolver;
+	private final ReadingMode mode;
+	private final ForkJoinPool pool;
 
 	public DefaultContractReader() {
 		this(new SimpleContractExpressionResolver());
 	}
 
 	public DefaultContractReader(ContractExpressionResolver expressionResolver) {
+		this(expressionResolver, ReadingMode.EAGER);
+	}
+
+	public DefaultContractReader(ContractExpressionResolver expressionResolver, ReadingMode mode) {
+		this(expressionResolver, mode, ForkJoinPool.commonPool());
+	}
+
+	public DefaultContractReader(ContractExpressionResolver expressionResolver, ReadingMode mode, ForkJoinPool pool) {
 		this.expressionResolver = expressionResolver;
+		this.mode = nonNull(mode, "Contract reading mode cannot be null.");
+		this.pool = nonNull(pool, "ForkJoinPool cannot be null.");
 	}
 
 	@Override
 	public EndpointMethods read(EndpointTarget target) {
-		return new EndpointMethods(doRead(target));
+		return GeneratedContractReaders.of(target.type(), expressionResolver, mode, pool)
+				.map(generated -> generated.read(target))
+					.orElseGet(() -> read(target, methodReader(target)));
 	}
 
-	private Collection<EndpointMethod> doRead(EndpointTarget target) {
+	EndpointMethods read(EndpointTarget target, Function<Method, EndpointMethod> reader) {
+		switch (mode) {
+			case LAZY:
+				return doReadLazy(target, reader);
+
+			case PARALLEL:
+				return new EndpointMethods(doReadParallel(target, reader));
+
+			default:
+				return new EndpointMethods(doRead(target, reader));
+		}
+	}
+
+	EndpointMethod read(EndpointTarget target, Method javaMethod) {
+		return doReadMethod(target, new ContractTypeMetadata(target.type()), javaMethod);
+	}
+
+	private Function<Method, EndpointMethod> methodReader(EndpointTarget target) {
 		ContractTypeMetadata javaTypeMetadata = new ContractTypeMetadata(target.type());
+		return javaMethod -> doReadMethod(target, javaTypeMetadata, javaMethod);
+	}
+
+	private Collection<EndpointMethod> doRead(EndpointTarget target, Function<Method, EndpointMethod> reader) {
 		return target.methods().stream()
-			.map(javaMethod -> doReadMethod(target, javaTypeMetadata, javaMethod))
+			.map(reader)
 				.collect(Collectors.toList());
 	}
 
-	private EndpointMethod doReadMethod(EndpointTarget target, ContractTypeMetadata javaTypeMetadata, java.lang.reflect.Method javaMethod) {
+	private EndpointMethods doReadLazy(EndpointTarget target, Function<Method, EndpointMethod> reader) {
+		return new LazyEndpointMethods(target.methods(), reader);
+	}
+
+	private Collection<EndpointMethod> doReadParallel(EndpointTarget target, Function<Method, EndpointMethod> reader) {
+		try {
+			return pool.submit(() -> target.methods().parallelStream()
+					.map(reader)
+						.collect(Collectors.toList()))
+				.get();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while reading contract of " + target, e);
+
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw (cause instanceof RuntimeException) ? (RuntimeException) cause :
+				new IllegalStateException("Error reading contract of " + target, cause);
+		}
+	}
+
+	private EndpointMethod doReadMethod(EndpointTarget target, ContractTypeMetadata javaTypeMetadata, Method javaMethod) {
 		ContractMethodMetadata javaMethodMetadata = new ContractMethodMetadata(javaMethod);
 
 		String endpointPath = endpointPath(target, javaTypeMetadata, javaMethodMetadata);
@@ -147,7 +210,14 @@ public class DefaultContractReader implements ContractReader {
 					javaMethodParameterMetadata.body() ? EndpointMethodParameterType.BODY :
 						javaMethodParameterMetadata.query() ? EndpointMethodParameterType.QUERY_STRING :
 							javaMethodParameterMetadata.cookie() ? EndpointMethodParameterType.COOKIE :
-								EndpointMethodParameterType.ENDPOINT_CALLBACK;
+								javaMethodParameterMetadata.destination() ? EndpointMethodParameterType.DESTINATION :
+									EndpointMethodParameterType.ENDPOINT_CALLBACK;
+
+			if (type == EndpointMethodParameterType.DESTINATION) {
+				JavaType destinationType = javaMethodParameterMetadata.javaType();
+				isTrue(destinationType.is(java.nio.file.Path.class) || destinationType.is(File.class) || destinationType.is(String.class),
+						"@SaveTo parameter must be a java.nio.file.Path, java.io.File or String, but it is [" + destinationType + "].");
+			}
 
 			if (type == EndpointMethodParameterType.ENDPOINT_CALLBACK) {
 				isTrue(parameters.callbacks(javaMethodParameterMetadata.javaType().classType()).isEmpty(),
@@ -189,4 +259,30 @@ public class DefaultContractReader implements ContractReader {
 
 		return new EndpointHeaders(headers);
 	}
+
+	@Override
+	public Optional<Object> cacheKey() {
+		// other resolvers may resolve the same expression to different values
+		return expressionResolver instanceof SimpleContractExpressionResolver ?
+				Optional.of(Arrays.asList(expressionResolver, mode)) :
+					Optional.empty();
+	}
+
+	public enum ReadingMode {
+
+		/**
+		 * Reads all methods of the target when the proxy is built.
+		 */
+		EAGER,
+
+		/**
+		 * Reads each method on its first invocation.
+		 */
+		LAZY,
+
+		/**
+		 * Reads all methods of the target when the proxy is built, in parallel.
+		 */
+		PARALLEL;
+	}
 }
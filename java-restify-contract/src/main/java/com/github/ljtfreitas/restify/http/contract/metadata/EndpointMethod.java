@@ -33,8 +33,6 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.github.ljtfreitas.restify.reflection.JavaType;
 
@@ -47,6 +45,7 @@ public class EndpointMethod {
 	private final EndpointHeaders headers;
 	private final JavaType returnType;
 	private final EndpointMethodMetadata metadata;
+	private final EndpointUriTemplate template;
 	private final String version;
 
 	public EndpointMethod(Method javaMethod, String path, String httpMethod) {
@@ -87,19 +86,21 @@ public class EndpointMethod {
 	}
 
 	private EndpointMethod(Method javaMethod, String path, String httpMethod, EndpointMethodParameters parameters,
-			EndpointHeaders headers, JavaType returnType) {
-		this(javaMethod, path, httpMethod, parameters, headers, returnType, null);
+			EndpointHeaders headers, JavaType returnType, String version) {
+		this(javaMethod, path, httpMethod, parameters, headers, returnType, new EndpointMethodMetadata(javaMethod), null, version);
 	}
 
 	private EndpointMethod(Method javaMethod, String path, String httpMethod, EndpointMethodParameters parameters,
-			EndpointHeaders headers, JavaType returnType, String version) {
+			EndpointHeaders headers, JavaType returnType, EndpointMethodMetadata metadata, EndpointUriTemplate template,
+			String version) {
 		this.javaMethod = nonNull(javaMethod, "EndpointMethod needs a Java method.");
 		this.path = nonNull(path, "EndpointMethod needs a endpoint path.");
 		this.httpMethod = nonNull(httpMethod, "EndpointMethod needs a HTTP method.");
 		this.parameters = nonNull(parameters, "EndpointMethod needs a parameters collection.");
 		this.headers = nonNull(headers, "EndpointMethod needs a HTTP headers collection.");
 		this.returnType = returnType;
-		this.metadata = new EndpointMethodMetadata(javaMethod);
+		this.metadata = metadata;
+		this.template = template == null ? new EndpointUriTemplate(path, parameters) : template;
 		this.version = version;
 	}
 
@@ -140,32 +141,29 @@ public class EndpointMethod {
 	}
 
 	public URI expand(final Object[] args) throws URISyntaxException  {
-		URI endpoint = new URI(new PathParameterResolver(path, parameters)
-				.resolve(args));
-
-		String query = new QueryParametersBuilder()
-				.with(endpoint.getQuery())
-				.with(args)
-				.build();
+		return new URI(template.expand(args));
+	}
 
-		return new URI(endpoint.getScheme(), endpoint.getUserInfo(), endpoint.getHost(),
-				endpoint.getPort(), endpoint.getPath(), "".equals(query) ? null : query, endpoint.getFragment());
+	public EndpointMethod rebase(String endpoint) {
+		String rebasedPath = new EndpointPathBuilder().append(endpoint).append(path).build();
+		return new EndpointMethod(javaMethod, rebasedPath, httpMethod, parameters, headers, returnType, metadata, null, version);
 	}
 
 	public EndpointMethod returns(JavaType returnType) {
-		return new EndpointMethod(javaMethod, path, httpMethod, parameters, headers, returnType);
+		return new EndpointMethod(javaMethod, path, httpMethod, parameters, headers, returnType, metadata, template, null);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(javaMethod);
+		return Objects.hash(javaMethod, path);
 	}
 
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof EndpointMethod) {
 			EndpointMethod that = (EndpointMethod) obj;
-			return javaMethod.equals(that.javaMethod);
+			return javaMethod.equals(that.javaMethod)
+				&& path.equals(that.path);
 
 		} else return false;
 	}
@@ -191,27 +189,4 @@ public class EndpointMethod {
 
 		return report.toString();
 	}
-
-	private class QueryParametersBuilder {
-
-		private String prefix = "";
-		private String arguments = "";
-
-		private QueryParametersBuilder with(String prefix) {
-			this.prefix = prefix;
-			return this;
-		}
-
-		private QueryParametersBuilder with(Object[] args) {
-			this.arguments = new QueryParameterResolver(parameters.query())
-					.resolve(args);
-			return this;
-		}
-
-		private String build() {
-			return Stream.of(prefix, arguments)
-					.filter(s -> s != null && !s.trim().isEmpty())
-					.collect(Collectors.joining("&"));
-		}
-	}
 }
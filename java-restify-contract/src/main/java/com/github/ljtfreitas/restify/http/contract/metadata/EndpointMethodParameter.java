@@ -35,7 +35,7 @@ import com.github.ljtfreitas.restify.reflection.JavaType;
 public class EndpointMethodParameter {
 
 	public enum EndpointMethodParameterType {
-		PATH, HEADER, COOKIE, BODY, QUERY_STRING, ENDPOINT_CALLBACK;
+		PATH, HEADER, COOKIE, BODY, QUERY_STRING, ENDPOINT_CALLBACK, DESTINATION;
 	}
 
 	private final int position;
@@ -111,4 +111,8 @@ public class EndpointMethodParameter {
 	public boolean callback() {
 		return type == EndpointMethodParameterType.ENDPOINT_CALLBACK;
 	}
+
+	public boolean destination() {
+		return type == EndpointMethodParameterType.DESTINATION;
+	}
 }
@@ -57,6 +57,10 @@ public class EndpointMethodParameters {
 		return parameters.values().stream().filter(EndpointMethodParameter::body).findFirst();
 	}
 
+	public Optional<EndpointMethodParameter> destination() {
+		return parameters.values().stream().filter(EndpointMethodParameter::destination).findFirst();
+	}
+
 	public Collection<EndpointMethodParameter> query() {
 		return parameters.values().stream().filter(EndpointMethodParameter::query)
 				.collect(Collectors.toList());
@@ -88,6 +92,10 @@ public class EndpointMethodParameters {
 			isFalse(parameters.values().stream().anyMatch(EndpointMethodParameter::body), "Only one parameter annotated with @BodyParameter is allowed.");
 		}
 
+		if (parameter.destination()) {
+			isFalse(parameters.values().stream().anyMatch(EndpointMethodParameter::destination), "Only one parameter annotated with @SaveTo is allowed.");
+		}
+
 		EndpointMethodParameters parameters = new EndpointMethodParameters(this.parameters);
 		parameters.doPut(parameter);
 		return parameters;
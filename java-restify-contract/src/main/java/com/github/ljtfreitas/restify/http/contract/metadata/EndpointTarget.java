@@ -64,8 +64,8 @@ public class EndpointTarget {
 	public Collection<Method> methods() {
 		return Arrays.stream(type.getMethods())
 				.filter(javaMethod -> javaMethod.getDeclaringClass() != Object.class
-					|| !javaMethod.isDefault()
-					|| !Modifier.isStatic(javaMethod.getModifiers()))
+					&& !javaMethod.isDefault()
+					&& !Modifier.isStatic(javaMethod.getModifiers()))
 				.collect(Collectors.toSet());
 	}
 
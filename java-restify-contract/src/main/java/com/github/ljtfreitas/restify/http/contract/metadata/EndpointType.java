@@ -25,6 +25,9 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.contract.metadata;
 
+import static com.github.ljtfreitas.restify.util.Preconditions.isTrue;
+import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
+
 import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.Optional;
@@ -33,10 +36,16 @@ public class EndpointType {
 
 	private final EndpointTarget target;
 	private final EndpointMethods endpointMethods;
+	private final ContractReader reader;
 
 	public EndpointType(EndpointTarget target, EndpointMethods endpointMethods) {
+		this(target, endpointMethods, null);
+	}
+
+	public EndpointType(EndpointTarget target, EndpointMethods endpointMethods, ContractReader reader) {
 		this.target = target;
 		this.endpointMethods = endpointMethods;
+		this.reader = reader;
 	}
 
 	public Class<?> javaType() {
@@ -47,6 +56,26 @@ public class EndpointType {
 		return endpointMethods.find(method);
 	}
 
+	public EndpointTarget target() {
+		return target;
+	}
+
+	/**
+	 * Reads the contract again, bound to the endpoint of the given target. With a cached reader (see {@link ContractCache}),
+	 * the cached contract is just bound to the new endpoint.
+	 */
+	public EndpointType rebind(EndpointTarget target) {
+		nonNull(target, "Endpoint target cannot be null.");
+		isTrue(this.target.type().equals(target.type()), "Endpoint target must be of type [" + this.target.type() + "].");
+
+		if (reader == null) {
+			throw new IllegalStateException("EndpointType of [" + target.type() + "] was created without a ContractReader, "
+					+ "and cannot be rebound to other endpoint.");
+		}
+
+		return new EndpointType(target, reader.read(target), reader);
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof EndpointType) {
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import java.nio.charset.StandardCharsets;
+
+class EndpointUriEncoder {
+
+	private static final boolean[] LEGAL_ASCII = new boolean[128];
+
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++) LEGAL_ASCII[c] = true;
+		for (char c = 'A'; c <= 'Z'; c++) LEGAL_ASCII[c] = true;
+		for (char c = '0'; c <= '9'; c++) LEGAL_ASCII[c] = true;
+		for (char c : "-_.!~*'()%;/?:@&=+$,[]#".toCharArray()) LEGAL_ASCII[c] = true;
+	}
+
+	private EndpointUriEncoder() {
+	}
+
+	static StringBuilder append(StringBuilder builder, String source) {
+		int length = source.length();
+
+		for (int i = 0; i < length; i++) {
+			char c = source.charAt(i);
+
+			if (legal(c)) {
+				builder.append(c);
+
+			} else if (Character.isHighSurrogate(c) && i + 1 < length) {
+				escape(builder, source.substring(i, i + 2));
+				i++;
+
+			} else {
+				escape(builder, String.valueOf(c));
+			}
+		}
+
+		return builder;
+	}
+
+	static String encode(String source) {
+		return append(new StringBuilder(source.length()), source).toString();
+	}
+
+	private static boolean legal(char c) {
+		return c < 128 ? LEGAL_ASCII[c] : !(Character.isISOControl(c) || Character.isSpaceChar(c) || Character.isSurrogate(c));
+	}
+
+	private static void escape(StringBuilder builder, String character) {
+		for (byte b : character.getBytes(StandardCharsets.UTF_8)) {
+			builder.append('%')
+				.append(HEX[(b >> 4) & 0x0F])
+				.append(HEX[b & 0x0F]);
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+
+class EndpointUriTemplate {
+
+	private final Segment[] segments;
+	private final EndpointMethodParameter[] queryParameters;
+	private final int length;
+
+	EndpointUriTemplate(String path, EndpointMethodParameters parameters) {
+		this.segments = compile(path, parameters);
+		this.queryParameters = parameters.query().toArray(new EndpointMethodParameter[0]);
+		this.length = path.length();
+	}
+
+	private Segment[] compile(String path, EndpointMethodParameters parameters) {
+		List<Segment> segments = new ArrayList<>();
+
+		Matcher matcher = DynamicParameterMatcher.matches(path);
+
+		int position = 0;
+
+		while (matcher.find()) {
+			String name = matcher.group(1);
+
+			EndpointMethodParameter parameter = parameters.find(name)
+					.filter(EndpointMethodParameter::path)
+						.orElse(null);
+
+			if (matcher.start() > position) {
+				segments.add(new LiteralSegment(path.substring(position, matcher.start())));
+			}
+
+			segments.add(parameter == null ? new UnresolvedSegment(matcher.group()) : new ParameterSegment(parameter));
+
+			position = matcher.end();
+		}
+
+		if (position < path.length()) {
+			segments.add(new LiteralSegment(path.substring(position)));
+		}
+
+		return segments.toArray(new Segment[0]);
+	}
+
+	String expand(Object[] args) {
+		StringBuilder endpoint = new StringBuilder(length + 64);
+
+		for (Segment segment : segments) {
+			segment.appendTo(endpoint, args);
+		}
+
+		appendQuery(endpoint, args);
+
+		return endpoint.toString();
+	}
+
+	private void appendQuery(StringBuilder endpoint, Object[] args) {
+		if (queryParameters.length == 0) return;
+
+		StringBuilder query = new StringBuilder();
+
+		for (EndpointMethodParameter parameter : queryParameters) {
+			Object arg = parameter.position() < args.length ? args[parameter.position()] : null;
+
+			if (arg == null) continue;
+
+			String value = parameter.resolve(arg);
+
+			if (value == null || value.trim().isEmpty()) continue;
+
+			if (query.length() > 0) query.append('&');
+
+			EndpointUriEncoder.append(query, value.trim());
+		}
+
+		if (query.length() == 0) return;
+
+		int fragment = endpoint.indexOf("#");
+		int end = fragment == -1 ? endpoint.length() : fragment;
+
+		int separator = endpoint.lastIndexOf("?", end);
+
+		if (separator == -1) {
+			query.insert(0, '?');
+
+		} else if (separator != end - 1 && endpoint.charAt(end - 1) != '&') {
+			query.insert(0, '&');
+		}
+
+		endpoint.insert(end, query);
+	}
+
+	private interface Segment {
+
+		void appendTo(StringBuilder endpoint, Object[] args);
+
+	}
+
+	private static class LiteralSegment implements Segment {
+
+		private final String value;
+
+		private LiteralSegment(String value) {
+			this.value = EndpointUriEncoder.encode(value);
+		}
+
+		@Override
+		public void appendTo(StringBuilder endpoint, Object[] args) {
+			endpoint.append(value);
+		}
+
+		@Override
+		public String toString() {
+			return value;
+		}
+	}
+
+	/**
+	 * A placeholder without a matching path parameter; it is kept as is (not encoded), so the expanded URI is rejected
+	 * by {@link java.net.URI} instead of silently sending the placeholder to the server.
+	 */
+	private static class UnresolvedSegment implements Segment {
+
+		private final String value;
+
+		private UnresolvedSegment(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public void appendTo(StringBuilder endpoint, Object[] args) {
+			endpoint.append(value);
+		}
+
+		@Override
+		public String toString() {
+			return value;
+		}
+	}
+
+	private static class ParameterSegment implements Segment {
+
+		private final EndpointMethodParameter parameter;
+
+		private ParameterSegment(EndpointMethodParameter parameter) {
+			this.parameter = parameter;
+		}
+
+		@Override
+		public void appendTo(StringBuilder endpoint, Object[] args) {
+			Object arg = args[parameter.position()];
+
+			String value = arg == null ? null : parameter.resolve(arg);
+
+			if (value == null) {
+				throw new IllegalArgumentException("Your path argument [" + parameter.name() + "] cannot be null.");
+			}
+
+			EndpointUriEncoder.append(endpoint, value);
+		}
+
+		@Override
+		public String toString() {
+			return "{" + parameter.name() + "}";
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader.ReadingMode;
+import com.github.ljtfreitas.restify.util.Try;
+
+public final class GeneratedContractReaders {
+
+	private static final String GENERATED_SUFFIX = "_RestifyContractReader";
+
+	private static final String GENERATED_PROXY_SUFFIX = "_RestifyProxy";
+
+	private static final ClassValue<Optional<Constructor<?>>> constructors = new ClassValue<Optional<Constructor<?>>>() {
+		@Override
+		protected Optional<Constructor<?>> computeValue(Class<?> type) {
+			return constructorOf(type);
+		}
+	};
+
+	private GeneratedContractReaders() {
+	}
+
+	public static String nameOf(String binaryName) {
+		return generatedNameOf(binaryName, GENERATED_SUFFIX);
+	}
+
+	/**
+	 * Name of the implementation class generated for the given interface, used by RestifyProxyBuilder instead of a runtime proxy.
+	 */
+	public static String proxyNameOf(String binaryName) {
+		return generatedNameOf(binaryName, GENERATED_PROXY_SUFFIX);
+	}
+
+	private static String generatedNameOf(String binaryName, String suffix) {
+		int packageSeparator = binaryName.lastIndexOf('.');
+
+		String packageName = packageSeparator == -1 ? "" : binaryName.substring(0, packageSeparator + 1);
+		String simpleName = binaryName.substring(packageSeparator + 1).replace('$', '_');
+
+		return packageName + simpleName + suffix;
+	}
+
+	public static Optional<ContractReader> of(Class<?> type, ContractExpressionResolver expressionResolver) {
+		return of(type, expressionResolver, ReadingMode.EAGER, ForkJoinPool.commonPool());
+	}
+
+	public static Optional<ContractReader> of(Class<?> type, ContractExpressionResolver expressionResolver, ReadingMode mode, ForkJoinPool pool) {
+		return constructors.get(type).map(c -> newInstance(c, expressionResolver, mode, pool));
+	}
+
+	private static Optional<Constructor<?>> constructorOf(Class<?> type) {
+		try {
+			Class<?> generated = Class.forName(nameOf(type.getName()), true, type.getClassLoader());
+
+			return ContractReader.class.isAssignableFrom(generated) ?
+					Optional.of(generated.getConstructor(ContractExpressionResolver.class, ReadingMode.class, ForkJoinPool.class)) :
+						Optional.empty();
+
+		} catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+			return Optional.empty();
+		}
+	}
+
+	private static ContractReader newInstance(Constructor<?> constructor, ContractExpressionResolver expressionResolver, ReadingMode mode,
+			ForkJoinPool pool) {
+		return Try.of(() -> (ContractReader) constructor.newInstance(expressionResolver, mode, pool))
+				.error(e -> new IllegalStateException("Cannot create new instance of generated ContractReader type " + constructor.getDeclaringClass(), e))
+					.get();
+	}
+}
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import com.github.ljtfreitas.restify.http.contract.ParameterSerializer;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader.ReadingMode;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter.EndpointMethodParameterType;
+import com.github.ljtfreitas.restify.reflection.JavaType;
+import com.github.ljtfreitas.restify.reflection.JavaTypeResolver;
+
+/**
+ * Builds {@link EndpointMethods} from metadata computed at compile time by the contract annotation processor, honoring the
+ * {@link ReadingMode} of the {@link DefaultContractReader}. Java methods without compiled metadata are read with reflection.
+ */
+public class GeneratedEndpointMethods {
+
+	private final EndpointTarget target;
+	private final ContractExpressionResolver expressionResolver;
+	private final ReadingMode mode;
+	private final ForkJoinPool pool;
+	private final String[] typePaths;
+	private final Collection<GeneratedHeader> typeHeaders = new ArrayList<>();
+	private final Map<String, GeneratedEndpointMethod> methods = new HashMap<>();
+
+	public GeneratedEndpointMethods(EndpointTarget target, ContractExpressionResolver expressionResolver, ReadingMode mode, ForkJoinPool pool,
+			String... typePaths) {
+		this.target = nonNull(target, "Endpoint target cannot be null.");
+		this.expressionResolver = nonNull(expressionResolver, "Contract expression resolver cannot be null.");
+		this.mode = nonNull(mode, "Contract reading mode cannot be null.");
+		this.pool = nonNull(pool, "ForkJoinPool cannot be null.");
+		this.typePaths = typePaths;
+	}
+
+	public GeneratedEndpointMethods header(String name, String value) {
+		typeHeaders.add(new GeneratedHeader(name, value, false));
+		return this;
+	}
+
+	public GeneratedEndpointMethods cookie(String name, String value) {
+		typeHeaders.add(new GeneratedHeader(name, value, true));
+		return this;
+	}
+
+	public GeneratedEndpointMethod method(String signature, String httpMethod) {
+		GeneratedEndpointMethod method = new GeneratedEndpointMethod(httpMethod);
+		methods.put(signature, method);
+		return method;
+	}
+
+	public EndpointMethods build() {
+		String endpoint = new EndpointPathBuilder()
+				.append(expressionResolver.resolve(target.endpoint().orElse("")))
+				.append(Arrays.stream(typePaths).map(expressionResolver::resolve).collect(Collectors.joining()))
+				.build();
+
+		JavaTypeResolver javaTypeResolver = new JavaTypeResolver(target.type());
+
+		DefaultContractReader reader = new DefaultContractReader(expressionResolver, mode, pool);
+
+		return reader.read(target, javaMethod -> {
+			GeneratedEndpointMethod method = methods.get(signatureOf(javaMethod));
+
+			return method == null ?
+				reader.read(target, javaMethod) :
+					method.build(javaMethod, endpoint, javaTypeResolver);
+		});
+	}
+
+	private String signatureOf(Method javaMethod) {
+		return Arrays.stream(javaMethod.getParameterTypes())
+				.map(Class::getTypeName)
+					.collect(Collectors.joining(",", javaMethod.getName() + "(", ")"));
+	}
+
+	public class GeneratedEndpointMethod {
+
+		private final String httpMethod;
+		private final Collection<GeneratedHeader> headers = new ArrayList<>();
+		private final Collection<GeneratedParameter> parameters = new ArrayList<>();
+		private String path = "";
+		private String uriVersion = "";
+		private String version = null;
+
+		private GeneratedEndpointMethod(String httpMethod) {
+			this.httpMethod = httpMethod;
+		}
+
+		public GeneratedEndpointMethod path(String path) {
+			this.path = path;
+			return this;
+		}
+
+		public GeneratedEndpointMethod version(String version) {
+			this.version = version;
+			return this;
+		}
+
+		public GeneratedEndpointMethod versionPath(String uriVersion) {
+			this.uriVersion = uriVersion;
+			return this;
+		}
+
+		public GeneratedEndpointMethod header(String name, String value) {
+			headers.add(new GeneratedHeader(name, value, false));
+			return this;
+		}
+
+		public GeneratedEndpointMethod cookie(String name, String value) {
+			headers.add(new GeneratedHeader(name, value, true));
+			return this;
+		}
+
+		public GeneratedEndpointMethod parameter(String name, EndpointMethodParameterType type, ParameterSerializer serializer) {
+			parameters.add(new GeneratedParameter(name, type, serializer));
+			return this;
+		}
+
+		private EndpointMethod build(Method javaMethod, String endpoint, JavaTypeResolver javaTypeResolver) {
+			String endpointPath = new EndpointPathBuilder()
+					.append(endpoint)
+					.append(uriVersion)
+					.append(path)
+					.build();
+
+			return new EndpointMethod(javaMethod, endpointPath, httpMethod, endpointMethodParameters(javaMethod, javaTypeResolver),
+					endpointMethodHeaders(), javaTypeResolver.returnTypeOf(javaMethod), version);
+		}
+
+		private EndpointMethodParameters endpointMethodParameters(Method javaMethod, JavaTypeResolver javaTypeResolver) {
+			EndpointMethodParameters endpointMethodParameters = new EndpointMethodParameters();
+
+			Parameter[] javaMethodParameters = javaMethod.getParameters();
+
+			int position = 0;
+			for (GeneratedParameter parameter : parameters) {
+				JavaType javaType = JavaType.of(javaTypeResolver.parameterizedTypeOf(javaMethodParameters[position]));
+
+				endpointMethodParameters = endpointMethodParameters.put(new EndpointMethodParameter(position, parameter.name, javaType,
+						parameter.type, parameter.serializer));
+
+				position++;
+			}
+
+			return endpointMethodParameters;
+		}
+
+		private EndpointHeaders endpointMethodHeaders() {
+			Collection<EndpointHeader> endpointHeaders = new HashSet<>();
+
+			typeHeaders.forEach(h -> endpointHeaders.add(h.asEndpointHeader()));
+			headers.forEach(h -> endpointHeaders.add(h.asEndpointHeader()));
+
+			return new EndpointHeaders(endpointHeaders);
+		}
+	}
+
+	private static class GeneratedHeader {
+
+		private final String name;
+		private final String value;
+		private final boolean cookie;
+
+		private GeneratedHeader(String name, String value, boolean cookie) {
+			this.name = name;
+			this.value = value;
+			this.cookie = cookie;
+		}
+
+		private EndpointHeader asEndpointHeader() {
+			return cookie ? new EndpointCookie(name, value).asHeader() : new EndpointHeader(name, value);
+		}
+	}
+
+	private static class GeneratedParameter {
+
+		private final String name;
+		private final EndpointMethodParameterType type;
+		private final ParameterSerializer serializer;
+
+		private GeneratedParameter(String name, EndpointMethodParameterType type, ParameterSerializer serializer) {
+			this.name = name;
+			this.type = type;
+			this.serializer = serializer;
+		}
+	}
+}
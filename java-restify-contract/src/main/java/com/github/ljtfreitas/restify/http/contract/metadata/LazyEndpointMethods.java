@@ -0,0 +1,71 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * {@link EndpointMethods} that reads the metadata of each Java method on its first lookup, instead of reading all
+ * methods of the target when the proxy is built. Read metadata is memoized; a method that cannot be read fails on
+ * each lookup.
+ */
+public class LazyEndpointMethods extends EndpointMethods {
+
+	private final Set<Method> javaMethods;
+	private final Function<Method, EndpointMethod> reader;
+	private final Map<Method, Optional<EndpointMethod>> methods = new ConcurrentHashMap<>();
+
+	public LazyEndpointMethods(Collection<Method> javaMethods, Function<Method, EndpointMethod> reader) {
+		super(Collections.emptyList());
+		this.javaMethods = new HashSet<>(nonNull(javaMethods, "Java methods cannot be null."));
+		this.reader = nonNull(reader, "EndpointMethod reader cannot be null.");
+	}
+
+	@Override
+	public Optional<EndpointMethod> find(Method method) {
+		Optional<EndpointMethod> endpointMethod = methods.get(method);
+		return endpointMethod == null ? methods.computeIfAbsent(method, this::read) : endpointMethod;
+	}
+
+	private Optional<EndpointMethod> read(Method method) {
+		return javaMethods.contains(method) ? Optional.of(reader.apply(method)) : Optional.empty();
+	}
+
+	@Override
+	public String toString() {
+		return methods.values().toString();
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+class RebasedEndpointMethods extends EndpointMethods {
+
+	private final EndpointMethods source;
+	private final String endpoint;
+	private final Map<Method, Optional<EndpointMethod>> methods = new ConcurrentHashMap<>();
+
+	RebasedEndpointMethods(EndpointMethods source, ContractExpressionResolver resolver, String endpoint) {
+		super(Collections.emptyList());
+		this.source = source;
+		this.endpoint = Optional.ofNullable(endpoint).map(resolver::resolve).filter(e -> !e.trim().isEmpty()).orElse(null);
+	}
+
+	@Override
+	public Optional<EndpointMethod> find(Method method) {
+		Optional<EndpointMethod> endpointMethod = methods.get(method);
+
+		if (endpointMethod == null) {
+			endpointMethod = methods.computeIfAbsent(method, m -> source.find(m).map(this::rebase));
+		}
+
+		return endpointMethod;
+	}
+
+	private EndpointMethod rebase(EndpointMethod endpointMethod) {
+		return endpoint == null ? endpointMethod : endpointMethod.rebase(endpoint);
+	}
+
+	@Override
+	public String toString() {
+		return "RebasedEndpointMethods: [Endpoint: " + (endpoint == null ? "(empty)" : endpoint) + ", Methods: " + source + "]";
+	}
+}
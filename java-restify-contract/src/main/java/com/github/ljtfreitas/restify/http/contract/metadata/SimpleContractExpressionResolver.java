@@ -31,4 +31,14 @@ public class SimpleContractExpressionResolver implements ContractExpressionResol
 	public String resolve(String expression) {
 		return expression;
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof SimpleContractExpressionResolver;
+	}
+
+	@Override
+	public int hashCode() {
+		return SimpleContractExpressionResolver.class.hashCode();
+	}
 }
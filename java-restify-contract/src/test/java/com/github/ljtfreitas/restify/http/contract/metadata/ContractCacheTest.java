@@ -0,0 +1,110 @@
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.net.URI;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+import com.github.ljtfreitas.restify.http.contract.PathParameter;
+
+public class ContractCacheTest {
+
+	private ContractCache cache;
+
+	private ContractReader reader;
+
+	@Before
+	public void setup() {
+		cache = new ContractCache();
+		reader = spy(new DefaultContractReader());
+	}
+
+	@Test
+	public void shouldReadContractOnlyOnceForEachReader() {
+		cache.read(new EndpointTarget(MyApi.class, "http://tenant1.my.api.com"), reader, new SimpleContractExpressionResolver());
+		cache.read(new EndpointTarget(MyApi.class, "http://tenant2.my.api.com"), reader, new SimpleContractExpressionResolver());
+
+		verify(reader, times(1)).read(any());
+	}
+
+	@Test
+	public void shouldBindEndpointMethodsToEndpointOfTarget() throws Exception {
+		EndpointMethods tenant1 = cache.read(new EndpointTarget(MyApi.class, "http://tenant1.my.api.com"), reader, new SimpleContractExpressionResolver());
+		EndpointMethods tenant2 = cache.read(new EndpointTarget(MyApi.class, "http://tenant2.my.api.com"), reader, new SimpleContractExpressionResolver());
+
+		java.lang.reflect.Method javaMethod = MyApi.class.getMethod("user", String.class);
+
+		assertEquals(new URI("http://tenant1.my.api.com/api/users/ljtfreitas"), tenant1.find(javaMethod).get().expand(new Object[] { "ljtfreitas" }));
+		assertEquals(new URI("http://tenant2.my.api.com/api/users/ljtfreitas"), tenant2.find(javaMethod).get().expand(new Object[] { "ljtfreitas" }));
+
+		assertSame(tenant1.find(javaMethod).get(), tenant1.find(javaMethod).get());
+	}
+
+	@Test
+	public void shouldRebindEndpointTypeToOtherEndpoint() throws Exception {
+		EndpointTarget target = new EndpointTarget(MyApi.class, "http://tenant1.my.api.com");
+
+		EndpointType endpointType = new Contract(new CachedContractReader(reader, new SimpleContractExpressionResolver(), cache)).read(target);
+
+		EndpointType rebound = endpointType.rebind(new EndpointTarget(MyApi.class, "http://tenant2.my.api.com"));
+
+		java.lang.reflect.Method javaMethod = MyApi.class.getMethod("user", String.class);
+
+		assertEquals(new URI("http://tenant2.my.api.com/api/users/ljtfreitas"), rebound.find(javaMethod).get().expand(new Object[] { "ljtfreitas" }));
+
+		verify(reader, times(1)).read(any());
+	}
+
+	@Test
+	public void shouldShareContractBetweenReadersWithSameConfiguration() {
+		ContractReader other = spy(new DefaultContractReader());
+
+		cache.read(new EndpointTarget(MyApi.class, "http://tenant1.my.api.com"), reader, new SimpleContractExpressionResolver());
+		cache.read(new EndpointTarget(MyApi.class, "http://tenant2.my.api.com"), other, new SimpleContractExpressionResolver());
+
+		verify(reader, times(1)).read(any());
+		verify(other, never()).read(any());
+	}
+
+	@Test
+	public void shouldNotCacheContractOfReaderWithoutCacheKey() {
+		ContractReader uncached = spy(new DefaultContractReader(expression -> expression));
+
+		cache.read(new EndpointTarget(MyApi.class, "http://tenant1.my.api.com"), uncached, new SimpleContractExpressionResolver());
+		cache.read(new EndpointTarget(MyApi.class, "http://tenant1.my.api.com"), uncached, new SimpleContractExpressionResolver());
+
+		verify(uncached, times(2)).read(any());
+	}
+
+	@Test
+	public void shouldReadContractAgainWhenRebindingEndpointTypeReadWithoutCache() throws Exception {
+		EndpointTarget target = new EndpointTarget(MyApi.class, "http://tenant1.my.api.com");
+
+		EndpointType endpointType = new Contract(reader).read(target);
+
+		EndpointType rebound = endpointType.rebind(new EndpointTarget(MyApi.class, "http://tenant2.my.api.com"));
+
+		java.lang.reflect.Method javaMethod = MyApi.class.getMethod("user", String.class);
+
+		assertEquals(new URI("http://tenant2.my.api.com/api/users/ljtfreitas"), rebound.find(javaMethod).get().expand(new Object[] { "ljtfreitas" }));
+
+		verify(reader, times(2)).read(any());
+	}
+
+	@Path("/api")
+	interface MyApi {
+
+		@Path("/users/{name}") @Get
+		String user(@PathParameter String name);
+	}
+}
@@ -3,8 +3,10 @@ package com.github.ljtfreitas.restify.http.contract.metadata;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.lang.reflect.Type;
 import java.net.URL;
@@ -36,6 +38,7 @@ import com.github.ljtfreitas.restify.http.contract.PathParameter;
 import com.github.ljtfreitas.restify.http.contract.Post;
 import com.github.ljtfreitas.restify.http.contract.Put;
 import com.github.ljtfreitas.restify.http.contract.QueryParameters;
+import com.github.ljtfreitas.restify.http.contract.SaveTo;
 import com.github.ljtfreitas.restify.http.contract.Version;
 import com.github.ljtfreitas.restify.reflection.SimpleGenericArrayType;
 import com.github.ljtfreitas.restify.reflection.SimpleParameterizedType;
@@ -261,6 +264,74 @@ public class DefaultContractReaderTest {
 		new DefaultContractReader().read(new EndpointTarget(MyApiTypeWithWrongBodyParameter.class));
 	}
 
+	@Test
+	public void shouldReadEndpointMethodOnFirstLookupWhenLazyModeIsUsed() throws Exception {
+		DefaultContractReader lazyContractReader = new DefaultContractReader(new SimpleContractExpressionResolver(),
+				DefaultContractReader.ReadingMode.LAZY);
+
+		EndpointMethods endpointMethods = lazyContractReader.read(new EndpointTarget(MyApiTypeWithWrongBodyParameter.class));
+
+		java.lang.reflect.Method javaMethod = MyApiTypeWithWrongBodyParameter.class.getMethod("methodWithTwoBodyParameters",
+				Object.class, Object.class);
+
+		try {
+			endpointMethods.find(javaMethod);
+			fail("the method has two body parameters and must be rejected on first lookup");
+
+		} catch (IllegalArgumentException e) {
+		}
+
+		endpointMethods = lazyContractReader.read(myApiTypeTarget);
+
+		javaMethod = MyApiType.class.getMethod("method", new Class[] { String.class });
+
+		EndpointMethod endpointMethod = endpointMethods.find(javaMethod)
+			.orElseThrow(() -> new IllegalStateException("Method not found..."));
+
+		assertEquals("GET", endpointMethod.httpMethod());
+		assertEquals("http://my.api.com/{path}", endpointMethod.path());
+
+		assertSame(endpointMethod, endpointMethods.find(javaMethod).get());
+
+		assertFalse(endpointMethods.find(Object.class.getMethod("toString")).isPresent());
+	}
+
+	@Test
+	public void shouldReadAllEndpointMethodsWhenParallelModeIsUsed() throws Exception {
+		DefaultContractReader parallelContractReader = new DefaultContractReader(new SimpleContractExpressionResolver(),
+				DefaultContractReader.ReadingMode.PARALLEL);
+
+		EndpointMethods endpointMethods = parallelContractReader.read(myApiTypeTarget);
+		EndpointMethods expected = restifyContractReader.read(myApiTypeTarget);
+
+		for (java.lang.reflect.Method javaMethod : myApiTypeTarget.methods()) {
+			assertEquals(expected.find(javaMethod).map(EndpointMethod::path), endpointMethods.find(javaMethod).map(EndpointMethod::path));
+		}
+	}
+
+	@Test
+	public void shouldSkipDefaultAndStaticMethodsInAllReadingModes() throws Exception {
+		java.lang.reflect.Method endpointJavaMethod = MyApiTypeWithDefaultAndStaticMethods.class.getMethod("method");
+		java.lang.reflect.Method defaultJavaMethod = MyApiTypeWithDefaultAndStaticMethods.class.getMethod("defaultMethod");
+		java.lang.reflect.Method staticJavaMethod = MyApiTypeWithDefaultAndStaticMethods.class.getMethod("staticMethod");
+
+		EndpointTarget target = new EndpointTarget(MyApiTypeWithDefaultAndStaticMethods.class);
+
+		for (DefaultContractReader.ReadingMode mode : DefaultContractReader.ReadingMode.values()) {
+			EndpointMethods endpointMethods = new DefaultContractReader(new SimpleContractExpressionResolver(), mode).read(target);
+
+			assertTrue(mode.name(), endpointMethods.find(endpointJavaMethod).isPresent());
+			assertFalse(mode.name(), endpointMethods.find(defaultJavaMethod).isPresent());
+			assertFalse(mode.name(), endpointMethods.find(staticJavaMethod).isPresent());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionWhenMethodHasMoreThanOneBodyParameterInParallelMode() throws Exception {
+		new DefaultContractReader(new SimpleContractExpressionResolver(), DefaultContractReader.ReadingMode.PARALLEL)
+			.read(new EndpointTarget(MyApiTypeWithWrongBodyParameter.class));
+	}
+
 	@Test
 	public void shouldCreateAsyncEndpointMethodWhenMethodHasOneCallback() throws Exception {
 		EndpointMethods endpointMethods = new DefaultContractReader().read(myApiTypeTarget);
@@ -314,6 +385,28 @@ public class DefaultContractReaderTest {
 		new DefaultContractReader().read(new EndpointTarget(MyApiTypeWithWrongCallbackParameter.class));
 	}
 
+	@Test
+	public void shouldCreateEndpointMethodWithDestinationParameter() throws Exception {
+		EndpointMethods endpointMethods = new DefaultContractReader().read(myApiTypeTarget);
+
+		EndpointMethod endpointMethod = endpointMethods.find(MyApiType.class.getMethod("download", new Class[] { String.class, java.nio.file.Path.class }))
+				.orElseThrow(() -> new IllegalStateException("Method not found..."));
+
+		assertEquals("http://my.api.com/download/{file}", endpointMethod.path());
+		assertFalse(endpointMethod.runnableAsync());
+
+		Optional<EndpointMethodParameter> destinationParameter = endpointMethod.parameters().destination();
+		assertTrue(destinationParameter.isPresent());
+		assertEquals(1, destinationParameter.get().position());
+		assertFalse(destinationParameter.get().path());
+		assertEquals(java.nio.file.Path.class, destinationParameter.get().javaType().unwrap());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionWhenDestinationParameterIsNotAFile() throws Exception {
+		new DefaultContractReader().read(new EndpointTarget(MyApiTypeWithWrongDestinationParameter.class));
+	}
+
 	@Test
 	public void shouldCreateEndpointMethodWhenInterfaceHasAInheritance() throws Exception {
 		EndpointMethods endpointMethods = restifyContractReader.read(myInheritanceApiTarget);
@@ -618,6 +711,10 @@ public class DefaultContractReaderTest {
 		public void async(@CallbackParameter AsyncSuccessCallback<String> successCallback,
 				@CallbackParameter AsyncFailureCallback failureCallback);
 
+		@Path("/download/{file}")
+		@Get
+		public java.nio.file.Path download(@PathParameter String file, @SaveTo java.nio.file.Path destination);
+
 		@Path("/metaHeaders")
 		@Method("GET")
 		@JsonContent
@@ -644,6 +741,21 @@ public class DefaultContractReaderTest {
 		public String methodWithTwoBodyParameters(@BodyParameter Object first, @BodyParameter Object second);
 	}
 
+	@Path("http://my.api.com")
+	interface MyApiTypeWithDefaultAndStaticMethods {
+
+		@Path("/method") @Get
+		public String method();
+
+		default String defaultMethod() {
+			return method();
+		}
+
+		static String staticMethod() {
+			return "static";
+		}
+	}
+
 	@Path("http://my.api.com")
 	interface MyApiTypeWithWrongCallbackParameter {
 
@@ -652,6 +764,14 @@ public class DefaultContractReaderTest {
 		public void asyncWithTwoCallbacks(@CallbackParameter AsyncCallback<String> first, @CallbackParameter AsyncCallback<String> second);
 	}
 
+	@Path("http://my.api.com")
+	interface MyApiTypeWithWrongDestinationParameter {
+
+		@Path("/download")
+		@Get
+		public void download(@SaveTo Object destination);
+	}
+
 	@Path("http://my.api.com")
 	interface MyBaseApiType {
 
@@ -0,0 +1,156 @@
+package com.github.ljtfreitas.restify.http.contract.metadata;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.contract.QueryParameterSerializer;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter.EndpointMethodParameterType;
+
+public class EndpointUriTemplateTest {
+
+	private EndpointMethodParameters parameters;
+
+	@Before
+	public void setup() {
+		parameters = new EndpointMethodParameters();
+	}
+
+	@Test
+	public void shouldExpandArgumentsOnPath() {
+		parameters = parameters.put(new EndpointMethodParameter(0, "first", String.class))
+				.put(new EndpointMethodParameter(1, "second", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("http://my.api.com/method/{first}/{second}", parameters);
+
+		assertEquals("http://my.api.com/method/firstArg/secondArg", template.expand(new Object[] { "firstArg", "secondArg" }));
+	}
+
+	@Test
+	public void shouldExpandArgumentOnRelativePath() {
+		parameters = parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("/method/{first}", parameters);
+
+		assertEquals("/method/arg", template.expand(new Object[] { "arg" }));
+	}
+
+	@Test
+	public void shouldExpandMultiplesArgumentsOnRelativePath() {
+		parameters = parameters.put(new EndpointMethodParameter(0, "first", String.class))
+				.put(new EndpointMethodParameter(1, "second", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("/method/{first}/{second}", parameters);
+
+		assertEquals("/method/firstArg/secondArg", template.expand(new Object[] { "firstArg", "secondArg" }));
+	}
+
+	@Test
+	public void shouldExpandPathWithoutDynamicArguments() {
+		EndpointUriTemplate template = new EndpointUriTemplate("/method/static/path", parameters);
+
+		assertEquals("/method/static/path", template.expand(new Object[] { "firstArg", "secondArg" }));
+	}
+
+	@Test
+	public void shouldExpandDynamicArgumentWithHyphen() {
+		parameters = parameters.put(new EndpointMethodParameter(0, "first-argument", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("/method/{first-argument}", parameters);
+
+		assertEquals("/method/arg", template.expand(new Object[] { "arg" }));
+	}
+
+	@Test
+	public void shouldExpandDynamicArgumentWithUnderline() {
+		parameters = parameters.put(new EndpointMethodParameter(0, "first_argument", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("/method/{first_argument}", parameters);
+
+		assertEquals("/method/arg", template.expand(new Object[] { "arg" }));
+	}
+
+	@Test
+	public void shouldExpandSingleDynamicArgument() throws Exception {
+		parameters = parameters.put(new EndpointMethodParameter(0, "url", URL.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("{url}", parameters);
+
+		assertEquals("http://my.api.com/path", template.expand(new Object[] { new URL("http://my.api.com/path") }));
+	}
+
+	@Test
+	public void shouldKeepPlaceholderCharactersOfArgumentAsLiteral() {
+		parameters = parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("http://my.api.com/{first}", parameters);
+
+		assertEquals("http://my.api.com/$1%5Cvalue", template.expand(new Object[] { "$1\\value" }));
+	}
+
+	@Test
+	public void shouldEscapeIllegalCharactersOfArguments() {
+		parameters = parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("http://my.api.com/{first}", parameters);
+
+		assertEquals("http://my.api.com/my%20value%7Cother", template.expand(new Object[] { "my value|other" }));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionWhenPathArgumentIsNull() {
+		parameters = parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("http://my.api.com/{first}", parameters);
+
+		template.expand(new Object[] { null });
+	}
+
+	@Test
+	public void shouldKeepPlaceholderWithoutPathParameter() {
+		parameters = parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("http://my.api.com/{first}/{other}", parameters);
+
+		assertEquals("http://my.api.com/firstArg/{other}", template.expand(new Object[] { "firstArg" }));
+	}
+
+	@Test(expected = URISyntaxException.class)
+	public void shouldNotBuildUriWhenPlaceholderHasNoPathParameter() throws Exception {
+		parameters = parameters.put(new EndpointMethodParameter(0, "first", String.class));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("http://my.api.com/{first}/{other}", parameters);
+
+		new URI(template.expand(new Object[] { "firstArg" }));
+	}
+
+	@Test
+	public void shouldAppendQueryParameters() {
+		parameters = parameters.put(new EndpointMethodParameter(0, "param1", String.class,
+					EndpointMethodParameterType.QUERY_STRING, new QueryParameterSerializer()))
+				.put(new EndpointMethodParameter(1, "param2", String.class,
+					EndpointMethodParameterType.QUERY_STRING, new QueryParameterSerializer()));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("http://my.api.com/method", parameters);
+
+		assertEquals("http://my.api.com/method?param1=value1&param2=value2", template.expand(new Object[] { "value1", "value2" }));
+		assertEquals("http://my.api.com/method?param2=value2", template.expand(new Object[] { null, "value2" }));
+		assertEquals("http://my.api.com/method?param1=value1", template.expand(new Object[] { "value1", null }));
+		assertEquals("http://my.api.com/method", template.expand(new Object[] { null, null }));
+	}
+
+	@Test
+	public void shouldAppendQueryParametersAfterStaticQueryAndBeforeFragment() {
+		parameters = parameters.put(new EndpointMethodParameter(0, "param", String.class,
+					EndpointMethodParameterType.QUERY_STRING, new QueryParameterSerializer()));
+
+		EndpointUriTemplate template = new EndpointUriTemplate("http://my.api.com/method?static=true#fragment", parameters);
+
+		assertEquals("http://my.api.com/method?static=true&param=value#fragment", template.expand(new Object[] { "value" }));
+	}
+}
@@ -30,7 +30,7 @@ import com.github.ljtfreitas.restify.http.client.message.ContentType;
 public class HypermediaJsonPathLinkDiscovery extends JsonPathLinkDiscovery {
 
 	private static final String LINK_FORMAT_TEMPLATE = "$.links..[?(@.rel == '%s')]..href";
-	private static final ContentType JSON_CONTENT_TYPE = ContentType.of("application/json");
+	private static final ContentType JSON_CONTENT_TYPE = ContentType.APPLICATION_JSON;
 
 	public HypermediaJsonPathLinkDiscovery() {
 		super(LINK_FORMAT_TEMPLATE, JSON_CONTENT_TYPE);
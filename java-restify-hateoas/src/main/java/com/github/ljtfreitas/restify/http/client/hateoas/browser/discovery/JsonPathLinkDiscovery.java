@@ -40,7 +40,7 @@ public class JsonPathLinkDiscovery implements LinkDiscovery {
 	private final ContentType contentType;
 
 	public JsonPathLinkDiscovery(String jsonPathTemplate) {
-		this(jsonPathTemplate, ContentType.of("application/json"));
+		this(jsonPathTemplate, ContentType.APPLICATION_JSON);
 	}
 
 	public JsonPathLinkDiscovery(String jsonPathTemplate, ContentType contentType) {
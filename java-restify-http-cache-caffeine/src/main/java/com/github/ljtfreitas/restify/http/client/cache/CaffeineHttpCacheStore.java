@@ -0,0 +1,74 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import java.net.URI;
+import java.util.Optional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+public class CaffeineHttpCacheStore implements HttpCacheStore {
+
+	private static final long DEFAULT_MAX_SIZE = 10 * 1024 * 1024;
+
+	private final Cache<HttpCacheKey, HttpCacheEntry> cache;
+
+	public CaffeineHttpCacheStore() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	public CaffeineHttpCacheStore(long maxSize) {
+		this(Caffeine.newBuilder()
+				.maximumWeight(maxSize)
+				.weigher((HttpCacheKey key, HttpCacheEntry entry) -> (int) Math.min(entry.size(), Integer.MAX_VALUE))
+				.build());
+	}
+
+	public CaffeineHttpCacheStore(Cache<HttpCacheKey, HttpCacheEntry> cache) {
+		this.cache = cache;
+	}
+
+	@Override
+	public Optional<HttpCacheEntry> get(HttpCacheKey key) {
+		return Optional.ofNullable(cache.getIfPresent(key));
+	}
+
+	@Override
+	public void put(HttpCacheKey key, HttpCacheEntry entry) {
+		cache.put(key, entry);
+	}
+
+	@Override
+	public void remove(HttpCacheKey key) {
+		cache.invalidate(key);
+	}
+
+	@Override
+	public void invalidate(URI endpoint) {
+		cache.asMap().keySet().removeIf(key -> key.endpoint().equals(endpoint));
+	}
+}
@@ -0,0 +1,62 @@
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+
+public class CaffeineHttpCacheStoreTest {
+
+	private CaffeineHttpCacheStore store;
+
+	private HttpCacheKey key;
+
+	private HttpCacheEntry entry;
+
+	@Before
+	public void setup() {
+		store = new CaffeineHttpCacheStore();
+
+		key = HttpCacheKey.of(new EndpointRequest(URI.create("http://my.api.com/path"), "GET", String.class));
+
+		entry = new HttpCacheEntry(StatusCode.ok(), new Headers(), "body", Collections.emptyMap(), 0, 0, 4);
+	}
+
+	@Test
+	public void shouldStoreEntry() {
+		store.put(key, entry);
+
+		assertSame(entry, store.get(key).get());
+	}
+
+	@Test
+	public void shouldRemoveEntry() {
+		store.put(key, entry);
+
+		store.remove(key);
+
+		assertFalse(store.get(key).isPresent());
+	}
+
+	@Test
+	public void shouldInvalidateAllEntriesOfEndpoint() {
+		HttpCacheKey other = HttpCacheKey.of(new EndpointRequest(URI.create("http://my.api.com/other"), "GET", String.class));
+
+		store.put(key, entry);
+		store.put(other, entry);
+
+		store.invalidate(URI.create("http://my.api.com/path"));
+
+		assertFalse(store.get(key).isPresent());
+		assertTrue(store.get(other).isPresent());
+	}
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.async.AsyncEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+
+public class AsyncCachingEndpointRequestExecutor implements AsyncEndpointRequestExecutor {
+
+	private final AsyncEndpointRequestExecutor delegate;
+	private final HttpCache httpCache;
+
+	public AsyncCachingEndpointRequestExecutor(AsyncEndpointRequestExecutor delegate) {
+		this(delegate, new HttpCache());
+	}
+
+	public AsyncCachingEndpointRequestExecutor(AsyncEndpointRequestExecutor delegate, HttpCache httpCache) {
+		this.delegate = delegate;
+		this.httpCache = httpCache;
+	}
+
+	@Override
+	public <T> CompletionStage<EndpointResponse<T>> executeAsync(EndpointRequest endpointRequest) {
+		if (!httpCache.cacheable(endpointRequest)) {
+			return delegate.<T> executeAsync(endpointRequest)
+					.thenApply(response -> {
+						httpCache.invalidate(endpointRequest);
+						return response;
+					});
+		}
+
+		long requestTime = httpCache.now();
+
+		Optional<HttpCacheEntry> cached = httpCache.lookup(endpointRequest);
+
+		if (cached.isPresent() && httpCache.fresh(endpointRequest, cached.get(), requestTime)) {
+			return CompletableFuture.completedFuture(cached.get().response());
+		}
+
+		EndpointRequest source = cached.filter(HttpCacheEntry::revalidable)
+				.map(entry -> httpCache.conditional(endpointRequest, entry))
+					.orElse(endpointRequest);
+
+		return delegate.<T> executeAsync(source)
+				.thenApply(response -> httpCache.update(endpointRequest, cached, response, requestTime, httpCache.now()));
+	}
+}
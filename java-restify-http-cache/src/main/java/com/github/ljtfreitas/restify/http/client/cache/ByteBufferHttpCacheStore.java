@@ -0,0 +1,240 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import static com.github.ljtfreitas.restify.util.Preconditions.isTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+
+/**
+ * Stores the cached responses outside of the Java heap, in direct {@link ByteBuffer}s, which is useful for large payloads.
+ * Entries are written using Java serialization, so only responses whose body is {@link Serializable} are stored;
+ * the max size is checked against the serialized length of the entries. Other responses are not cached, and a warning
+ * is logged once for each body type (use {@link InMemoryHttpCacheStore} for endpoints that return them).
+ */
+public class ByteBufferHttpCacheStore implements HttpCacheStore {
+
+	private static final Logger log = Logger.getLogger(ByteBufferHttpCacheStore.class.getCanonicalName());
+
+	private static final long DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+
+	private final long maxSize;
+	private final LinkedHashMap<HttpCacheKey, ByteBuffer> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Set<Class<?>> unserializable = ConcurrentHashMap.newKeySet();
+
+	private long size = 0;
+
+	public ByteBufferHttpCacheStore() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	public ByteBufferHttpCacheStore(long maxSize) {
+		isTrue(maxSize > 0, "Cache max size must be greater than zero.");
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public Optional<HttpCacheEntry> get(HttpCacheKey key) {
+		ByteBuffer buffer;
+
+		synchronized (this) {
+			buffer = entries.get(key);
+		}
+
+		return buffer == null ? Optional.empty() : Optional.of(read(buffer.duplicate()));
+	}
+
+	@Override
+	public void put(HttpCacheKey key, HttpCacheEntry entry) {
+		if (entry.body() != null && !(entry.body() instanceof Serializable)) {
+			warn(key, entry.body().getClass(), "is not Serializable");
+			remove(key);
+			return;
+		}
+
+		Optional<ByteBuffer> buffer = write(key, entry);
+
+		synchronized (this) {
+			remove(key);
+
+			if (!buffer.isPresent() || buffer.get().capacity() > maxSize) return;
+
+			entries.put(key, buffer.get());
+			size += buffer.get().capacity();
+
+			Iterator<ByteBuffer> eldest = entries.values().iterator();
+			while (size > maxSize && eldest.hasNext()) {
+				size -= eldest.next().capacity();
+				eldest.remove();
+			}
+		}
+	}
+
+	@Override
+	public synchronized void remove(HttpCacheKey key) {
+		ByteBuffer removed = entries.remove(key);
+		if (removed != null) size -= removed.capacity();
+	}
+
+	@Override
+	public synchronized void invalidate(URI endpoint) {
+		Iterator<Map.Entry<HttpCacheKey, ByteBuffer>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<HttpCacheKey, ByteBuffer> entry = iterator.next();
+			if (entry.getKey().endpoint().equals(endpoint)) {
+				size -= entry.getValue().capacity();
+				iterator.remove();
+			}
+		}
+	}
+
+	public synchronized long size() {
+		return size;
+	}
+
+	private void warn(HttpCacheKey key, Class<?> bodyType, String reason) {
+		if (unserializable.add(bodyType)) {
+			log.warning("Response body of type [" + bodyType.getName() + "] " + reason + ", so responses of [" + key + "] "
+					+ "and other responses with this body type are not cached off-heap.");
+		}
+	}
+
+	private Optional<ByteBuffer> write(HttpCacheKey key, HttpCacheEntry entry) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeInt(entry.status().value());
+
+			output.writeInt(entry.headers().all().size());
+			for (Header header : entry.headers()) {
+				output.writeObject(header.name());
+				output.writeObject(header.value());
+			}
+
+			output.writeInt(entry.vary().size());
+			for (Map.Entry<String, String> vary : entry.vary().entrySet()) {
+				output.writeObject(vary.getKey());
+				output.writeObject(vary.getValue());
+			}
+
+			output.writeLong(entry.requestTime());
+			output.writeLong(entry.responseTime());
+			output.writeLong(entry.size());
+
+			output.writeObject(entry.body());
+
+		} catch (NotSerializableException e) {
+			warn(key, entry.body().getClass(), "has a field of type [" + e.getMessage() + "] that is not Serializable");
+			return Optional.empty();
+
+		} catch (IOException e) {
+			throw new HttpCacheException("Error on write cache entry to off-heap buffer.", e);
+		}
+
+		byte[] source = bytes.toByteArray();
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(source.length);
+		buffer.put(source);
+		buffer.flip();
+
+		return Optional.of(buffer);
+	}
+
+	private HttpCacheEntry read(ByteBuffer buffer) {
+		try (ObjectInputStream input = new ObjectInputStream(new ByteBufferInputStream(buffer))) {
+			StatusCode status = StatusCode.of(input.readInt());
+
+			Headers.Builder headers = new Headers.Builder();
+			for (int i = input.readInt(); i > 0; i--) {
+				headers.add((String) input.readObject(), (String) input.readObject());
+			}
+
+			Map<String, String> vary = new HashMap<>();
+			for (int i = input.readInt(); i > 0; i--) {
+				vary.put((String) input.readObject(), (String) input.readObject());
+			}
+
+			long requestTime = input.readLong();
+			long responseTime = input.readLong();
+			long size = input.readLong();
+
+			Object body = input.readObject();
+
+			return new HttpCacheEntry(status, headers.build(), body, vary, requestTime, responseTime, size);
+
+		} catch (IOException | ClassNotFoundException e) {
+			throw new HttpCacheException("Error on read cache entry from off-heap buffer.", e);
+		}
+	}
+
+	private static class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		private ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (!buffer.hasRemaining()) return -1;
+
+			int count = Math.min(len, buffer.remaining());
+			buffer.get(b, off, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+}
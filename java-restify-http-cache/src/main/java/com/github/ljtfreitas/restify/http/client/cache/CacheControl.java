@@ -0,0 +1,127 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+
+class CacheControl {
+
+	private static final CacheControl EMPTY = new CacheControl(false, false, -1, false);
+
+	private final boolean noStore;
+	private final boolean noCache;
+	private final long maxAge;
+	private final boolean shared;
+
+	private CacheControl(boolean noStore, boolean noCache, long maxAge, boolean shared) {
+		this.noStore = noStore;
+		this.noCache = noCache;
+		this.maxAge = maxAge;
+		this.shared = shared;
+	}
+
+	boolean noStore() {
+		return noStore;
+	}
+
+	boolean noCache() {
+		return noCache;
+	}
+
+	long maxAge() {
+		return maxAge;
+	}
+
+	/**
+	 * Whether the response is explicitly allowed to be shared (public, must-revalidate or s-maxage),
+	 * which is required to store the response to a request with credentials (RFC 7234, section 3.2).
+	 */
+	boolean shared() {
+		return shared;
+	}
+
+	static CacheControl of(Headers headers) {
+		boolean noStore = false;
+		boolean noCache = false;
+		long maxAge = -1;
+		boolean shared = false;
+		boolean present = false;
+
+		for (Header header : headers.all(Headers.CACHE_CONTROL)) {
+			present = true;
+
+			for (String directive : header.value().split(",")) {
+				String[] pair = directive.trim().split("=", 2);
+
+				String name = pair[0].trim().toLowerCase();
+				String argument = pair.length == 2 ? unquote(pair[1].trim()) : null;
+
+				switch (name) {
+					case "no-store":
+						noStore = true;
+						break;
+
+					case "no-cache":
+						noCache = true;
+						break;
+
+					case "max-age":
+						maxAge = seconds(argument);
+						break;
+
+					case "public":
+					case "must-revalidate":
+					case "s-maxage":
+						shared = true;
+						break;
+
+					default:
+						break;
+				}
+			}
+		}
+
+		if (!present) {
+			noCache = headers.get("Pragma").map(h -> h.value().equalsIgnoreCase("no-cache")).orElse(false);
+		}
+
+		return present || noCache ? new CacheControl(noStore, noCache, maxAge, shared) : EMPTY;
+	}
+
+	private static String unquote(String value) {
+		return value.length() > 1 && value.startsWith("\"") && value.endsWith("\"") ? value.substring(1, value.length() - 1) : value;
+	}
+
+	private static long seconds(String argument) {
+		try {
+			return argument == null ? 0 : Math.max(0, Long.parseLong(argument));
+
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+}
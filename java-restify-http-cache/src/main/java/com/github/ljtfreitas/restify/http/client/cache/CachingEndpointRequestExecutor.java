@@ -0,0 +1,72 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+
+public class CachingEndpointRequestExecutor implements EndpointRequestExecutor {
+
+	private final EndpointRequestExecutor delegate;
+	private final HttpCache httpCache;
+
+	public CachingEndpointRequestExecutor(EndpointRequestExecutor delegate) {
+		this(delegate, new HttpCache());
+	}
+
+	public CachingEndpointRequestExecutor(EndpointRequestExecutor delegate, HttpCache httpCache) {
+		this.delegate = delegate;
+		this.httpCache = httpCache;
+	}
+
+	@Override
+	public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
+		if (!httpCache.cacheable(endpointRequest)) {
+			EndpointResponse<T> response = delegate.execute(endpointRequest);
+			httpCache.invalidate(endpointRequest);
+			return response;
+		}
+
+		long requestTime = httpCache.now();
+
+		Optional<HttpCacheEntry> cached = httpCache.lookup(endpointRequest);
+
+		if (cached.isPresent() && httpCache.fresh(endpointRequest, cached.get(), requestTime)) {
+			return cached.get().response();
+		}
+
+		EndpointRequest source = cached.filter(HttpCacheEntry::revalidable)
+				.map(entry -> httpCache.conditional(endpointRequest, entry))
+					.orElse(endpointRequest);
+
+		EndpointResponse<T> response = delegate.execute(source);
+
+		return httpCache.update(endpointRequest, cached, response, requestTime, httpCache.now());
+	}
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
+
+import java.io.InputStream;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+
+/**
+ * Private HTTP cache, following the freshness and validation rules of RFC 7234.
+ * Entries hold the deserialized response body, so a fresh hit or a 304 answer is returned without reading any message.
+ * <p>
+ * The body is not copied: every caller served from the same entry gets the same object, which must not be modified.
+ * Responses to requests with an Authorization header are only stored when the response is explicitly shareable.
+ */
+public class HttpCache {
+
+	private static final Collection<Integer> CACHEABLE_STATUS = Arrays.asList(200, 203, 204);
+	private static final Collection<String> UNSAFE_METHODS = Arrays.asList("POST", "PUT", "PATCH", "DELETE");
+
+	private static final long UNKNOWN_BODY_SIZE = 1024;
+
+	private final HttpCacheStore store;
+	private final Clock clock;
+
+	public HttpCache() {
+		this(new InMemoryHttpCacheStore());
+	}
+
+	public HttpCache(HttpCacheStore store) {
+		this(store, Clock.systemUTC());
+	}
+
+	public HttpCache(HttpCacheStore store, Clock clock) {
+		this.store = nonNull(store, "HttpCacheStore cannot be null.");
+		this.clock = nonNull(clock, "Clock cannot be null.");
+	}
+
+	long now() {
+		return clock.millis();
+	}
+
+	boolean cacheable(EndpointRequest endpointRequest) {
+		return "GET".equals(endpointRequest.method()) && !CacheControl.of(endpointRequest.headers()).noStore();
+	}
+
+	void invalidate(EndpointRequest endpointRequest) {
+		if (UNSAFE_METHODS.contains(endpointRequest.method())) {
+			store.invalidate(endpointRequest.endpoint());
+		}
+	}
+
+	Optional<HttpCacheEntry> lookup(EndpointRequest endpointRequest) {
+		return store.get(HttpCacheKey.of(endpointRequest)).filter(entry -> entry.matches(endpointRequest));
+	}
+
+	boolean fresh(EndpointRequest endpointRequest, HttpCacheEntry entry, long now) {
+		CacheControl cacheControl = CacheControl.of(endpointRequest.headers());
+
+		long maxAge = cacheControl.maxAge() >= 0 ? cacheControl.maxAge() * 1000 : -1;
+
+		return !cacheControl.noCache() && entry.fresh(now, maxAge);
+	}
+
+	EndpointRequest conditional(EndpointRequest endpointRequest, HttpCacheEntry entry) {
+		EndpointRequest conditional = endpointRequest;
+
+		Optional<String> eTag = entry.eTag();
+		if (eTag.isPresent()) {
+			conditional = conditional.replace(Header.of(Headers.IF_NONE_MATCH, eTag.get()));
+		}
+
+		Optional<String> lastModified = entry.lastModified();
+		if (lastModified.isPresent()) {
+			conditional = conditional.replace(Header.of(Headers.IF_MODIFIED_SINCE, lastModified.get()));
+		}
+
+		return conditional;
+	}
+
+	<T> EndpointResponse<T> update(EndpointRequest endpointRequest, Optional<HttpCacheEntry> cached, EndpointResponse<T> response,
+			long requestTime, long responseTime) {
+
+		HttpCacheKey key = HttpCacheKey.of(endpointRequest);
+
+		if (cached.isPresent() && response.status().isNotModified()) {
+			HttpCacheEntry revalidated = cached.get().revalidatedWith(response.headers(), requestTime, responseTime);
+
+			store.put(key, revalidated);
+
+			return revalidated.response();
+		}
+
+		Optional<HttpCacheEntry> entry = entryOf(endpointRequest, response, requestTime, responseTime);
+
+		if (entry.isPresent()) {
+			store.put(key, entry.get());
+
+		} else if (cached.isPresent()) {
+			store.remove(key);
+		}
+
+		return response;
+	}
+
+	private Optional<HttpCacheEntry> entryOf(EndpointRequest endpointRequest, EndpointResponse<?> response, long requestTime,
+			long responseTime) {
+
+		if (!CACHEABLE_STATUS.contains(response.status().value())) return Optional.empty();
+
+		// a stream body can be read only once (and a streamed one still holds the connection), so it is never stored
+		if (response.body() instanceof InputStream) return Optional.empty();
+
+		// the response to a request with credentials would be served to other callers
+		if (endpointRequest.headers().get(Headers.AUTHORIZATION).isPresent() && !CacheControl.of(response.headers()).shared()) {
+			return Optional.empty();
+		}
+
+		Map<String, String> vary = new LinkedHashMap<>();
+
+		for (Header header : response.headers().all(Headers.VARY)) {
+			for (String name : header.value().split(",")) {
+				String headerName = name.trim();
+
+				if (headerName.equals("*")) return Optional.empty();
+
+				if (!headerName.isEmpty()) {
+					vary.put(headerName, endpointRequest.headers().get(headerName).map(Header::value).orElse(null));
+				}
+			}
+		}
+
+		HttpCacheEntry entry = new HttpCacheEntry(response.status(), response.headers(), response.body(), vary, requestTime,
+				responseTime, sizeOf(response));
+
+		return entry.storable() ? Optional.of(entry) : Optional.empty();
+	}
+
+	private long sizeOf(EndpointResponse<?> response) {
+		long size = 0;
+
+		for (Header header : response.headers()) {
+			size += header.name().length() + header.value().length();
+		}
+
+		Object body = response.body();
+
+		Optional<Long> contentLength = response.headers().get(Headers.CONTENT_LENGTH)
+				.map(Header::value)
+				.map(this::contentLength);
+
+		if (body == null) {
+			return size;
+
+		} else if (contentLength.isPresent() && contentLength.get() >= 0) {
+			return size + contentLength.get();
+
+		} else if (body instanceof byte[]) {
+			return size + ((byte[]) body).length;
+
+		} else if (body instanceof CharSequence) {
+			return size + ((CharSequence) body).length() * 2;
+
+		} else {
+			return size + UNKNOWN_BODY_SIZE;
+		}
+	}
+
+	private long contentLength(String value) {
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+}
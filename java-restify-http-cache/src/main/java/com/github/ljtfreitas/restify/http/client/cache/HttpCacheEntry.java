@@ -0,0 +1,193 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+
+public class HttpCacheEntry {
+
+	private final StatusCode status;
+	private final Headers headers;
+	private final Object body;
+	private final Map<String, String> vary;
+	private final long requestTime;
+	private final long responseTime;
+	private final long size;
+
+	private final CacheControl cacheControl;
+	private final long freshnessLifetime;
+	private final long initialAge;
+
+	public HttpCacheEntry(StatusCode status, Headers headers, Object body, Map<String, String> vary, long requestTime,
+			long responseTime, long size) {
+		this.status = status;
+		this.headers = headers;
+		this.body = body;
+		this.vary = Collections.unmodifiableMap(vary);
+		this.requestTime = requestTime;
+		this.responseTime = responseTime;
+		this.size = size;
+		this.cacheControl = CacheControl.of(headers);
+		this.freshnessLifetime = freshnessLifetime();
+		this.initialAge = initialAge();
+	}
+
+	public StatusCode status() {
+		return status;
+	}
+
+	public Headers headers() {
+		return headers;
+	}
+
+	/**
+	 * The deserialized body, handed as is (not copied) to every caller served from this entry.
+	 */
+	public Object body() {
+		return body;
+	}
+
+	public Map<String, String> vary() {
+		return vary;
+	}
+
+	public long requestTime() {
+		return requestTime;
+	}
+
+	public long responseTime() {
+		return responseTime;
+	}
+
+	public long size() {
+		return size;
+	}
+
+	boolean fresh(long now, long maxAge) {
+		long age = age(now);
+		return !cacheControl.noCache() && freshnessLifetime > age && (maxAge < 0 || age <= maxAge);
+	}
+
+	long age(long now) {
+		return initialAge + (now - responseTime);
+	}
+
+	boolean matches(EndpointRequest endpointRequest) {
+		return vary.entrySet().stream()
+				.allMatch(e -> Objects.equals(e.getValue(), endpointRequest.headers().get(e.getKey()).map(Header::value).orElse(null)));
+	}
+
+	Optional<String> eTag() {
+		return headers.get(Headers.ETAG).map(Header::value);
+	}
+
+	Optional<String> lastModified() {
+		return headers.get(Headers.LAST_MODIFIED).map(Header::value);
+	}
+
+	boolean storable() {
+		return !cacheControl.noStore() && (freshnessLifetime > 0 || revalidable());
+	}
+
+	boolean revalidable() {
+		return eTag().isPresent() || lastModified().isPresent();
+	}
+
+	HttpCacheEntry revalidatedWith(Headers notModifiedHeaders, long requestTime, long responseTime) {
+		Headers.Builder builder = new Headers.Builder(headers);
+		for (Header header : notModifiedHeaders) {
+			builder.replace(header);
+		}
+		return new HttpCacheEntry(status, builder.build(), body, vary, requestTime, responseTime, size);
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> EndpointResponse<T> response() {
+		return EndpointResponse.of(status, (T) body, headers);
+	}
+
+	private long freshnessLifetime() {
+		if (cacheControl.maxAge() >= 0) {
+			return cacheControl.maxAge() * 1000;
+		}
+
+		long date = date(Headers.DATE).orElse(responseTime);
+
+		Optional<Header> expires = headers.get(Headers.EXPIRES);
+		if (expires.isPresent()) {
+			return date(Headers.EXPIRES).map(e -> Math.max(0, e - date)).orElse(0L);
+		}
+
+		return date(Headers.LAST_MODIFIED).map(lastModified -> Math.max(0, (date - lastModified) / 10)).orElse(0L);
+	}
+
+	private long initialAge() {
+		long apparentAge = Math.max(0, responseTime - date(Headers.DATE).orElse(responseTime));
+
+		long ageValue = headers.get(Headers.AGE).map(Header::value).map(this::seconds).orElse(0L);
+
+		long correctedAgeValue = ageValue + (responseTime - requestTime);
+
+		return Math.max(apparentAge, correctedAgeValue);
+	}
+
+	private long seconds(String value) {
+		try {
+			return Math.max(0, Long.parseLong(value.trim())) * 1000;
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private Optional<Long> date(String name) {
+		return headers.get(name).map(Header::value).flatMap(this::parse);
+	}
+
+	private Optional<Long> parse(String value) {
+		try {
+			return Optional.of(ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli());
+		} catch (DateTimeParseException e) {
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "HttpCacheEntry: [status=" + status + ", headers=" + headers + ", size=" + size + "]";
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import java.io.Serializable;
+import java.net.URI;
+import java.util.Objects;
+
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+
+public class HttpCacheKey implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String method;
+	private final URI endpoint;
+	private final String responseType;
+
+	private HttpCacheKey(String method, URI endpoint, String responseType) {
+		this.method = method;
+		this.endpoint = endpoint;
+		this.responseType = responseType;
+	}
+
+	public String method() {
+		return method;
+	}
+
+	public URI endpoint() {
+		return endpoint;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof HttpCacheKey) {
+			HttpCacheKey that = (HttpCacheKey) obj;
+
+			return method.equals(that.method)
+				&& endpoint.equals(that.endpoint)
+				&& responseType.equals(that.responseType);
+
+		} else return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(method, endpoint, responseType);
+	}
+
+	@Override
+	public String toString() {
+		return method + " " + endpoint + " (" + responseType + ")";
+	}
+
+	public static HttpCacheKey of(EndpointRequest endpointRequest) {
+		return new HttpCacheKey(endpointRequest.method(), endpointRequest.endpoint(), endpointRequest.responseType().toString());
+	}
+}
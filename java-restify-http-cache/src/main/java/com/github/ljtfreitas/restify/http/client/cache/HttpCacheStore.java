@@ -23,36 +23,19 @@
  * SOFTWARE.
  *
  *******************************************************************************/
-package com.github.ljtfreitas.restify.http.contract.metadata;
+package com.github.ljtfreitas.restify.http.client.cache;
 
-import java.util.Collection;
+import java.net.URI;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-class QueryParameterResolver {
+public interface HttpCacheStore {
 
-	private final Collection<EndpointMethodParameter> parameters;
+	public Optional<HttpCacheEntry> get(HttpCacheKey key);
 
-	public QueryParameterResolver(Collection<EndpointMethodParameter> parameters) {
-		this.parameters = parameters;
-	}
+	public void put(HttpCacheKey key, HttpCacheEntry entry);
 
-	public String resolve(Object[] args) {
-		String query = parameters.stream().filter(EndpointMethodParameter::query)
-			.map(p -> resolve(p, args))
-				.filter(p -> !"".equals(p))
-					.collect(Collectors.joining("&"));
+	public void remove(HttpCacheKey key);
 
-		return Optional.ofNullable(query)
-				.map(String::trim)
-					.filter(s -> !s.isEmpty())
-						.orElse("");
-	}
+	public void invalidate(URI endpoint);
 
-	private String resolve(EndpointMethodParameter parameter, Object[] args) {
-		return args.length < parameter.position() ? "" :
-				Optional.ofNullable(args[parameter.position()])
-					.map(arg -> parameter.resolve(arg))
-						.orElse("");
-	}
 }
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import static com.github.ljtfreitas.restify.util.Preconditions.isTrue;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class InMemoryHttpCacheStore implements HttpCacheStore {
+
+	private static final long DEFAULT_MAX_SIZE = 10 * 1024 * 1024;
+
+	private final long maxSize;
+	private final LinkedHashMap<HttpCacheKey, HttpCacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long size = 0;
+
+	public InMemoryHttpCacheStore() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	public InMemoryHttpCacheStore(long maxSize) {
+		isTrue(maxSize > 0, "Cache max size must be greater than zero.");
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public synchronized Optional<HttpCacheEntry> get(HttpCacheKey key) {
+		return Optional.ofNullable(entries.get(key));
+	}
+
+	@Override
+	public synchronized void put(HttpCacheKey key, HttpCacheEntry entry) {
+		remove(key);
+
+		if (entry.size() > maxSize) return;
+
+		entries.put(key, entry);
+		size += entry.size();
+
+		Iterator<HttpCacheEntry> eldest = entries.values().iterator();
+		while (size > maxSize && eldest.hasNext()) {
+			size -= eldest.next().size();
+			eldest.remove();
+		}
+	}
+
+	@Override
+	public synchronized void remove(HttpCacheKey key) {
+		HttpCacheEntry removed = entries.remove(key);
+		if (removed != null) size -= removed.size();
+	}
+
+	@Override
+	public synchronized void invalidate(URI endpoint) {
+		Iterator<Map.Entry<HttpCacheKey, HttpCacheEntry>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<HttpCacheKey, HttpCacheEntry> entry = iterator.next();
+			if (entry.getKey().endpoint().equals(endpoint)) {
+				size -= entry.getValue().size();
+				iterator.remove();
+			}
+		}
+	}
+
+	public synchronized long size() {
+		return size;
+	}
+}
@@ -0,0 +1,73 @@
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.async.AsyncEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncCachingEndpointRequestExecutorTest {
+
+	@Mock
+	private AsyncEndpointRequestExecutor delegate;
+
+	private AsyncCachingEndpointRequestExecutor executor;
+
+	private EndpointRequest request;
+
+	@Before
+	public void setup() throws Exception {
+		executor = new AsyncCachingEndpointRequestExecutor(delegate);
+
+		request = new EndpointRequest(new URI("http://my.api.com/path"), "GET", String.class);
+	}
+
+	@Test
+	public void shouldReturnFreshResponseFromCache() throws Exception {
+		EndpointResponse<Object> response = EndpointResponse.of(StatusCode.ok(), "result",
+				new Headers(Header.of(Headers.CACHE_CONTROL, "max-age=60")));
+
+		when(delegate.executeAsync(any())).thenReturn(CompletableFuture.completedFuture(response));
+
+		CompletionStage<EndpointResponse<String>> first = executor.executeAsync(request);
+		CompletionStage<EndpointResponse<String>> second = executor.executeAsync(request);
+
+		assertEquals("result", first.toCompletableFuture().get().body());
+		assertEquals("result", second.toCompletableFuture().get().body());
+
+		verify(delegate, times(1)).executeAsync(any());
+	}
+
+	@Test
+	public void shouldNotCacheResponseOfNonIdempotentRequest() throws Exception {
+		EndpointRequest post = new EndpointRequest(new URI("http://my.api.com/path"), "POST", String.class);
+
+		EndpointResponse<Object> response = EndpointResponse.of(StatusCode.ok(), "result",
+				new Headers(Header.of(Headers.CACHE_CONTROL, "max-age=60")));
+
+		when(delegate.executeAsync(any())).thenReturn(CompletableFuture.completedFuture(response));
+
+		executor.executeAsync(post).toCompletableFuture().get();
+		executor.executeAsync(post).toCompletableFuture().get();
+
+		verify(delegate, times(2)).executeAsync(any());
+	}
+}
@@ -0,0 +1,123 @@
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+
+public class ByteBufferHttpCacheStoreTest {
+
+	private ByteBufferHttpCacheStore store;
+
+	private HttpCacheKey key;
+
+	@Before
+	public void setup() {
+		store = new ByteBufferHttpCacheStore(1024 * 1024);
+
+		key = HttpCacheKey.of(new EndpointRequest(URI.create("http://my.api.com/path"), "GET", byte[].class));
+	}
+
+	@Test
+	public void shouldReadEntryWrittenOffHeap() {
+		byte[] body = "response body".getBytes();
+
+		HttpCacheEntry entry = new HttpCacheEntry(StatusCode.ok(), new Headers(Header.of(Headers.ETAG, "\"abc\"")), body,
+				Collections.singletonMap("Accept-Language", "pt-BR"), 1000, 2000, body.length);
+
+		store.put(key, entry);
+
+		Optional<HttpCacheEntry> cached = store.get(key);
+
+		assertTrue(cached.isPresent());
+
+		HttpCacheEntry output = cached.get();
+
+		assertEquals(200, output.status().value());
+		assertEquals("\"abc\"", output.headers().get(Headers.ETAG).get().value());
+		assertEquals("response body", new String((byte[]) output.body()));
+		assertEquals("pt-BR", output.vary().get("Accept-Language"));
+		assertEquals(1000, output.requestTime());
+		assertEquals(2000, output.responseTime());
+
+		assertTrue(store.size() > 0);
+	}
+
+	@Test
+	public void shouldIgnoreEntryWithNonSerializableBody() {
+		HttpCacheEntry entry = new HttpCacheEntry(StatusCode.ok(), new Headers(), new Object(), Collections.emptyMap(), 0, 0, 10);
+
+		store.put(key, entry);
+
+		assertFalse(store.get(key).isPresent());
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	public void shouldWarnOnceForEachNonSerializableBodyType() {
+		List<LogRecord> records = new ArrayList<>();
+
+		Handler handler = new Handler() {
+
+			@Override
+			public void publish(LogRecord record) {
+				records.add(record);
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+
+		Logger logger = Logger.getLogger(ByteBufferHttpCacheStore.class.getCanonicalName());
+		logger.addHandler(handler);
+
+		try {
+			store.put(key, new HttpCacheEntry(StatusCode.ok(), new Headers(), new Object(), Collections.emptyMap(), 0, 0, 10));
+			store.put(key, new HttpCacheEntry(StatusCode.ok(), new Headers(), new Object(), Collections.emptyMap(), 0, 0, 10));
+
+		} finally {
+			logger.removeHandler(handler);
+		}
+
+		assertEquals(1, records.size());
+		assertEquals(Level.WARNING, records.get(0).getLevel());
+		assertTrue(records.get(0).getMessage().contains(Object.class.getName()));
+	}
+
+	@Test
+	public void shouldEvictEntriesWhenMaxSizeIsExceeded() {
+		HttpCacheEntry entry = new HttpCacheEntry(StatusCode.ok(), new Headers(), new byte[600], Collections.emptyMap(), 0, 0, 600);
+
+		store = new ByteBufferHttpCacheStore(1024);
+
+		HttpCacheKey other = HttpCacheKey.of(new EndpointRequest(URI.create("http://my.api.com/other"), "GET", byte[].class));
+
+		store.put(key, entry);
+		store.put(other, entry);
+
+		assertFalse(store.get(key).isPresent());
+		assertTrue(store.get(other).isPresent());
+	}
+}
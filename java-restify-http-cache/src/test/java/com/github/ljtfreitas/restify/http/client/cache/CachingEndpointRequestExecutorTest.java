@@ -0,0 +1,244 @@
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingEndpointRequestExecutorTest {
+
+	@Mock
+	private EndpointRequestExecutor delegate;
+
+	private MutableClock clock;
+
+	private InMemoryHttpCacheStore store;
+
+	private CachingEndpointRequestExecutor executor;
+
+	private EndpointRequest request;
+
+	@Before
+	public void setup() throws Exception {
+		clock = new MutableClock();
+		store = new InMemoryHttpCacheStore();
+
+		executor = new CachingEndpointRequestExecutor(delegate, new HttpCache(store, clock));
+
+		request = new EndpointRequest(new URI("http://my.api.com/path"), "GET", String.class);
+	}
+
+	@Test
+	public void shouldReturnFreshResponseFromCache() {
+		when(delegate.execute(any())).thenReturn(EndpointResponse.of(StatusCode.ok(), "result",
+				new Headers(Header.of(Headers.CACHE_CONTROL, "max-age=60"))));
+
+		EndpointResponse<String> first = executor.execute(request);
+
+		clock.advance(30);
+
+		EndpointResponse<String> second = executor.execute(request);
+
+		assertEquals("result", first.body());
+		assertEquals("result", second.body());
+
+		verify(delegate, times(1)).execute(any());
+	}
+
+	@Test
+	public void shouldExecuteAgainWhenCachedResponseIsStale() {
+		when(delegate.execute(any()))
+			.thenReturn(EndpointResponse.of(StatusCode.ok(), "first", new Headers(Header.of(Headers.CACHE_CONTROL, "max-age=60"))))
+			.thenReturn(EndpointResponse.of(StatusCode.ok(), "second", new Headers(Header.of(Headers.CACHE_CONTROL, "max-age=60"))));
+
+		executor.execute(request);
+
+		clock.advance(61);
+
+		EndpointResponse<String> response = executor.execute(request);
+
+		assertEquals("second", response.body());
+
+		verify(delegate, times(2)).execute(any());
+	}
+
+	@Test
+	public void shouldRevalidateStaleResponseAndReuseCachedBodyWhenNotModified() {
+		Object body = new Object();
+
+		when(delegate.execute(any()))
+			.thenReturn(EndpointResponse.of(StatusCode.ok(), body, new Headers(Header.of(Headers.CACHE_CONTROL, "max-age=10"),
+					Header.of(Headers.ETAG, "\"abc\""))))
+			.thenReturn(EndpointResponse.empty(StatusCode.notModified(), new Headers(Header.of(Headers.CACHE_CONTROL, "max-age=60"))));
+
+		executor.execute(request);
+
+		clock.advance(20);
+
+		EndpointResponse<Object> revalidated = executor.execute(request);
+
+		assertTrue(revalidated.status().isOk());
+		assertSame(body, revalidated.body());
+		assertEquals("max-age=60", revalidated.headers().get(Headers.CACHE_CONTROL).get().value());
+
+		ArgumentCaptor<EndpointRequest> captor = ArgumentCaptor.forClass(EndpointRequest.class);
+		verify(delegate, times(2)).execute(captor.capture());
+
+		EndpointRequest conditional = captor.getAllValues().get(1);
+		assertEquals("\"abc\"", conditional.headers().get(Headers.IF_NONE_MATCH).get().value());
+
+		clock.advance(30);
+
+		assertSame(body, executor.execute(request).body());
+		verify(delegate, times(2)).execute(any());
+	}
+
+	@Test
+	public void shouldNotReuseResponseWhenVaryHeadersAreDifferent() throws Exception {
+		when(delegate.execute(any())).thenReturn(EndpointResponse.of(StatusCode.ok(), "result",
+				new Headers(Header.of(Headers.CACHE_CONTROL, "max-age=60"), Header.of(Headers.VARY, "Accept-Language"))));
+
+		executor.execute(request.add(Header.of("Accept-Language", "pt-BR")));
+		executor.execute(request.add(Header.of("Accept-Language", "pt-BR")));
+		executor.execute(request.add(Header.of("Accept-Language", "en-US")));
+
+		verify(delegate, times(2)).execute(any());
+	}
+
+	@Test
+	public void shouldNotStoreResponseWithNoStoreDirective() {
+		when(delegate.execute(any())).thenReturn(EndpointResponse.of(StatusCode.ok(), "result",
+				new Headers(Header.of(Headers.CACHE_CONTROL, "no-store, max-age=60"))));
+
+		executor.execute(request);
+		executor.execute(request);
+
+		verify(delegate, times(2)).execute(any());
+		assertFalse(store.get(HttpCacheKey.of(request)).isPresent());
+	}
+
+	@Test
+	public void shouldNotStoreResponseWithStreamBody() {
+		when(delegate.execute(any())).thenReturn(EndpointResponse.of(StatusCode.ok(), new ByteArrayInputStream(new byte[0]),
+				new Headers(Header.of(Headers.CACHE_CONTROL, "max-age=60"))));
+
+		EndpointRequest streamRequest = new EndpointRequest(request.endpoint(), "GET", InputStream.class);
+
+		executor.execute(streamRequest);
+		executor.execute(streamRequest);
+
+		verify(delegate, times(2)).execute(any());
+		assertFalse(store.get(HttpCacheKey.of(streamRequest)).isPresent());
+	}
+
+	@Test
+	public void shouldNotStoreResponseToRequestWithAuthorization() {
+		when(delegate.execute(any())).thenReturn(EndpointResponse.of(StatusCode.ok(), "result",
+				new Headers(Header.of(Headers.CACHE_CONTROL, "max-age=60"))));
+
+		EndpointRequest authorized = request.add(Header.authorization("Bearer token"));
+
+		executor.execute(authorized);
+		executor.execute(authorized);
+
+		verify(delegate, times(2)).execute(any());
+		assertFalse(store.get(HttpCacheKey.of(authorized)).isPresent());
+	}
+
+	@Test
+	public void shouldStoreExplicitlySharedResponseToRequestWithAuthorization() {
+		when(delegate.execute(any())).thenReturn(EndpointResponse.of(StatusCode.ok(), "result",
+				new Headers(Header.of(Headers.CACHE_CONTROL, "public, max-age=60"))));
+
+		EndpointRequest authorized = request.add(Header.authorization("Bearer token"));
+
+		executor.execute(authorized);
+		executor.execute(authorized);
+
+		verify(delegate, times(1)).execute(any());
+		assertTrue(store.get(HttpCacheKey.of(authorized)).isPresent());
+	}
+
+	@Test
+	public void shouldUseExpiresHeaderWhenMaxAgeIsAbsent() {
+		Instant now = clock.instant();
+
+		when(delegate.execute(any())).thenReturn(EndpointResponse.of(StatusCode.ok(), "result",
+				new Headers(Header.date(now), Header.of(Headers.EXPIRES, Header.date(now.plusSeconds(60)).value()))));
+
+		executor.execute(request);
+
+		clock.advance(59);
+		executor.execute(request);
+
+		clock.advance(2);
+		executor.execute(request);
+
+		verify(delegate, times(2)).execute(any());
+	}
+
+	@Test
+	public void shouldInvalidateCachedResponseAfterUnsafeRequest() throws Exception {
+		when(delegate.execute(any())).thenReturn(EndpointResponse.of(StatusCode.ok(), "result",
+				new Headers(Header.of(Headers.CACHE_CONTROL, "max-age=60"))));
+
+		executor.execute(request);
+
+		executor.execute(new EndpointRequest(new URI("http://my.api.com/path"), "PUT", String.class));
+
+		executor.execute(request);
+
+		verify(delegate, times(3)).execute(any());
+	}
+
+	private class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2019-01-01T10:00:00Z");
+
+		void advance(long seconds) {
+			instant = instant.plusSeconds(seconds);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.github.ljtfreitas.restify.http.client.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+
+public class InMemoryHttpCacheStoreTest {
+
+	private InMemoryHttpCacheStore store;
+
+	@Before
+	public void setup() {
+		store = new InMemoryHttpCacheStore(100);
+	}
+
+	@Test
+	public void shouldEvictLeastRecentlyUsedEntriesWhenMaxSizeIsExceeded() {
+		HttpCacheKey first = key("http://my.api.com/first");
+		HttpCacheKey second = key("http://my.api.com/second");
+		HttpCacheKey third = key("http://my.api.com/third");
+
+		store.put(first, entry(40));
+		store.put(second, entry(40));
+
+		store.get(first);
+
+		store.put(third, entry(40));
+
+		assertTrue(store.get(first).isPresent());
+		assertFalse(store.get(second).isPresent());
+		assertTrue(store.get(third).isPresent());
+
+		assertEquals(80, store.size());
+	}
+
+	@Test
+	public void shouldNotStoreEntryLargerThanMaxSize() {
+		HttpCacheKey key = key("http://my.api.com/large");
+
+		store.put(key, entry(101));
+
+		assertFalse(store.get(key).isPresent());
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	public void shouldInvalidateAllEntriesOfEndpoint() throws Exception {
+		URI endpoint = new URI("http://my.api.com/path");
+
+		HttpCacheKey string = HttpCacheKey.of(new EndpointRequest(endpoint, "GET", String.class));
+		HttpCacheKey bytes = HttpCacheKey.of(new EndpointRequest(endpoint, "GET", byte[].class));
+
+		store.put(string, entry(10));
+		store.put(bytes, entry(10));
+
+		store.invalidate(endpoint);
+
+		assertFalse(store.get(string).isPresent());
+		assertFalse(store.get(bytes).isPresent());
+		assertEquals(0, store.size());
+	}
+
+	private HttpCacheKey key(String endpoint) {
+		return HttpCacheKey.of(new EndpointRequest(URI.create(endpoint), "GET", String.class));
+	}
+
+	private HttpCacheEntry entry(long size) {
+		return new HttpCacheEntry(StatusCode.ok(), new Headers(), "body", Collections.emptyMap(), 0, 0, size);
+	}
+}
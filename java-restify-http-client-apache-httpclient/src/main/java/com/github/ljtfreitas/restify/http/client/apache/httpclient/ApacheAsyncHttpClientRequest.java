@@ -35,7 +35,6 @@ import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.concurrent.FutureCallback;
-import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.nio.client.HttpAsyncClient;
 import org.apache.http.protocol.HttpContext;
@@ -118,7 +117,8 @@ class ApacheAsyncHttpClientRequest implements AsyncHttpClientRequest {
 
 		if (httpRequest instanceof HttpEntityEnclosingRequest) {
 			HttpEntityEnclosingRequest entityEnclosingRequest = (HttpEntityEnclosingRequest) httpRequest;
-			HttpEntity requestEntity = new ByteArrayEntity(body.asBytes());
+			HttpEntity requestEntity = body.file().<HttpEntity> map(FileContentEntity::new)
+					.orElseGet(() -> new BufferedHttpRequestBodyEntity(body));
 			entityEnclosingRequest.setEntity(requestEntity);
 		}
 
@@ -149,11 +149,14 @@ class ApacheAsyncHttpClientRequest implements AsyncHttpClientRequest {
 
 		@Override
 		public void cancelled() {
+			body.release();
 			future.cancel(false);
 		}
 
 		@Override
 		public void completed(HttpResponse httpResponse) {
+			body.release();
+
 			ApacheHttpResponseReader reader = new ApacheHttpResponseReader(httpResponse, ApacheAsyncHttpClientRequest.this);
 
 			ApacheHttpClientResponse apacheHttpClientResponse = Try.of(reader::read).error(HttpClientException::new).get();
@@ -163,6 +166,7 @@ class ApacheAsyncHttpClientRequest implements AsyncHttpClientRequest {
 
 		@Override
 		public void failed(Exception exception) {
+			body.release();
 			future.completeExceptionally(new HttpClientException("I/O error on HTTP request: [" + httpRequest.getMethod() + " " +
 					httpRequest.getURI() + "]", exception));
 		}
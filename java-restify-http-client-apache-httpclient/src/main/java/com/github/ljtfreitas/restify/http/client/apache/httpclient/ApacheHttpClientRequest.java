@@ -34,7 +34,6 @@ import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpUriRequest;
-import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.protocol.HttpContext;
 
 import com.github.ljtfreitas.restify.http.client.HttpClientException;
@@ -77,7 +76,8 @@ class ApacheHttpClientRequest implements HttpClientRequest {
 
 		if (httpRequest instanceof HttpEntityEnclosingRequest) {
 			HttpEntityEnclosingRequest entityEnclosingRequest = (HttpEntityEnclosingRequest) httpRequest;
-			HttpEntity requestEntity = new ByteArrayEntity(body.asBytes());
+			HttpEntity requestEntity = body.file().<HttpEntity> map(FileContentEntity::new)
+					.orElseGet(() -> new BufferedHttpRequestBodyEntity(body));
 			entityEnclosingRequest.setEntity(requestEntity);
 		}
 
@@ -89,6 +89,9 @@ class ApacheHttpClientRequest implements HttpClientRequest {
 		} catch (IOException e) {
 			throw new HttpClientException("I/O error on HTTP request: [" + httpRequest.getMethod() + " " +
 					httpRequest.getURI() + "]", e);
+
+		} finally {
+			body.release();
 		}
 	}
 
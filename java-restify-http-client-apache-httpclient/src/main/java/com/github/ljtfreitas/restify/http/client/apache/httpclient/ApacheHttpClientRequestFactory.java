@@ -42,7 +42,6 @@ import org.apache.http.protocol.HttpContext;
 import com.github.ljtfreitas.restify.http.client.message.Encoding;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
-import com.github.ljtfreitas.restify.http.client.request.Timeout;
 
 public class ApacheHttpClientRequestFactory implements HttpClientRequestFactory, Closeable {
 
@@ -120,7 +119,7 @@ public class ApacheHttpClientRequestFactory implements HttpClientRequestFactory,
 
 		builder.setAuthenticationEnabled(true);
 
-		source.metadata().get(Timeout.class).ifPresent(timeout -> {
+		source.metadata().timeout().ifPresent(timeout -> {
 			builder.setConnectTimeout((int) timeout.connection());
 			builder.setConnectionRequestTimeout((int) timeout.connection());
 			builder.setSocketTimeout((int) timeout.read());
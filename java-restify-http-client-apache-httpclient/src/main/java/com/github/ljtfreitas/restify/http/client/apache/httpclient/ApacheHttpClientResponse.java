@@ -26,6 +26,7 @@
 package com.github.ljtfreitas.restify.http.client.apache.httpclient;
 
 import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -42,24 +43,66 @@ class ApacheHttpClientResponse extends BaseHttpClientResponse {
 
 	private final HttpEntity entity;
 	private final HttpResponse httpResponse;
+	private final ConsumableInputStream body;
 
 	ApacheHttpClientResponse(StatusCode statusCode, Headers headers, InputStream body,
 			HttpEntity entity, HttpResponse httpResponse, HttpRequestMessage httpRequest) {
+		this(statusCode, headers, new ConsumableInputStream(body), entity, httpResponse, httpRequest);
+	}
+
+	private ApacheHttpClientResponse(StatusCode statusCode, Headers headers, ConsumableInputStream body,
+			HttpEntity entity, HttpResponse httpResponse, HttpRequestMessage httpRequest) {
 		super(statusCode, headers, body, httpRequest);
 		this.entity = entity;
 		this.httpResponse = httpResponse;
+		this.body = body;
 	}
 
 	@Override
 	public void close() throws IOException {
 		try {
-            EntityUtils.consume(entity);
-        }
-		finally {
+			// a streamed entity that was not read to the end is not consumed; closing the response just releases the connection
+			if (body.consumed() || !(httpResponse instanceof Closeable)) {
+				EntityUtils.consume(entity);
+			}
+		} finally {
 			if (httpResponse instanceof Closeable) {
 				((Closeable) httpResponse).close();
 			}
-        }
+		}
 	}
 
+	private static class ConsumableInputStream extends FilterInputStream {
+
+		private volatile boolean consumed = false;
+
+		private ConsumableInputStream(InputStream source) {
+			super(source);
+		}
+
+		@Override
+		public int read() throws IOException {
+			return consumed(super.read());
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return consumed(super.read(b, off, len));
+		}
+
+		private int consumed(int result) {
+			if (result == -1) consumed = true;
+			return result;
+		}
+
+		@Override
+		public void close() throws IOException {
+			super.close();
+			consumed = true;
+		}
+
+		private boolean consumed() {
+			return consumed;
+		}
+	}
 }
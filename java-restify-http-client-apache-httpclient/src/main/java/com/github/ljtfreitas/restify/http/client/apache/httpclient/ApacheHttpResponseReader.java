@@ -53,8 +53,10 @@ class ApacheHttpResponseReader {
 
 		StatusCode statusCode = StatusCode.of(statusLine.getStatusCode(), statusLine.getReasonPhrase());
 
-		Headers headers = Arrays.stream(httpResponse.getAllHeaders())
-			.reduce(new Headers(), (a, b) -> a.add(b.getName(), b.getValue()), (a, b) -> b);
+		Headers.Builder headersBuilder = new Headers.Builder();
+		Arrays.stream(httpResponse.getAllHeaders()).forEach(h -> headersBuilder.add(h.getName(), h.getValue()));
+
+		Headers headers = headersBuilder.build();
 
 		HttpEntity entity = httpResponse.getEntity();
 
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.apache.httpclient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+import com.github.ljtfreitas.restify.http.client.message.request.BufferedHttpRequestBody;
+
+class BufferedHttpRequestBodyEntity extends AbstractHttpEntity {
+
+	private final BufferedHttpRequestBody body;
+
+	BufferedHttpRequestBodyEntity(BufferedHttpRequestBody body) {
+		this.body = body;
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	@Override
+	public long getContentLength() {
+		return body.contentLength();
+	}
+
+	@Override
+	public InputStream getContent() {
+		return new ByteBufferInputStream(body.segments().iterator());
+	}
+
+	@Override
+	public void writeTo(OutputStream output) throws IOException {
+		body.writeTo(output);
+		output.flush();
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+	private class ByteBufferInputStream extends InputStream {
+
+		private final Iterator<ByteBuffer> segments;
+		private ByteBuffer current;
+
+		private ByteBufferInputStream(Iterator<ByteBuffer> segments) {
+			this.segments = segments;
+		}
+
+		@Override
+		public int read() {
+			ByteBuffer buffer = current();
+			return buffer == null ? -1 : buffer.get() & 0xff;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (len == 0) return 0;
+
+			ByteBuffer buffer = current();
+
+			if (buffer == null) return -1;
+
+			int count = Math.min(len, buffer.remaining());
+			buffer.get(b, off, count);
+
+			return count;
+		}
+
+		private ByteBuffer current() {
+			while (current == null || !current.hasRemaining()) {
+				if (!segments.hasNext()) return null;
+				current = segments.next().duplicate();
+			}
+			return current;
+		}
+	}
+}
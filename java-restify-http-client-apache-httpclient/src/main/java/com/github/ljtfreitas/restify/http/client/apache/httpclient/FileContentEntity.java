@@ -0,0 +1,103 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.apache.httpclient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.ContentEncoderChannel;
+import org.apache.http.nio.FileContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
+
+/**
+ * Entity that sends a file. The asynchronous client uses the entity as a {@link HttpAsyncContentProducer}, and
+ * transfers the file directly to the connection when the encoder supports it ({@link FileContentEncoder}).
+ * <p>
+ * The file is not closed by the entity; it's closed when the request body is released.
+ */
+class FileContentEntity extends AbstractHttpEntity implements HttpAsyncContentProducer {
+
+	private final FileContent content;
+
+	private long produced = 0;
+
+	FileContentEntity(FileContent content) {
+		this.content = content;
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	@Override
+	public long getContentLength() {
+		return content.count();
+	}
+
+	@Override
+	public InputStream getContent() {
+		return content.asInputStream();
+	}
+
+	@Override
+	public void writeTo(OutputStream output) throws IOException {
+		content.transferTo(output);
+		output.flush();
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+	@Override
+	public void produceContent(ContentEncoder encoder, IOControl ioControl) throws IOException {
+		long position = content.position() + produced;
+		long remaining = content.count() - produced;
+
+		long transferred = (encoder instanceof FileContentEncoder) ?
+				((FileContentEncoder) encoder).transfer(content.channel(), position, remaining) :
+					content.channel().transferTo(position, remaining, new ContentEncoderChannel(encoder));
+
+		produced += transferred;
+
+		if (produced >= content.count()) {
+			encoder.complete();
+		}
+	}
+
+	@Override
+	public void close() {
+		produced = 0;
+	}
+}
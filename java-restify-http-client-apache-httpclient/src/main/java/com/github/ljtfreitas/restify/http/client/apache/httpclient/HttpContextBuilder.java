@@ -34,7 +34,6 @@ import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.protocol.HttpContext;
 
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
-import com.github.ljtfreitas.restify.http.client.request.Timeout;
 
 class HttpContextBuilder {
 
@@ -75,7 +74,7 @@ class HttpContextBuilder {
 
 		builder.setAuthenticationEnabled(true);
 
-		source.metadata().get(Timeout.class).ifPresent(timeout -> {
+		source.metadata().timeout().ifPresent(timeout -> {
 			builder.setConnectTimeout((int) timeout.connection());
 			builder.setConnectionRequestTimeout((int) timeout.connection());
 			builder.setSocketTimeout((int) timeout.read());
@@ -13,6 +13,8 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -34,6 +36,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.mockserver.client.server.MockServerClient;
 import org.mockserver.junit.MockServerRule;
 import org.mockserver.model.HttpRequest;
@@ -41,7 +44,9 @@ import org.mockserver.model.HttpRequest;
 import com.github.ljtfreitas.restify.http.client.HttpClientException;
 import com.github.ljtfreitas.restify.http.client.message.Header;
 import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
 import com.github.ljtfreitas.restify.http.client.message.io.InputStreamContent;
+import com.github.ljtfreitas.restify.http.client.message.request.TransferableHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
@@ -57,6 +62,9 @@ public class ApacheAsyncHttpClientRequestFactoryTest {
 	@Rule
 	public ExpectedException expectedException = ExpectedException.none();
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	private MockServerClient mockServerClient;
 
 	private ApacheAsyncHttpClientRequestFactory apacheAsyncHttpClientRequestFactory;
@@ -127,6 +135,42 @@ public class ApacheAsyncHttpClientRequestFactoryTest {
 		mockServerClient.verify(httpRequest, once());
 	}
 
+	@Test
+	public void shouldSendFileRequestBody() throws Exception {
+		char[] chars = new char[1024]; // 1kb
+		Arrays.fill(chars, 'a');
+
+		Path file = folder.newFile().toPath();
+		Files.write(file, new String(chars).getBytes());
+
+		HttpRequest httpRequest = request()
+			.withMethod("POST")
+			.withPath("/upload")
+			.withHeader("Content-Type", "application/octet-stream")
+			.withHeader("Content-Length", "1024")
+			.withBody(exact(new String(chars)));
+
+		mockServerClient
+			.when(httpRequest)
+			.respond(response()
+				.withStatusCode(201)
+				.withHeader("Content-Type", "text/plain")
+				.withBody(exact("OK")));
+
+		EndpointRequest endpointRequest = new EndpointRequest(URI.create("http://localhost:7080/upload"), "POST",
+				new Headers(Header.contentType("application/octet-stream")), file);
+
+		ApacheAsyncHttpClientRequest request = apacheAsyncHttpClientRequestFactory.createAsyncOf(endpointRequest);
+		((TransferableHttpRequestBody) request.body()).transferFrom(FileContent.of(file));
+
+		HttpResponseMessage response = request.executeAsync().toCompletableFuture().get();
+
+		assertEquals("OK", new InputStreamContent(response.body().input()).asString());
+		assertEquals(StatusCode.created(), response.status());
+
+		mockServerClient.verify(httpRequest, once());
+	}
+
 	@Test
 	public void shouldThrowExceptionOnTimeout() throws Exception {
 		mockServerClient
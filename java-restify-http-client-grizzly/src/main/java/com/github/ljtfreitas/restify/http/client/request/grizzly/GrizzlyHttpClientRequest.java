@@ -41,7 +41,6 @@ import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestBody
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
-import com.github.ljtfreitas.restify.http.client.request.Timeout;
 import com.github.ljtfreitas.restify.http.client.request.async.AsyncHttpClientRequest;
 import com.github.ljtfreitas.restify.http.client.response.HttpClientResponse;
 import com.github.ljtfreitas.restify.util.Try;
@@ -124,8 +123,10 @@ class GrizzlyHttpClientRequest implements AsyncHttpClientRequest {
 				private HttpClientResponse read(Response response) {
 					StatusCode statusCode = StatusCode.of(response.getStatusCode(), response.getStatusText());
 
-					Headers responseHeaders = response.getHeaders().entrySet().stream()
-							.reduce(new Headers(), (h, e) -> h.add(e.getKey(), e.getValue()), (a, b) -> b);
+					Headers.Builder responseHeadersBuilder = new Headers.Builder();
+					response.getHeaders().entrySet().forEach(e -> responseHeadersBuilder.add(e.getKey(), e.getValue()));
+
+					Headers responseHeaders = responseHeadersBuilder.build();
 
 					InputStream body = Try.of(response::getResponseBodyAsStream)
 							.error(HttpMessageReadException::new)
@@ -149,12 +150,12 @@ class GrizzlyHttpClientRequest implements AsyncHttpClientRequest {
 				.setMethod(source.method())
 				.setUrl(source.endpoint().toString());
 		
-		byte[] bodyAsBytes = body.asBytes();
-		if (bodyAsBytes.length != 0) {
-			builder.setBody(new ByteArrayBodyGenerator(bodyAsBytes));
+		if (body.size() != 0) {
+			builder.setBody(new ByteArrayBodyGenerator(body.asBytes()));
 		}
+		body.release();
 		
-		source.metadata().get(Timeout.class).ifPresent(timeout -> {
+		source.metadata().timeout().ifPresent(timeout -> {
 			builder.setRequestTimeout((int) timeout.read());
 		});
 
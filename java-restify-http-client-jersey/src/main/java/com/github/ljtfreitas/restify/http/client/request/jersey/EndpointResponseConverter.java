@@ -65,8 +65,8 @@ public class EndpointResponseConverter {
 	}
 
 	private Headers headersOf(Response response) {
-		return response.getHeaders().entrySet().stream()
-				.reduce(new Headers(), (a, b) -> {b.getValue().forEach(c -> a.add(b.getKey(), c.toString())); return a;},
-						(a, b) -> b);
+		Headers.Builder headers = new Headers.Builder();
+		response.getHeaders().forEach((name, values) -> values.forEach(value -> headers.add(name, value.toString())));
+		return headers.build();
 	}
 }
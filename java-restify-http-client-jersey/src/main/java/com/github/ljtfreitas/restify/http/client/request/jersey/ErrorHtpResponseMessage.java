@@ -54,8 +54,10 @@ class HttpErrorResponse extends BaseHttpClientResponse {
 	public static HttpErrorResponse from(Response response, EndpointRequest request) {
 		StatusCode statusCode = StatusCode.of(response.getStatus(), response.getStatusInfo().getReasonPhrase());
 
-		Headers headers = new Headers();
-		response.getHeaders().forEach((key, values) -> values.forEach(value -> headers.add(new Header(key, value.toString()))));
+		Headers.Builder headersBuilder = new Headers.Builder();
+		response.getHeaders().forEach((key, values) -> values.forEach(value -> headersBuilder.add(new Header(key, value.toString()))));
+
+		Headers headers = headersBuilder.build();
 
 		String bodyAsString = response.readEntity(String.class);
 
@@ -25,24 +25,71 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.netty;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Optional;
 
-import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestBody;
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
+import com.github.ljtfreitas.restify.http.client.message.request.TransferableHttpRequestBody;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
 
-class ByteBufRequestBody implements HttpRequestBody {
+class ByteBufRequestBody implements TransferableHttpRequestBody {
 
-	private final ByteBufOutputStream output = new ByteBufOutputStream(Unpooled.buffer());
+	private final ByteBufOutputStream buffer = new ByteBufOutputStream(Unpooled.buffer());
+	private final OutputStream output = new BufferOutputStream();
+
+	private FileContent file;
 
 	@Override
 	public OutputStream output() {
 		return output;
 	}
 
+	@Override
+	public void transferFrom(FileContent content) throws IOException {
+		if (file == null && !buffer.buffer().isReadable()) {
+			file = content;
+
+		} else {
+			try (FileContent c = content) {
+				bufferFile();
+				c.transferTo(buffer);
+			}
+		}
+	}
+
 	ByteBuf asByteBuf() {
-		return output.buffer();
+		return buffer.buffer();
+	}
+
+	Optional<FileContent> file() {
+		return Optional.ofNullable(file);
+	}
+
+	private void bufferFile() throws IOException {
+		if (file != null) {
+			try (FileContent c = file) {
+				file = null;
+				c.transferTo(buffer);
+			}
+		}
+	}
+
+	private class BufferOutputStream extends OutputStream {
+
+		@Override
+		public void write(int b) throws IOException {
+			bufferFile();
+			buffer.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			bufferFile();
+			buffer.write(b, off, len);
+		}
 	}
-}
\ No newline at end of file
+}
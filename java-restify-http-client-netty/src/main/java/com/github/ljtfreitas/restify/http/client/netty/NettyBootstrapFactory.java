@@ -28,7 +28,6 @@ package com.github.ljtfreitas.restify.http.client.netty;
 import java.util.concurrent.TimeUnit;
 
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
-import com.github.ljtfreitas.restify.http.client.request.Timeout;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelInitializer;
@@ -39,6 +38,7 @@ import io.netty.channel.socket.SocketChannelConfig;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 
 class NettyBootstrapFactory {
@@ -77,9 +77,13 @@ class NettyBootstrapFactory {
 			nettyHttpClientRequestConfiguration.sslContext().ifPresent(sslContext -> pipeline.addLast(sslContext.newHandler(channel.alloc())));
 
 			pipeline.addLast(new HttpClientCodec());
-			pipeline.addLast(new HttpObjectAggregator(nettyHttpClientRequestConfiguration.maxResponseSize()));
+			pipeline.addLast(new ChunkedWriteHandler());
 
-			long readTimeout = source.metadata().get(Timeout.class)
+			if (!nettyHttpClientRequestConfiguration.streaming()) {
+				pipeline.addLast(new HttpObjectAggregator(nettyHttpClientRequestConfiguration.maxResponseSize()));
+			}
+
+			long readTimeout = source.metadata().timeout()
 					.map(t -> t.read())
 						.filter(t -> t >= 0)
 							.orElse(nettyHttpClientRequestConfiguration.readTimeout());
@@ -87,7 +91,7 @@ class NettyBootstrapFactory {
 		}
 
 		private void configure(SocketChannelConfig channelConfiguration) {
-			int connectionTimeout = source.metadata().get(Timeout.class)
+			int connectionTimeout = source.metadata().timeout()
 					.map(t -> (int) t.connection())
 						.filter(t -> t >= 0)
 							.orElse(nettyHttpClientRequestConfiguration.connectionTimeout());
@@ -25,18 +25,40 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.netty;
 
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
+
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelInboundHandler;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
 
 class NettyChannelFutureListener implements ChannelFutureListener {
 
+	private static final Logger log = Logger.getLogger(NettyChannelFutureListener.class.getCanonicalName());
+
+	private static final int FILE_CHUNK_SIZE = 1024 * 8;
+
 	private final HttpRequest nettyHttpRequest;
-	private final NettyRequestExecuteHandler nettyRequestExecuteHandler;
+	private final FileContent file;
+	private final ChannelInboundHandler nettyRequestExecuteHandler;
 
-	public NettyChannelFutureListener(HttpRequest nettyHttpRequest, NettyRequestExecuteHandler nettyRequestExecuteHandler) {
+	public NettyChannelFutureListener(HttpRequest nettyHttpRequest, ChannelInboundHandler nettyRequestExecuteHandler) {
+		this(nettyHttpRequest, null, nettyRequestExecuteHandler);
+	}
+
+	public NettyChannelFutureListener(HttpRequest nettyHttpRequest, FileContent file, ChannelInboundHandler nettyRequestExecuteHandler) {
 		this.nettyHttpRequest = nettyHttpRequest;
+		this.file = file;
 		this.nettyRequestExecuteHandler = nettyRequestExecuteHandler;
 	}
 
@@ -46,11 +68,72 @@ class NettyChannelFutureListener implements ChannelFutureListener {
 			Channel channel = channelFuture.channel();
 			channel.pipeline().addLast(nettyRequestExecuteHandler);
 
-			channel.writeAndFlush(nettyHttpRequest);
+			if (file == null) {
+				channel.writeAndFlush(nettyHttpRequest);
+			} else {
+				channel.write(nettyHttpRequest);
+				writeFile(channel);
+			}
 
 		} else {
+			close();
 			nettyRequestExecuteHandler.exceptionCaught(null, channelFuture.cause());
 		}
 	}
 
+	private void writeFile(Channel channel) throws IOException {
+		// a file region is sent with zero-copy, but can't be encrypted; the file is closed by Netty after sent,
+		// unless the channel was borrowed from the caller
+		if (channel.pipeline().get(SslHandler.class) == null) {
+			channel.write(new FileContentRegion(file));
+			channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+
+		} else {
+			channel.writeAndFlush(new HttpChunkedInput(new ChunkedFileContent(file)));
+		}
+	}
+
+	private void close() {
+		if (file != null) {
+			try {
+				file.close();
+			} catch (IOException e) {
+				log.log(Level.WARNING, "Error closing the file of the request body [" + file + "]", e);
+			}
+		}
+	}
+
+	private static class FileContentRegion extends DefaultFileRegion {
+
+		private final boolean owner;
+
+		private FileContentRegion(FileContent file) {
+			super(file.channel(), file.position(), file.count());
+			this.owner = file.owner();
+		}
+
+		@Override
+		protected void deallocate() {
+			if (owner) {
+				super.deallocate();
+			}
+		}
+	}
+
+	private static class ChunkedFileContent extends ChunkedNioFile {
+
+		private final boolean owner;
+
+		private ChunkedFileContent(FileContent file) throws IOException {
+			super(file.channel(), file.position(), file.count(), FILE_CHUNK_SIZE);
+			this.owner = file.owner();
+		}
+
+		@Override
+		public void close() throws Exception {
+			if (owner) {
+				super.close();
+			}
+		}
+	}
 }
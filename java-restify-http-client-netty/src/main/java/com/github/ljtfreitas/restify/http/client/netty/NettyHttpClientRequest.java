@@ -33,6 +33,7 @@ import java.util.concurrent.CompletionStage;
 import com.github.ljtfreitas.restify.http.client.HttpClientException;
 import com.github.ljtfreitas.restify.http.client.message.Header;
 import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
 import com.github.ljtfreitas.restify.http.client.request.async.AsyncHttpClientRequest;
@@ -41,7 +42,9 @@ import com.github.ljtfreitas.restify.http.client.response.HttpClientResponse;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelInboundHandler;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
@@ -61,18 +64,25 @@ class NettyHttpClientRequest implements AsyncHttpClientRequest {
 	private final String method;
 	private final Charset charset;
 	private final ByteBufRequestBody body;
+	private final boolean streaming;
 
 	public NettyHttpClientRequest(Bootstrap bootstrap, URI uri, Headers headers, String method, Charset charset) {
-		this(bootstrap, uri, headers, method, charset, new ByteBufRequestBody());
+		this(bootstrap, uri, headers, method, charset, false);
 	}
 
-	private NettyHttpClientRequest(Bootstrap bootstrap, URI uri, Headers headers, String method, Charset charset, ByteBufRequestBody body) {
+	public NettyHttpClientRequest(Bootstrap bootstrap, URI uri, Headers headers, String method, Charset charset, boolean streaming) {
+		this(bootstrap, uri, headers, method, charset, new ByteBufRequestBody(), streaming);
+	}
+
+	private NettyHttpClientRequest(Bootstrap bootstrap, URI uri, Headers headers, String method, Charset charset, ByteBufRequestBody body,
+			boolean streaming) {
 		this.bootstrap = bootstrap;
 		this.uri = uri;
 		this.headers = headers;
 		this.method = method;
 		this.charset = charset;
 		this.body = body;
+		this.streaming = streaming;
 	}
 
 	@Override
@@ -102,7 +112,7 @@ class NettyHttpClientRequest implements AsyncHttpClientRequest {
 
 	@Override
 	public HttpRequestMessage replace(Header header) {
-		return new NettyHttpClientRequest(bootstrap, uri, headers.replace(header), method, charset, body);
+		return new NettyHttpClientRequest(bootstrap, uri, headers.replace(header), method, charset, body, streaming);
 	}
 
 	@Override
@@ -113,9 +123,13 @@ class NettyHttpClientRequest implements AsyncHttpClientRequest {
 	private CompletableFuture<HttpClientResponse> doExecuteAsync() {
 		final CompletableFuture<HttpClientResponse> responseAsFuture = new CompletableFuture<>();
 
-		NettyRequestExecuteHandler nettyRequestExecuteHandler = new NettyRequestExecuteHandler(responseAsFuture, this);
+		ChannelInboundHandler nettyRequestExecuteHandler = streaming ?
+				new NettyStreamingRequestExecuteHandler(responseAsFuture, this) :
+					new NettyRequestExecuteHandler(responseAsFuture, this);
 
-		ChannelFutureListener connectionListener = new NettyChannelFutureListener(nettyHttpRequest(), nettyRequestExecuteHandler);
+		ChannelFutureListener connectionListener = body.file()
+				.map(file -> new NettyChannelFutureListener(nettyHttpRequest(file), file, nettyRequestExecuteHandler))
+					.orElseGet(() -> new NettyChannelFutureListener(nettyHttpRequest(), nettyRequestExecuteHandler));
 
 		bootstrap.connect(uri.getHost(), port())
 				.addListener(connectionListener);
@@ -146,11 +160,23 @@ class NettyHttpClientRequest implements AsyncHttpClientRequest {
 		FullHttpRequest nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, nettyMethod,
 				uri.toString(), bodyBuffer);
 
+		return configure(nettyRequest, bodyBuffer.readableBytes());
+	}
+
+	private HttpRequest nettyHttpRequest(FileContent file) {
+		HttpMethod nettyMethod = HttpMethod.valueOf(method);
+
+		HttpRequest nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, nettyMethod, uri.toString());
+
+		return configure(nettyRequest, file.count());
+	}
+
+	private HttpRequest configure(HttpRequest nettyRequest, long contentLength) {
 		nettyRequest.headers().set(Headers.HOST, uri.getHost());
 		nettyRequest.headers().set(Headers.CONNECTION, "close");
 
-		if (bodyBuffer.readableBytes() != 0) {
-			nettyRequest.headers().set(Headers.CONTENT_LENGTH, bodyBuffer.readableBytes());
+		if (contentLength != 0) {
+			nettyRequest.headers().set(Headers.CONTENT_LENGTH, contentLength);
 		}
 
 		headers.all().forEach(header -> nettyRequest.headers().add(header.name(), header.value()));
@@ -40,6 +40,7 @@ public class NettyHttpClientRequestConfiguration {
 	private int connectionTimeout = 0;
 	private int readTimeout = 0;
 	private int maxResponseSize = DEFAULT_MAX_RESPONSE_SIZE;
+	private boolean streaming = false;
 
 	private SslContext sslContext = null;
 	private Charset charset = Encoding.UTF_8.charset();
@@ -51,6 +52,7 @@ public class NettyHttpClientRequestConfiguration {
 		this.connectionTimeout = configuration.connectionTimeout;
 		this.readTimeout = configuration.readTimeout;
 		this.maxResponseSize = configuration.maxResponseSize;
+		this.streaming = configuration.streaming;
 		this.sslContext = configuration.sslContext;
 		this.charset = configuration.charset;
 	}
@@ -67,6 +69,14 @@ public class NettyHttpClientRequestConfiguration {
 		return maxResponseSize;
 	}
 
+	/**
+	 * When enabled, responses are not aggregated in memory (so {@link #maxResponseSize()} is not applied):
+	 * the body is read from the connection while it's consumed, and the connection is closed with the response.
+	 */
+	public boolean streaming() {
+		return streaming;
+	}
+
 	public Optional<SslContext> sslContext() {
 		return Optional.ofNullable(sslContext);
 	}
@@ -108,6 +118,11 @@ public class NettyHttpClientRequestConfiguration {
 			return this;
 		}
 
+		public Builder streaming(boolean streaming) {
+			configuration.streaming = streaming;
+			return this;
+		}
+
 		public Builder sslContext(SslContext sslContext) {
 			configuration.sslContext = sslContext;
 			return this;
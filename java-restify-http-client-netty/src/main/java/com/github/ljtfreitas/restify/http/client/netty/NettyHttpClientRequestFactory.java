@@ -62,7 +62,7 @@ public class NettyHttpClientRequestFactory implements AsyncHttpClientRequestFact
 				.createTo(endpointRequest);
 
 		return new NettyHttpClientRequest(bootstrap, endpointRequest.endpoint(), endpointRequest.headers(), endpointRequest.method(),
-				nettyHttpClientRequestConfiguration.charset());
+				nettyHttpClientRequestConfiguration.charset(), nettyHttpClientRequestConfiguration.streaming());
 	}
 
 	@Override
@@ -26,10 +26,10 @@
 package com.github.ljtfreitas.restify.http.client.netty;
 
 import java.io.IOException;
-import java.io.InputStream;
 
 import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 import com.github.ljtfreitas.restify.http.client.response.BaseHttpClientResponse;
 
@@ -41,9 +41,9 @@ class NettyHttpClientResponse extends BaseHttpClientResponse {
 	private final ChannelHandlerContext context;
 	private final FullHttpResponse nettyResponse;
 
-	public NettyHttpClientResponse(StatusCode statusCode, Headers headers, InputStream body, HttpRequestMessage httpRequest,
+	public NettyHttpClientResponse(StatusCode statusCode, Headers headers, HttpResponseBody body, HttpRequestMessage httpRequest,
 			ChannelHandlerContext context, FullHttpResponse nettyResponse) {
-		super(statusCode, headers, body, httpRequest);
+		super(statusCode, headers, httpRequest, body);
 		this.context = context;
 		this.nettyResponse = nettyResponse;
 	}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.netty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.util.Memoized;
+
+import io.netty.handler.codec.http.HttpHeaders;
+
+/**
+ * Read-only view of Netty {@link HttpHeaders}; lookups are delegated to the (case-insensitive) Netty implementation,
+ * and nothing is copied until the headers are changed.
+ */
+class NettyHttpHeaders extends Headers {
+
+	private final HttpHeaders source;
+
+	private final Memoized<Collection<Header>> all = Memoized.of(this::copy);
+
+	NettyHttpHeaders(HttpHeaders source) {
+		this.source = source;
+	}
+
+	@Override
+	public Collection<Header> all() {
+		return all.get();
+	}
+
+	private Collection<Header> copy() {
+		List<Header> headers = new ArrayList<>(source.size());
+
+		Iterator<Map.Entry<String, String>> entries = source.iteratorAsString();
+		while (entries.hasNext()) {
+			Map.Entry<String, String> entry = entries.next();
+			headers.add(new Header(entry.getKey(), entry.getValue()));
+		}
+
+		return Collections.unmodifiableList(headers);
+	}
+
+	@Override
+	public Collection<Header> all(String name) {
+		List<String> values = source.getAll(name);
+
+		List<Header> headers = new ArrayList<>(values.size());
+		values.forEach(value -> headers.add(new Header(name, value)));
+
+		return Collections.unmodifiableList(headers);
+	}
+
+	@Override
+	public Optional<Header> get(String name) {
+		return Optional.ofNullable(source.get(name)).map(value -> new Header(name, value));
+	}
+}
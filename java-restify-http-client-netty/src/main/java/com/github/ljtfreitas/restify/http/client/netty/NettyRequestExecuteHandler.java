@@ -25,17 +25,15 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.netty;
 
-import java.io.InputStream;
 import java.util.concurrent.CompletableFuture;
 
 import com.github.ljtfreitas.restify.http.client.HttpClientException;
-import com.github.ljtfreitas.restify.http.client.message.Header;
 import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 import com.github.ljtfreitas.restify.http.client.response.HttpClientResponse;
 
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.FullHttpResponse;
@@ -64,7 +62,7 @@ class NettyRequestExecuteHandler extends SimpleChannelInboundHandler<FullHttpRes
 
 		Headers headers = headersOf(nettyResponse);
 
-		InputStream body = new ByteBufInputStream(nettyResponse.content());
+		HttpResponseBody body = new ByteBufHttpResponseBody(nettyResponse.content());
 
 		NettyHttpClientResponse nettyHttpClientResponse = new NettyHttpClientResponse(statusCode, headers, body, source,
 				context, nettyResponse);
@@ -73,9 +71,7 @@ class NettyRequestExecuteHandler extends SimpleChannelInboundHandler<FullHttpRes
 	}
 
 	private Headers headersOf(FullHttpResponse nettyResponse) {
-		return nettyResponse.headers().entries().stream()
-			.map(header -> new Header(header.getKey(), header.getValue()))
-				.reduce(new Headers(), (a, b) -> a.add(b), (a, b) -> b);
+		return new NettyHttpHeaders(nettyResponse.headers());
 	}
 
 	@Override
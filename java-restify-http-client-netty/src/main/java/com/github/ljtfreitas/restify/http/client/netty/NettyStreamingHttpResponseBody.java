@@ -0,0 +1,198 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.netty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+
+/**
+ * Response body read from the connection while it's consumed.
+ * <p>
+ * The chunks received by the event loop are queued, and the channel stops reading (auto-read is disabled)
+ * while {@value #HIGH_WATER_MARK} chunks are waiting to be consumed; it's resumed when the consumer catches up.
+ */
+class NettyStreamingHttpResponseBody implements HttpResponseBody {
+
+	private static final int HIGH_WATER_MARK = 16;
+	private static final int LOW_WATER_MARK = 4;
+
+	private static final Object END = new Object();
+
+	private final Channel channel;
+	private final long contentLength;
+	private final BlockingQueue<Object> chunks = new LinkedBlockingQueue<>();
+	private final ChunkedInputStream input = new ChunkedInputStream();
+
+	private volatile boolean closed = false;
+
+	NettyStreamingHttpResponseBody(Channel channel, Headers headers) {
+		this.channel = channel;
+		this.contentLength = headers.get(Headers.CONTENT_LENGTH).map(Header::value).map(Long::valueOf).orElse(-1L);
+	}
+
+	@Override
+	public InputStream input() {
+		return input;
+	}
+
+	@Override
+	public long contentLength() {
+		return contentLength;
+	}
+
+	void offer(ByteBuf content) {
+		if (closed || !content.isReadable()) return;
+
+		chunks.offer(content.retain());
+
+		if (closed) {
+			discard();
+
+		} else if (chunks.size() >= HIGH_WATER_MARK) {
+			channel.config().setAutoRead(false);
+		}
+	}
+
+	void end() {
+		chunks.offer(END);
+	}
+
+	void fail(Throwable cause) {
+		chunks.offer(cause);
+	}
+
+	void close() {
+		if (!closed) {
+			closed = true;
+			input.release();
+			discard();
+			channel.close();
+		}
+	}
+
+	private void discard() {
+		Object chunk;
+		while ((chunk = chunks.poll()) != null) {
+			if (chunk instanceof ByteBuf) {
+				((ByteBuf) chunk).release();
+			}
+		}
+	}
+
+	private class ChunkedInputStream extends InputStream {
+
+		private ByteBuf current;
+		private boolean eof = false;
+
+		@Override
+		public int read() throws IOException {
+			ByteBuf buffer = current();
+			return buffer == null ? -1 : buffer.readByte() & 0xff;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) return 0;
+
+			ByteBuf buffer = current();
+
+			if (buffer == null) return -1;
+
+			int count = Math.min(len, buffer.readableBytes());
+			buffer.readBytes(b, off, count);
+
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return current == null ? 0 : current.readableBytes();
+		}
+
+		private ByteBuf current() throws IOException {
+			if (closed) throw new IOException("Response body stream is closed.");
+
+			while (current == null || !current.isReadable()) {
+				if (eof) return null;
+
+				release();
+
+				Object chunk = take();
+
+				if (chunk == END) {
+					eof = true;
+					return null;
+
+				} else if (chunk instanceof Throwable) {
+					eof = true;
+					Throwable cause = (Throwable) chunk;
+					throw (cause instanceof IOException) ? (IOException) cause : new IOException(cause);
+
+				} else {
+					current = (ByteBuf) chunk;
+				}
+			}
+
+			return current;
+		}
+
+		private Object take() throws IOException {
+			if (chunks.size() <= LOW_WATER_MARK && !channel.config().isAutoRead()) {
+				channel.config().setAutoRead(true);
+			}
+
+			try {
+				return chunks.take();
+
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for the response body.");
+			}
+		}
+
+		private void release() {
+			if (current != null) {
+				current.release();
+				current = null;
+			}
+		}
+
+		@Override
+		public void close() {
+			NettyStreamingHttpResponseBody.this.close();
+		}
+	}
+}
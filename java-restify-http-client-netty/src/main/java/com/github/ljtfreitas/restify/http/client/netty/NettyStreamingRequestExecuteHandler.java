@@ -0,0 +1,108 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.netty;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import com.github.ljtfreitas.restify.http.client.HttpClientException;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.response.HttpClientResponse;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+
+class NettyStreamingRequestExecuteHandler extends SimpleChannelInboundHandler<HttpObject> {
+
+	private final CompletableFuture<HttpClientResponse> future;
+	private final HttpRequestMessage source;
+
+	private NettyStreamingHttpResponseBody body;
+
+	public NettyStreamingRequestExecuteHandler(CompletableFuture<HttpClientResponse> future, NettyHttpClientRequest source) {
+		this.future = future;
+		this.source = source;
+	}
+
+	@Override
+	protected void channelRead0(ChannelHandlerContext context, HttpObject message) throws Exception {
+		if (message instanceof HttpResponse) {
+			HttpResponse nettyResponse = (HttpResponse) message;
+
+			StatusCode statusCode = StatusCode.of(nettyResponse.status().code());
+
+			Headers headers = new NettyHttpHeaders(nettyResponse.headers());
+
+			body = new NettyStreamingHttpResponseBody(context.channel(), headers);
+
+			future.complete(new NettyStreamingHttpClientResponse(statusCode, headers, body, source));
+		}
+
+		if (message instanceof HttpContent && body != null) {
+			HttpContent content = (HttpContent) message;
+
+			body.offer(content.content());
+
+			if (message instanceof LastHttpContent) {
+				body.end();
+			}
+		}
+	}
+
+	@Override
+	public void channelInactive(ChannelHandlerContext context) throws Exception {
+		if (body != null) {
+			body.fail(new IOException("Connection closed before the end of the response body."));
+		} else {
+			future.completeExceptionally(handle(new IOException("Connection closed before the response.")));
+		}
+
+		super.channelInactive(context);
+	}
+
+	@Override
+	public void exceptionCaught(ChannelHandlerContext context, Throwable cause) throws Exception {
+		if (body != null) {
+			body.fail(cause);
+		} else {
+			future.completeExceptionally(handle(cause));
+		}
+
+		if (context != null) {
+			context.close();
+		}
+	}
+
+	private Throwable handle(Throwable cause) {
+		return new HttpClientException("I/O error on HTTP request: [" + source.method() + " " + source.uri() + "]", cause);
+	}
+}
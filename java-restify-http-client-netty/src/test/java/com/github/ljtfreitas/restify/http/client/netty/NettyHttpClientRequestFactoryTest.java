@@ -12,6 +12,8 @@ import static org.mockserver.verify.VerificationTimes.once;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
@@ -27,6 +29,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.mockserver.client.server.MockServerClient;
 import org.mockserver.junit.MockServerRule;
 import org.mockserver.model.HttpRequest;
@@ -35,7 +38,9 @@ import org.mockserver.socket.SSLFactory;
 import com.github.ljtfreitas.restify.http.client.HttpClientException;
 import com.github.ljtfreitas.restify.http.client.message.Header;
 import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
 import com.github.ljtfreitas.restify.http.client.message.io.InputStreamContent;
+import com.github.ljtfreitas.restify.http.client.message.request.TransferableHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
@@ -46,6 +51,7 @@ import com.github.ljtfreitas.restify.http.client.response.HttpClientResponse;
 
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.handler.timeout.ReadTimeoutException;
 
 public class NettyHttpClientRequestFactoryTest {
@@ -56,6 +62,9 @@ public class NettyHttpClientRequestFactoryTest {
 	@Rule
 	public ExpectedException expectedException = ExpectedException.none();
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	private MockServerClient mockServerClient;
 
 	private NettyHttpClientRequestFactory nettyHttpClientRequestFactory;
@@ -88,6 +97,35 @@ public class NettyHttpClientRequestFactoryTest {
 		assertEquals(StatusCode.ok(), response.status());
 	}
 
+	@Test
+	public void shouldSendGetRequestWithStreamingResponse() throws IOException {
+		String responseBody = "{\"name\": \"Tiago de Freitas Lima\",\"age\":31}";
+
+		mockServerClient
+			.when(request()
+					.withMethod("GET")
+					.withPath("/json"))
+			.respond(response()
+					.withStatusCode(200)
+					.withHeader("Content-Type", "application/json")
+					.withBody(json(responseBody)));
+
+		NettyHttpClientRequestConfiguration configuration = new NettyHttpClientRequestConfiguration.Builder()
+				.streaming(true)
+					.build();
+
+		nettyHttpClientRequestFactory = new NettyHttpClientRequestFactory(configuration);
+
+		HttpResponseMessage response = nettyHttpClientRequestFactory.createOf(new EndpointRequest(URI.create("http://localhost:7080/json"), "GET"))
+				.execute();
+
+		assertEquals(responseBody, new InputStreamContent(response.body().input()).asString());
+		assertEquals("application/json", response.headers().get("Content-Type").get().value());
+		assertEquals(StatusCode.ok(), response.status());
+
+		response.close();
+	}
+
 	@Test
 	public void shouldSendGetRequestAsync() throws Exception {
 		String responseBody = "{\"name\": \"Tiago de Freitas Lima\",\"age\":31}";
@@ -183,6 +221,78 @@ public class NettyHttpClientRequestFactoryTest {
 		});
 	}
 
+	@Test
+	public void shouldSendFileRequestBody() throws IOException {
+		Path file = largeFile();
+
+		HttpRequest httpRequest = request()
+			.withMethod("POST")
+			.withPath("/upload")
+			.withHeader("Content-Type", "application/octet-stream")
+			.withHeader("Content-Length", "1024")
+			.withBody(exact(new String(Files.readAllBytes(file))));
+
+		mockServerClient
+			.when(httpRequest)
+			.respond(response()
+				.withStatusCode(201)
+				.withHeader("Content-Type", "text/plain")
+				.withBody(exact("OK")));
+
+		EndpointRequest endpointRequest = new EndpointRequest(URI.create("http://localhost:7080/upload"), "POST",
+				new Headers(Header.contentType("application/octet-stream")), file);
+
+		HttpClientRequest request = nettyHttpClientRequestFactory.createOf(endpointRequest);
+		((TransferableHttpRequestBody) request.body()).transferFrom(FileContent.of(file));
+
+		HttpResponseMessage response = request.execute();
+
+		assertEquals("OK", new InputStreamContent(response.body().input()).asString());
+		assertEquals(StatusCode.created(), response.status());
+
+		mockServerClient.verify(httpRequest, once());
+	}
+
+	@Test
+	public void shouldSendSecureFileRequestBody() throws Exception {
+		mockServerClient = new MockServerClient("localhost", 7084);
+
+		NettyHttpClientRequestConfiguration configuration = new NettyHttpClientRequestConfiguration.Builder()
+				.sslContext(SslContextBuilder.forClient().trustManager(InsecureTrustManagerFactory.INSTANCE).build())
+					.build();
+
+		nettyHttpClientRequestFactory = new NettyHttpClientRequestFactory(configuration);
+
+		Path file = largeFile();
+
+		HttpRequest secureRequest = request()
+			.withMethod("POST")
+			.withPath("/upload")
+			.withHeader("Content-Length", "1024")
+			.withBody(exact(new String(Files.readAllBytes(file))))
+			.withSecure(true);
+
+		mockServerClient
+			.when(secureRequest)
+			.respond(response()
+				.withStatusCode(201)
+				.withHeader("Content-Type", "text/plain")
+				.withBody(exact("OK")));
+
+		EndpointRequest endpointRequest = new EndpointRequest(URI.create("https://localhost:7084/upload"), "POST",
+				new Headers(Header.contentType("application/octet-stream")), file);
+
+		HttpClientRequest request = nettyHttpClientRequestFactory.createOf(endpointRequest);
+		((TransferableHttpRequestBody) request.body()).transferFrom(FileContent.of(file));
+
+		HttpResponseMessage response = request.execute();
+
+		assertEquals("OK", new InputStreamContent(response.body().input()).asString());
+		assertEquals(StatusCode.created(), response.status());
+
+		mockServerClient.verify(secureRequest, once());
+	}
+
 	@Test
 	public void shouldThrowExceptionOnTimeout() {
 		NettyHttpClientRequestConfiguration configuration = new NettyHttpClientRequestConfiguration.Builder()
@@ -423,4 +533,13 @@ public class NettyHttpClientRequestFactoryTest {
 		};
 	}
 
+	private Path largeFile() throws IOException {
+		char[] chars = new char[1024]; // 1kb
+		Arrays.fill(chars, 'a');
+
+		Path file = folder.newFile().toPath();
+		Files.write(file, new String(chars).getBytes());
+
+		return file;
+	}
 }
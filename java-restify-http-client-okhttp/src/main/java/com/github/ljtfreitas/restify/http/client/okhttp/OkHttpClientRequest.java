@@ -26,7 +26,6 @@
 package com.github.ljtfreitas.restify.http.client.okhttp;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.Charset;
@@ -40,6 +39,7 @@ import com.github.ljtfreitas.restify.http.client.message.request.BufferedByteArr
 import com.github.ljtfreitas.restify.http.client.message.request.BufferedHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 import com.github.ljtfreitas.restify.http.client.request.async.AsyncHttpClientRequest;
 import com.github.ljtfreitas.restify.http.client.response.HttpClientResponse;
@@ -115,6 +115,9 @@ class OkHttpClientRequest implements AsyncHttpClientRequest {
 		} catch (IOException e) {
 			throw new HttpClientException("I/O error on HTTP request: [" + request.method() + " " +
 					request.url() + "]", e);
+
+		} finally {
+			body.release();
 		}
 	}
 
@@ -128,11 +131,13 @@ class OkHttpClientRequest implements AsyncHttpClientRequest {
 
 			@Override
 			public void onResponse(Call call, Response response) throws IOException {
+				body.release();
 				future.complete(responseOf(response));
 			}
 
 			@Override
 			public void onFailure(Call call, IOException exception) {
+				body.release();
 				future.completeExceptionally(new HttpClientException("I/O error on HTTP request: [" + request.method() + " " +
 						request.url() + "]", exception));
 			}
@@ -145,9 +150,7 @@ class OkHttpClientRequest implements AsyncHttpClientRequest {
 		MediaType contentType = headers.get("Content-Type").map(header -> MediaType.parse(header.value()))
 				.orElse(null);
 
-		byte[] content = body.asBytes();
-
-		okhttp3.RequestBody body = (content.length > 0 ? okhttp3.RequestBody.create(contentType, content) : null);
+		okhttp3.RequestBody body = (this.body.contentLength() > 0 ? new OkHttpRequestBody(contentType, this.body) : null);
 
 		URL url = Try.of(uri::toURL).get();
 
@@ -164,12 +167,11 @@ class OkHttpClientRequest implements AsyncHttpClientRequest {
 	private OkHttpClientResponse responseOf(Response response) {
 		StatusCode statusCode = StatusCode.of(response.code(), response.message());
 
-		Headers headers = response.headers().names().stream()
-				.reduce(new Headers(), (a, b) -> a.add(b, response.headers(b)), (a, b) -> b);
+		Headers headers = new OkHttpHeaders(response.headers());
 
-		InputStream stream = response.body().byteStream();
+		HttpResponseBody body = new OkHttpResponseBody(response.body());
 
-		return new OkHttpClientResponse(statusCode, headers, stream, response, this);
+		return new OkHttpClientResponse(statusCode, headers, body, response, this);
 	}
 
 }
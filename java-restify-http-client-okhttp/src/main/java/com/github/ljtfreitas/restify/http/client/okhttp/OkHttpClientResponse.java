@@ -26,10 +26,10 @@
 package com.github.ljtfreitas.restify.http.client.okhttp;
 
 import java.io.IOException;
-import java.io.InputStream;
 
 import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 import com.github.ljtfreitas.restify.http.client.response.BaseHttpClientResponse;
 
@@ -39,8 +39,8 @@ class OkHttpClientResponse extends BaseHttpClientResponse {
 
 	private final Response response;
 
-	OkHttpClientResponse(StatusCode statusCode, Headers headers, InputStream body, Response response, HttpRequestMessage httpRequest) {
-		super(statusCode, headers, body, httpRequest);
+	OkHttpClientResponse(StatusCode statusCode, Headers headers, HttpResponseBody body, Response response, HttpRequestMessage httpRequest) {
+		super(statusCode, headers, httpRequest, body);
 		this.response = response;
 	}
 
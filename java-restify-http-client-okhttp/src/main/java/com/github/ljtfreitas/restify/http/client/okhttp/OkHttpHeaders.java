@@ -0,0 +1,90 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.okhttp;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.util.Memoized;
+
+/**
+ * Read-only view of OkHttp {@link okhttp3.Headers}; nothing is copied until the headers are changed.
+ */
+class OkHttpHeaders extends Headers {
+
+	private final okhttp3.Headers source;
+
+	private final Memoized<Collection<Header>> all = Memoized.of(this::copy);
+
+	OkHttpHeaders(okhttp3.Headers source) {
+		this.source = source;
+	}
+
+	@Override
+	public Collection<Header> all() {
+		return all.get();
+	}
+
+	private Collection<Header> copy() {
+		List<Header> headers = new ArrayList<>(source.size());
+
+		for (int i = 0; i < source.size(); i++) {
+			headers.add(new Header(source.name(i), source.value(i)));
+		}
+
+		return Collections.unmodifiableList(headers);
+	}
+
+	@Override
+	public Collection<Header> all(String name) {
+		List<Header> headers = new ArrayList<>(1);
+
+		for (int i = 0; i < source.size(); i++) {
+			if (source.name(i).equalsIgnoreCase(name)) {
+				headers.add(new Header(source.name(i), source.value(i)));
+			}
+		}
+
+		return Collections.unmodifiableList(headers);
+	}
+
+	@Override
+	public Optional<Header> get(String name) {
+		// okhttp3.Headers.get returns the last value; the first one is consistent with the other implementations
+		for (int i = 0; i < source.size(); i++) {
+			if (source.name(i).equalsIgnoreCase(name)) {
+				return Optional.of(new Header(source.name(i), source.value(i)));
+			}
+		}
+
+		return Optional.empty();
+	}
+}
@@ -36,7 +36,6 @@ import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
-import com.github.ljtfreitas.restify.http.client.request.Timeout;
 import com.github.ljtfreitas.restify.http.client.request.async.AsyncHttpClientRequest;
 import com.github.ljtfreitas.restify.http.client.response.HttpClientResponse;
 
@@ -123,7 +122,7 @@ class VertxHttpClientRequest implements AsyncHttpClientRequest {
 		source.headers()
 			.forEach(header -> request.headers().add(header.name(), header.value()));
 
-		source.metadata().get(Timeout.class).ifPresent(timeout -> {
+		source.metadata().timeout().ifPresent(timeout -> {
 			request.timeout((int) timeout.read());
 		});
 
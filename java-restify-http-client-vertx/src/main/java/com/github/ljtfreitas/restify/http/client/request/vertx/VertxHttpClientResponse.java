@@ -25,13 +25,12 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.request.vertx;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Optional;
 
 import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 import com.github.ljtfreitas.restify.http.client.response.BaseHttpClientResponse;
 
@@ -40,26 +39,23 @@ import io.vertx.ext.web.client.HttpResponse;
 
 class VertxHttpClientResponse extends BaseHttpClientResponse {
 
-	private final InputStream body;
-
-	VertxHttpClientResponse(StatusCode status, Headers headers, InputStream body, HttpRequestMessage httpRequest) {
-		super(status, headers, body, httpRequest);
-		this.body = body;
+	VertxHttpClientResponse(StatusCode status, Headers headers, HttpResponseBody body, HttpRequestMessage httpRequest) {
+		super(status, headers, httpRequest, body);
 	}
 
 	@Override
 	public void close() throws IOException {
-		body.close();
 	}
 
 	static VertxHttpClientResponse read(HttpResponse<Buffer> result, HttpRequestMessage source) {
-		InputStream body = Optional.ofNullable(result.body())
-				.map(Buffer::getBytes)
-				.map(ByteArrayInputStream::new)
+		HttpResponseBody body = Optional.ofNullable(result.body())
+				.map(BufferHttpResponseBody::new)
 				.orElse(null);
 
-		Headers headers = result.headers().entries().stream()
-				.reduce(new Headers(), (a, h) -> a.add(h.getKey(), h.getValue()) , (a, b) -> b);
+		Headers.Builder headersBuilder = new Headers.Builder();
+		result.headers().forEach(h -> headersBuilder.add(h.getKey(), h.getValue()));
+
+		Headers headers = headersBuilder.build();
 
 		StatusCode status = StatusCode.of(result.statusCode(), result.statusMessage());
 
@@ -60,11 +60,13 @@ abstract class BaseJdkHttpClientRequest implements HttpClientRequest {
 	protected JdkHttpClientResponse responseOf(HttpURLConnection connection) throws IOException {
 		StatusCode status = StatusCode.of(connection.getResponseCode(), connection.getResponseMessage());
 
-		Headers headers = connection.getHeaderFields().entrySet().stream()
+		Headers.Builder headersBuilder = new Headers.Builder();
+
+		connection.getHeaderFields().entrySet().stream()
 			.filter(e -> e.getKey() != null && !e.getKey().equals("") && !e.getValue().isEmpty())
-				.reduce(new Headers(),
-					(a, b) -> a.add(new Header(b.getKey(), b.getValue().stream().findFirst().get())),
-						(a, b) -> b);
+				.forEach(e -> headersBuilder.add(new Header(e.getKey(), e.getValue().get(0))));
+
+		Headers headers = headersBuilder.build();
 
 		InputStream stream = Try.of(() -> connection.getErrorStream() == null ? connection.getInputStream() : connection.getErrorStream())
 				.or(() -> new ByteArrayInputStream(new byte[0]));
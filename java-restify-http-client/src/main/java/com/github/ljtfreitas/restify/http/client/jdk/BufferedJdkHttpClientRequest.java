@@ -55,15 +55,22 @@ class BufferedJdkHttpClientRequest extends BaseJdkHttpClientRequest {
 
 			BufferedHttpRequestBody bodyAsBytes = bodyAsBytes();
 
-			if (connection.getDoOutput() && bodyAsBytes.asBytes().length != 0) {
-				if (configuration.outputStreaming()) {
-					connection.setFixedLengthStreamingMode(bodyAsBytes.asBytes().length);
+			try {
+				long contentLength = bodyAsBytes.contentLength();
+
+				if (connection.getDoOutput() && contentLength != 0) {
+					if (configuration.outputStreaming() || bodyAsBytes.file().isPresent()) {
+						connection.setFixedLengthStreamingMode(contentLength);
+					}
+
+					bodyAsBytes.writeTo(connection.getOutputStream());
 				}
 
-				bodyAsBytes.writeTo(connection.getOutputStream());
-			}
+				connection.connect();
 
-			connection.connect();
+			} finally {
+				bodyAsBytes.release();
+			}
 
 			return responseOf(connection);
 
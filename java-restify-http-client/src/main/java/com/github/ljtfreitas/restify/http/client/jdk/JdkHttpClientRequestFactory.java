@@ -39,7 +39,6 @@ import com.github.ljtfreitas.restify.http.client.message.Encoding;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.client.request.HttpClientRequest;
 import com.github.ljtfreitas.restify.http.client.request.HttpClientRequestFactory;
-import com.github.ljtfreitas.restify.http.client.request.Timeout;
 
 public class JdkHttpClientRequestFactory implements HttpClientRequestFactory {
 
@@ -104,7 +103,7 @@ public class JdkHttpClientRequestFactory implements HttpClientRequestFactory {
 				.ifPresent(hostnameVerifier -> https.setHostnameVerifier(hostnameVerifier));
 		}
 
-		source.metadata().get(Timeout.class).ifPresent(timeout -> {
+		source.metadata().timeout().ifPresent(timeout -> {
 			connection.setConnectTimeout((int) (timeout.connection() <= 0 ? 0 : timeout.connection()));
 			connection.setReadTimeout((int) (timeout.read() <= 0 ? 0 : timeout.read()));
 		});
@@ -25,52 +25,77 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.jdk;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
-import java.util.function.Supplier;
 
 import com.github.ljtfreitas.restify.http.client.message.Header;
 import com.github.ljtfreitas.restify.http.client.message.Headers;
-import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestBody;
-import com.github.ljtfreitas.restify.http.client.message.request.SimpleOutputStreamHttpRequestBody;
-import com.github.ljtfreitas.restify.util.Memoized;
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
+import com.github.ljtfreitas.restify.http.client.message.request.TransferableHttpRequestBody;
 import com.github.ljtfreitas.restify.util.Try;
 
-class StreamingJdkHttpRequestBody implements HttpRequestBody {
+class StreamingJdkHttpRequestBody implements TransferableHttpRequestBody {
 
-	private final Memoized<HttpRequestBody> memoized;
+	private final HttpURLConnection connection;
+	private final Headers headers;
+	private final HttpClientRequestConfiguration configuration;
 
-	private StreamingJdkHttpRequestBody(Supplier<HttpRequestBody> supplier) {
-		this.memoized = Memoized.of(supplier);
+	private OutputStream output;
+
+	private StreamingJdkHttpRequestBody(HttpURLConnection connection, Headers headers, HttpClientRequestConfiguration configuration) {
+		this.connection = connection;
+		this.headers = headers;
+		this.configuration = configuration;
 	}
 
 	@Override
 	public OutputStream output() {
-		return memoized.get().output();
-	}
+		if (output == null) {
+			if (configuration.outputStreaming()) {
+				long contentLength = headers.get(Headers.CONTENT_LENGTH)
+						.map(Header::value)
+						.map(Long::valueOf)
+						.orElse(-1l);
 
-	static StreamingJdkHttpRequestBody create(HttpURLConnection connection, Headers headers, HttpClientRequestConfiguration configuration) {
-		return new StreamingJdkHttpRequestBody(() ->
-			Try.of(() -> {
-				headers.forEach(h -> connection.setRequestProperty(h.name(), h.value()));
+				if (contentLength >= 0) {
+					connection.setFixedLengthStreamingMode(contentLength);
+				} else {
+					connection.setChunkedStreamingMode(configuration.chunkSize());
+				}
+			}
 
-				if (configuration.outputStreaming()) {
-					long contentLength = headers.get(Headers.CONTENT_LENGTH)
-							.map(Header::value)
-							.map(Long::valueOf)
-							.orElse(-1l);
+			output = open();
+		}
+		return output;
+	}
 
-					if (contentLength >= 0) {
-						connection.setFixedLengthStreamingMode(contentLength);
-					} else {
-						connection.setChunkedStreamingMode(configuration.chunkSize());
-					}
-				}
+	/**
+	 * Sends the file to the connection with a fixed length, regardless of the configuration; otherwise,
+	 * {@link HttpURLConnection} would buffer the whole file in memory before sending it.
+	 */
+	@Override
+	public void transferFrom(FileContent content) throws IOException {
+		try (FileContent c = content) {
+			if (output == null) {
+				connection.setFixedLengthStreamingMode(c.count());
+				output = open();
+			}
+
+			c.transferTo(output);
+		}
+	}
 
-				return new SimpleOutputStreamHttpRequestBody(connection.getOutputStream());
+	private OutputStream open() {
+		return Try.of(() -> {
+				headers.forEach(h -> connection.setRequestProperty(h.name(), h.value()));
+				return connection.getOutputStream();
 			})
 			.error(e -> new IllegalStateException("Cannot create a streamed HttpResponseBody", e))
-			.get()
-		);
+			.get();
+	}
+
+	static StreamingJdkHttpRequestBody create(HttpURLConnection connection, Headers headers, HttpClientRequestConfiguration configuration) {
+		return new StreamingJdkHttpRequestBody(connection, headers, configuration);
 	}
 }
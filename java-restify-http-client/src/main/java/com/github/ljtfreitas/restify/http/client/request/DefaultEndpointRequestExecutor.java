@@ -26,32 +26,47 @@
 package com.github.ljtfreitas.restify.http.client.request;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import com.github.ljtfreitas.restify.http.client.HttpClientException;
 import com.github.ljtfreitas.restify.http.client.HttpException;
 import com.github.ljtfreitas.restify.http.client.message.HttpMessageException;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseInputStream;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestPhase;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestTimer;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestTiming;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponseReader;
-import com.github.ljtfreitas.restify.reflection.JavaType;
 
 public class DefaultEndpointRequestExecutor implements EndpointRequestExecutor {
 
 	private final HttpClientRequestFactory httpClientRequestFactory;
 	private final EndpointRequestWriter endpointRequestWriter;
 	private final EndpointResponseReader endpointResponseReader;
+	private final EndpointRequestTiming timing;
 
 	public DefaultEndpointRequestExecutor(HttpClientRequestFactory httpClientRequestFactory,
 			EndpointRequestWriter endpointRequestWriter, EndpointResponseReader endpointResponseReader) {
+		this(httpClientRequestFactory, endpointRequestWriter, endpointResponseReader, EndpointRequestTiming.none());
+	}
+
+	public DefaultEndpointRequestExecutor(HttpClientRequestFactory httpClientRequestFactory,
+			EndpointRequestWriter endpointRequestWriter, EndpointResponseReader endpointResponseReader,
+			EndpointRequestTiming timing) {
 		this.httpClientRequestFactory = httpClientRequestFactory;
 		this.endpointRequestWriter = endpointRequestWriter;
 		this.endpointResponseReader = endpointResponseReader;
+		this.timing = Optional.ofNullable(timing).orElseGet(EndpointRequestTiming::none);
 	}
 
 	@Override
 	public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
-		try (HttpResponseMessage response = doExecute(endpointRequest)) {
-			return responseOf(response, endpointRequest.responseType());
+		EndpointRequestTimer timer = timing.timerOf(endpointRequest);
+
+		try {
+			HttpResponseMessage response = doExecute(endpointRequest, timer);
+			return read(response, endpointRequest, timer);
 
 		} catch (HttpClientException | HttpMessageException e) {
 			throw e;
@@ -66,15 +81,49 @@ public class DefaultEndpointRequestExecutor implements EndpointRequestExecutor {
 		}
 	}
 
-	private HttpResponseMessage doExecute(EndpointRequest endpointRequest) {
+	private HttpResponseMessage doExecute(EndpointRequest endpointRequest, EndpointRequestTimer timer) {
 		HttpClientRequest httpClientRequest = httpClientRequestFactory.createOf(endpointRequest);
 
-		endpointRequest.body().ifPresent(b -> endpointRequestWriter.write(endpointRequest, httpClientRequest));
+		if (endpointRequest.body().isPresent()) {
+			long start = timer.start();
+			endpointRequestWriter.write(endpointRequest, httpClientRequest);
+			timer.end(EndpointRequestPhase.WRITE, start);
+		}
+
+		long start = timer.start();
+		HttpResponseMessage response = httpClientRequest.execute();
+		timer.end(EndpointRequestPhase.EXCHANGE, start);
+
+		return response;
+	}
+
+	private <T> EndpointResponse<T> read(HttpResponseMessage response, EndpointRequest endpointRequest, EndpointRequestTimer timer) throws IOException {
+		EndpointResponse<T> endpointResponse;
+
+		try {
+			endpointResponse = responseOf(response, endpointRequest, timer);
+
+		} catch (RuntimeException | Error e) {
+			try {
+				response.close();
+			} catch (IOException c) {
+				e.addSuppressed(c);
+			}
+			throw e;
+		}
+
+		if (!(endpointResponse.body() instanceof HttpResponseInputStream)) {
+			response.close();
+		}
 
-		return httpClientRequest.execute();
+		return endpointResponse;
 	}
 
-	private <T> EndpointResponse<T> responseOf(HttpResponseMessage response, JavaType responseType) {
-		return endpointResponseReader.read(response, responseType);
+	private <T> EndpointResponse<T> responseOf(HttpResponseMessage response, EndpointRequest endpointRequest, EndpointRequestTimer timer) {
+		long start = timer.start();
+		EndpointResponse<T> endpointResponse = endpointResponseReader.read(response, endpointRequest.responseType());
+		timer.end(EndpointRequestPhase.READ, start);
+
+		return endpointResponse;
 	}
 }
@@ -28,6 +28,7 @@ package com.github.ljtfreitas.restify.http.client.request;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
 import java.util.Optional;
 
 import com.github.ljtfreitas.restify.http.client.message.Header;
@@ -45,6 +46,8 @@ public class EndpointRequest {
 	private final JavaType responseType;
 	private final EndpointVersion version;
 	private final EndpointRequestMetadata metadata;
+	private final Path destination;
+	private final MutableHeaders mutable;
 
 	public EndpointRequest(URI endpoint, String method) {
 		this(endpoint, method, (EndpointVersion) null);
@@ -120,6 +123,16 @@ public class EndpointRequest {
 
 	public EndpointRequest(URI endpoint, String method, Headers headers, Object body, JavaType responseType,
 			EndpointVersion version, EndpointRequestMetadata metadata) {
+		this(endpoint, method, headers, body, responseType, version, metadata, null);
+	}
+
+	public EndpointRequest(URI endpoint, String method, Headers headers, Object body, JavaType responseType,
+			EndpointVersion version, EndpointRequestMetadata metadata, Path destination) {
+		this(endpoint, method, headers, body, responseType, version, metadata, destination, null);
+	}
+
+	private EndpointRequest(URI endpoint, String method, Headers headers, Object body, JavaType responseType,
+			EndpointVersion version, EndpointRequestMetadata metadata, Path destination, MutableHeaders mutable) {
 		this.endpoint = endpoint;
 		this.method = method;
 		this.headers = headers;
@@ -127,6 +140,8 @@ public class EndpointRequest {
 		this.responseType = responseType;
 		this.version = version;
 		this.metadata = metadata;
+		this.destination = destination;
+		this.mutable = mutable;
 	}
 
 	public URI endpoint() {
@@ -142,7 +157,7 @@ public class EndpointRequest {
 	}
 
 	public Headers headers() {
-		return headers;
+		return mutable == null ? headers : mutable.headers;
 	}
 
 	public JavaType responseType() {
@@ -157,26 +172,61 @@ public class EndpointRequest {
 		return metadata;
 	}
 
+	/**
+	 * File to which the response body must be written (see {@link com.github.ljtfreitas.restify.http.contract.SaveTo}).
+	 */
+	public Optional<Path> destination() {
+		return Optional.ofNullable(destination);
+	}
+
 	public EndpointRequest append(Parameters parameters) {
 		String query = parameters.queryString();
 		return appendOnQuery(query);
 	}
 
 	public EndpointRequest add(Header header) {
-		Headers newheaders = headers.add(header);
-
-		return new EndpointRequest(endpoint, method, newheaders, body, responseType, version, metadata);
+		return using(headers().add(header));
 	}
 
 	public EndpointRequest add(Headers headers) {
-		return new EndpointRequest(endpoint, method, this.headers.addAll(headers), body, responseType, version,
-				metadata);
+		return using(headers().addAll(headers));
 	}
 
 	public EndpointRequest replace(Header header) {
-		Headers newheaders = headers.replace(header);
+		return using(headers().replace(header));
+	}
+
+	private EndpointRequest using(Headers headers) {
+		if (mutable != null) {
+			mutable.headers = headers;
+			return this;
+		}
+
+		return new EndpointRequest(endpoint, method, headers, body, responseType, version, metadata, destination);
+	}
 
-		return new EndpointRequest(endpoint, method, newheaders, body, responseType, version, metadata);
+	/**
+	 * Returns a mutable view of this request: {@link #add(Header)}, {@link #add(Headers)} and {@link #replace(Header)}
+	 * change the headers of the view in place, instead of creating a new request on each change. Interceptor chains
+	 * hand this view to the interceptors, and {@link #freeze() freeze} it once before the request is executed.
+	 */
+	public EndpointRequest mutable() {
+		return mutable != null ? this :
+			new EndpointRequest(endpoint, method, headers, body, responseType, version, metadata, destination, new MutableHeaders(this));
+	}
+
+	/**
+	 * Returns an immutable request with the current headers of this view: the source request of the view, when nothing was
+	 * changed (or this request, if it is not a mutable view).
+	 */
+	public EndpointRequest freeze() {
+		if (mutable == null) return this;
+
+		EndpointRequest source = mutable.source;
+
+		return source.headers == mutable.headers && source.endpoint == endpoint && source.body == body && source.destination == destination ?
+				source :
+					new EndpointRequest(endpoint, method, mutable.headers, body, responseType, version, metadata, destination);
 	}
 
 	private EndpointRequest appendOnQuery(String query) {
@@ -196,15 +246,19 @@ public class EndpointRequest {
 		URI newURI = new URI(endpoint.getScheme(), endpoint.getRawAuthority(), endpoint.getRawPath(),
 				query, endpoint.getRawFragment());
 
-		return new EndpointRequest(newURI, method, headers, body, responseType, version, metadata);
+		return new EndpointRequest(newURI, method, headers, body, responseType, version, metadata, destination, mutable);
 	}
 
 	public EndpointRequest replace(URI endpoint) {
-		return new EndpointRequest(endpoint, method, headers, body, responseType, version, metadata);
+		return new EndpointRequest(endpoint, method, headers, body, responseType, version, metadata, destination, mutable);
 	}
 
 	public EndpointRequest usingBody(Object body) {
-		return new EndpointRequest(endpoint, method, headers, body, responseType, version, metadata);
+		return new EndpointRequest(endpoint, method, headers, body, responseType, version, metadata, destination, mutable);
+	}
+
+	public EndpointRequest usingDestination(Path destination) {
+		return new EndpointRequest(endpoint, method, headers, body, responseType, version, metadata, destination, mutable);
 	}
 
 	@Override
@@ -228,4 +282,17 @@ public class EndpointRequest {
 
 		return report.toString();
 	}
+
+	private static class MutableHeaders {
+
+		private final EndpointRequest source;
+
+		// interceptors of a chain run one after another, so changes don't race
+		private Headers headers;
+
+		private MutableHeaders(EndpointRequest source) {
+			this.source = source;
+			this.headers = source.headers;
+		}
+	}
 }
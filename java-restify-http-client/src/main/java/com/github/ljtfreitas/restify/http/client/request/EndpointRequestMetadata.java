@@ -26,34 +26,100 @@
 package com.github.ljtfreitas.restify.http.client.request;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 
 public class EndpointRequestMetadata {
 
+	private static final EndpointRequestMetadata EMPTY = new EndpointRequestMetadata(Collections.emptyList());
+
 	private final Collection<Annotation> annotations;
+	private final Map<Class<? extends Annotation>, List<Annotation>> annotationsByType;
+	private final Map<Class<? extends Annotation>, Optional<Annotation>> firstByType;
+	private final Optional<Timeout> timeout;
+	private final EndpointMethod endpointMethod;
 
 	public EndpointRequestMetadata(Collection<Annotation> annotations) {
-		this.annotations = Collections.unmodifiableCollection(annotations);
+		this(annotations, null);
+	}
+
+	public EndpointRequestMetadata(Collection<Annotation> annotations, EndpointMethod endpointMethod) {
+		this.annotations = Collections.unmodifiableCollection(new ArrayList<>(annotations));
+		this.annotationsByType = index(annotations);
+		this.firstByType = first(annotationsByType);
+		this.timeout = get(Timeout.class);
+		this.endpointMethod = endpointMethod;
+	}
+
+	private EndpointRequestMetadata(EndpointRequestMetadata source, EndpointMethod endpointMethod) {
+		this.annotations = source.annotations;
+		this.annotationsByType = source.annotationsByType;
+		this.firstByType = source.firstByType;
+		this.timeout = source.timeout;
+		this.endpointMethod = endpointMethod;
+	}
+
+	private Map<Class<? extends Annotation>, List<Annotation>> index(Collection<Annotation> annotations) {
+		Map<Class<? extends Annotation>, List<Annotation>> index = new LinkedHashMap<>();
+
+		annotations.forEach(a -> index.computeIfAbsent(a.annotationType(), k -> new ArrayList<>()).add(a));
+
+		index.replaceAll((k, v) -> Collections.unmodifiableList(v));
+
+		return Collections.unmodifiableMap(index);
+	}
+
+	private Map<Class<? extends Annotation>, Optional<Annotation>> first(Map<Class<? extends Annotation>, List<Annotation>> annotationsByType) {
+		Map<Class<? extends Annotation>, Optional<Annotation>> first = new LinkedHashMap<>();
+
+		annotationsByType.forEach((k, v) -> first.put(k, Optional.of(v.get(0))));
+
+		return Collections.unmodifiableMap(first);
+	}
+
+	/**
+	 * Returns this metadata bound to the given endpoint method, sharing the annotation indexes.
+	 * Used by proxies rebound to other endpoints, whose methods have the same annotations.
+	 */
+	public EndpointRequestMetadata with(EndpointMethod endpointMethod) {
+		return this.endpointMethod == endpointMethod ? this : new EndpointRequestMetadata(this, endpointMethod);
+	}
+
+	public Optional<EndpointMethod> endpointMethod() {
+		return Optional.ofNullable(endpointMethod);
+	}
+
+	public <A extends Annotation> boolean contains(Class<A> annotation) {
+		return annotationsByType.containsKey(annotation);
 	}
 
 	@SuppressWarnings("unchecked")
 	public <A extends Annotation> Optional<A> get(Class<A> annotation) {
-		return annotations.stream().filter(a -> a.annotationType().isAssignableFrom(annotation))
-				.findFirst()
-					.map(a -> (A) a);
+		Optional<Annotation> first = firstByType.get(annotation);
+		return first == null ? Optional.empty() : (Optional<A>) first;
 	}
 
 	@SuppressWarnings("unchecked")
 	public <A extends Annotation> Collection<A> all(Class<A> annotation) {
-		return annotations.stream().filter(a -> a.annotationType().isAssignableFrom(annotation))
-				.map(a -> (A) a)
-					.collect(Collectors.toList());
+		return (Collection<A>) annotationsByType.getOrDefault(annotation, Collections.emptyList());
+	}
+
+	public Collection<Annotation> all() {
+		return annotations;
+	}
+
+	public Optional<Timeout> timeout() {
+		return timeout;
 	}
 
 	public static EndpointRequestMetadata empty() {
-		return new EndpointRequestMetadata(Collections.emptyList());
+		return EMPTY;
 	}
 }
@@ -26,6 +26,7 @@
 package com.github.ljtfreitas.restify.http.client.request.async;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
@@ -34,13 +35,16 @@ import java.util.concurrent.Executor;
 import com.github.ljtfreitas.restify.http.client.HttpClientException;
 import com.github.ljtfreitas.restify.http.client.HttpException;
 import com.github.ljtfreitas.restify.http.client.message.HttpMessageException;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseInputStream;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestWriter;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestPhase;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestTimer;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestTiming;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponseReader;
 import com.github.ljtfreitas.restify.http.client.response.HttpClientResponse;
-import com.github.ljtfreitas.restify.reflection.JavaType;
 import com.github.ljtfreitas.restify.util.Try;
 
 public class DefaultAsyncEndpointRequestExecutor implements AsyncEndpointRequestExecutor {
@@ -49,36 +53,77 @@ public class DefaultAsyncEndpointRequestExecutor implements AsyncEndpointRequest
 	private final AsyncHttpClientRequestFactory httpClientRequestFactory;
 	private final EndpointRequestWriter endpointRequestWriter;
 	private final EndpointResponseReader endpointResponseReader;
+	private final EndpointRequestTiming timing;
 
 	public DefaultAsyncEndpointRequestExecutor(Executor executor, AsyncHttpClientRequestFactory httpClientRequestFactory,
 			EndpointRequestWriter endpointRequestWriter, EndpointResponseReader endpointResponseReader) {
+		this(executor, httpClientRequestFactory, endpointRequestWriter, endpointResponseReader, EndpointRequestTiming.none());
+	}
+
+	public DefaultAsyncEndpointRequestExecutor(Executor executor, AsyncHttpClientRequestFactory httpClientRequestFactory,
+			EndpointRequestWriter endpointRequestWriter, EndpointResponseReader endpointResponseReader,
+			EndpointRequestTiming timing) {
 		this.executor = executor;
 		this.httpClientRequestFactory = httpClientRequestFactory;
 		this.endpointRequestWriter = endpointRequestWriter;
 		this.endpointResponseReader = endpointResponseReader;
+		this.timing = Optional.ofNullable(timing).orElseGet(EndpointRequestTiming::none);
 	}
 
 	@Override
 	public <T> CompletionStage<EndpointResponse<T>> executeAsync(EndpointRequest endpointRequest) {
-		CompletionStage<EndpointResponse<T>> future = doExecute(endpointRequest)
-				.thenApplyAsync(response -> doRead(response, endpointRequest.responseType()), executor);
+		EndpointRequestTimer timer = timing.timerOf(endpointRequest);
+
+		CompletionStage<EndpointResponse<T>> future = doExecute(endpointRequest, timer)
+				.thenApplyAsync(response -> doRead(response, endpointRequest, timer), executor);
 
 		return future.handleAsync((r, e) -> doHandle(r, deepCause(e), endpointRequest), executor);
 	}
 
-	private CompletionStage<HttpClientResponse> doExecute(EndpointRequest endpointRequest) {
+	private CompletionStage<HttpClientResponse> doExecute(EndpointRequest endpointRequest, EndpointRequestTimer timer) {
 		AsyncHttpClientRequest httpClientRequest = httpClientRequestFactory.createAsyncOf(endpointRequest);
 
-		endpointRequest.body().ifPresent(b -> endpointRequestWriter.write(endpointRequest, httpClientRequest));
+		if (endpointRequest.body().isPresent()) {
+			long start = timer.start();
+			endpointRequestWriter.write(endpointRequest, httpClientRequest);
+			timer.end(EndpointRequestPhase.WRITE, start);
+		}
+
+		if (!timer.enabled()) {
+			return httpClientRequest.executeAsync();
 
-		return httpClientRequest.executeAsync();
+		} else {
+			long start = timer.start();
+			return httpClientRequest.executeAsync()
+					.whenComplete((r, e) -> timer.end(EndpointRequestPhase.EXCHANGE, start));
+		}
 	}
 
 	@SuppressWarnings("unchecked")
-	private <T> EndpointResponse<T> doRead(HttpResponseMessage response, JavaType responseType) {
-		return Try.withResources(() -> response)
-				.map(r -> (EndpointResponse<T>) endpointResponseReader.read(r, responseType))
-					.get();
+	private <T> EndpointResponse<T> doRead(HttpResponseMessage response, EndpointRequest endpointRequest, EndpointRequestTimer timer) {
+		long start = timer.start();
+
+		EndpointResponse<T> endpointResponse;
+
+		try {
+			endpointResponse = (EndpointResponse<T>) endpointResponseReader.read(response, endpointRequest.responseType());
+
+		} catch (RuntimeException | Error e) {
+			try {
+				response.close();
+			} catch (IOException c) {
+				e.addSuppressed(c);
+			}
+			throw e;
+		}
+
+		timer.end(EndpointRequestPhase.READ, start);
+
+		if (!(endpointResponse.body() instanceof HttpResponseInputStream)) {
+			Try.run(response::close).apply();
+		}
+
+		return endpointResponse;
 	}
 
 	private Throwable deepCause(Throwable throwable) {
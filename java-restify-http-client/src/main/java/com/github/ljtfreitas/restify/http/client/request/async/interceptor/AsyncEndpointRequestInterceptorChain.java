@@ -51,8 +51,8 @@ public class AsyncEndpointRequestInterceptorChain {
 	}
 
 	public CompletionStage<EndpointRequest> applyAsync(EndpointRequest endpointRequest) {
-		CompletionStage<EndpointRequest> completed = CompletableFuture.completedFuture(endpointRequest);
-		return interceptors.stream().reduce(completed, (r, i) -> i.interceptsAsync(r), (a, b) -> b);
+		CompletionStage<EndpointRequest> completed = CompletableFuture.completedFuture(endpointRequest.mutable());
+		return interceptors.stream().reduce(completed, (r, i) -> i.interceptsAsync(r), (a, b) -> b).thenApply(EndpointRequest::freeze);
 	}
 
 	public static AsyncEndpointRequestInterceptorChain of(Collection<EndpointRequestInterceptor> interceptors, Executor executor) {
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.coalescing;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+
+public class CoalescingEndpointRequestExecutor implements EndpointRequestExecutor {
+
+	private final EndpointRequestExecutor delegate;
+	private final Map<CoalescingKey, CompletableFuture<EndpointResponse<?>>> inFlight = new ConcurrentHashMap<>();
+
+	public CoalescingEndpointRequestExecutor(EndpointRequestExecutor delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
+		Optional<CoalescingKey> key = CoalescingKey.of(endpointRequest);
+		return key.isPresent() ? coalesce(key.get(), endpointRequest) : delegate.execute(endpointRequest);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> EndpointResponse<T> coalesce(CoalescingKey key, EndpointRequest endpointRequest) {
+		CompletableFuture<EndpointResponse<?>> future = new CompletableFuture<>();
+
+		CompletableFuture<EndpointResponse<?>> current = inFlight.putIfAbsent(key, future);
+
+		if (current != null) {
+			return (EndpointResponse<T>) join(current);
+		}
+
+		try {
+			EndpointResponse<T> response = delegate.execute(endpointRequest);
+			future.complete(response);
+			return response;
+
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	private EndpointResponse<?> join(CompletableFuture<EndpointResponse<?>> future) {
+		try {
+			return future.join();
+
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+			if (cause instanceof Error) throw (Error) cause;
+
+			throw e;
+		}
+	}
+}
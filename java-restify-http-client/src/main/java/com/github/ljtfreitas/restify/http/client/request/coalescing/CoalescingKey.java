@@ -0,0 +1,111 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.coalescing;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.reflection.JavaType;
+
+class CoalescingKey {
+
+	private static final Collection<String> IDEMPOTENT_METHODS = Arrays.asList("GET", "HEAD", "OPTIONS");
+
+	private final String method;
+	private final URI endpoint;
+	private final JavaType responseType;
+	private final String[] headers;
+	private final int hashCode;
+
+	private CoalescingKey(String method, URI endpoint, JavaType responseType, String[] headers) {
+		this.method = method;
+		this.endpoint = endpoint;
+		this.responseType = responseType;
+		this.headers = headers;
+		this.hashCode = Objects.hash(method, endpoint) * 31 + Arrays.hashCode(headers);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+
+		if (obj instanceof CoalescingKey) {
+			CoalescingKey that = (CoalescingKey) obj;
+
+			return hashCode == that.hashCode
+				&& method.equals(that.method)
+				&& endpoint.equals(that.endpoint)
+				&& responseType.equals(that.responseType)
+				&& Arrays.equals(headers, that.headers);
+
+		} else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return method + " " + endpoint + " " + Arrays.toString(headers);
+	}
+
+	static Optional<CoalescingKey> of(EndpointRequest endpointRequest) {
+		if (!IDEMPOTENT_METHODS.contains(endpointRequest.method())) return Optional.empty();
+
+		// a stream body can be read only once, so it cannot be handed to more than one caller
+		if (InputStream.class.isAssignableFrom(endpointRequest.responseType().classType())) return Optional.empty();
+
+		return endpointRequest.metadata().get(Coalesce.class)
+				.filter(Coalesce::enabled)
+					.map(coalesce -> of(endpointRequest, coalesce));
+	}
+
+	private static CoalescingKey of(EndpointRequest endpointRequest, Coalesce coalesce) {
+		String[] names = coalesce.headers();
+		String[] headers = new String[names.length + 1];
+
+		for (int i = 0; i < names.length; i++) {
+			Optional<Header> header = endpointRequest.headers().get(names[i]);
+			headers[i] = header.map(Header::value).orElse(null);
+		}
+
+		// the response of a request is never handed to callers with other credentials
+		headers[names.length] = endpointRequest.headers().get(Headers.AUTHORIZATION).map(Header::value).orElse(null);
+
+		return new CoalescingKey(endpointRequest.method(), endpointRequest.endpoint(), endpointRequest.responseType(), headers);
+	}
+}
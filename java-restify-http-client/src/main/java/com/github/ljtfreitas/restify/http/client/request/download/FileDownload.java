@@ -0,0 +1,550 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.download;
+
+import static com.github.ljtfreitas.restify.util.Preconditions.isTrue;
+import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.github.ljtfreitas.restify.http.client.HttpClientException;
+import com.github.ljtfreitas.restify.http.client.HttpException;
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.Range;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseInputStream;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.reflection.JavaType;
+import com.github.ljtfreitas.restify.util.async.DisposableExecutors;
+
+/**
+ * Writes a response body directly to a file, transferring it from the response channel with
+ * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}.
+ * <p>
+ * The file is the request {@link EndpointRequest#destination() destination}, or a temporary file when the request
+ * doesn't have one; the response is a {@link Path} or a {@link FileChannel} opened for reading (a temporary file is
+ * deleted when this channel is closed).
+ * <p>
+ * When a GET download fails, it's resumed from the last written byte with a {@code Range} request, up to
+ * {@code attempts} times. In segmented mode ({@code segments} greater than one), the size of the content and the
+ * support for ranges are checked with a HEAD request, and the content is fetched with parallel {@code Range} requests
+ * written to their positions in the pre-sized file; each segment is resumed independently. Contents smaller than
+ * two segments, or servers that don't accept byte ranges, are downloaded with a single request.
+ * <p>
+ * {@code Range} requests carry an {@code If-Range} header with the validator ({@code ETag} or {@code Last-Modified}) of
+ * the first response (or of the HEAD request), so bytes of a changed resource are never spliced into the file: a
+ * resumed download starts over, and a segmented download fails. The {@code Content-Range} of each partial response
+ * must match the requested range; otherwise, the segment is restarted.
+ */
+public class FileDownload {
+
+	private static final long TRANSFER_SIZE = 1024 * 1024;
+
+	private static final JavaType STREAM_TYPE = JavaType.of(HttpResponseInputStream.class);
+	private static final JavaType VOID_TYPE = JavaType.of(void.class);
+
+	private final int segments;
+	private final long segmentSize;
+	private final int attempts;
+	private final Executor executor;
+
+	private FileDownload(int segments, long segmentSize, int attempts, Executor executor) {
+		this.segments = segments;
+		this.segmentSize = segmentSize;
+		this.attempts = attempts;
+		this.executor = executor;
+	}
+
+	public static boolean supports(EndpointRequest endpointRequest) {
+		JavaType responseType = endpointRequest.responseType();
+		return endpointRequest.destination().isPresent() || responseType.is(Path.class) || responseType.is(FileChannel.class);
+	}
+
+	public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest, EndpointRequestExecutor endpointRequestExecutor) {
+		Path destination = null;
+		boolean temporary = !endpointRequest.destination().isPresent();
+
+		try {
+			destination = temporary ? Files.createTempFile("restify-", ".download") : endpointRequest.destination().get();
+
+			EndpointResponse<Void> response = download(endpointRequest, destination, endpointRequestExecutor);
+
+			return responseOf(endpointRequest, response, destination, temporary);
+
+		} catch (IOException e) {
+			HttpClientException exception = new HttpClientException("I/O error on download of [" + endpointRequest.method() + " " +
+					endpointRequest.endpoint() + "] to [" + destination + "]", e);
+			delete(destination, temporary, exception);
+			throw exception;
+
+		} catch (RuntimeException e) {
+			delete(destination, temporary, e);
+			throw e;
+		}
+	}
+
+	private void delete(Path destination, boolean temporary, Exception cause) {
+		if (temporary && destination != null) {
+			try {
+				Files.deleteIfExists(destination);
+			} catch (IOException e) {
+				cause.addSuppressed(e);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> EndpointResponse<T> responseOf(EndpointRequest endpointRequest, EndpointResponse<Void> response, Path destination,
+			boolean temporary) throws IOException {
+
+		JavaType responseType = endpointRequest.responseType();
+
+		Object body = responseType.is(FileChannel.class) ? open(destination, temporary) :
+			responseType.is(Path.class) ? destination :
+				null;
+
+		return EndpointResponse.of(response.status(), (T) body, response.headers());
+	}
+
+	private FileChannel open(Path destination, boolean temporary) throws IOException {
+		return temporary ?
+				FileChannel.open(destination, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE) :
+					FileChannel.open(destination, StandardOpenOption.READ);
+	}
+
+	private EndpointResponse<Void> download(EndpointRequest endpointRequest, Path destination,
+			EndpointRequestExecutor endpointRequestExecutor) throws IOException {
+
+		if (segments > 1 && resumable(endpointRequest)) {
+			Optional<EndpointResponse<Void>> probe = probe(endpointRequest, endpointRequestExecutor);
+
+			Optional<Long> length = probe.flatMap(this::rangeableLength);
+
+			if (length.isPresent() && length.get() >= segmentSize * 2) {
+				Resource resource = new Resource(length.get());
+				resource.validate(probe.get());
+
+				return segmented(endpointRequest, destination, resource, probe.get(), endpointRequestExecutor);
+			}
+		}
+
+		return single(endpointRequest, destination, endpointRequestExecutor);
+	}
+
+	private boolean resumable(EndpointRequest endpointRequest) {
+		return "GET".equalsIgnoreCase(endpointRequest.method());
+	}
+
+	private Optional<EndpointResponse<Void>> probe(EndpointRequest endpointRequest, EndpointRequestExecutor endpointRequestExecutor) {
+		EndpointRequest head = new EndpointRequest(endpointRequest.endpoint(), "HEAD", endpointRequest.headers(), null, VOID_TYPE,
+				endpointRequest.version().orElse(null), endpointRequest.metadata());
+		try {
+			return Optional.of(endpointRequestExecutor.execute(head));
+
+		} catch (HttpException e) {
+			return Optional.empty();
+		}
+	}
+
+	private Optional<Long> rangeableLength(EndpointResponse<Void> response) {
+		boolean ranges = response.headers().get(Headers.ACCEPT_RANGES)
+				.map(Header::value)
+					.filter("bytes"::equalsIgnoreCase)
+						.isPresent();
+
+		return ranges ? contentLengthOf(response) : Optional.empty();
+	}
+
+	private Optional<Long> contentLengthOf(EndpointResponse<?> response) {
+		try {
+			return response.headers().get(Headers.CONTENT_LENGTH).map(Header::value).map(String::trim).map(Long::valueOf);
+		} catch (NumberFormatException e) {
+			return Optional.empty();
+		}
+	}
+
+	private EndpointResponse<Void> single(EndpointRequest endpointRequest, Path destination,
+			EndpointRequestExecutor endpointRequestExecutor) throws IOException {
+
+		try (FileChannel file = FileChannel.open(destination, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			Segment segment = new Segment(new Resource(-1), 0, -1);
+
+			EndpointResponse<Void> response = fetch(endpointRequest, segment, file, endpointRequestExecutor);
+
+			file.truncate(segment.position);
+
+			return response;
+		}
+	}
+
+	private EndpointResponse<Void> segmented(EndpointRequest endpointRequest, Path destination, Resource resource,
+			EndpointResponse<Void> probe, EndpointRequestExecutor endpointRequestExecutor) throws IOException {
+
+		long length = resource.length;
+
+		try (FileChannel file = FileChannel.open(destination, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			file.write(ByteBuffer.allocate(1), length - 1);
+
+			List<CompletableFuture<EndpointResponse<Void>>> futures = new ArrayList<>();
+
+			for (Segment segment : segmentsOf(resource)) {
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return fetch(endpointRequest, segment, file, endpointRequestExecutor);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}, executor));
+			}
+
+			try {
+				CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).join();
+
+			} catch (CompletionException e) {
+				Throwable cause = e.getCause();
+
+				if (cause instanceof UncheckedIOException) throw ((UncheckedIOException) cause).getCause();
+				else if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+				else throw e;
+			}
+
+			return EndpointResponse.empty(probe.status(), probe.headers());
+		}
+	}
+
+	private List<Segment> segmentsOf(Resource resource) {
+		long length = resource.length;
+
+		int count = (int) Math.min(segments, length / segmentSize);
+
+		long size = (length + count - 1) / count;
+
+		List<Segment> segments = new ArrayList<>(count);
+
+		for (long start = 0; start < length; start += size) {
+			segments.add(new Segment(resource, start, Math.min(length, start + size) - 1));
+		}
+
+		return segments;
+	}
+
+	private EndpointResponse<Void> fetch(EndpointRequest endpointRequest, Segment segment, FileChannel file,
+			EndpointRequestExecutor endpointRequestExecutor) throws IOException {
+
+		int attempts = resumable(endpointRequest) ? this.attempts : 1;
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return transfer(endpointRequest, segment, file, endpointRequestExecutor);
+
+			} catch (IOException | HttpClientException e) {
+				if (attempt >= attempts) throw e;
+			}
+		}
+	}
+
+	private EndpointResponse<Void> transfer(EndpointRequest endpointRequest, Segment segment, FileChannel file,
+			EndpointRequestExecutor endpointRequestExecutor) throws IOException {
+
+		EndpointResponse<InputStream> response = endpointRequestExecutor.execute(segment.requestOf(endpointRequest));
+
+		try (InputStream stream = response.body()) {
+			if (!response.status().isPartialContent()) {
+				if (segment.bounded()) {
+					throw new HttpException("The server ignored the range [" + segment + "] of the request [" +
+							endpointRequest.method() + " " + endpointRequest.endpoint() + "], or the resource changed since the " +
+							"download started.");
+				}
+
+				segment.restart();
+				segment.resource.validate(response);
+
+				segment.expect(contentLengthOf(response));
+
+			} else {
+				Optional<ContentRange> range = response.headers().get(Headers.CONTENT_RANGE).map(Header::value).flatMap(ContentRange::of);
+
+				if (!range.isPresent() || !segment.accepts(range.get())) {
+					String expected = segment.toString();
+
+					segment.restart();
+
+					throw new IOException("The Content-Range [" + range.map(ContentRange::toString).orElse("") + "] of the response " +
+							"doesn't match the range [" + expected + "] of the request [" + endpointRequest.method() + " " +
+							endpointRequest.endpoint() + "].");
+				}
+
+				segment.expect(range.get());
+			}
+
+			if (stream != null) {
+				segment.write(stream, file);
+			}
+		}
+
+		if (!segment.complete()) {
+			throw new IOException("Premature end of the response body of [" + endpointRequest.method() + " " +
+					endpointRequest.endpoint() + "] at byte " + segment.position + ".");
+		}
+
+		return EndpointResponse.empty(response.status(), response.headers());
+	}
+
+	private static class Resource {
+
+		private final long length;
+
+		// set by the HEAD request before the segments are fetched, or by the full responses of a single (one thread) download
+		private String validator;
+
+		private Resource(long length) {
+			this.length = length;
+		}
+
+		private void validate(EndpointResponse<?> response) {
+			// weak entity tags can't be used on If-Range
+			this.validator = response.headers().get(Headers.ETAG).map(Header::value).filter(e -> !e.startsWith("W/"))
+					.orElseGet(() -> response.headers().get(Headers.LAST_MODIFIED).map(Header::value).orElse(null));
+		}
+	}
+
+	private static class ContentRange {
+
+		private final long start;
+		private final long end;
+		private final long length;
+
+		private ContentRange(long start, long end, long length) {
+			this.start = start;
+			this.end = end;
+			this.length = length;
+		}
+
+		private static Optional<ContentRange> of(String value) {
+			String[] parts = value.trim().split("[ \\-/]");
+
+			if (parts.length != 4 || !"bytes".equalsIgnoreCase(parts[0])) return Optional.empty();
+
+			try {
+				return Optional.of(new ContentRange(Long.parseLong(parts[1]), Long.parseLong(parts[2]),
+						"*".equals(parts[3]) ? -1 : Long.parseLong(parts[3])));
+
+			} catch (NumberFormatException e) {
+				return Optional.empty();
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "bytes " + start + "-" + end + "/" + (length < 0 ? "*" : Long.toString(length));
+		}
+	}
+
+	private class Segment {
+
+		private final Resource resource;
+		private final long start;
+		private final long end;
+
+		private long position;
+		private long expected = -1;
+
+		private Segment(Resource resource, long start, long end) {
+			this.resource = resource;
+			this.start = start;
+			this.end = end;
+			this.position = start;
+		}
+
+		private boolean bounded() {
+			return end >= 0;
+		}
+
+		private boolean ranged() {
+			return bounded() || position > start;
+		}
+
+		private void restart() {
+			position = start;
+		}
+
+		private void expect(Optional<Long> length) {
+			expected = bounded() ? end : length.map(l -> position + l - 1).orElse(-1L);
+		}
+
+		private void expect(ContentRange range) {
+			expected = range.end;
+		}
+
+		private boolean accepts(ContentRange range) {
+			return range.start == position && (!bounded() || range.end == end) && range.end >= range.start
+					&& (resource.length < 0 || range.length < 0 || range.length == resource.length);
+		}
+
+		private boolean complete() {
+			return expected < 0 || position > expected;
+		}
+
+		private EndpointRequest requestOf(EndpointRequest source) {
+			Headers headers = source.headers();
+
+			if (ranged()) {
+				headers = headers.replace(Header.range(bounded() ? Range.bytes(position, end) : Range.bytes(position)));
+
+				if (resource.validator != null) {
+					headers = headers.replace(Header.of(Headers.IF_RANGE, resource.validator));
+				}
+			}
+
+			return new EndpointRequest(source.endpoint(), source.method(), headers, source.body().orElse(null), STREAM_TYPE,
+					source.version().orElse(null), source.metadata());
+		}
+
+		private void write(InputStream stream, FileChannel file) throws IOException {
+			SegmentChannel channel = new SegmentChannel(stream instanceof HttpResponseInputStream ?
+					((HttpResponseInputStream) stream).channel() :
+						Channels.newChannel(stream));
+
+			long transferred;
+
+			do {
+				long count = bounded() ? Math.min(TRANSFER_SIZE, end + 1 - position) : TRANSFER_SIZE;
+
+				if (count == 0) break;
+
+				long start = position;
+
+				transferred = file.transferFrom(channel, start, count);
+
+				channel.pending = 0;
+				position = start + transferred;
+
+			} while (transferred > 0);
+		}
+
+		/**
+		 * Keeps the segment position on the last byte written to the file, also when the transfer fails: the bytes of a read
+		 * are written before the next read, so they are counted when the next read starts.
+		 */
+		private class SegmentChannel implements ReadableByteChannel {
+
+			private final ReadableByteChannel source;
+			private long pending = 0;
+
+			private SegmentChannel(ReadableByteChannel source) {
+				this.source = source;
+			}
+
+			@Override
+			public int read(ByteBuffer destination) throws IOException {
+				position += pending;
+				pending = 0;
+
+				int read = source.read(destination);
+				if (read > 0) pending = read;
+
+				return read;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return source.isOpen();
+			}
+
+			@Override
+			public void close() throws IOException {
+				source.close();
+			}
+		}
+
+		@Override
+		public String toString() {
+			return bounded() ? Range.bytes(position, end).toString() : Range.bytes(position).toString();
+		}
+	}
+
+	public static class Builder {
+
+		private int segments = 1;
+		private long segmentSize = 1024 * 1024;
+		private int attempts = 3;
+		private Executor executor;
+
+		public Builder segments(int segments) {
+			isTrue(segments > 0, "Download segments must be greater than zero.");
+			this.segments = segments;
+			return this;
+		}
+
+		public Builder segmentSize(long segmentSize) {
+			isTrue(segmentSize > 0, "Download segment size must be greater than zero.");
+			this.segmentSize = segmentSize;
+			return this;
+		}
+
+		public Builder attempts(int attempts) {
+			isTrue(attempts > 0, "Download attempts must be greater than zero.");
+			this.attempts = attempts;
+			return this;
+		}
+
+		public Builder executor(Executor executor) {
+			this.executor = nonNull(executor, "Download executor cannot be null.");
+			return this;
+		}
+
+		public FileDownload build() {
+			return new FileDownload(segments, segmentSize, attempts, executor == null ? DefaultExecutorHolder.EXECUTOR : executor);
+		}
+	}
+
+	private static class DefaultExecutorHolder {
+
+		private static final Executor EXECUTOR = DisposableExecutors.newCachedThreadPool();
+
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.download;
+
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+
+/**
+ * Runs file downloads with {@link FileDownload}, and any other request with the delegate.
+ * <p>
+ * Download requests may be sent through a different executor: each one writes a live stream to its own destination,
+ * so it should not go through layers that share or replay responses (like caching or request coalescing).
+ */
+public class FileDownloadEndpointRequestExecutor implements EndpointRequestExecutor {
+
+	private final EndpointRequestExecutor delegate;
+	private final EndpointRequestExecutor downloadExecutor;
+	private final FileDownload fileDownload;
+
+	public FileDownloadEndpointRequestExecutor(EndpointRequestExecutor delegate) {
+		this(delegate, new FileDownload.Builder().build());
+	}
+
+	public FileDownloadEndpointRequestExecutor(EndpointRequestExecutor delegate, FileDownload fileDownload) {
+		this(delegate, delegate, fileDownload);
+	}
+
+	public FileDownloadEndpointRequestExecutor(EndpointRequestExecutor delegate, EndpointRequestExecutor downloadExecutor,
+			FileDownload fileDownload) {
+		this.delegate = delegate;
+		this.downloadExecutor = downloadExecutor;
+		this.fileDownload = fileDownload;
+	}
+
+	@Override
+	public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
+		return FileDownload.supports(endpointRequest) ?
+				fileDownload.execute(endpointRequest, downloadExecutor) :
+					delegate.execute(endpointRequest);
+	}
+}
@@ -27,6 +27,10 @@ package com.github.ljtfreitas.restify.http.client.request.interceptor;
 
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 
+/**
+ * Changes a request before it is executed. In a chain, the given request is a mutable view (see
+ * {@link EndpointRequest#mutable()}), so header changes made by an interceptor are also seen through the given request.
+ */
 public interface EndpointRequestInterceptor {
 
 	public EndpointRequest intercepts(EndpointRequest endpointRequest);
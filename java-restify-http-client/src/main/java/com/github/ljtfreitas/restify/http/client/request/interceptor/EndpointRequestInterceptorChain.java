@@ -39,6 +39,6 @@ public class EndpointRequestInterceptorChain {
 	}
 
 	public EndpointRequest apply(EndpointRequest endpointRequest) {
-		return interceptors.stream().reduce(endpointRequest, (r, i) -> i.intercepts(r), (a, b) -> b);
+		return interceptors.stream().reduce(endpointRequest.mutable(), (r, i) -> i.intercepts(r), (a, b) -> b).freeze();
 	}
 }
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.timing;
+
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+
+/**
+ * Times the phases of a single request. The HTTP executors only deal with this type, so the {@link EndpointMethod}
+ * class (from java-restify-contract) is not required when timing is disabled.
+ */
+public class EndpointRequestTimer {
+
+	private static final EndpointRequestTimer NONE = new EndpointRequestTimer(null, null);
+
+	private final EndpointRequestTiming timing;
+	private final EndpointMethod endpointMethod;
+
+	EndpointRequestTimer(EndpointRequestTiming timing, EndpointMethod endpointMethod) {
+		this.timing = timing;
+		this.endpointMethod = endpointMethod;
+	}
+
+	public boolean enabled() {
+		return timing != null;
+	}
+
+	public long start() {
+		return timing == null ? 0 : System.nanoTime();
+	}
+
+	public void end(EndpointRequestPhase phase, long startNanos) {
+		if (timing != null) {
+			timing.end(endpointMethod, phase, startNanos);
+		}
+	}
+
+	public static EndpointRequestTimer none() {
+		return NONE;
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.timing;
+
+import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+
+public class EndpointRequestTiming {
+
+	private static final EndpointRequestTiming NONE = new EndpointRequestTiming(new EndpointRequestTimingListener[0]);
+
+	private final EndpointRequestTimingListener[] listeners;
+	private final boolean enabled;
+
+	private EndpointRequestTiming(EndpointRequestTimingListener[] listeners) {
+		this.listeners = listeners;
+		this.enabled = listeners.length > 0;
+	}
+
+	public boolean enabled() {
+		return enabled;
+	}
+
+	public long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	public void end(EndpointMethod endpointMethod, EndpointRequestPhase phase, long startNanos) {
+		if (enabled && endpointMethod != null) {
+			long endNanos = System.nanoTime();
+			for (int i = 0; i < listeners.length; i++) {
+				listeners[i].onPhase(endpointMethod, phase, startNanos, endNanos);
+			}
+		}
+	}
+
+	public EndpointRequestTimer timerOf(EndpointRequest endpointRequest) {
+		if (!enabled || endpointRequest.metadata() == null) {
+			return EndpointRequestTimer.none();
+		}
+
+		return endpointRequest.metadata().endpointMethod()
+				.map(endpointMethod -> new EndpointRequestTimer(this, endpointMethod))
+					.orElseGet(EndpointRequestTimer::none);
+	}
+
+	@Override
+	public String toString() {
+		return "EndpointRequestTiming: " + Arrays.toString(listeners);
+	}
+
+	public static EndpointRequestTiming none() {
+		return NONE;
+	}
+
+	public static EndpointRequestTiming of(EndpointRequestTimingListener... listeners) {
+		return of(Arrays.asList(listeners));
+	}
+
+	public static EndpointRequestTiming of(Collection<EndpointRequestTimingListener> listeners) {
+		nonNull(listeners, "Timing listeners cannot be null.");
+		return listeners.isEmpty() ? NONE : new EndpointRequestTiming(listeners.toArray(new EndpointRequestTimingListener[0]));
+	}
+}
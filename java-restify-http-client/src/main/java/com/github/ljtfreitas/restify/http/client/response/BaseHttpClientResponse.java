@@ -46,9 +46,15 @@ public abstract class BaseHttpClientResponse implements HttpClientResponse {
 
 	protected BaseHttpClientResponse(StatusCode status, Headers headers, InputStream body,
 			HttpRequestMessage httpRequest) {
+		this(status, headers, httpRequest,
+				Optional.ofNullable(body).map(InputStreamHttpResponseBody::new).orElseGet(InputStreamHttpResponseBody::empty));
+	}
+
+	protected BaseHttpClientResponse(StatusCode status, Headers headers, HttpRequestMessage httpRequest,
+			HttpResponseBody body) {
 		this.status = status;
 		this.headers = headers;
-		this.body = Optional.ofNullable(body).map(InputStreamHttpResponseBody::new).orElseGet(InputStreamHttpResponseBody::empty);
+		this.body = Optional.ofNullable(body).orElseGet(InputStreamHttpResponseBody::empty);
 		this.httpRequest = httpRequest;
 	}
 
@@ -30,7 +30,15 @@ import com.github.ljtfreitas.restify.reflection.JavaType;
 
 public class DefaultEndpointResponseErrorFallback implements EndpointResponseErrorFallback {
 
-	private final EndpointResponseExceptionFactory endpointResponseExceptionFactory = new EndpointResponseExceptionFactory();
+	private final EndpointResponseExceptionFactory endpointResponseExceptionFactory;
+
+	public DefaultEndpointResponseErrorFallback() {
+		this(new EndpointResponseExceptionFactory());
+	}
+
+	public DefaultEndpointResponseErrorFallback(EndpointResponseExceptionFactory endpointResponseExceptionFactory) {
+		this.endpointResponseExceptionFactory = endpointResponseExceptionFactory;
+	}
 
 	@Override
 	public <T> EndpointResponse<T> onError(HttpResponseMessage response, JavaType responseType) {
@@ -25,6 +25,10 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.response;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+
 import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageReadException;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
@@ -35,16 +39,45 @@ public class EndpointResponseException extends HttpMessageReadException {
 
 	private final EndpointResponse<String> response;
 
+	private transient volatile Supplier<String> messageSupplier;
+	private volatile String message;
+
 	public EndpointResponseException(String message, EndpointResponse<String> response) {
 		super(message);
+		this.message = message;
 		this.response = response;
 	}
 
 	public EndpointResponseException(String message, StatusCode statusCode, Headers headers, String body) {
-		super(message);
+		this(message, EndpointResponse.of(statusCode, body, headers));
+	}
+
+	/**
+	 * The message is only built when it's requested (by {@link #getMessage()}, a log or a stack trace).
+	 */
+	public EndpointResponseException(Supplier<String> message, StatusCode statusCode, Headers headers, String body) {
+		super((String) null);
+		this.messageSupplier = message;
 		this.response = EndpointResponse.of(statusCode, body, headers);
 	}
 
+	@Override
+	public String getMessage() {
+		String message = this.message;
+		if (message == null) {
+			synchronized (this) {
+				message = this.message;
+				Supplier<String> supplier = messageSupplier;
+				if (message == null && supplier != null) {
+					message = supplier.get();
+					this.message = message;
+					messageSupplier = null;
+				}
+			}
+		}
+		return message;
+	}
+
 	public StatusCode status() {
 		return response.status();
 	}
@@ -60,4 +93,9 @@ public class EndpointResponseException extends HttpMessageReadException {
 	public EndpointResponse<String> response() {
 		return response;
 	}
+
+	private void writeObject(ObjectOutputStream output) throws IOException {
+		getMessage();
+		output.defaultWriteObject();
+	}
 }
@@ -25,51 +25,75 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.response;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import com.github.ljtfreitas.restify.http.client.message.ContentType;
 import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageReader;
 import com.github.ljtfreitas.restify.http.client.message.converter.text.StringMessageConverter;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.BufferedHttpResponseBody;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 
 public class EndpointResponseExceptionFactory {
 
+	public static final int DEFAULT_BODY_LIMIT = 1024 * 64;
+
 	private static final HttpMessageReader<String> TEXT_ERROR_RESPONSE_MESSAGE_CONVERTER = new SimpleStringMessageConverter();
 
-	public EndpointResponseException create(HttpResponseMessage response) {
-		String bodyAsString = TEXT_ERROR_RESPONSE_MESSAGE_CONVERTER.read(response, String.class);
+	private final int bodyLimit;
+	private final Predicate<StatusCode> withoutBody;
 
-		String responseBody = (bodyAsString != null && !bodyAsString.isEmpty()) ? bodyAsString : "(empty)";
+	public EndpointResponseExceptionFactory() {
+		this(DEFAULT_BODY_LIMIT);
+	}
 
-		String message = new StringBuilder()
-				.append("HTTP request: ")
-					.append("[")
-						.append(Optional.ofNullable(response.request()).map(HttpRequestMessage::method).orElse(""))
-							.append(" ")
-							.append(Optional.ofNullable(response.request()).map(HttpRequestMessage::uri).map(URI::toString).orElse(""))
-					.append("]")
-					.append("\n")
-				.append("HTTP response: ")
-					.append("[")
-						.append(response.status())
-					.append("]")
-						.append("\n")
-					.append("Headers: ")
-						.append("[")
-							.append(response.headers())
-						.append("]")
-					.append("\n")
-				.append(responseBody)
-			.toString();
+	/**
+	 * @param bodyLimit maximum number of bytes of the response body kept in the exception; the remaining content is discarded
+	 */
+	public EndpointResponseExceptionFactory(int bodyLimit) {
+		this(bodyLimit, status -> false);
+	}
+
+	/**
+	 * @param bodyLimit maximum number of bytes of the response body kept in the exception; the remaining content is discarded
+	 * @param withoutBody statuses whose body is not read at all (for example, statuses that will be retried or handled by a fallback)
+	 */
+	public EndpointResponseExceptionFactory(int bodyLimit, Predicate<StatusCode> withoutBody) {
+		if (bodyLimit < 0) {
+			throw new IllegalArgumentException("Body limit cannot be negative.");
+		}
+		if (withoutBody == null) {
+			throw new IllegalArgumentException("Predicate of statuses without body cannot be null.");
+		}
+		this.bodyLimit = bodyLimit;
+		this.withoutBody = withoutBody;
+	}
 
+	public EndpointResponseException create(HttpResponseMessage response) {
 		StatusCode statusCode = response.status();
 		Headers headers = response.headers();
 
+		boolean captured = !withoutBody.test(statusCode);
+
+		String bodyAsString = captured ? read(response) : "";
+
+		Optional<HttpRequestMessage> request = Optional.ofNullable(response.request());
+		String method = request.map(HttpRequestMessage::method).orElse("");
+		String uri = request.map(HttpRequestMessage::uri).map(URI::toString).orElse("");
+
+		Supplier<String> message = () -> message(method, uri, statusCode, headers, captured ? bodyAsString : null);
+
 		if (statusCode.isBadRequest()) {
 			return onBadRequest(message, headers, bodyAsString);
 
@@ -144,102 +168,247 @@ public class EndpointResponseExceptionFactory {
 		}
 	}
 
-	private EndpointResponseBadRequestException onBadRequest(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseBadRequestException onBadRequest(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseBadRequestException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseUnauthorizedException onUnauthorized(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseUnauthorizedException onUnauthorized(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseUnauthorizedException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseForbiddenException onForbidden(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseForbiddenException onForbidden(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseForbiddenException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseNotFoundException onNotFound(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseNotFoundException onNotFound(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseNotFoundException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseMethodNotAllowedException onMethodNotAllowed(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseMethodNotAllowedException onMethodNotAllowed(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseMethodNotAllowedException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseNotAcceptableException onNotAcceptable(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseNotAcceptableException onNotAcceptable(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseNotAcceptableException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseProxyAuthenticationRequiredException onProxyAuthenticationRequired(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseProxyAuthenticationRequiredException onProxyAuthenticationRequired(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseProxyAuthenticationRequiredException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseRequestTimeoutException onRequestTimeout(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseRequestTimeoutException onRequestTimeout(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseRequestTimeoutException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseConflictException onConflict(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseConflictException onConflict(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseConflictException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseGoneException onGone(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseGoneException onGone(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseGoneException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseLengthRequiredException onLengthRequired(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseLengthRequiredException onLengthRequired(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseLengthRequiredException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponsePreconditionFailedException onPreconditionFailed(String message, Headers headers, String bodyAsString) {
+	private EndpointResponsePreconditionFailedException onPreconditionFailed(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponsePreconditionFailedException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseRequestEntityTooLargeException onRequestEntityTooLarge(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseRequestEntityTooLargeException onRequestEntityTooLarge(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseRequestEntityTooLargeException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseRequestUriTooLongException onRequestUriTooLong(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseRequestUriTooLongException onRequestUriTooLong(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseRequestUriTooLongException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseUnsupportedMediaTypeException onUnsupportedMediaType(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseUnsupportedMediaTypeException onUnsupportedMediaType(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseUnsupportedMediaTypeException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseRequestedRangeNotSatisfiableException onRequestedRangeNotSatisfiable(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseRequestedRangeNotSatisfiableException onRequestedRangeNotSatisfiable(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseRequestedRangeNotSatisfiableException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseExpectationFailedException onExpectationFailed(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseExpectationFailedException onExpectationFailed(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseExpectationFailedException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseInternalServerErrorException onInternalServerError(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseInternalServerErrorException onInternalServerError(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseInternalServerErrorException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseNotImplementedException onNotImplemented(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseNotImplementedException onNotImplemented(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseNotImplementedException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseBadGatewayException onBadGateway(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseBadGatewayException onBadGateway(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseBadGatewayException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseServiceUnavailableException onServiceUnavailable(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseServiceUnavailableException onServiceUnavailable(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseServiceUnavailableException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseGatewayTimeoutException onGatewayTimeout(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseGatewayTimeoutException onGatewayTimeout(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseGatewayTimeoutException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseHttpVersionNotSupportedException onHttpVersionNotSupported(String message, Headers headers, String bodyAsString) {
+	private EndpointResponseHttpVersionNotSupportedException onHttpVersionNotSupported(Supplier<String> message, Headers headers, String bodyAsString) {
 		return new EndpointResponseHttpVersionNotSupportedException(message, headers, bodyAsString);
 	}
 
-	private EndpointResponseException unhandled(String message, StatusCode statusCode, Headers headers, String bodyAsString) {
+	private EndpointResponseException unhandled(Supplier<String> message, StatusCode statusCode, Headers headers, String bodyAsString) {
 		return new EndpointResponseException(message, statusCode, headers, bodyAsString);
 	}
 
+	private String read(HttpResponseMessage response) {
+		return TEXT_ERROR_RESPONSE_MESSAGE_CONVERTER.read(new LimitedHttpResponseMessage(response, bodyLimit), String.class);
+	}
+
+	private static String message(String method, String uri, StatusCode statusCode, Headers headers, String bodyAsString) {
+		String responseBody = bodyAsString == null ? "(not captured)" : bodyAsString.isEmpty() ? "(empty)" : bodyAsString;
+
+		return new StringBuilder()
+				.append("HTTP request: ")
+					.append("[")
+						.append(method)
+							.append(" ")
+							.append(uri)
+					.append("]")
+					.append("\n")
+				.append("HTTP response: ")
+					.append("[")
+						.append(statusCode)
+					.append("]")
+						.append("\n")
+					.append("Headers: ")
+						.append("[")
+							.append(headers)
+						.append("]")
+					.append("\n")
+				.append(responseBody)
+			.toString();
+	}
+
+	private static class LimitedHttpResponseMessage implements HttpResponseMessage {
+
+		private final HttpResponseMessage source;
+		private final int limit;
+
+		private LimitedHttpResponseMessage(HttpResponseMessage source, int limit) {
+			this.source = source;
+			this.limit = limit;
+		}
+
+		@Override
+		public Headers headers() {
+			return source.headers();
+		}
+
+		@Override
+		public StatusCode status() {
+			return source.status();
+		}
+
+		@Override
+		public HttpResponseBody body() {
+			HttpResponseBody body = source.body();
+
+			if (body instanceof BufferedHttpResponseBody) {
+				BufferedHttpResponseBody buffered = (BufferedHttpResponseBody) body;
+				return (BufferedHttpResponseBody) () -> {
+					ByteBuffer buffer = buffered.buffer();
+					if (buffer.remaining() > limit) {
+						buffer.limit(buffer.position() + limit);
+					}
+					return buffer;
+				};
+			}
+
+			return new HttpResponseBody() {
+				@Override
+				public InputStream input() {
+					return new LimitedInputStream(body.input(), limit);
+				}
+
+				@Override
+				public long contentLength() {
+					long contentLength = body.contentLength();
+					return contentLength < 0 ? -1 : Math.min(contentLength, limit);
+				}
+			};
+		}
+
+		@Override
+		public boolean available() {
+			return source.available();
+		}
+
+		@Override
+		public HttpRequestMessage request() {
+			return source.request();
+		}
+
+		@Override
+		public void close() throws IOException {
+			source.close();
+		}
+	}
+
+	private static class LimitedInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		private LimitedInputStream(InputStream source, long limit) {
+			super(source);
+			this.remaining = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int next = super.read();
+			if (next != -1) {
+				remaining--;
+			}
+			return next;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int count = super.read(b, off, (int) Math.min(len, remaining));
+			if (count > 0) {
+				remaining -= count;
+			}
+			return count;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(Math.min(n, remaining));
+			remaining -= skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), remaining);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
+
 	private static class SimpleStringMessageConverter extends StringMessageConverter {
 
 		@Override
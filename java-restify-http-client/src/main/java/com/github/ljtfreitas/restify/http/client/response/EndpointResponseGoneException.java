@@ -25,6 +25,8 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.response;
 
+import java.util.function.Supplier;
+
 import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 
@@ -36,4 +38,8 @@ public class EndpointResponseGoneException extends EndpointResponseException {
 		super(message, StatusCode.gone(), headers, body);
 	}
 
+	public EndpointResponseGoneException(Supplier<String> message, Headers headers, String body) {
+		super(message, StatusCode.gone(), headers, body);
+	}
+
 }
@@ -25,6 +25,8 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.response;
 
+import java.util.function.Supplier;
+
 import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 
@@ -36,4 +38,8 @@ public class EndpointResponseNotAcceptableException extends EndpointResponseExce
 		super(message, StatusCode.notAcceptable(), headers, body);
 	}
 
+	public EndpointResponseNotAcceptableException(Supplier<String> message, Headers headers, String body) {
+		super(message, StatusCode.notAcceptable(), headers, body);
+	}
+
 }
@@ -34,6 +34,7 @@ import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageConverters;
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageReadException;
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageReader;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseInputStream;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 import com.github.ljtfreitas.restify.reflection.JavaType;
@@ -101,7 +102,10 @@ public class EndpointResponseReader {
 
 			try {
 				T responseObject = (T) converter.read(response, responseType);
-				response.body().input().close();
+
+				if (!(responseObject instanceof HttpResponseInputStream)) {
+					response.body().input().close();
+				}
 
 				return EndpointResponse.of(response.status(), responseObject, response.headers());
 
@@ -25,6 +25,8 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.response;
 
+import java.util.function.Supplier;
+
 import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 
@@ -36,4 +38,8 @@ public class EndpointResponseRequestEntityTooLargeException extends EndpointResp
 		super(message, StatusCode.requestEntityTooLarge(), headers, body);
 	}
 
+	public EndpointResponseRequestEntityTooLargeException(Supplier<String> message, Headers headers, String body) {
+		super(message, StatusCode.requestEntityTooLarge(), headers, body);
+	}
+
 }
@@ -14,6 +14,8 @@ import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
@@ -24,6 +26,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.mockserver.client.server.MockServerClient;
 import org.mockserver.junit.MockServerRule;
 import org.mockserver.model.HttpRequest;
@@ -32,7 +35,9 @@ import org.mockserver.socket.SSLFactory;
 import com.github.ljtfreitas.restify.http.client.HttpClientException;
 import com.github.ljtfreitas.restify.http.client.message.Header;
 import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
 import com.github.ljtfreitas.restify.http.client.message.io.InputStreamContent;
+import com.github.ljtfreitas.restify.http.client.message.request.TransferableHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
@@ -48,6 +53,9 @@ public class JdkHttpClientRequestFactoryTest {
 	@Rule
 	public ExpectedException expectedException = ExpectedException.none();
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	private MockServerClient mockServerClient;
 
 	private JdkHttpClientRequestFactory jdkHttpClientRequestFactory;
@@ -397,4 +405,89 @@ public class JdkHttpClientRequestFactoryTest {
 		assertEquals("text/plain", response.headers().get("Content-Type").get().value());
 		assertEquals(StatusCode.ok(), response.status());
 	}
+
+	@Test
+	public void shouldSendFileRequestBody() throws Exception {
+		Path file = largeFile();
+
+		HttpRequest httpRequest = request()
+			.withMethod("POST")
+			.withPath("/upload")
+			.withHeader("Content-Type", "application/octet-stream")
+			.withHeader("Content-Length", "1024")
+			.withBody(exact(new String(Files.readAllBytes(file))));
+
+		mockServerClient
+			.when(httpRequest)
+			.respond(response()
+				.withStatusCode(201)
+				.withHeader("Content-Type", "text/plain")
+				.withBody(exact("OK")));
+
+		// the connection is not kept alive; the streaming mode tests can't retry a request on a stale connection
+		EndpointRequest endpointRequest = new EndpointRequest(URI.create("http://localhost:7080/upload"), "POST",
+				new Headers(Header.contentType("application/octet-stream"), Header.of("Connection", "close")), file);
+
+		HttpClientRequest request = jdkHttpClientRequestFactory.createOf(endpointRequest);
+
+		((TransferableHttpRequestBody) request.body()).transferFrom(FileContent.of(file));
+
+		HttpResponseMessage response = request.execute();
+
+		assertEquals("OK", new InputStreamContent(response.body().input()).asString());
+		assertEquals(StatusCode.created(), response.status());
+
+		mockServerClient.verify(httpRequest, once());
+	}
+
+	@Test
+	public void shouldSendFileRequestBodyUsingStreamingMode() throws Exception {
+		HttpClientRequestConfiguration configuration = new HttpClientRequestConfiguration.Builder()
+				.bufferRequestBody()
+					.disabled()
+				.build();
+
+		jdkHttpClientRequestFactory = new JdkHttpClientRequestFactory(configuration);
+
+		Path file = largeFile();
+
+		HttpRequest httpRequest = request()
+			.withMethod("POST")
+			.withPath("/upload")
+			.withHeader("Content-Type", "application/octet-stream")
+			.withHeader("Content-Length", "1024")
+			.withBody(exact(new String(Files.readAllBytes(file))));
+
+		mockServerClient
+			.when(httpRequest)
+			.respond(response()
+				.withStatusCode(201)
+				.withHeader("Content-Type", "text/plain")
+				.withBody(exact("OK")));
+
+		// the connection is not kept alive; the streaming mode tests can't retry a request on a stale connection
+		EndpointRequest endpointRequest = new EndpointRequest(URI.create("http://localhost:7080/upload"), "POST",
+				new Headers(Header.contentType("application/octet-stream"), Header.of("Connection", "close")), file);
+
+		HttpClientRequest request = jdkHttpClientRequestFactory.createOf(endpointRequest);
+
+		((TransferableHttpRequestBody) request.body()).transferFrom(FileContent.of(file));
+
+		HttpResponseMessage response = request.execute();
+
+		assertEquals("OK", new InputStreamContent(response.body().input()).asString());
+		assertEquals(StatusCode.created(), response.status());
+
+		mockServerClient.verify(httpRequest, once());
+	}
+
+	private Path largeFile() throws IOException {
+		char[] chars = new char[1024]; // 1kb
+		Arrays.fill(chars, 'a');
+
+		Path file = folder.newFile().toPath();
+		Files.write(file, new String(chars).getBytes());
+
+		return file;
+	}
 }
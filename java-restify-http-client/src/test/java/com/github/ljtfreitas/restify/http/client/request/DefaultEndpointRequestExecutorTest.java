@@ -1,6 +1,8 @@
 package com.github.ljtfreitas.restify.http.client.request;
 
+import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -9,6 +11,9 @@ import static org.mockito.Mockito.when;
 import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -28,10 +33,13 @@ import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestBody
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestPhase;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestTiming;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponseException;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponseReader;
 import com.github.ljtfreitas.restify.http.client.response.HttpClientResponse;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 import com.github.ljtfreitas.restify.reflection.JavaType;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -103,6 +111,31 @@ public class DefaultEndpointRequestExecutorTest {
 		verify(endpointResponseReaderMock).read(response, JavaType.of(String.class));
 	}
 
+	@Test
+	public void shouldNotifyTimingListenerOfEachRequestPhase() throws Exception {
+		EndpointMethod endpointMethod = new EndpointMethod(Object.class.getMethod("toString"), "/path", "POST");
+
+		EndpointRequest endpointRequest = new EndpointRequest(new URI("http://my.api.com/path"), "POST", new Headers(),
+				"endpoint request body", JavaType.of(String.class), null,
+				new EndpointRequestMetadata(Collections.emptyList(), endpointMethod));
+
+		when(httpClientRequestFactoryMock.createOf(endpointRequest))
+			.thenReturn(new SimpleHttpClientRequest(endpointRequest, response));
+
+		List<EndpointRequestPhase> phases = new ArrayList<>();
+
+		DefaultEndpointRequestExecutor endpointRequestExecutor = new DefaultEndpointRequestExecutor(httpClientRequestFactoryMock,
+				endpointRequestWriterMock, endpointResponseReaderMock,
+				EndpointRequestTiming.of((m, phase, start, end) -> {
+					assertEquals(endpointMethod, m);
+					phases.add(phase);
+				}));
+
+		endpointRequestExecutor.execute(endpointRequest);
+
+		assertThat(phases, contains(EndpointRequestPhase.WRITE, EndpointRequestPhase.EXCHANGE, EndpointRequestPhase.READ));
+	}
+
 	private class SimpleHttpClientRequest implements HttpClientRequest {
 
 		private final EndpointRequest source;
@@ -2,6 +2,8 @@ package com.github.ljtfreitas.restify.http.client.request;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -46,11 +48,37 @@ public class EndpointRequestMetadataTest {
 		assertEquals("type", whatevers.get(1).value());
 	}
 
+	@Test
+	public void shouldPrecomputeTimeout() throws Exception {
+		EndpointMethodMetadata methodMetadata = EndpointMethodMetadata.of(MyType.class.getMethod("timeout"));
+
+		EndpointRequestMetadata endpointRequestMetadata = new EndpointRequestMetadata(methodMetadata.all());
+
+		assertTrue(endpointRequestMetadata.timeout().isPresent());
+		assertEquals(2000, endpointRequestMetadata.timeout().get().read());
+
+		assertSame(endpointRequestMetadata.timeout(), endpointRequestMetadata.timeout());
+		assertSame(endpointRequestMetadata.get(Whatever.class), endpointRequestMetadata.get(Whatever.class));
+	}
+
+	@Test
+	public void shouldReturnEmptyWhenAnnotationIsNotPresent() throws Exception {
+		EndpointRequestMetadata endpointRequestMetadata = EndpointRequestMetadata.empty();
+
+		assertFalse(endpointRequestMetadata.get(Whatever.class).isPresent());
+		assertFalse(endpointRequestMetadata.contains(Whatever.class));
+		assertTrue(endpointRequestMetadata.all(Whatever.class).isEmpty());
+		assertFalse(endpointRequestMetadata.timeout().isPresent());
+	}
+
 	@Whatever("type")
 	private interface MyType {
 
 		@Whatever("method")
 		String bla();
+
+		@Timeout(read = 2000)
+		String timeout();
 	}
 
 	@Target({ ElementType.TYPE, ElementType.METHOD })
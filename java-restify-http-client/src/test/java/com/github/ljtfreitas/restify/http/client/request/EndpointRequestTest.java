@@ -3,6 +3,7 @@ package com.github.ljtfreitas.restify.http.client.request;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 
@@ -68,4 +69,38 @@ public class EndpointRequestTest {
 		assertSame(endpointRequest.body().get(), newEndpointRequest.body().get());
 		assertSame(endpointRequest.responseType(), newEndpointRequest.responseType());
 	}
+
+	@Test
+	public void shouldChangeHeadersOfMutableViewInPlace() throws Exception {
+		EndpointRequest endpointRequest = new EndpointRequest(new URI("http://my.api.com/path"), "GET", new Headers(), "body", String.class);
+
+		EndpointRequest mutable = endpointRequest.mutable();
+
+		assertSame(mutable, mutable.add(Header.of("X-Custom", "sample")));
+		assertSame(mutable, mutable.replace(Header.of("X-Custom", "other")));
+
+		assertThat(mutable.headers(), hasItem(Header.of("X-Custom", "other")));
+		assertThat(mutable.headers(), not(hasItem(Header.of("X-Custom", "sample"))));
+		assertThat(endpointRequest.headers(), not(hasItem(Header.of("X-Custom", "other"))));
+	}
+
+	@Test
+	public void shouldFreezeMutableView() throws Exception {
+		EndpointRequest endpointRequest = new EndpointRequest(new URI("http://my.api.com/path"), "GET", new Headers(), "body", String.class);
+
+		EndpointRequest mutable = endpointRequest.mutable().add(Header.of("X-Custom", "sample"));
+
+		EndpointRequest frozen = mutable.freeze();
+
+		mutable.add(Header.of("X-Other", "other"));
+
+		assertThat(frozen.headers(), hasItem(Header.of("X-Custom", "sample")));
+		assertThat(frozen.headers(), not(hasItem(Header.of("X-Other", "other"))));
+
+		EndpointRequest changed = frozen.add(Header.of("X-Other", "other"));
+
+		assertNotSame(frozen, changed);
+		assertThat(frozen.headers(), not(hasItem(Header.of("X-Other", "other"))));
+		assertSame(frozen, frozen.freeze());
+	}
 }
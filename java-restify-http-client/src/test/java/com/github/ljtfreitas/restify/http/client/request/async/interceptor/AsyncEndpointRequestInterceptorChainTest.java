@@ -58,6 +58,6 @@ public class AsyncEndpointRequestInterceptorChainTest {
 
 		assertSame(request, intercepted.join());
 
-		verify(syncInterceptor).intercepts(request);
+		verify(syncInterceptor).intercepts(notNull(EndpointRequest.class));
 	}
 }
@@ -0,0 +1,123 @@
+package com.github.ljtfreitas.restify.http.client.request.coalescing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestMetadata;
+import com.github.ljtfreitas.restify.http.client.request.async.AsyncEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+
+public class AsyncCoalescingEndpointRequestExecutorTest {
+
+	private Collection<CompletableFuture<EndpointResponse<Object>>> executions;
+
+	private AsyncCoalescingEndpointRequestExecutor coalescingEndpointRequestExecutor;
+
+	@Before
+	public void setup() {
+		executions = new ArrayList<>();
+
+		AsyncEndpointRequestExecutor delegate = new AsyncEndpointRequestExecutor() {
+			@SuppressWarnings({ "unchecked", "rawtypes" })
+			@Override
+			public <T> CompletionStage<EndpointResponse<T>> executeAsync(EndpointRequest endpointRequest) {
+				CompletableFuture<EndpointResponse<Object>> future = new CompletableFuture<>();
+				executions.add(future);
+				return (CompletionStage) future;
+			}
+		};
+
+		coalescingEndpointRequestExecutor = new AsyncCoalescingEndpointRequestExecutor(delegate);
+	}
+
+	@Test
+	public void shouldAttachIdenticalRequestsToTheInFlightExecution() throws Exception {
+		CompletableFuture<EndpointResponse<String>> first = coalescingEndpointRequestExecutor.<String> executeAsync(request("X-Tenant", "a"))
+				.toCompletableFuture();
+		CompletableFuture<EndpointResponse<String>> second = coalescingEndpointRequestExecutor.<String> executeAsync(request("X-Tenant", "a"))
+				.toCompletableFuture();
+
+		assertEquals(1, executions.size());
+		assertFalse(second.isDone());
+
+		EndpointResponse<Object> response = EndpointResponse.of(StatusCode.ok(), "result");
+		executions.iterator().next().complete(response);
+
+		assertSame(response, first.get());
+		assertSame(response, second.get());
+	}
+
+	@Test
+	public void shouldNotCoalesceRequestsWithDifferentSelectedHeaders() {
+		coalescingEndpointRequestExecutor.executeAsync(request("X-Tenant", "a"));
+		coalescingEndpointRequestExecutor.executeAsync(request("X-Tenant", "b"));
+
+		assertEquals(2, executions.size());
+	}
+
+	@Test
+	public void shouldIgnoreHeadersThatWereNotSelected() {
+		coalescingEndpointRequestExecutor.executeAsync(request("X-Request-Id", "1"));
+		coalescingEndpointRequestExecutor.executeAsync(request("X-Request-Id", "2"));
+
+		assertEquals(1, executions.size());
+	}
+
+	@Test
+	public void shouldPropagateFailureToAllAttachedRequestsAndReleaseTheKey() throws Exception {
+		CompletableFuture<EndpointResponse<String>> first = coalescingEndpointRequestExecutor.<String> executeAsync(request("X-Tenant", "a"))
+				.toCompletableFuture();
+		CompletableFuture<EndpointResponse<String>> second = coalescingEndpointRequestExecutor.<String> executeAsync(request("X-Tenant", "a"))
+				.toCompletableFuture();
+
+		IllegalStateException failure = new IllegalStateException("failure");
+		executions.iterator().next().completeExceptionally(failure);
+
+		assertTrue(first.isCompletedExceptionally());
+		assertTrue(second.isCompletedExceptionally());
+
+		try {
+			second.get();
+			fail("an ExecutionException was expected");
+		} catch (ExecutionException e) {
+			assertSame(failure, e.getCause());
+		}
+
+		coalescingEndpointRequestExecutor.executeAsync(request("X-Tenant", "a"));
+
+		assertEquals(2, executions.size());
+	}
+
+	private EndpointRequest request(String header, String value) {
+		try {
+			return new EndpointRequest(new URI("http://my.api.com/path"), "GET", new Headers(Header.of(header, value)), null,
+					String.class, null, new EndpointRequestMetadata(Arrays.asList(MyApi.class.getMethod("coalesced").getAnnotations())));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	interface MyApi {
+
+		@Coalesce(headers = "X-Tenant")
+		String coalesced();
+	}
+}
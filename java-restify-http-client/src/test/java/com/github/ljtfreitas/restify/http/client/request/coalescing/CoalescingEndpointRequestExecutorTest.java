@@ -0,0 +1,172 @@
+package com.github.ljtfreitas.restify.http.client.request.coalescing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestMetadata;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+
+public class CoalescingEndpointRequestExecutorTest {
+
+	private ExecutorService executor;
+
+	private AtomicInteger executions;
+
+	private CountDownLatch entered;
+
+	private CountDownLatch release;
+
+	private CoalescingEndpointRequestExecutor coalescingEndpointRequestExecutor;
+
+	@Before
+	public void setup() {
+		executor = Executors.newFixedThreadPool(2);
+
+		executions = new AtomicInteger();
+		entered = new CountDownLatch(1);
+		release = new CountDownLatch(1);
+
+		EndpointRequestExecutor delegate = new EndpointRequestExecutor() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
+				int execution = executions.incrementAndGet();
+				entered.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+				return (EndpointResponse<T>) EndpointResponse.of(StatusCode.ok(), "result " + execution);
+			}
+		};
+
+		coalescingEndpointRequestExecutor = new CoalescingEndpointRequestExecutor(delegate);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void shouldShareTheResponseOfAnIdenticalInFlightRequest() throws Exception {
+		EndpointRequest endpointRequest = request("GET", "coalesced");
+
+		Future<EndpointResponse<String>> first = executor.submit(() -> coalescingEndpointRequestExecutor.<String> execute(endpointRequest));
+
+		entered.await();
+
+		CompletableFuture<Thread> follower = new CompletableFuture<>();
+
+		Future<EndpointResponse<String>> second = executor.submit(() -> {
+			follower.complete(Thread.currentThread());
+			return coalescingEndpointRequestExecutor.<String> execute(request("GET", "coalesced"));
+		});
+
+		awaitParked(follower.get());
+
+		release.countDown();
+
+		assertSame(first.get(), second.get());
+		assertEquals("result 1", second.get().body());
+		assertEquals(1, executions.get());
+	}
+
+	@Test
+	public void shouldExecuteAgainAfterInFlightRequestIsCompleted() {
+		release.countDown();
+
+		EndpointResponse<String> first = coalescingEndpointRequestExecutor.execute(request("GET", "coalesced"));
+		EndpointResponse<String> second = coalescingEndpointRequestExecutor.execute(request("GET", "coalesced"));
+
+		assertEquals("result 1", first.body());
+		assertEquals("result 2", second.body());
+	}
+
+	@Test
+	public void shouldNotCoalesceRequestsWithoutCoalesceAnnotation() throws Exception {
+		EndpointRequest endpointRequest = new EndpointRequest(new URI("http://my.api.com/path"), "GET", String.class);
+
+		Future<EndpointResponse<String>> first = executor.submit(() -> coalescingEndpointRequestExecutor.<String> execute(endpointRequest));
+		Future<EndpointResponse<String>> second = executor.submit(() -> coalescingEndpointRequestExecutor.<String> execute(endpointRequest));
+
+		release.countDown();
+
+		first.get();
+		second.get();
+
+		assertEquals(2, executions.get());
+	}
+
+	@Test
+	public void shouldNotCoalesceNonIdempotentRequests() throws Exception {
+		Future<EndpointResponse<String>> first = executor.submit(() -> coalescingEndpointRequestExecutor.<String> execute(request("POST", "coalesced")));
+		Future<EndpointResponse<String>> second = executor.submit(() -> coalescingEndpointRequestExecutor.<String> execute(request("POST", "coalesced")));
+
+		release.countDown();
+
+		first.get();
+		second.get();
+
+		assertEquals(2, executions.get());
+	}
+
+	@Test
+	public void shouldNotCoalesceRequestsOfStreamResponses() throws Exception {
+		EndpointRequest endpointRequest = new EndpointRequest(new URI("http://my.api.com/path"), "GET", new Headers(), null,
+				InputStream.class, null, new EndpointRequestMetadata(Arrays.asList(MyApi.class.getMethod("stream").getAnnotations())));
+
+		Future<EndpointResponse<Object>> first = executor.submit(() -> coalescingEndpointRequestExecutor.execute(endpointRequest));
+		Future<EndpointResponse<Object>> second = executor.submit(() -> coalescingEndpointRequestExecutor.execute(endpointRequest));
+
+		release.countDown();
+
+		first.get();
+		second.get();
+
+		assertEquals(2, executions.get());
+	}
+
+	private void awaitParked(Thread thread) throws InterruptedException {
+		while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+			Thread.sleep(10);
+		}
+	}
+
+	private EndpointRequest request(String method, String methodName) {
+		try {
+			return new EndpointRequest(new URI("http://my.api.com/path"), method, new Headers(), null, String.class, null,
+					new EndpointRequestMetadata(Arrays.asList(MyApi.class.getMethod(methodName).getAnnotations())));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	interface MyApi {
+
+		@Coalesce
+		String coalesced();
+
+		@Coalesce
+		InputStream stream();
+	}
+}
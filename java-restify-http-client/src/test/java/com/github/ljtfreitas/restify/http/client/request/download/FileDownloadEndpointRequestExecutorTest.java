@@ -0,0 +1,347 @@
+package com.github.ljtfreitas.restify.http.client.request.download;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.HttpClientException;
+import com.github.ljtfreitas.restify.http.client.HttpException;
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestMetadata;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.reflection.JavaType;
+import com.github.ljtfreitas.restify.util.async.DisposableExecutors;
+
+public class FileDownloadEndpointRequestExecutorTest {
+
+	private static final byte[] CONTENT = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".getBytes();
+
+	private Collection<EndpointRequest> requests;
+
+	private Path destination;
+
+	@Before
+	public void setup() throws IOException {
+		requests = new ConcurrentLinkedQueue<>();
+		destination = Files.createTempFile("download-test", ".bin");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(destination);
+	}
+
+	@Test
+	public void shouldWriteResponseBodyToDestination() throws IOException {
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(delegate(r -> ok(CONTENT)));
+
+		EndpointResponse<Path> response = executor.execute(request(Path.class).usingDestination(destination));
+
+		assertSame(destination, response.body());
+		assertArrayEquals(CONTENT, Files.readAllBytes(destination));
+	}
+
+	@Test
+	public void shouldWriteResponseBodyToTemporaryFileReadableFromFileChannel() throws IOException {
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(delegate(r -> ok(CONTENT)));
+
+		EndpointResponse<FileChannel> response = executor.execute(request(FileChannel.class));
+
+		try (FileChannel channel = response.body()) {
+			ByteBuffer buffer = ByteBuffer.allocate(CONTENT.length);
+			while (buffer.hasRemaining() && channel.read(buffer) > 0);
+
+			assertArrayEquals(CONTENT, buffer.array());
+		}
+	}
+
+	@Test
+	public void shouldNotInterceptRequestsWithoutFileResponse() {
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(delegate(r -> ok(CONTENT)));
+
+		EndpointResponse<InputStream> response = executor.execute(request(InputStream.class));
+
+		assertTrue(response.body() instanceof ByteArrayInputStream);
+	}
+
+	@Test
+	public void shouldSendDownloadRequestsToTheDownloadExecutor() throws IOException {
+		EndpointRequestExecutor delegate = new EndpointRequestExecutor() {
+			@Override
+			public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
+				throw new IllegalStateException("Download requests must not be sent to the delegate.");
+			}
+		};
+
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(delegate, delegate(r -> ok(CONTENT)),
+				new FileDownload.Builder().build());
+
+		executor.execute(request(Path.class).usingDestination(destination));
+
+		assertArrayEquals(CONTENT, Files.readAllBytes(destination));
+		assertEquals(1, requests.size());
+	}
+
+	@Test
+	public void shouldResumeFromLastWrittenByteAfterFailure() throws IOException {
+		EndpointRequestExecutor delegate = delegate(r -> {
+			Optional<String> range = r.headers().get(Headers.RANGE).map(Header::value);
+
+			if (range.isPresent()) {
+				assertEquals("bytes=20-", range.get());
+				return partial(CONTENT, 20, CONTENT.length - 1);
+
+			} else {
+				return EndpointResponse.of(StatusCode.ok(), new FailingInputStream(Arrays.copyOf(CONTENT, 20)), new Headers());
+			}
+		});
+
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(delegate);
+
+		executor.execute(request(Path.class).usingDestination(destination));
+
+		assertArrayEquals(CONTENT, Files.readAllBytes(destination));
+		assertEquals(2, requests.size());
+	}
+
+	@Test
+	public void shouldResumeWithValidatorOfFirstResponse() throws IOException {
+		EndpointRequestExecutor delegate = delegate(r -> {
+			if (r.headers().get(Headers.RANGE).isPresent()) {
+				assertEquals("\"v1\"", r.headers().get(Headers.IF_RANGE).map(Header::value).orElse(null));
+				return partial(CONTENT, 20, CONTENT.length - 1);
+
+			} else {
+				return EndpointResponse.of(StatusCode.ok(), new FailingInputStream(Arrays.copyOf(CONTENT, 20)),
+						new Headers(Header.of(Headers.ETAG, "\"v1\"")));
+			}
+		});
+
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(delegate);
+
+		executor.execute(request(Path.class).usingDestination(destination));
+
+		assertArrayEquals(CONTENT, Files.readAllBytes(destination));
+		assertEquals(2, requests.size());
+	}
+
+	@Test
+	public void shouldStartOverWhenResourceChangedBeforeResume() throws IOException {
+		byte[] changed = "changed content".getBytes();
+
+		EndpointRequestExecutor delegate = delegate(r -> {
+			if (r.headers().get(Headers.IF_RANGE).isPresent()) {
+				return ok(changed);
+
+			} else {
+				return EndpointResponse.of(StatusCode.ok(), new FailingInputStream(Arrays.copyOf(CONTENT, 20)),
+						new Headers(Header.of(Headers.LAST_MODIFIED, "Wed, 21 Oct 2015 07:28:00 GMT")));
+			}
+		});
+
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(delegate);
+
+		executor.execute(request(Path.class).usingDestination(destination));
+
+		assertArrayEquals(changed, Files.readAllBytes(destination));
+		assertEquals(2, requests.size());
+	}
+
+	@Test
+	public void shouldRestartWhenContentRangeDoesNotMatchTheRequestedRange() throws IOException {
+		EndpointRequestExecutor delegate = delegate(r -> {
+			Optional<String> range = r.headers().get(Headers.RANGE).map(Header::value);
+
+			if (range.isPresent()) {
+				return partial(CONTENT, 10, CONTENT.length - 1);
+
+			} else if (requests.size() == 1) {
+				return EndpointResponse.of(StatusCode.ok(), new FailingInputStream(Arrays.copyOf(CONTENT, 20)), new Headers());
+
+			} else {
+				return ok(CONTENT);
+			}
+		});
+
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(delegate);
+
+		executor.execute(request(Path.class).usingDestination(destination));
+
+		assertArrayEquals(CONTENT, Files.readAllBytes(destination));
+		assertEquals(3, requests.size());
+	}
+
+	@Test
+	public void shouldDownloadInParallelSegments() throws IOException {
+		EndpointRequestExecutor delegate = delegate(r -> {
+			if (r.method().equals("HEAD")) {
+				return EndpointResponse.empty(StatusCode.ok(), new Headers(Header.of(Headers.ACCEPT_RANGES, "bytes"),
+						Header.contentLength(CONTENT.length)));
+
+			} else {
+				String[] range = r.headers().get(Headers.RANGE).get().value().replace("bytes=", "").split("-");
+				return partial(CONTENT, Integer.parseInt(range[0]), Integer.parseInt(range[1]));
+			}
+		});
+
+		FileDownload fileDownload = new FileDownload.Builder()
+				.segments(4)
+				.segmentSize(10)
+				.executor(DisposableExecutors.immediate())
+				.build();
+
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(delegate, fileDownload);
+
+		executor.execute(request(Path.class).usingDestination(destination));
+
+		assertArrayEquals(CONTENT, Files.readAllBytes(destination));
+		assertEquals(5, requests.size());
+		assertTrue(requests.stream().anyMatch(r -> r.headers().get(Headers.RANGE).map(Header::value).filter("bytes=48-61"::equals).isPresent()));
+	}
+
+	@Test
+	public void shouldSendValidatorOfHeadRequestAndRestartSegmentsWithUnexpectedContentRange() throws IOException {
+		Collection<String> wrong = new ConcurrentLinkedQueue<>();
+
+		EndpointRequestExecutor delegate = delegate(r -> {
+			if (r.method().equals("HEAD")) {
+				return EndpointResponse.empty(StatusCode.ok(), new Headers(Header.of(Headers.ACCEPT_RANGES, "bytes"),
+						Header.contentLength(CONTENT.length), Header.of(Headers.ETAG, "\"v1\"")));
+
+			} else {
+				assertEquals("\"v1\"", r.headers().get(Headers.IF_RANGE).map(Header::value).orElse(null));
+
+				String value = r.headers().get(Headers.RANGE).get().value();
+				String[] range = value.replace("bytes=", "").split("-");
+
+				int start = Integer.parseInt(range[0]);
+				int end = Integer.parseInt(range[1]);
+
+				return wrong.add(value) && wrong.size() == 1 ? partial(CONTENT, start + 1, end) : partial(CONTENT, start, end);
+			}
+		});
+
+		FileDownload fileDownload = new FileDownload.Builder()
+				.segments(4)
+				.segmentSize(10)
+				.executor(DisposableExecutors.immediate())
+				.build();
+
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(delegate, fileDownload);
+
+		executor.execute(request(Path.class).usingDestination(destination));
+
+		assertArrayEquals(CONTENT, Files.readAllBytes(destination));
+		assertEquals(6, requests.size());
+	}
+
+	@Test(expected = HttpException.class)
+	public void shouldFailSegmentedDownloadWhenResourceChanged() throws IOException {
+		EndpointRequestExecutor delegate = delegate(r -> {
+			if (r.method().equals("HEAD")) {
+				return EndpointResponse.empty(StatusCode.ok(), new Headers(Header.of(Headers.ACCEPT_RANGES, "bytes"),
+						Header.contentLength(CONTENT.length), Header.of(Headers.ETAG, "\"v1\"")));
+
+			} else {
+				return ok(CONTENT);
+			}
+		});
+
+		FileDownload fileDownload = new FileDownload.Builder()
+				.segments(4)
+				.segmentSize(10)
+				.executor(DisposableExecutors.immediate())
+				.build();
+
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(delegate, fileDownload);
+
+		executor.execute(request(Path.class).usingDestination(destination));
+	}
+
+	@Test(expected = HttpClientException.class)
+	public void shouldFailWhenAllAttemptsFail() {
+		FileDownload fileDownload = new FileDownload.Builder().attempts(2).build();
+
+		FileDownloadEndpointRequestExecutor executor = new FileDownloadEndpointRequestExecutor(
+				delegate(r -> EndpointResponse.of(StatusCode.ok(), new FailingInputStream(CONTENT), new Headers())), fileDownload);
+
+		try {
+			executor.execute(request(Path.class).usingDestination(destination));
+		} finally {
+			assertEquals(2, requests.size());
+		}
+	}
+
+	private EndpointRequest request(Class<?> responseType) {
+		return new EndpointRequest(URI.create("http://localhost/download"), "GET", new Headers(), null,
+				JavaType.of(responseType), null, EndpointRequestMetadata.empty());
+	}
+
+	private EndpointResponse<InputStream> ok(byte[] content) {
+		return EndpointResponse.of(StatusCode.ok(), new ByteArrayInputStream(content), new Headers(Header.contentLength(content.length)));
+	}
+
+	private EndpointResponse<InputStream> partial(byte[] content, int start, int end) {
+		return EndpointResponse.of(StatusCode.of(206), new ByteArrayInputStream(Arrays.copyOfRange(content, start, end + 1)),
+				new Headers(Header.contentLength(end + 1 - start),
+						Header.of(Headers.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + content.length)));
+	}
+
+	private EndpointRequestExecutor delegate(Function<EndpointRequest, EndpointResponse<?>> responses) {
+		return new EndpointRequestExecutor() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
+				requests.add(endpointRequest);
+				return (EndpointResponse<T>) responses.apply(endpointRequest);
+			}
+		};
+	}
+
+	private class FailingInputStream extends InputStream {
+
+		private final InputStream source;
+
+		private FailingInputStream(byte[] content) {
+			this.source = new ByteArrayInputStream(content);
+		}
+
+		@Override
+		public int read() throws IOException {
+			return check(source.read());
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return check(source.read(b, off, len));
+		}
+
+		private int check(int read) throws IOException {
+			if (read == -1) throw new IOException("Connection reset");
+			return read;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.github.ljtfreitas.restify.http.client.request.interceptor;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+
+public class EndpointRequestInterceptorChainTest {
+
+	private List<EndpointRequest> intercepted;
+
+	private EndpointRequestInterceptorChain chain;
+
+	@Before
+	public void setup() {
+		intercepted = new ArrayList<>();
+
+		chain = new EndpointRequestInterceptorChain(Arrays.asList(
+				r -> record(r).add(Header.of("X-First", "first")),
+				r -> record(r).add(Header.of("X-Second", "second")).replace(Header.of("X-First", "replaced"))));
+	}
+
+	@Test
+	public void shouldHandSameMutableViewToAllInterceptors() throws Exception {
+		EndpointRequest endpointRequest = new EndpointRequest(new URI("http://my.api.com/path"), "GET", String.class);
+
+		EndpointRequest output = chain.apply(endpointRequest);
+
+		assertSame(intercepted.get(0), intercepted.get(1));
+		assertNotSame(endpointRequest, intercepted.get(0));
+
+		assertThat(output.headers().all(), contains(Header.of("X-Second", "second"), Header.of("X-First", "replaced")));
+		assertThat(endpointRequest.headers().all(), empty());
+	}
+
+	@Test
+	public void shouldFreezeRequestBeforeReturningIt() throws Exception {
+		EndpointRequest output = chain.apply(new EndpointRequest(new URI("http://my.api.com/path"), "GET", String.class));
+
+		EndpointRequest changed = output.add(Header.of("X-Other", "other"));
+
+		assertNotSame(output, changed);
+		assertThat(output.headers().all(), contains(Header.of("X-Second", "second"), Header.of("X-First", "replaced")));
+	}
+
+	private EndpointRequest record(EndpointRequest endpointRequest) {
+		intercepted.add(endpointRequest);
+		return endpointRequest;
+	}
+}
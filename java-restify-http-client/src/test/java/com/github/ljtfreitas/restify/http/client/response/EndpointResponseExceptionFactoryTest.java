@@ -1,10 +1,13 @@
 package com.github.ljtfreitas.restify.http.client.response;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.isEmptyString;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
@@ -17,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.ByteArrayHttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 
@@ -311,4 +315,56 @@ public class EndpointResponseExceptionFactoryTest {
 		assertThat(exception.headers(), sameInstance(response.headers()));
 		assertThat(exception.bodyAsString(), isEmptyString());
 	}
+
+	@Test
+	public void shouldBuildExceptionMessageWithResponseBody() {
+		when(response.status()).thenReturn(StatusCode.internalServerError());
+		when(response.body().input()).thenReturn(new ByteArrayInputStream("server error".getBytes()));
+
+		EndpointResponseException exception = exceptionFactory.create(response);
+
+		assertThat(exception.getMessage(), containsString("HTTP response: [" + StatusCode.internalServerError() + "]"));
+		assertThat(exception.getMessage(), containsString("server error"));
+		assertThat(exception.bodyAsString(), equalTo("server error"));
+	}
+
+	@Test
+	public void shouldLimitResponseBodyToConfiguredSize() {
+		exceptionFactory = new EndpointResponseExceptionFactory(5);
+
+		when(response.status()).thenReturn(StatusCode.internalServerError());
+		when(response.body().input()).thenReturn(new ByteArrayInputStream("server error".getBytes()));
+
+		EndpointResponseException exception = exceptionFactory.create(response);
+
+		assertThat(exception.bodyAsString(), equalTo("serve"));
+	}
+
+	@Test
+	public void shouldLimitBufferedResponseBodyToConfiguredSize() {
+		exceptionFactory = new EndpointResponseExceptionFactory(5);
+
+		when(response.status()).thenReturn(StatusCode.internalServerError());
+		when(response.body()).thenReturn(ByteArrayHttpResponseBody.of(() -> new ByteArrayInputStream("server error".getBytes())));
+
+		EndpointResponseException exception = exceptionFactory.create(response);
+
+		assertThat(exception.bodyAsString(), equalTo("serve"));
+	}
+
+	@Test
+	public void shouldNotReadResponseBodyWhenStatusIsConfiguredWithoutBody() {
+		exceptionFactory = new EndpointResponseExceptionFactory(EndpointResponseExceptionFactory.DEFAULT_BODY_LIMIT,
+				StatusCode::isServiceUnavailable);
+
+		when(response.status()).thenReturn(StatusCode.serviceUnavailable());
+
+		EndpointResponseException exception = exceptionFactory.create(response);
+
+		assertThat(exception, instanceOf(EndpointResponseServiceUnavailableException.class));
+		assertThat(exception.bodyAsString(), isEmptyString());
+		assertThat(exception.getMessage(), containsString("(not captured)"));
+
+		verify(response.body(), never()).input();
+	}
 }
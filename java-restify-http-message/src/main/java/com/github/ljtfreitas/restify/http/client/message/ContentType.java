@@ -27,24 +27,57 @@ package com.github.ljtfreitas.restify.http.client.message;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class ContentType {
 
-	private static final Object WILDCARD_TYPE = "*";
+	private static final String WILDCARD_TYPE = "*";
+
+	private static final int CACHE_LIMIT = 256;
+
+	private static final Map<String, ContentType> CONSTANTS = new HashMap<>();
+
+	private static final Map<String, ContentType> CACHE = Collections.synchronizedMap(new LinkedHashMap<String, ContentType>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ContentType> eldest) {
+			return size() > CACHE_LIMIT;
+		}
+	});
+
+	public static final ContentType WILDCARD = constant("*/*");
+	public static final ContentType APPLICATION_JSON = constant("application/json");
+	public static final ContentType APPLICATION_XML = constant("application/xml");
+	public static final ContentType APPLICATION_FORM_URLENCODED = constant("application/x-www-form-urlencoded");
+	public static final ContentType APPLICATION_OCTET_STREAM = constant("application/octet-stream");
+	public static final ContentType MULTIPART_FORM_DATA = constant("multipart/form-data");
+	public static final ContentType TEXT_PLAIN = constant("text/plain");
+	public static final ContentType TEXT_HTML = constant("text/html");
+	public static final ContentType TEXT_XML = constant("text/xml");
 
 	private final String type;
 	private final String subtype;
 	private final ContentTypeParameters parameters;
 
+	private final boolean wildcardType;
+	private final boolean wildcardSubtype;
+	private final String suffix;
+	private final int hash;
+
 	private ContentType(String type, String subtype, ContentTypeParameters parameters) {
 		this.type = type;
 		this.subtype = subtype;
 		this.parameters = parameters;
+		this.wildcardType = WILDCARD_TYPE.equals(type);
+		this.wildcardSubtype = WILDCARD_TYPE.equals(subtype) || subtype.startsWith("*+");
+		this.suffix = subtype.indexOf('+') < 0 ? null : subtype.substring(subtype.indexOf('+') + 1);
+		this.hash = 31 * type.hashCode() + subtype.hashCode();
 	}
 
 	public String name() {
@@ -80,57 +113,29 @@ public class ContentType {
 		return doCompatible(contentType);
 	}
 
-	private boolean doCompatible(ContentType contentType) {
-		return doEquals(contentType)
-			|| (isWildcardType(this.type) || isWildcardType(contentType.type))
-			|| (compatibleWithType(contentType.type) && compatibleWithSubtype(contentType.subtype));
-	}
-
-	private boolean compatibleWithType(String type) {
-		return this.type.equals(type)
-				|| (isWildcardType(this.type) || isWildcardType(type));
-	}
-
-	private boolean compatibleWithSubtype(String subtype) {
-		if (this.subtype.equals(subtype)) {
+	private boolean doCompatible(ContentType that) {
+		if (this == that || this.wildcardType || that.wildcardType) {
 			return true;
-		} else if (isWildcardSubtype(this.subtype) || isWildcardSubtype(subtype)) {
-			if (!isWildcardWithSuffix(this.subtype) && !isWildcardWithSuffix(subtype)) {
-				return true;
-
-			} else if (isWildcardWithSuffix(this.subtype) && isWildcardWithSuffix(subtype)) {
-				return (extractSubtypeSuffix(this.subtype).equals(extractSubtypeSuffix(subtype)) &&
-						(WILDCARD_TYPE.equals(extractSubtypeWithoutSuffix(this.subtype))
-								|| WILDCARD_TYPE.equals(extractSubtypeWithoutSuffix(subtype))));
-			}
-		}
 
-		return false;
-	}
-
-	private String extractSubtypeWithoutSuffix(String subtype) {
-		return subtype.substring(0, subtype.indexOf("+"));
-	}
-
-	private String extractSubtypeSuffix(String subtype) {
-		return subtype.substring(subtype.indexOf("+") + 1);
-	}
+		} else if (!this.type.equals(that.type)) {
+			return false;
 
-	private boolean isWildcardWithSuffix(String subtype) {
-		return subtype.contains("+");
-	}
+		} else if (this.subtype.equals(that.subtype)) {
+			return true;
 
-	private boolean isWildcardSubtype(String subtype) {
-		return WILDCARD_TYPE.equals(subtype) || subtype.startsWith("*+");
-	}
+		} else if (this.wildcardSubtype || that.wildcardSubtype) {
+			// a wildcard subtype with suffix ("*+json") only matches other subtypes with the same suffix
+			return (this.suffix == null && that.suffix == null)
+				|| (this.suffix != null && this.suffix.equals(that.suffix));
 
-	private boolean isWildcardType(String type) {
-		return WILDCARD_TYPE.equals(type);
+		} else {
+			return false;
+		}
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(type);
+		return hash;
 	}
 
 	@Override
@@ -143,8 +148,8 @@ public class ContentType {
 	}
 
 	private boolean doEquals(ContentType that) {
-		return this.type.equals(that.type)
-			&& this.subtype.equals(that.subtype);
+		return this == that
+			|| (this.hash == that.hash && this.type.equals(that.type) && this.subtype.equals(that.subtype));
 	}
 
 	@Override
@@ -162,23 +167,57 @@ public class ContentType {
 		return sb.toString();
 	}
 
+	/**
+	 * Parses a Content-Type value. Parsed values are immutable and cached by the raw value; the cache keeps the most
+	 * recently used entries, up to a limit (values with random parameters, like a multipart boundary, are evicted first).
+	 * The values of the constants are always cached.
+	 */
 	public static ContentType of(String value) {
-		String[] parts = value.split(";");
+		ContentType contentType = CONSTANTS.get(value);
 
-		String[] parameters = Arrays.copyOfRange(parts, 1, parts.length);
+		if (contentType == null) {
+			contentType = CACHE.get(value);
 
-		String type = parts[0].substring(0, parts[0].indexOf("/")).toLowerCase();
-		String subtype = parts[0].substring(parts[0].indexOf("/") + 1).toLowerCase();
+			if (contentType == null) {
+				contentType = parse(value);
+				CACHE.put(value, contentType);
+			}
+		}
 
-		return new ContentType(type, subtype, ContentTypeParameters.of(parameters));
+		return contentType;
 	}
 
 	public static ContentType of(String type, String subtype) {
-		return new ContentType(type, subtype, new ContentTypeParameters());
+		return new ContentType(type, subtype, ContentTypeParameters.EMPTY);
+	}
+
+	private static ContentType constant(String value) {
+		ContentType contentType = parse(value);
+		CONSTANTS.put(value, contentType);
+		return contentType;
+	}
+
+	private static ContentType parse(String value) {
+		int separator = value.indexOf(';');
+
+		String name = separator < 0 ? value : value.substring(0, separator);
+
+		int slash = name.indexOf('/');
+
+		String type = name.substring(0, slash).toLowerCase();
+		String subtype = name.substring(slash + 1).toLowerCase();
+
+		ContentTypeParameters parameters = separator < 0 ?
+				ContentTypeParameters.EMPTY :
+					ContentTypeParameters.of(value.substring(separator + 1).split(";"));
+
+		return new ContentType(type, subtype, parameters);
 	}
 
 	public static class ContentTypeParameters {
 
+		private static final ContentTypeParameters EMPTY = new ContentTypeParameters();
+
 		private final Map<String, String> parameters;
 
 		private ContentTypeParameters() {
@@ -186,7 +225,7 @@ public class ContentType {
 		}
 
 		private ContentTypeParameters(Map<String, String> parameters) {
-			this.parameters = new LinkedHashMap<>(parameters);
+			this.parameters = Collections.unmodifiableMap(new LinkedHashMap<>(parameters));
 		}
 
 		private Optional<String> get(String name) {
@@ -194,9 +233,9 @@ public class ContentType {
 		}
 
 		private ContentTypeParameters put(String name, String value) {
-			ContentTypeParameters newParameters = new ContentTypeParameters(parameters);
-			newParameters.parameters.put(name, value);
-			return newParameters;
+			Map<String, String> newParameters = new LinkedHashMap<>(parameters);
+			newParameters.put(name, value);
+			return new ContentTypeParameters(newParameters);
 		}
 
 		public boolean empty() {
@@ -219,4 +258,4 @@ public class ContentType {
 			return new ContentTypeParameters(mapOfParameters);
 		}
 	}
-}
\ No newline at end of file
+}
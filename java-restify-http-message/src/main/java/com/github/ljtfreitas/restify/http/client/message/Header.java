@@ -47,10 +47,12 @@ public class Header {
 
 	private final String name;
 	private final String value;
+	private final HeaderName key;
 
 	public Header(String name, String value) {
 		this.name = name;
 		this.value = value;
+		this.key = new HeaderName(name);
 	}
 
 	public String name() {
@@ -61,12 +63,16 @@ public class Header {
 		return value;
 	}
 
+	HeaderName key() {
+		return key;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof Header) {
 			Header that = (Header) obj;
 
-			return this.name.equalsIgnoreCase(that.name)
+			return this.key.equals(that.key)
 				&& this.value.equals(that.value);
 
 		} else return false;
@@ -74,7 +80,7 @@ public class Header {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(name, value);
+		return 31 * key.hashCode() + Objects.hashCode(value);
 	}
 
 	@Override
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message;
+
+/**
+ * Case-insensitive header name, with a precomputed hash, used as key of the {@link Headers} index.
+ */
+final class HeaderName {
+
+	private final String name;
+	private final int hash;
+
+	HeaderName(String name) {
+		this.name = name;
+		this.hash = hashOf(name);
+	}
+
+	String name() {
+		return name;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+
+		if (obj instanceof HeaderName) {
+			HeaderName that = (HeaderName) obj;
+			return hash == that.hash && (name == null ? that.name == null : name.equalsIgnoreCase(that.name));
+
+		} else return false;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+	static int hashOf(String name) {
+		int hash = 0;
+		if (name == null) return hash;
+
+		for (int i = 0; i < name.length(); i++) {
+			// same folding of String.equalsIgnoreCase
+			hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+		}
+		return hash;
+	}
+}
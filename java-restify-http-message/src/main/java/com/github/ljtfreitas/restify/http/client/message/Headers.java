@@ -25,14 +25,19 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.message;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+
+import com.github.ljtfreitas.restify.util.Memoized;
 
 public class Headers implements Iterable<Header> {
 
@@ -97,69 +102,89 @@ public class Headers implements Iterable<Header> {
 	public static final String WARNING = "Warning";
 	public static final String WWW_AUTHENTICATE = "WWW-Authenticate";
 
-	private final Collection<Header> headers;
+	private final List<Header> headers;
+	private final Map<HeaderName, List<Header>> index;
 
 	public Headers() {
-		this.headers = new LinkedHashSet<>();
+		this.headers = new ArrayList<>();
+		this.index = new HashMap<>();
 	}
 
 	public Headers(Header... headers) {
-		this(new LinkedHashSet<>(Arrays.asList(headers)));
+		this(Arrays.asList(headers));
 	}
 
 	public Headers(Headers source) {
-		this(new LinkedHashSet<>(source.headers));
+		this(source.all());
 	}
 
 	public Headers(Collection<Header> headers) {
-		this.headers = new LinkedHashSet<>(headers);
+		this.headers = new ArrayList<>(headers.size());
+		this.index = new HashMap<>();
+		headers.forEach(this::put);
+	}
+
+	private Headers(List<Header> headers, Map<HeaderName, List<Header>> index) {
+		this.headers = headers;
+		this.index = index;
+	}
+
+	private Headers(Headers root, Collection<DerivedHeaders> chain) {
+		this(root.all());
+
+		for (DerivedHeaders derived : chain) {
+			for (Header header : derived.changes) {
+				if (derived.replace) remove(header.key());
+				put(header);
+			}
+		}
 	}
 
 	public Headers add(Header header) {
-		Headers headers = new Headers(this.headers);
-		headers.put(header);
-		return headers;
+		return new DerivedHeaders(this, Collections.singletonList(header), false);
 	}
 
 	public Headers add(String name, String value) {
-		Headers headers = new Headers(this.headers);
-		headers.put(new Header(name, value));
-		return headers;
+		return add(new Header(name, value));
 	}
 
 	public Headers add(String name, Collection<String> values) {
-		Headers headers = new Headers(this.headers);
-		values.forEach(value -> headers.put(new Header(name, value)));
-		return headers;
+		List<Header> headers = new ArrayList<>(values.size());
+		values.forEach(value -> headers.add(new Header(name, value)));
+		return new DerivedHeaders(this, headers, false);
 	}
 
 	public Headers addAll(Headers source) {
-		Headers headers = new Headers(this.headers);
-		source.forEach(h -> headers.put(h));
-		return headers;
+		return new DerivedHeaders(this, source.all(), false);
 	}
 
 	public Headers replace(String name, String value) {
-		return doReplace(Header.of(name, value));
+		return replace(Header.of(name, value));
 	}
 
 	public Headers replace(Header header) {
-		return doReplace(header);
-	}
-
-	private Headers doReplace(Header header) {
-		Headers headers = new Headers(this.headers);
-		headers.remove(header.name());
-		headers.put(header);
-		return headers;
+		return new DerivedHeaders(this, Collections.singletonList(header), true);
 	}
 
 	private void put(Header header) {
+		List<Header> values = index.get(header.key());
+
+		if (values == null) {
+			values = new ArrayList<>(1);
+			index.put(header.key(), values);
+
+		} else if (values.contains(header)) {
+			return;
+		}
+
+		values.add(header);
 		headers.add(header);
 	}
 
-	private void remove(String name) {
-		headers.removeIf(h -> h.name().equalsIgnoreCase(name));
+	private void remove(HeaderName name) {
+		if (index.remove(name) != null) {
+			headers.removeIf(h -> h.key().equals(name));
+		}
 	}
 
 	public Collection<Header> all() {
@@ -167,32 +192,136 @@ public class Headers implements Iterable<Header> {
 	}
 
 	public Collection<Header> all(String name) {
-		return headers.stream().filter(h -> h.name().equalsIgnoreCase(name))
-				.collect(Collectors.toList());
+		List<Header> values = index.get(new HeaderName(name));
+		return values == null ? Collections.emptyList() : Collections.unmodifiableList(values);
 	}
 
 	public Optional<Header> get(String name) {
-		return headers.stream().filter(h -> h.name().equalsIgnoreCase(name))
-				.findFirst();
+		List<Header> values = index.get(new HeaderName(name));
+		return values == null ? Optional.empty() : Optional.of(values.get(0));
 	}
 
 	@Override
 	public String toString() {
-		return headers.toString();
+		return all().toString();
 	}
 
 	@Override
 	public Iterator<Header> iterator() {
-		return headers.iterator();
+		return all().iterator();
 	}
 
 	public static Headers empty() {
-		return new Headers(Collections.emptySet());
+		return new Headers();
 	}
 
 	public static Headers of(Map<String, String> source) {
-		return new Headers(source.entrySet().stream()
-			.map(e -> new Header(e.getKey(), e.getValue()))
-				.collect(Collectors.toSet()));
+		Builder builder = new Builder();
+		source.forEach(builder::add);
+		return builder.build();
+	}
+
+	/**
+	 * Result of {@link Headers#add(Header)} and {@link Headers#replace(Header)}: only the change is kept, and the headers
+	 * are copied once, when they are read. So a chain of changes costs a single copy instead of one copy per change.
+	 */
+	private static class DerivedHeaders extends Headers {
+
+		private final Headers source;
+		private final Collection<Header> changes;
+		private final boolean replace;
+
+		private final Memoized<Headers> copied = Memoized.of(this::copy);
+
+		private DerivedHeaders(Headers source, Collection<Header> changes, boolean replace) {
+			super((List<Header>) null, null);
+			this.source = source;
+			this.changes = changes;
+			this.replace = replace;
+		}
+
+		private Headers copy() {
+			Deque<DerivedHeaders> chain = new ArrayDeque<>();
+
+			Headers root = this;
+			while (root instanceof DerivedHeaders) {
+				chain.push((DerivedHeaders) root);
+				root = ((DerivedHeaders) root).source;
+			}
+
+			return new Headers(root, chain);
+		}
+
+		@Override
+		public Collection<Header> all() {
+			return copied.get().all();
+		}
+
+		@Override
+		public Collection<Header> all(String name) {
+			return copied.get().all(name);
+		}
+
+		@Override
+		public Optional<Header> get(String name) {
+			return copied.get().get(name);
+		}
+	}
+
+	/**
+	 * Mutable builder of {@link Headers}, to add many headers without copying them on each addition.
+	 */
+	public static class Builder {
+
+		private Headers headers;
+
+		public Builder() {
+			this.headers = new Headers();
+		}
+
+		public Builder(Headers source) {
+			this.headers = new Headers(source);
+		}
+
+		public Builder add(Header header) {
+			headers().put(header);
+			return this;
+		}
+
+		public Builder add(String name, String value) {
+			return add(new Header(name, value));
+		}
+
+		public Builder add(String name, Collection<String> values) {
+			Headers headers = headers();
+			values.forEach(value -> headers.put(new Header(name, value)));
+			return this;
+		}
+
+		public Builder addAll(Headers source) {
+			Headers headers = headers();
+			source.forEach(headers::put);
+			return this;
+		}
+
+		public Builder replace(Header header) {
+			Headers headers = headers();
+			headers.remove(header.key());
+			headers.put(header);
+			return this;
+		}
+
+		public Headers build() {
+			Headers built = headers();
+			headers = null;
+			return built;
+		}
+
+		private Headers headers() {
+			if (headers == null) {
+				throw new IllegalStateException("Headers was already built; this builder cannot be used anymore.");
+			}
+			return headers;
+		}
 	}
 }
@@ -27,6 +27,8 @@ package com.github.ljtfreitas.restify.http.client.message;
 
 import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
 
+import java.util.Optional;
+
 public class Range {
 
 	private static final String BYTES_UNIT = "bytes";
@@ -41,6 +43,18 @@ public class Range {
 		this.end = end;
 	}
 
+	public String unit() {
+		return unit;
+	}
+
+	public Long start() {
+		return start;
+	}
+
+	public Optional<Long> end() {
+		return Optional.ofNullable(end);
+	}
+
 	public String format() {
 		return doFormat();
 	}
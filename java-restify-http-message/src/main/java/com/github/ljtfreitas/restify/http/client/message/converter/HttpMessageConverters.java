@@ -28,27 +28,47 @@ package com.github.ljtfreitas.restify.http.client.message.converter;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.github.ljtfreitas.restify.http.client.message.ContentType;
 
+/**
+ * Registered {@link HttpMessageConverter}s. The converters can't be changed after creation, so the converter selected
+ * for each content type (without parameters) and Java type is cached, including the absence of one.
+ */
 public class HttpMessageConverters {
 
 	private final Collection<HttpMessageConverter> converters;
 
+	private final Map<ConverterKey, Optional<HttpMessageReader<?>>> readers = new ConcurrentHashMap<>();
+	private final Map<ConverterKey, Optional<HttpMessageWriter<?>>> writers = new ConcurrentHashMap<>();
+
 	public HttpMessageConverters(Collection<HttpMessageConverter> converters) {
 		this.converters = new ArrayList<>(converters);
 	}
 
-	@SuppressWarnings("unchecked")
+	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public <T> Optional<HttpMessageReader<T>> readerOf(ContentType contentType, Type type) {
+		ConverterKey key = new ConverterKey(contentType, type);
+
+		Optional reader = readers.get(key);
+		if (reader == null) {
+			reader = readers.computeIfAbsent(key, k -> doReaderOf(contentType, type));
+		}
+
+		return reader;
+	}
+
+	private Optional<HttpMessageReader<?>> doReaderOf(ContentType contentType, Type type) {
 		return converters.stream()
 				.filter(c -> c instanceof HttpMessageReader)
-					.map(c -> (HttpMessageReader<T>) c)
+					.<HttpMessageReader<?>> map(c -> (HttpMessageReader<?>) c)
 						.filter(c -> c.contentTypes().stream().anyMatch(contentType::compatible) && c.canRead(type))
-							.map(c -> ((HttpMessageReader<T>) c))
-								.findFirst();
+							.findFirst();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -60,13 +80,50 @@ public class HttpMessageConverters {
 							.collect(Collectors.toList());
 	}
 
-	@SuppressWarnings("unchecked")
+	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public <T> Optional<HttpMessageWriter<T>> writerOf(ContentType contentType, Class<?> type) {
+		ConverterKey key = new ConverterKey(contentType, type);
+
+		Optional writer = writers.get(key);
+		if (writer == null) {
+			writer = writers.computeIfAbsent(key, k -> doWriterOf(contentType, type));
+		}
+
+		return writer;
+	}
+
+	private Optional<HttpMessageWriter<?>> doWriterOf(ContentType contentType, Class<?> type) {
 		return converters.stream()
 				.filter(c -> c instanceof HttpMessageWriter)
-					.map(c -> (HttpMessageWriter<T>) c)
+					.<HttpMessageWriter<?>> map(c -> (HttpMessageWriter<?>) c)
 						.filter(c -> c.contentTypes().stream().anyMatch(contentType::compatible) && c.canWrite(type))
-							.map(c -> (HttpMessageWriter<T>) c)
-								.findFirst();
+							.findFirst();
+	}
+
+	private static class ConverterKey {
+
+		private final ContentType contentType;
+		private final Type type;
+		private final int hash;
+
+		private ConverterKey(ContentType contentType, Type type) {
+			this.contentType = contentType;
+			this.type = type;
+			this.hash = 31 * contentType.hashCode() + Objects.hashCode(type);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof ConverterKey) {
+				ConverterKey that = (ConverterKey) obj;
+				return this.contentType.equals(that.contentType) && Objects.equals(this.type, that.type);
+
+			} else return false;
+		}
 	}
 }
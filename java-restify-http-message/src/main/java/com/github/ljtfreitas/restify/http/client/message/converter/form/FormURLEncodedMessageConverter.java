@@ -34,7 +34,7 @@ import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageWr
 
 public interface FormURLEncodedMessageConverter<T> extends HttpMessageReader<T>, HttpMessageWriter<T> {
 
-	public static final ContentType APPLICATION_X_WWW_FORM_URLENCODED = ContentType.of("application/x-www-form-urlencoded");
+	public static final ContentType APPLICATION_X_WWW_FORM_URLENCODED = ContentType.APPLICATION_FORM_URLENCODED;
 
 	@Override
 	public default Collection<ContentType> contentTypes() {
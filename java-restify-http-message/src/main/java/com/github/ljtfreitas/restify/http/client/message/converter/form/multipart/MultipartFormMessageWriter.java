@@ -33,7 +33,7 @@ import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageWr
 
 public interface MultipartFormMessageWriter<T> extends HttpMessageWriter<T> {
 
-	public static final ContentType MULTIPART_FORM_DATA_CONTENT_TYPE = ContentType.of("multipart/form-data");
+	public static final ContentType MULTIPART_FORM_DATA_CONTENT_TYPE = ContentType.MULTIPART_FORM_DATA;
 
 	@Override
 	public default Collection<ContentType> contentTypes() {
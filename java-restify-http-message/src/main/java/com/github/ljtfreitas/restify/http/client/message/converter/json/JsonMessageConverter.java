@@ -34,7 +34,7 @@ import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageWr
 
 public interface JsonMessageConverter<T> extends HttpMessageReader<T>, HttpMessageWriter<T> {
 
-	public static final ContentType APPLICATION_JSON_CONTENT_TYPE = ContentType.of("application/json");
+	public static final ContentType APPLICATION_JSON_CONTENT_TYPE = ContentType.APPLICATION_JSON;
 
 	@Override
 	public default Collection<ContentType> contentTypes() {
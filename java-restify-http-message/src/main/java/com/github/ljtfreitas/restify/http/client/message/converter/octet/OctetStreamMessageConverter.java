@@ -34,7 +34,7 @@ import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageWr
 
 public interface OctetStreamMessageConverter<T> extends HttpMessageReader<T>, HttpMessageWriter<T> {
 
-	public static final ContentType OCTET_STREAM_MEDIA_TYPE = ContentType.of("application/octet-stream");
+	public static final ContentType OCTET_STREAM_MEDIA_TYPE = ContentType.APPLICATION_OCTET_STREAM;
 
 	@Override
 	public default Collection<ContentType> contentTypes() {
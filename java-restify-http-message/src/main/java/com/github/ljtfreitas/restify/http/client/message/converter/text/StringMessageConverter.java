@@ -25,29 +25,81 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.message.converter.text;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.lang.reflect.Type;
-import java.util.stream.Collectors;
+import java.nio.charset.Charset;
 
+import com.github.ljtfreitas.restify.http.client.message.ContentType;
+import com.github.ljtfreitas.restify.http.client.message.Encoding;
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageReadException;
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageWriteException;
+import com.github.ljtfreitas.restify.http.client.message.io.TextDecoder;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.BufferedHttpResponseBody;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 
 public abstract class StringMessageConverter implements TextMessageConverter<String> {
 
 	@Override
 	public String read(HttpResponseMessage httpResponseMessage, Type expectedType) throws HttpMessageReadException {
-		try (BufferedReader buffer = new BufferedReader(new InputStreamReader(httpResponseMessage.body().input()))) {
-            return buffer.lines().collect(Collectors.joining("\n"));
+		TextDecoder decoder = TextDecoder.of(charsetOf(httpResponseMessage.headers()));
+
+		HttpResponseBody body = httpResponseMessage.body();
+
+		if (body instanceof BufferedHttpResponseBody) {
+			return decoder.decode(((BufferedHttpResponseBody) body).buffer());
+		}
+
+		try (InputStream input = body.input()) {
+			return decoder.decode(input, contentLengthOf(body, httpResponseMessage.headers()));
 
 		} catch (IOException e) {
 			throw new HttpMessageReadException(e);
 		}
 	}
 
+	private Charset charsetOf(Headers headers) {
+		return headers.get(Headers.CONTENT_TYPE)
+				.map(Header::value)
+				.map(ContentType::of)
+				.flatMap(contentType -> contentType.parameter("charset"))
+				.map(this::charsetOf)
+				.orElseGet(Encoding.UTF_8::charset);
+	}
+
+	private Charset charsetOf(String name) {
+		try {
+			return Charset.forName(name.replace("\"", "").trim());
+		} catch (IllegalArgumentException e) {
+			return Encoding.UTF_8.charset();
+		}
+	}
+
+	private long contentLengthOf(HttpResponseBody body, Headers headers) {
+		long contentLength = body.contentLength();
+
+		if (contentLength > 0) {
+			return contentLength;
+		}
+
+		return headers.get(Headers.CONTENT_LENGTH)
+				.map(Header::value)
+				.map(this::contentLengthOf)
+				.orElse(-1L);
+	}
+
+	private long contentLengthOf(String value) {
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
 	@Override
 	public void write(String body, HttpRequestMessage httpRequestMessage) throws HttpMessageWriteException {
 		try {
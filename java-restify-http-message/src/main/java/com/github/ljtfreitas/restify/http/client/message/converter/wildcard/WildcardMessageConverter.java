@@ -33,7 +33,7 @@ import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageRe
 
 public interface WildcardMessageConverter<T> extends HttpMessageReader<T> {
 
-	public  static final ContentType WILDCARD_CONTENT_TYPE = ContentType.of("*/*");
+	public  static final ContentType WILDCARD_CONTENT_TYPE = ContentType.WILDCARD;
 
 	@Override
 	public default Collection<ContentType> contentTypes() {
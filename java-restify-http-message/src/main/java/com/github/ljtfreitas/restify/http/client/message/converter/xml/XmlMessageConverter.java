@@ -34,8 +34,8 @@ import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageWr
 
 public interface XmlMessageConverter<T> extends HttpMessageReader<T>, HttpMessageWriter<T> {
 
-	public static final ContentType APPLICATION_XML_CONTENT_TYPE = ContentType.of("application/xml");
-	public static final ContentType TEXT_XML_CONTENT_TYPE = ContentType.of("text/xml");
+	public static final ContentType APPLICATION_XML_CONTENT_TYPE = ContentType.APPLICATION_XML;
+	public static final ContentType TEXT_XML_CONTENT_TYPE = ContentType.TEXT_XML;
 
 	@Override
 	public default Collection<ContentType> contentTypes() {
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link InputStream} that reads the remaining content of a {@link ByteBuffer}, without copying it.
+ * The buffer position is advanced as the stream is read.
+ */
+public class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer source;
+
+	public ByteBufferInputStream(ByteBuffer source) {
+		this.source = source;
+	}
+
+	@Override
+	public int read() {
+		return source.hasRemaining() ? source.get() & 0xff : -1;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) {
+		if (len == 0) return 0;
+		if (!source.hasRemaining()) return -1;
+
+		int count = Math.min(len, source.remaining());
+		source.get(b, off, count);
+
+		return count;
+	}
+
+	@Override
+	public long skip(long n) {
+		int count = (int) Math.min(Math.max(n, 0), source.remaining());
+		source.position(source.position() + count);
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return source.remaining();
+	}
+}
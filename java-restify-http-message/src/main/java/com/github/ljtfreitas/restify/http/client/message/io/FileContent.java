@@ -0,0 +1,183 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.io;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A region of a file, used as the content of a request body.
+ * <p>
+ * The bytes are moved with {@link FileChannel#transferTo(long, long, WritableByteChannel)}, so a HTTP client able to
+ * write to a channel can send the file without reading it to the Java heap. The region is read by position (the
+ * position of the channel is not changed), so the content can be transferred more than once.
+ * <p>
+ * {@link #close()} closes the file channel, unless it was {@link #borrowed(FileChannel) borrowed} from the caller.
+ */
+public class FileContent implements Closeable {
+
+	private final FileChannel channel;
+	private final long position;
+	private final long count;
+	private final boolean owner;
+
+	public FileContent(FileChannel channel) throws IOException {
+		this(channel, channel.position(), channel.size() - channel.position());
+	}
+
+	public FileContent(FileChannel channel, long position, long count) {
+		this(channel, position, count, true);
+	}
+
+	private FileContent(FileChannel channel, long position, long count, boolean owner) {
+		if (position < 0 || count < 0) {
+			throw new IllegalArgumentException("File position and content length cannot be negative.");
+		}
+
+		this.channel = channel;
+		this.position = position;
+		this.count = count;
+		this.owner = owner;
+	}
+
+	public FileChannel channel() {
+		return channel;
+	}
+
+	public long position() {
+		return position;
+	}
+
+	public long count() {
+		return count;
+	}
+
+	/**
+	 * Whether the file channel belongs to this content, and is closed with it.
+	 */
+	public boolean owner() {
+		return owner;
+	}
+
+	public long transferTo(WritableByteChannel target) throws IOException {
+		long transferred = 0;
+
+		while (transferred < count) {
+			long length = channel.transferTo(position + transferred, count - transferred, target);
+
+			if (length == 0 && position + transferred >= channel.size()) {
+				throw new EOFException("File ended after [" + transferred + "] of [" + count + "] bytes.");
+			}
+
+			transferred += length;
+		}
+
+		return transferred;
+	}
+
+	public long transferTo(OutputStream output) throws IOException {
+		return transferTo(Channels.newChannel(output));
+	}
+
+	/**
+	 * Reads the region as a stream; closing the stream doesn't close the file channel.
+	 */
+	public InputStream asInputStream() {
+		return Channels.newInputStream(new FileRegionChannel());
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (owner) {
+			channel.close();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "FileContent: [position=" + position + ", count=" + count + "]";
+	}
+
+	public static FileContent of(Path path) throws IOException {
+		return new FileContent(FileChannel.open(path, StandardOpenOption.READ));
+	}
+
+	public static FileContent of(File file) throws IOException {
+		return of(file.toPath());
+	}
+
+	/**
+	 * Content of a channel owned by the caller, from its current position: the channel is not closed with the content,
+	 * so the same region can be sent again (by a retry, for example).
+	 */
+	public static FileContent borrowed(FileChannel channel) throws IOException {
+		return new FileContent(channel, channel.position(), channel.size() - channel.position(), false);
+	}
+
+	private class FileRegionChannel implements ReadableByteChannel {
+
+		private long transferred = 0;
+		private boolean open = true;
+
+		@Override
+		public int read(ByteBuffer destination) throws IOException {
+			if (transferred >= count) return -1;
+
+			ByteBuffer region = destination.duplicate();
+			region.limit(region.position() + (int) Math.min(region.remaining(), count - transferred));
+
+			int length = channel.read(region, position + transferred);
+
+			if (length > 0) {
+				destination.position(destination.position() + length);
+				transferred += length;
+			}
+
+			return length;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return open && channel.isOpen();
+		}
+
+		@Override
+		public void close() {
+			open = false;
+		}
+	}
+}
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Growable in-memory buffer, made of fixed-size segments borrowed from a shared pool.
+ * <p>
+ * Segments are only taken when the content is written (an empty buffer doesn't allocate anything),
+ * and the content can be read segment by segment, without copying it to a single array.
+ * After the content is not necessary anymore, {@link #release()} returns the segments to the pool;
+ * a buffer that is never released is just collected as usual.
+ * <p>
+ * This class is not thread-safe; the pool is.
+ */
+public class SegmentedBuffer extends OutputStream {
+
+	public static final int SEGMENT_SIZE = 1024 * 8;
+
+	private static final SegmentPool POOL = new SegmentPool(256);
+
+	private final List<byte[]> segments = new ArrayList<>(1);
+
+	private int size = 0;
+	private boolean released = false;
+
+	@Override
+	public void write(int b) {
+		byte[] segment = current();
+		segment[size++ % SEGMENT_SIZE] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		while (len > 0) {
+			byte[] segment = current();
+
+			int position = size % SEGMENT_SIZE;
+			int count = Math.min(len, SEGMENT_SIZE - position);
+
+			System.arraycopy(b, off, segment, position, count);
+
+			size += count;
+			off += count;
+			len -= count;
+		}
+	}
+
+	private byte[] current() {
+		if (released) {
+			throw new IllegalStateException("This buffer was already released.");
+		}
+
+		int index = size / SEGMENT_SIZE;
+
+		if (index == segments.size()) {
+			segments.add(POOL.take());
+		}
+
+		return segments.get(index);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void writeTo(OutputStream output) throws IOException {
+		int remaining = size;
+
+		for (byte[] segment : segments) {
+			int count = Math.min(remaining, SEGMENT_SIZE);
+			output.write(segment, 0, count);
+			remaining -= count;
+		}
+	}
+
+	public byte[] toByteArray() {
+		byte[] bytes = new byte[size];
+
+		int position = 0;
+
+		for (byte[] segment : segments) {
+			int count = Math.min(size - position, SEGMENT_SIZE);
+			System.arraycopy(segment, 0, bytes, position, count);
+			position += count;
+		}
+
+		return bytes;
+	}
+
+	/**
+	 * Read-only views of each segment, limited to the written content. The content is not copied.
+	 */
+	public List<ByteBuffer> segments() {
+		if (segments.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<ByteBuffer> buffers = new ArrayList<>(segments.size());
+
+		int remaining = size;
+
+		for (byte[] segment : segments) {
+			int count = Math.min(remaining, SEGMENT_SIZE);
+			buffers.add(ByteBuffer.wrap(segment, 0, count).asReadOnlyBuffer());
+			remaining -= count;
+		}
+
+		return buffers;
+	}
+
+	/**
+	 * The content as a single {@link ByteBuffer}; it's only copied when the content spans more than one segment.
+	 */
+	public ByteBuffer asByteBuffer() {
+		if (segments.size() == 1) {
+			return ByteBuffer.wrap(segments.get(0), 0, size).asReadOnlyBuffer();
+		} else {
+			return ByteBuffer.wrap(toByteArray()).asReadOnlyBuffer();
+		}
+	}
+
+	public InputStream asInputStream() {
+		return new SegmentedInputStream();
+	}
+
+	public String toString(Charset charset) {
+		if (segments.size() == 1) {
+			return new String(segments.get(0), 0, size, charset);
+		} else {
+			return new String(toByteArray(), charset);
+		}
+	}
+
+	/**
+	 * Returns the segments to the pool. The buffer can't be written anymore, and its content is discarded.
+	 */
+	public void release() {
+		if (!released) {
+			released = true;
+			segments.forEach(POOL::give);
+			segments.clear();
+			size = 0;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "SegmentedBuffer: [size: " + size + ", segments: " + segments.size() + "]";
+	}
+
+	private class SegmentedInputStream extends InputStream {
+
+		private int position = 0;
+
+		@Override
+		public int read() {
+			if (position >= size) return -1;
+
+			byte b = segments.get(position / SEGMENT_SIZE)[position % SEGMENT_SIZE];
+			position++;
+
+			return b & 0xff;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (len == 0) return 0;
+			if (position >= size) return -1;
+
+			int count = Math.min(len, Math.min(size - position, SEGMENT_SIZE - (position % SEGMENT_SIZE)));
+
+			System.arraycopy(segments.get(position / SEGMENT_SIZE), position % SEGMENT_SIZE, b, off, count);
+
+			position += count;
+
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return Math.max(size - position, 0);
+		}
+	}
+
+	private static class SegmentPool {
+
+		private final Queue<byte[]> segments = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger available = new AtomicInteger();
+		private final int capacity;
+
+		private SegmentPool(int capacity) {
+			this.capacity = capacity;
+		}
+
+		private byte[] take() {
+			byte[] segment = segments.poll();
+
+			if (segment == null) {
+				return new byte[SEGMENT_SIZE];
+
+			} else {
+				available.decrementAndGet();
+				return segment;
+			}
+		}
+
+		private void give(byte[] segment) {
+			if (available.incrementAndGet() <= capacity) {
+				segments.offer(segment);
+			} else {
+				available.decrementAndGet();
+			}
+		}
+	}
+}
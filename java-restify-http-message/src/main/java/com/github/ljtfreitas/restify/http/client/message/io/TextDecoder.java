@@ -0,0 +1,167 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decodes a whole content to a {@link String} in a single pass, without splitting it in lines.
+ * <p>
+ * Content with only ASCII bytes, in an ASCII-compatible charset (UTF-8, US-ASCII or ISO-8859-1), is copied
+ * directly to the string; any other content is decoded by a {@link CharsetDecoder} reused by each thread.
+ * Malformed or unmappable input is replaced, as {@link String#String(byte[], Charset)} does.
+ */
+public class TextDecoder {
+
+	private static final int DEFAULT_BUFFER_SIZE = 1024 * 8;
+	private static final int MAX_INITIAL_BUFFER_SIZE = 1024 * 1024 * 4;
+	private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+	private static final ConcurrentMap<Charset, TextDecoder> DECODERS = new ConcurrentHashMap<>();
+
+	private final Charset charset;
+	private final boolean asciiCompatible;
+	private final ThreadLocal<CharsetDecoder> decoders;
+
+	private TextDecoder(Charset charset) {
+		this.charset = charset;
+		this.asciiCompatible = StandardCharsets.UTF_8.equals(charset)
+				|| StandardCharsets.US_ASCII.equals(charset)
+				|| StandardCharsets.ISO_8859_1.equals(charset);
+		this.decoders = ThreadLocal.withInitial(() -> charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE));
+	}
+
+	public Charset charset() {
+		return charset;
+	}
+
+	public String decode(byte[] bytes, int offset, int length) {
+		if (asciiCompatible && ascii(bytes, offset, length)) {
+			return copy(bytes, offset, length);
+		}
+		return doDecode(ByteBuffer.wrap(bytes, offset, length));
+	}
+
+	public String decode(ByteBuffer buffer) {
+		if (buffer.hasArray()) {
+			return decode(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+		}
+		return doDecode(buffer.duplicate());
+	}
+
+	/**
+	 * Reads the source to the end and decodes it; the size hint (usually the Content-Length) is used to allocate
+	 * the buffer only once, up to 4MB (larger content grows the buffer as it's read), and can be 0 or negative when it's unknown.
+	 */
+	public String decode(InputStream source, long sizeHint) throws IOException {
+		byte[] bytes = new byte[sizeHint > 0 ? (int) Math.min(sizeHint, MAX_INITIAL_BUFFER_SIZE) : DEFAULT_BUFFER_SIZE];
+		int count = 0;
+
+		while (true) {
+			if (count == bytes.length) {
+				int next = source.read();
+				if (next == -1) {
+					break;
+				}
+				bytes = Arrays.copyOf(bytes, grow(bytes.length));
+				bytes[count++] = (byte) next;
+			}
+
+			int length = source.read(bytes, count, bytes.length - count);
+			if (length == -1) {
+				break;
+			}
+			count += length;
+		}
+
+		return decode(bytes, 0, count);
+	}
+
+	private String doDecode(ByteBuffer input) {
+		CharsetDecoder decoder = decoders.get().reset();
+
+		CharBuffer output = CharBuffer.allocate((int) Math.min(MAX_BUFFER_SIZE, (long) (input.remaining() * (double) decoder.maxCharsPerByte())));
+
+		boolean decoded = false;
+
+		while (true) {
+			CoderResult result = decoded ? decoder.flush(output) : decoder.decode(input, output, true);
+
+			if (result.isUnderflow()) {
+				if (decoded) {
+					break;
+				}
+				decoded = true;
+
+			} else if (result.isOverflow()) {
+				CharBuffer expanded = CharBuffer.allocate(grow(output.capacity()));
+				output.flip();
+				expanded.put(output);
+				output = expanded;
+
+			} else {
+				throw new IllegalStateException("Unable to decode content using charset [" + charset + "]: " + result);
+			}
+		}
+
+		return new String(output.array(), 0, output.position());
+	}
+
+	private boolean ascii(byte[] bytes, int offset, int length) {
+		for (int i = offset, end = offset + length; i < end; i++) {
+			if (bytes[i] < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private String copy(byte[] bytes, int offset, int length) {
+		// an ASCII byte is already the char value, and ISO-8859-1 is copied byte to char without a decoder
+		return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+	}
+
+	private int grow(int size) {
+		return (int) Math.min(MAX_BUFFER_SIZE, Math.max(16, (long) size * 2));
+	}
+
+	public static TextDecoder of(Charset charset) {
+		return DECODERS.computeIfAbsent(charset, TextDecoder::new);
+	}
+}
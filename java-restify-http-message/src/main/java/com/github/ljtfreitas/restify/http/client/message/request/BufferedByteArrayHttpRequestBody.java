@@ -25,52 +25,169 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.message.request;
 
-import java.io.BufferedOutputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import com.github.ljtfreitas.restify.http.client.message.Encoding;
-import com.github.ljtfreitas.restify.util.Try;
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
+import com.github.ljtfreitas.restify.http.client.message.io.SegmentedBuffer;
 
-public class BufferedByteArrayHttpRequestBody implements BufferedHttpRequestBody {
+/**
+ * Request body buffered in memory, on pooled segments ({@link SegmentedBuffer}).
+ * <p>
+ * The content should be sent with {@link #writeTo(OutputStream)} or read with {@link #segments()}, which don't copy it;
+ * {@link #asBytes()} creates an array with the exact size of the content.
+ * HTTP clients should call {@link #release()} after the request was sent, in order to return the segments to the pool.
+ * <p>
+ * A file given to {@link #transferFrom(FileContent)} is not buffered: it's available from {@link #file()}, and
+ * {@link #writeTo(OutputStream)} transfers it directly. The file is only read to memory if the content is requested
+ * as bytes, or if something else is written to the body.
+ */
+public class BufferedByteArrayHttpRequestBody implements BufferedHttpRequestBody, TransferableHttpRequestBody {
 
-	private static final int DEFAULT_BUFFER_SIZE = 1024 * 100;
+	private static final Logger log = Logger.getLogger(BufferedByteArrayHttpRequestBody.class.getCanonicalName());
 
 	private final Charset charset;
-	private final ByteArrayOutputStream source;
-	private final BufferedOutputStream buffer;
+	private final SegmentedBuffer buffer;
+	private final OutputStream output;
+
+	private FileContent file;
 
 	public BufferedByteArrayHttpRequestBody() {
 		this(Encoding.UTF_8.charset());
 	}
 
 	public BufferedByteArrayHttpRequestBody(Charset charset) {
-		this(charset, DEFAULT_BUFFER_SIZE);
+		this.charset = charset;
+		this.buffer = new SegmentedBuffer();
+		this.output = new BufferOutputStream();
 	}
 
+	/**
+	 * @deprecated the buffer grows on demand, so the initial size is ignored; use {@link #BufferedByteArrayHttpRequestBody(Charset)}
+	 */
+	@Deprecated
 	public BufferedByteArrayHttpRequestBody(Charset charset, int size) {
-		this.charset = charset;
-		this.source = new ByteArrayOutputStream(size);
-		this.buffer = new BufferedOutputStream(this.source);
+		this(charset);
 	}
 
 	@Override
 	public OutputStream output() {
-		return buffer;
+		return output;
+	}
+
+	@Override
+	public void transferFrom(FileContent content) throws IOException {
+		if (file == null && buffer.isEmpty()) {
+			file = content;
+
+		} else {
+			try (FileContent c = content) {
+				bufferFile();
+				c.transferTo(buffer);
+			}
+		}
+	}
+
+	@Override
+	public Optional<FileContent> file() {
+		return Optional.ofNullable(file);
 	}
 
 	@Override
 	public byte[] asBytes() {
-		return source.toByteArray();
+		return buffered().toByteArray();
+	}
+
+	@Override
+	public int size() {
+		return file == null ? buffer.size() : Math.toIntExact(file.count());
+	}
+
+	@Override
+	public long contentLength() {
+		return file == null ? buffer.size() : file.count();
+	}
+
+	@Override
+	public ByteBuffer asBuffer() {
+		return buffered().asByteBuffer();
+	}
+
+	@Override
+	public List<ByteBuffer> segments() {
+		return buffered().segments();
+	}
+
+	@Override
+	public void writeTo(OutputStream other) throws IOException {
+		if (file == null) {
+			buffer.writeTo(other);
+		} else {
+			file.transferTo(other);
+		}
+	}
+
+	@Override
+	public void release() {
+		buffer.release();
+
+		if (file != null) {
+			try {
+				file.close();
+			} catch (IOException e) {
+				log.log(Level.WARNING, "Error closing the file of the request body [" + file + "]", e);
+			}
+		}
+	}
+
+	private SegmentedBuffer buffered() {
+		try {
+			bufferFile();
+			return buffer;
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void bufferFile() throws IOException {
+		if (file != null) {
+			try (FileContent c = file) {
+				file = null;
+				c.transferTo(buffer);
+			}
+		}
 	}
 
 	@Override
 	public String toString() {
-		return Try.of(() -> source.toString(charset.name())).get();
+		return file == null ? buffer.toString(charset) : file.toString();
 	}
 
 	public static BufferedHttpRequestBody empty() {
-		return new BufferedByteArrayHttpRequestBody(Encoding.UTF_8.charset(), 0);
+		return new BufferedByteArrayHttpRequestBody(Encoding.UTF_8.charset());
+	}
+
+	private class BufferOutputStream extends OutputStream {
+
+		@Override
+		public void write(int b) throws IOException {
+			bufferFile();
+			buffer.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			bufferFile();
+			buffer.write(b, off, len);
+		}
 	}
 }
@@ -31,11 +31,46 @@ import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
 
 public interface BufferedHttpRequestBody extends StreamableHttpRequestBody {
 
 	byte[] asBytes();
 
+	default int size() {
+		return asBytes().length;
+	}
+
+	default long contentLength() {
+		return size();
+	}
+
+	/**
+	 * The file used as the content of this body, if any. HTTP clients should send the file itself, instead of reading
+	 * the content as bytes; the length of the file is given by {@link #contentLength()}.
+	 */
+	default Optional<FileContent> file() {
+		return Optional.empty();
+	}
+
+	default ByteBuffer asBuffer() {
+		return ByteBuffer.wrap(asBytes()).asReadOnlyBuffer();
+	}
+
+	default List<ByteBuffer> segments() {
+		return Collections.singletonList(asBuffer());
+	}
+
+	/**
+	 * Signals that the content was sent and is not necessary anymore, so the buffer can be reused.
+	 */
+	default void release() {
+	}
+
 	@Override
 	default void writeTo(OutputStream other) throws IOException {
 		WritableByteChannel channel = Channels.newChannel(other);
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.response;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.github.ljtfreitas.restify.http.client.message.io.ByteBufferInputStream;
+
+/**
+ * Response body already held in memory, which can be read directly as a {@link ByteBuffer}.
+ * <p>
+ * Each call to {@link #buffer()} returns a new view of the content (from its position to its limit),
+ * without copying it; the view must not be modified.
+ */
+public interface BufferedHttpResponseBody extends HttpResponseBody {
+
+	ByteBuffer buffer();
+
+	@Override
+	default InputStream input() {
+		return new ByteBufferInputStream(buffer());
+	}
+
+	@Override
+	default long contentLength() {
+		return buffer().remaining();
+	}
+}
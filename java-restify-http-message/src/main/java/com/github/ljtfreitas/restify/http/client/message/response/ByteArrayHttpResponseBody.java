@@ -28,10 +28,11 @@ package com.github.ljtfreitas.restify.http.client.message.response;
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import com.github.ljtfreitas.restify.http.client.message.io.InputStreamContent;
 
-public class ByteArrayHttpResponseBody implements StringHttpResponseBody {
+public class ByteArrayHttpResponseBody implements StringHttpResponseBody, BufferedHttpResponseBody {
 
 	private final byte[] contentAsBytes;
 
@@ -44,6 +45,16 @@ public class ByteArrayHttpResponseBody implements StringHttpResponseBody {
 		return new BufferedInputStream(new ByteArrayInputStream(contentAsBytes));
 	}
 
+	@Override
+	public ByteBuffer buffer() {
+		return ByteBuffer.wrap(contentAsBytes);
+	}
+
+	@Override
+	public long contentLength() {
+		return contentAsBytes.length;
+	}
+
 	@Override
 	public boolean empty() {
 		return contentAsBytes.length == 0;
@@ -55,6 +66,15 @@ public class ByteArrayHttpResponseBody implements StringHttpResponseBody {
 	}
 
 	public static ByteArrayHttpResponseBody of(HttpResponseBody source) {
+		if (source instanceof BufferedHttpResponseBody) {
+			ByteBuffer buffer = ((BufferedHttpResponseBody) source).buffer();
+
+			byte[] contentAsBytes = new byte[buffer.remaining()];
+			buffer.get(contentAsBytes);
+
+			return new ByteArrayHttpResponseBody(contentAsBytes);
+		}
+
 		InputStreamContent content = new InputStreamContent(source.input());
 		return new ByteArrayHttpResponseBody(content.asBytes());
 	}
@@ -26,9 +26,21 @@
 package com.github.ljtfreitas.restify.http.client.message.response;
 
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 
 public interface HttpResponseBody {
 
 	public InputStream input();
 
+	public default ReadableByteChannel channel() {
+		return Channels.newChannel(input());
+	}
+
+	/**
+	 * The length of the body in bytes, or -1 when it's unknown; only a hint to size buffers, the body can be shorter.
+	 */
+	public default long contentLength() {
+		return -1;
+	}
 }
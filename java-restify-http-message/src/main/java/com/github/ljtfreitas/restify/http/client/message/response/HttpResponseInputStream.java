@@ -0,0 +1,115 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Live stream of a response body, which owns the response: it is not closed after the body was read
+ * (as usual), but only when this stream is closed. The connection stays open until then, so callers must always close it.
+ * <p>
+ * When the stream is closed before the end of the content, the body stream is not closed (which could read the remaining
+ * content, depending on the HTTP client); only the response is, and it's up to the client to release the connection without reading it.
+ */
+public class HttpResponseInputStream extends FilterInputStream {
+
+	private final HttpResponseMessage response;
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+
+	private volatile boolean eof = false;
+
+	public HttpResponseInputStream(HttpResponseMessage response) {
+		super(response.body().input());
+		this.response = response;
+	}
+
+	@Override
+	public int read() throws IOException {
+		return eof(super.read());
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		return eof(super.read(b, off, len));
+	}
+
+	/**
+	 * Channel over the same response body (see {@link HttpResponseBody#channel()}), to read it without an intermediate
+	 * byte array. Closing the channel closes this stream.
+	 */
+	public ReadableByteChannel channel() {
+		return new HttpResponseChannel(response.body().channel());
+	}
+
+	private int eof(int result) {
+		if (result == -1) eof = true;
+		return result;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed.compareAndSet(false, true)) {
+			try {
+				if (eof) super.close();
+			} finally {
+				response.close();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "HttpResponseInputStream: [" + response.status() + "]";
+	}
+
+	private class HttpResponseChannel implements ReadableByteChannel {
+
+		private final ReadableByteChannel source;
+
+		private HttpResponseChannel(ReadableByteChannel source) {
+			this.source = source;
+		}
+
+		@Override
+		public int read(ByteBuffer destination) throws IOException {
+			return eof(source.read(destination));
+		}
+
+		@Override
+		public boolean isOpen() {
+			return !closed.get();
+		}
+
+		@Override
+		public void close() throws IOException {
+			HttpResponseInputStream.this.close();
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.github.ljtfreitas.restify.http.client.message;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -134,4 +135,66 @@ public class ContentTypeTest {
 		assertTrue(wildcardContentType.compatible(halJsonContentType));
 		assertTrue(halJsonContentType.compatible(wildcardContentType));
 	}
+
+	@Test
+	public void shouldReturnSameInstanceOfCommonContentTypes() {
+		assertSame(ContentType.APPLICATION_JSON, ContentType.of("application/json"));
+		assertSame(ContentType.TEXT_PLAIN, ContentType.of("text/plain"));
+		assertSame(ContentType.WILDCARD, ContentType.of("*/*"));
+	}
+
+	@Test
+	public void shouldReuseParsedContentTypeOfSameValue() {
+		String source = "application/vnd.bla+json; charset=UTF-8";
+
+		ContentType contentType = ContentType.of(source);
+
+		assertSame(contentType, ContentType.of(source));
+	}
+
+	@Test
+	public void shouldKeepRecentlyUsedContentTypesCachedWhenManyDistinctValuesAreParsed() {
+		String source = "application/vnd.bla+json; charset=UTF-8";
+
+		ContentType contentType = ContentType.of(source);
+
+		for (int i = 0; i < 1000; i++) {
+			ContentType.of("multipart/form-data; boundary=" + i);
+
+			assertSame(contentType, ContentType.of(source));
+		}
+
+		String common = "application/vnd.other+json; charset=UTF-8";
+
+		assertSame(ContentType.of(common), ContentType.of(common));
+	}
+
+	@Test
+	public void shouldNotChangeCachedContentTypeWhenParameterIsAdded() {
+		ContentType newContentType = ContentType.of("application/json").append("charset", "UTF-8");
+
+		assertEquals("application/json; charset=UTF-8", newContentType.toString());
+
+		assertTrue(ContentType.of("application/json").parameters().empty());
+		assertTrue(ContentType.APPLICATION_JSON.parameters().empty());
+	}
+
+	@Test
+	public void shouldBeIncompatibleWhenSuffixTypeWildcardAreDifferent() {
+		ContentType halJsonContentType = ContentType.of("application/hal+json");
+
+		ContentType xmlWildcardContentType = ContentType.of("application/*+xml");
+
+		assertFalse(halJsonContentType.compatible(xmlWildcardContentType));
+		assertFalse(xmlWildcardContentType.compatible(halJsonContentType));
+	}
+
+	@Test
+	public void shouldParseContentTypeIgnoringCaseOfName() {
+		ContentType contentType = ContentType.of("Application/JSON;charset=UTF-8");
+
+		assertTrue(contentType.is(ContentType.APPLICATION_JSON));
+		assertEquals(ContentType.APPLICATION_JSON.hashCode(), contentType.hashCode());
+		assertEquals("UTF-8", contentType.parameter("charset").get());
+	}
 }
@@ -1,10 +1,17 @@
 package com.github.ljtfreitas.restify.http.client.message;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -86,4 +93,95 @@ public class HeadersTest {
 		assertThat(output, not(hasItem(Header.of("X-Source", "source"))));
 		assertThat(output, hasItem(Header.of("X-Source", "new-source")));
 	}
+
+	@Test
+	public void mustApplyChainOfChangesInOrderWithoutChangingIntermediateHeaders() {
+		Headers first = headers.add("X-Custom", "value1");
+		Headers second = first.replace("x-source", "new-source").add("X-Custom", "value2");
+		Headers branch = first.add("X-Other", "other");
+
+		assertThat(headers.all(), contains(Header.of("X-Source", "source")));
+		assertThat(first.all(), contains(Header.of("X-Source", "source"), Header.of("X-Custom", "value1")));
+		assertThat(second.all(), contains(Header.of("X-Custom", "value1"), Header.of("x-source", "new-source"),
+				Header.of("X-Custom", "value2")));
+		assertThat(branch.all(), contains(Header.of("X-Source", "source"), Header.of("X-Custom", "value1"),
+				Header.of("X-Other", "other")));
+
+		assertEquals("new-source", second.get("X-Source").map(Header::value).orElse(null));
+		assertThat(second.all("X-Custom"), hasSize(2));
+	}
+
+	@Test
+	public void mustBuildHeadersUsingBuilderWithoutChangingTheSource() {
+		Headers output = new Headers.Builder(headers)
+				.add("X-Custom", "value")
+				.replace(Header.of("X-Source", "new-source"))
+				.build();
+
+		assertThat(headers, hasItem(Header.of("X-Source", "source")));
+		assertThat(headers, not(hasItem(Header.of("X-Custom", "value"))));
+
+		assertThat(output, hasItem(Header.of("X-Custom", "value")));
+		assertThat(output, hasItem(Header.of("X-Source", "new-source")));
+		assertThat(output, not(hasItem(Header.of("X-Source", "source"))));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void mustNotChangeHeadersAfterBuilt() {
+		Headers.Builder builder = new Headers.Builder();
+
+		builder.add("X-Custom", "value").build();
+
+		builder.add("X-Other", "value");
+	}
+
+	@Test
+	public void mustGetHeaderIgnoringCaseOfName() {
+		Optional<Header> header = headers.get("x-source");
+
+		assertTrue(header.isPresent());
+		assertEquals("source", header.get().value());
+
+		assertTrue(headers.get("X-SOURCE").isPresent());
+		assertFalse(headers.get("X-Other").isPresent());
+	}
+
+	@Test
+	public void mustGetAllValuesOfHeaderIgnoringCaseOfName() {
+		Headers output = headers.add("x-custom", "value1").add("X-Custom", "value2");
+
+		assertThat(output.all("X-CUSTOM"), contains(Header.of("x-custom", "value1"), Header.of("X-Custom", "value2")));
+		assertThat(output.all("X-Other"), empty());
+	}
+
+	@Test
+	public void mustKeepInsertionOrderOfHeaders() {
+		Headers output = headers.add("X-Custom", "value1").add("X-Other", "other").add("X-Custom", "value2");
+
+		assertThat(output.all(), contains(Header.of("X-Source", "source"), Header.of("X-Custom", "value1"),
+				Header.of("X-Other", "other"), Header.of("X-Custom", "value2")));
+	}
+
+	@Test
+	public void mustIgnoreDuplicatedHeader() {
+		Headers output = headers.add("x-source", "source");
+
+		assertThat(output.all(), hasSize(1));
+	}
+
+	@Test
+	public void mustReplaceAllValuesOfHeaderIgnoringCaseOfName() {
+		Headers output = headers.add("x-source", "other-source").replace("X-SOURCE", "new-source");
+
+		assertThat(output.all(), contains(Header.of("X-SOURCE", "new-source")));
+	}
+
+	@Test
+	public void mustBuildHeadersWithCollectionOfValues() {
+		Headers output = new Headers.Builder()
+				.add("X-Custom", Arrays.asList("value1", "value2"))
+				.build();
+
+		assertThat(output.all("x-custom"), contains(Header.of("X-Custom", "value1"), Header.of("X-Custom", "value2")));
+	}
 }
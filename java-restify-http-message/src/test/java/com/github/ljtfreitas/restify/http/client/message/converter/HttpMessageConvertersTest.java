@@ -0,0 +1,91 @@
+package com.github.ljtfreitas.restify.http.client.message.converter;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.client.message.ContentType;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HttpMessageConvertersTest {
+
+	@Mock
+	private HttpMessageReader<String> textReader;
+
+	@Mock
+	private HttpMessageReader<Object> jsonReader;
+
+	@Mock
+	private HttpMessageWriter<Object> jsonWriter;
+
+	private HttpMessageConverters converters;
+
+	@Before
+	public void setup() {
+		when(textReader.contentTypes()).thenReturn(Collections.singleton(ContentType.TEXT_PLAIN));
+		when(textReader.canRead(String.class)).thenReturn(true);
+
+		when(jsonReader.contentTypes()).thenReturn(Collections.singleton(ContentType.APPLICATION_JSON));
+		when(jsonReader.canRead(MyModel.class)).thenReturn(true);
+
+		when(jsonWriter.contentTypes()).thenReturn(Collections.singleton(ContentType.APPLICATION_JSON));
+		when(jsonWriter.canWrite(MyModel.class)).thenReturn(true);
+
+		converters = new HttpMessageConverters(Arrays.asList(textReader, jsonReader, jsonWriter));
+	}
+
+	@Test
+	public void shouldReuseSelectedReaderOfSameContentTypeAndType() {
+		Optional<HttpMessageReader<Object>> first = converters.readerOf(ContentType.of("application/json"), MyModel.class);
+		Optional<HttpMessageReader<Object>> second = converters.readerOf(ContentType.of("application/json; charset=UTF-8"), MyModel.class);
+
+		assertTrue(first.isPresent());
+		assertSame(jsonReader, first.get());
+		assertSame(first.get(), second.get());
+
+		verify(jsonReader, times(1)).canRead(MyModel.class);
+	}
+
+	@Test
+	public void shouldReuseAbsentReaderOfSameContentTypeAndType() {
+		assertFalse(converters.readerOf(ContentType.of("application/xml"), MyModel.class).isPresent());
+		assertFalse(converters.readerOf(ContentType.of("application/xml"), MyModel.class).isPresent());
+
+		verify(jsonReader, times(1)).contentTypes();
+	}
+
+	@Test
+	public void shouldSelectReaderByEachType() {
+		assertSame(textReader, converters.readerOf(ContentType.TEXT_PLAIN, String.class).get());
+		assertFalse(converters.readerOf(ContentType.TEXT_PLAIN, MyModel.class).isPresent());
+	}
+
+	@Test
+	public void shouldReuseSelectedWriterOfSameContentTypeAndType() {
+		Optional<HttpMessageWriter<Object>> first = converters.writerOf(ContentType.APPLICATION_JSON, MyModel.class);
+		Optional<HttpMessageWriter<Object>> second = converters.writerOf(ContentType.APPLICATION_JSON, MyModel.class);
+
+		assertSame(jsonWriter, first.get());
+		assertSame(first.get(), second.get());
+
+		assertFalse(converters.writerOf(ContentType.APPLICATION_JSON, String.class).isPresent());
+
+		verify(jsonWriter, times(1)).canWrite(MyModel.class);
+	}
+
+	private class MyModel {
+	}
+}
@@ -19,8 +19,11 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import com.github.ljtfreitas.restify.http.client.message.ContentType;
 import com.github.ljtfreitas.restify.http.client.message.Encoding;
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.request.BufferedByteArrayHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.ByteArrayHttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -55,6 +58,8 @@ public class StringMessageConverterTest {
 		output = new BufferedByteArrayHttpRequestBody();
 		
 		when(request.body()).thenReturn(output);
+
+		when(response.headers()).thenReturn(new Headers());
 	}
 
 	@Test
@@ -107,4 +112,57 @@ public class StringMessageConverterTest {
 
 		assertEquals(message, content);
 	}
+
+	@Test
+	public void shouldReadStringMessageUsingCharsetOfContentType() throws Exception {
+		message = "Hell\u00f3\u00f2\u00fa";
+
+		ByteArrayInputStream input = new ByteArrayInputStream(message.getBytes("ISO-8859-1"));
+
+		when(response.headers()).thenReturn(new Headers(new Header(Headers.CONTENT_TYPE, "text/plain; charset=ISO-8859-1")));
+		when(response.body().input()).thenReturn(input);
+
+		Object content = converter.read(response, String.class);
+
+		assertEquals(message, content);
+	}
+
+	@Test
+	public void shouldReadUtf8StringMessageWhenContentTypeHasNoCharset() throws Exception {
+		message = "Hell\u00f3\u00f2\u00fa\nSimple String message, second line.";
+
+		ByteArrayInputStream input = new ByteArrayInputStream(message.getBytes("UTF-8"));
+
+		when(response.headers()).thenReturn(new Headers(new Header(Headers.CONTENT_TYPE, "text/plain")));
+		when(response.body().input()).thenReturn(input);
+
+		Object content = converter.read(response, String.class);
+
+		assertEquals(message, content);
+	}
+
+	@Test
+	public void shouldPreserveLineBreaksOfStringMessage() {
+		message = "Simple String message.\r\nSimple String message, second line.\r\n";
+
+		ByteArrayInputStream input = new ByteArrayInputStream(message.getBytes());
+
+		when(response.headers()).thenReturn(new Headers(new Header(Headers.CONTENT_LENGTH, "10")));
+		when(response.body().input()).thenReturn(input);
+
+		Object content = converter.read(response, String.class);
+
+		assertEquals(message, content);
+	}
+
+	@Test
+	public void shouldReadBufferedStringMessage() throws Exception {
+		message = "Hell\u00f3\u00f2\u00fa";
+
+		when(response.body()).thenReturn(ByteArrayHttpResponseBody.of(() -> new ByteArrayInputStream(message.getBytes(Encoding.UTF_8.charset()))));
+
+		Object content = converter.read(response, String.class);
+
+		assertEquals(message, content);
+	}
 }
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileContentTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path file;
+
+	@Before
+	public void setup() throws IOException {
+		file = folder.newFile().toPath();
+		Files.write(file, "0123456789".getBytes());
+	}
+
+	@Test
+	public void shouldTransferWholeFile() throws IOException {
+		try (FileContent content = FileContent.of(file)) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+			assertEquals(10, content.transferTo(output));
+			assertEquals("0123456789", new String(output.toByteArray()));
+		}
+	}
+
+	@Test
+	public void shouldTransferRegionOfFileMoreThanOnce() throws IOException {
+		try (FileContent content = new FileContent(FileChannel.open(file, StandardOpenOption.READ), 2, 5)) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+			content.transferTo(output);
+			content.transferTo(output);
+
+			assertEquals("2345623456", new String(output.toByteArray()));
+			assertEquals(0, content.channel().position());
+		}
+	}
+
+	@Test
+	public void shouldReadRegionOfFileAsInputStream() throws IOException {
+		try (FileContent content = new FileContent(FileChannel.open(file, StandardOpenOption.READ), 3, 4)) {
+			InputStreamContent stream = new InputStreamContent(content.asInputStream());
+
+			assertEquals("3456", stream.asString());
+			assertTrue(content.channel().isOpen());
+		}
+	}
+
+	@Test
+	public void shouldNotCloseBorrowedFileChannel() throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			FileContent content = FileContent.borrowed(channel);
+			content.close();
+
+			assertFalse(content.owner());
+			assertTrue(channel.isOpen());
+		}
+	}
+
+	@Test(expected = EOFException.class)
+	public void shouldThrowExceptionWhenFileIsSmallerThanRegion() throws IOException {
+		try (FileContent content = new FileContent(FileChannel.open(file, StandardOpenOption.READ), 5, 10)) {
+			content.transferTo(new ByteArrayOutputStream());
+		}
+	}
+}
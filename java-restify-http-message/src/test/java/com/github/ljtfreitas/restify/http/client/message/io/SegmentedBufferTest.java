@@ -0,0 +1,157 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class SegmentedBufferTest {
+
+	private SegmentedBuffer buffer;
+
+	private byte[] content;
+
+	@Before
+	public void setup() {
+		buffer = new SegmentedBuffer();
+
+		content = new byte[SegmentedBuffer.SEGMENT_SIZE * 2 + 100];
+		new Random().nextBytes(content);
+	}
+
+	@Test
+	public void shouldNotTakeAnySegmentWhenBufferIsEmpty() {
+		assertTrue(buffer.isEmpty());
+		assertEquals(0, buffer.toByteArray().length);
+		assertTrue(buffer.segments().isEmpty());
+	}
+
+	@Test
+	public void shouldReturnContentWithExactSize() throws IOException {
+		buffer.write("restify".getBytes());
+
+		assertEquals(7, buffer.size());
+		assertArrayEquals("restify".getBytes(), buffer.toByteArray());
+		assertEquals("restify", buffer.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void shouldGrowAcrossSegments() throws IOException {
+		buffer.write(content, 0, 10);
+		buffer.write(content[10]);
+		buffer.write(content, 11, content.length - 11);
+
+		assertEquals(content.length, buffer.size());
+		assertArrayEquals(content, buffer.toByteArray());
+
+		List<ByteBuffer> segments = buffer.segments();
+
+		assertEquals(3, segments.size());
+		assertEquals(SegmentedBuffer.SEGMENT_SIZE, segments.get(0).remaining());
+		assertEquals(100, segments.get(2).remaining());
+	}
+
+	@Test
+	public void shouldWriteContentToOutputStream() throws IOException {
+		buffer.write(content);
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		buffer.writeTo(output);
+
+		assertArrayEquals(content, output.toByteArray());
+	}
+
+	@Test
+	public void shouldReadContentAsInputStream() throws IOException {
+		buffer.write(content);
+
+		InputStream input = buffer.asInputStream();
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		int length;
+		byte[] data = new byte[1000];
+		while ((length = input.read(data)) != -1) {
+			output.write(data, 0, length);
+		}
+
+		assertArrayEquals(content, output.toByteArray());
+	}
+
+	@Test
+	public void shouldReadContentAsByteBuffer() throws IOException {
+		buffer.write(content);
+
+		ByteBuffer byteBuffer = buffer.asByteBuffer();
+
+		byte[] bytes = new byte[byteBuffer.remaining()];
+		byteBuffer.get(bytes);
+
+		assertArrayEquals(content, bytes);
+	}
+
+	@Test
+	public void shouldDiscardContentWhenReleased() throws IOException {
+		buffer.write(content);
+
+		buffer.release();
+		buffer.release();
+
+		assertEquals(0, buffer.size());
+		assertTrue(buffer.segments().isEmpty());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldThrowExceptionWhenWritingToReleasedBuffer() throws IOException {
+		buffer.release();
+
+		buffer.write(content);
+	}
+
+	@Test
+	public void shouldReuseReleasedSegments() throws IOException {
+		buffer.write(content);
+		buffer.release();
+
+		SegmentedBuffer other = new SegmentedBuffer();
+		other.write("restify".getBytes());
+
+		assertArrayEquals("restify".getBytes(), other.toByteArray());
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class TextDecoderTest {
+
+	private final String asciiContent = "Simple text content.\r\nSecond line.\n";
+
+	private final String content = "Simple text content, with a\u00e7\u00e3o and \u65e5\u672c\u8a9e.\r\nSecond line.";
+
+	@Test
+	public void shouldDecodeAsciiContent() {
+		byte[] bytes = asciiContent.getBytes(StandardCharsets.UTF_8);
+
+		assertEquals(asciiContent, TextDecoder.of(StandardCharsets.UTF_8).decode(bytes, 0, bytes.length));
+	}
+
+	@Test
+	public void shouldDecodeUtf8Content() {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+		assertEquals(content, TextDecoder.of(StandardCharsets.UTF_8).decode(bytes, 0, bytes.length));
+	}
+
+	@Test
+	public void shouldDecodeContentUsingOtherCharsets() {
+		Charset utf16 = StandardCharsets.UTF_16;
+		Charset latin1 = StandardCharsets.ISO_8859_1;
+
+		assertEquals(content, TextDecoder.of(utf16).decode(ByteBuffer.wrap(content.getBytes(utf16))));
+		assertEquals("a\u00e7\u00e3o", TextDecoder.of(latin1).decode(ByteBuffer.wrap("a\u00e7\u00e3o".getBytes(latin1))));
+	}
+
+	@Test
+	public void shouldDecodePartOfArray() {
+		byte[] bytes = ("--" + content + "--").getBytes(StandardCharsets.UTF_8);
+
+		assertEquals(content, TextDecoder.of(StandardCharsets.UTF_8).decode(bytes, 2, bytes.length - 4));
+	}
+
+	@Test
+	public void shouldDecodeDirectBuffer() {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes).flip();
+
+		assertEquals(content, TextDecoder.of(StandardCharsets.UTF_8).decode(buffer));
+		assertEquals(bytes.length, buffer.remaining());
+	}
+
+	@Test
+	public void shouldDecodeInputStreamIndependentlyOfSizeHint() throws Exception {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+		TextDecoder decoder = TextDecoder.of(StandardCharsets.UTF_8);
+
+		assertEquals(content, decoder.decode(new ByteArrayInputStream(bytes), bytes.length));
+		assertEquals(content, decoder.decode(new ByteArrayInputStream(bytes), 4));
+		assertEquals(content, decoder.decode(new ByteArrayInputStream(bytes), bytes.length * 2));
+		assertEquals(content, decoder.decode(new ByteArrayInputStream(bytes), -1));
+	}
+
+	@Test
+	public void shouldNotAllocateTheWholeSizeHintBeforeReading() throws Exception {
+		TextDecoder decoder = TextDecoder.of(StandardCharsets.UTF_8);
+
+		assertEquals("small content", decoder.decode(new ByteArrayInputStream("small content".getBytes()), Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void shouldDecodeEmptyContent() throws Exception {
+		assertEquals("", TextDecoder.of(StandardCharsets.UTF_8).decode(new ByteArrayInputStream(new byte[0]), 0));
+		assertEquals("", TextDecoder.of(StandardCharsets.UTF_16).decode(new byte[0], 0, 0));
+	}
+
+	@Test
+	public void shouldReplaceMalformedInput() {
+		byte[] bytes = new byte[] { 'a', (byte) 0xC3, 'b' };
+
+		assertEquals(new String(bytes, StandardCharsets.UTF_8), TextDecoder.of(StandardCharsets.UTF_8).decode(bytes, 0, bytes.length));
+	}
+
+	@Test
+	public void shouldReuseDecoderOfCharset() {
+		assertSame(TextDecoder.of(StandardCharsets.UTF_8), TextDecoder.of(StandardCharsets.UTF_8));
+	}
+}
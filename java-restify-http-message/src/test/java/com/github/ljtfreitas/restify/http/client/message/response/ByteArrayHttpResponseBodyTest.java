@@ -5,6 +5,7 @@ import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -41,4 +42,24 @@ public class ByteArrayHttpResponseBodyTest {
 		assertEquals("this is a response", new InputStreamContent(subject.input()).asString());
 		assertEquals("this is a response", new InputStreamContent(subject.input()).asString());
 	}
+
+	@Test
+	public void shouldReadContentAsByteBuffer() {
+		ByteBuffer buffer = subject.buffer();
+
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+
+		assertEquals("this is a response", new String(bytes));
+		assertEquals(18, subject.contentLength());
+	}
+
+	@Test
+	public void shouldCopyContentFromBufferedHttpResponseBody() {
+		BufferedHttpResponseBody buffered = () -> ByteBuffer.wrap("this is a buffered response".getBytes());
+
+		ByteArrayHttpResponseBody body = ByteArrayHttpResponseBody.of(buffered);
+
+		assertEquals("this is a buffered response", body.asString());
+	}
 }
@@ -0,0 +1,74 @@
+package com.github.ljtfreitas.restify.http.client.message.response;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.client.message.io.InputStreamContent;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HttpResponseInputStreamTest {
+
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS)
+	private HttpResponseMessage response;
+
+	private InputStream source;
+
+	private HttpResponseInputStream subject;
+
+	@Before
+	public void setup() {
+		source = spy(new ByteArrayInputStream("this is a response".getBytes()));
+
+		when(response.body().input()).thenReturn(source);
+
+		subject = new HttpResponseInputStream(response);
+	}
+
+	@Test
+	public void shouldReadResponseBody() throws IOException {
+		assertEquals("this is a response", new InputStreamContent(subject).asString());
+	}
+
+	@Test
+	public void shouldCloseResponseAndBodyWhenContentWasFullyRead() throws IOException {
+		new InputStreamContent(subject).asString();
+
+		subject.close();
+
+		verify(source).close();
+		verify(response).close();
+	}
+
+	@Test
+	public void shouldCloseOnlyResponseWhenContentWasNotFullyRead() throws IOException {
+		subject.read();
+
+		subject.close();
+
+		verify(source, never()).close();
+		verify(response).close();
+	}
+
+	@Test
+	public void shouldCloseResponseOnlyOnce() throws IOException {
+		subject.close();
+		subject.close();
+
+		verify(response, times(1)).close();
+	}
+}
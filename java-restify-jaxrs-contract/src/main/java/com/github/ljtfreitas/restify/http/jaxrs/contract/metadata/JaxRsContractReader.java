@@ -29,6 +29,7 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.Path;
@@ -52,6 +53,12 @@ public class JaxRsContractReader implements ContractReader {
 		return new EndpointMethods(doRead(endpointTarget));
 	}
 
+	@Override
+	public Optional<Object> cacheKey() {
+		// stateless: every instance reads the same contracts
+		return Optional.of(JaxRsContractReader.class);
+	}
+
 	private Collection<EndpointMethod> doRead(EndpointTarget target) {
 		JaxRsJavaTypeMetadata javaTypeMetadata = new JaxRsJavaTypeMetadata(target.type());
 
@@ -27,16 +27,21 @@ package com.github.ljtfreitas.restify.http.client.message.converter.json;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageReadException;
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageWriteException;
+import com.github.ljtfreitas.restify.http.client.message.io.ByteBufferInputStream;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.BufferedHttpResponseBody;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 
 public class JacksonMessageConverter<T> implements JsonMessageConverter<T> {
@@ -65,9 +70,20 @@ public class JacksonMessageConverter<T> implements JsonMessageConverter<T> {
 	@Override
 	public T read(HttpResponseMessage httpResponseMessage, Type expectedType) throws HttpMessageReadException {
 		try {
-			TypeFactory typeFactory = objectMapper.getTypeFactory();
+			JavaType javaType = objectMapper.getTypeFactory().constructType(expectedType);
 
-			return objectMapper.readValue(httpResponseMessage.body().input(), typeFactory.constructType(expectedType));
+			HttpResponseBody body = httpResponseMessage.body();
+
+			if (body instanceof BufferedHttpResponseBody) {
+				ByteBuffer buffer = ((BufferedHttpResponseBody) body).buffer();
+
+				return buffer.hasArray() ?
+						objectMapper.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), javaType) :
+							objectMapper.readValue(new ByteBufferInputStream(buffer), javaType);
+
+			} else {
+				return objectMapper.readValue(body.input(), javaType);
+			}
 
 		} catch (IOException e) {
 			throw new HttpMessageReadException(e);
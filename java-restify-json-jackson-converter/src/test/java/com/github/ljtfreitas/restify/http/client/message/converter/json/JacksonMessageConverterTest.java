@@ -7,6 +7,7 @@ import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
@@ -23,6 +24,7 @@ import com.github.ljtfreitas.restify.http.client.message.Encoding;
 import com.github.ljtfreitas.restify.http.client.message.request.BufferedByteArrayHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.BufferedHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.BufferedHttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 import com.github.ljtfreitas.restify.reflection.SimpleParameterizedType;
 
@@ -105,6 +107,36 @@ public class JacksonMessageConverterTest {
 		assertEquals(31, myJsonModel.age);
 	}
 
+	@Test
+	public void shouldReadJsonMessageFromBufferedBody() {
+		BufferedHttpResponseBody body = () -> ByteBuffer.wrap(json.getBytes());
+
+		when(response.body()).thenReturn(body);
+
+		MyJsonModel myJsonModel = (MyJsonModel) converter.read(response, MyJsonModel.class);
+
+		assertEquals("Tiago de Freitas Lima", myJsonModel.name);
+		assertEquals(31, myJsonModel.age);
+	}
+
+	@Test
+	public void shouldReadJsonMessageFromDirectBufferedBody() {
+		byte[] bytes = json.getBytes();
+
+		BufferedHttpResponseBody body = () -> {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+			buffer.put(bytes).flip();
+			return buffer;
+		};
+
+		when(response.body()).thenReturn(body);
+
+		MyJsonModel myJsonModel = (MyJsonModel) converter.read(response, MyJsonModel.class);
+
+		assertEquals("Tiago de Freitas Lima", myJsonModel.name);
+		assertEquals(31, myJsonModel.age);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void shouldReadJsonMessageToDefaultJacksonObject() {
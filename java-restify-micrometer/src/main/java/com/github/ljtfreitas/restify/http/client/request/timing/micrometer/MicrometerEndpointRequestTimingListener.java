@@ -0,0 +1,103 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.request.timing.micrometer;
+
+import static com.github.ljtfreitas.restify.util.Preconditions.nonNull;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestPhase;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestTimingListener;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records each request phase as a Micrometer {@link Timer}, tagged by endpoint method, HTTP method and phase.
+ * Timers are created once per Java method, and shared by proxies rebound to other endpoints, so recording a phase doesn't allocate.
+ */
+public class MicrometerEndpointRequestTimingListener implements EndpointRequestTimingListener {
+
+	private static final String DEFAULT_METRIC_NAME = "restify.endpoint.request";
+
+	private static final EndpointRequestPhase[] PHASES = EndpointRequestPhase.values();
+
+	private final MeterRegistry registry;
+	private final String name;
+	private final boolean histogram;
+
+	private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+	public MicrometerEndpointRequestTimingListener(MeterRegistry registry) {
+		this(registry, DEFAULT_METRIC_NAME);
+	}
+
+	public MicrometerEndpointRequestTimingListener(MeterRegistry registry, String name) {
+		this(registry, name, true);
+	}
+
+	public MicrometerEndpointRequestTimingListener(MeterRegistry registry, String name, boolean histogram) {
+		this.registry = nonNull(registry, "Micrometer MeterRegistry cannot be null.");
+		this.name = nonNull(name, "Metric name cannot be null.");
+		this.histogram = histogram;
+	}
+
+	@Override
+	public void onPhase(EndpointMethod endpointMethod, EndpointRequestPhase phase, long startNanos, long endNanos) {
+		timersOf(endpointMethod)[phase.ordinal()].record(endNanos - startNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private Timer[] timersOf(EndpointMethod endpointMethod) {
+		Timer[] endpointMethodTimers = timers.get(endpointMethod.javaMethod());
+		return endpointMethodTimers == null ? timers.computeIfAbsent(endpointMethod.javaMethod(), m -> newTimers(endpointMethod)) : endpointMethodTimers;
+	}
+
+	private Timer[] newTimers(EndpointMethod endpointMethod) {
+		Timer[] endpointMethodTimers = new Timer[PHASES.length];
+
+		String method = nameOf(endpointMethod.javaMethod());
+
+		for (EndpointRequestPhase phase : PHASES) {
+			endpointMethodTimers[phase.ordinal()] = Timer.builder(name)
+					.description("Duration of each phase of a java-restify endpoint request")
+					.tag("method", method)
+					.tag("http.method", endpointMethod.httpMethod())
+					.tag("phase", phase.name().toLowerCase())
+					.publishPercentileHistogram(histogram)
+					.register(registry);
+		}
+
+		return endpointMethodTimers;
+	}
+
+	private String nameOf(Method javaMethod) {
+		return javaMethod.getDeclaringClass().getSimpleName() + "." + javaMethod.getName();
+	}
+}
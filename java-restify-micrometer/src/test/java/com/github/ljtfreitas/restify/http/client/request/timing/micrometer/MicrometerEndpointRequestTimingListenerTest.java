@@ -0,0 +1,83 @@
+package com.github.ljtfreitas.restify.http.client.request.timing.micrometer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestPhase;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MicrometerEndpointRequestTimingListenerTest {
+
+	private SimpleMeterRegistry registry;
+
+	private MicrometerEndpointRequestTimingListener listener;
+
+	private EndpointMethod endpointMethod;
+
+	@Before
+	public void setup() throws Exception {
+		registry = new SimpleMeterRegistry();
+
+		listener = new MicrometerEndpointRequestTimingListener(registry);
+
+		endpointMethod = new EndpointMethod(MyApi.class.getMethod("find"), "/path", "GET");
+	}
+
+	@Test
+	public void shouldRecordPhaseDurationOnTimerTaggedByEndpointMethod() {
+		listener.onPhase(endpointMethod, EndpointRequestPhase.EXCHANGE, 0, TimeUnit.MILLISECONDS.toNanos(20));
+		listener.onPhase(endpointMethod, EndpointRequestPhase.EXCHANGE, 0, TimeUnit.MILLISECONDS.toNanos(40));
+		listener.onPhase(endpointMethod, EndpointRequestPhase.READ, 0, TimeUnit.MILLISECONDS.toNanos(5));
+
+		Timer exchange = registry.find("restify.endpoint.request")
+				.tag("method", "MyApi.find")
+				.tag("http.method", "GET")
+				.tag("phase", "exchange")
+				.timer();
+
+		assertNotNull(exchange);
+		assertEquals(2, exchange.count());
+		assertEquals(60, exchange.totalTime(TimeUnit.MILLISECONDS), 0.1);
+
+		Timer read = registry.find("restify.endpoint.request")
+				.tag("phase", "read")
+				.timer();
+
+		assertNotNull(read);
+		assertEquals(1, read.count());
+	}
+
+	@Test
+	public void shouldRecordPhasesOfRebasedEndpointMethodsOnSameTimers() {
+		listener.onPhase(endpointMethod, EndpointRequestPhase.EXCHANGE, 0, TimeUnit.MILLISECONDS.toNanos(20));
+
+		int meters = registry.getMeters().size();
+
+		for (int i = 0; i < 100; i++) {
+			listener.onPhase(endpointMethod.rebase("http://tenant" + i + ".api.com"), EndpointRequestPhase.EXCHANGE, 0,
+					TimeUnit.MILLISECONDS.toNanos(20));
+		}
+
+		assertEquals(meters, registry.getMeters().size());
+
+		Timer exchange = registry.find("restify.endpoint.request")
+				.tag("phase", "exchange")
+				.timer();
+
+		assertEquals(101, exchange.count());
+	}
+
+	interface MyApi {
+
+		String find();
+
+	}
+}
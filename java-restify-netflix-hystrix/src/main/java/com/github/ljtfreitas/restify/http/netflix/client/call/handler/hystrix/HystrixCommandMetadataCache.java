@@ -25,6 +25,7 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.netflix.client.call.handler.hystrix;
 
+import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
@@ -35,17 +36,17 @@ public class HystrixCommandMetadataCache {
 
 	private static final HystrixCommandMetadataCache SINGLE_INSTANCE = new HystrixCommandMetadataCache();
 
-	private final Map<EndpointMethod, HystrixCommandMetadata> cache = new ConcurrentHashMap<>();
+	private final Map<Method, HystrixCommandMetadata> cache = new ConcurrentHashMap<>();
 
 	private HystrixCommandMetadataCache() {
 	}
 
 	public HystrixCommandMetadata compute(EndpointMethod endpointMethod, Supplier<HystrixCommandMetadata> supplier) {
-		return cache.computeIfAbsent(endpointMethod, e -> supplier.get());
+		return cache.computeIfAbsent(endpointMethod.javaMethod(), m -> supplier.get());
 	}
 
 	public HystrixCommandMetadata put(EndpointMethod endpointMethod, HystrixCommandMetadata metadata) {
-		cache.put(endpointMethod, metadata);
+		cache.put(endpointMethod.javaMethod(), metadata);
 		return metadata;
 	}
 
@@ -29,7 +29,7 @@ import com.github.ljtfreitas.restify.http.client.message.ContentType;
 
 public interface AuthorizationServer {
 
-	public static final ContentType FORM_URLENCODED_CONTENT_TYPE = ContentType.of("application/x-www-form-urlencoded");
+	public static final ContentType FORM_URLENCODED_CONTENT_TYPE = ContentType.APPLICATION_FORM_URLENCODED;
 
 	public AuthorizationCodeResponse authorize(AuthorizationCodeRequest request);
 
@@ -29,11 +29,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageReadException;
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageWriteException;
 import com.github.ljtfreitas.restify.http.client.message.io.InputStreamContent;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.BufferedHttpResponseBody;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 
 public class OctetByteArrayMessageConverter implements OctetStreamMessageConverter<byte[]> {
@@ -57,10 +60,25 @@ public class OctetByteArrayMessageConverter implements OctetStreamMessageConvert
 	@Override
 	public byte[] read(HttpResponseMessage httpResponseMessage, Type expectedType)
 			throws HttpMessageReadException {
+		HttpResponseBody body = httpResponseMessage.body();
+
+		if (body instanceof BufferedHttpResponseBody) {
+			ByteBuffer buffer = ((BufferedHttpResponseBody) body).buffer();
+
+			byte[] bytes = new byte[buffer.remaining()];
+			buffer.get(bytes);
+
+			return bytes;
+		}
+
 		try {
-			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			long contentLength = body.contentLength();
+
+			ByteArrayOutputStream buffer = (contentLength > 0 && contentLength < Integer.MAX_VALUE) ?
+					new ByteArrayOutputStream((int) contentLength) :
+						new ByteArrayOutputStream();
 
-			InputStreamContent bodyContent = new InputStreamContent(httpResponseMessage.body().input(), bufferSize);
+			InputStreamContent bodyContent = new InputStreamContent(body.input(), bufferSize);
 			bodyContent.transferTo(buffer);
 
 			buffer.flush();
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http.client.message.converter.octet;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageReadException;
+import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageWriteException;
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
+import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestBody;
+import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.request.TransferableHttpRequestBody;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
+
+/**
+ * Writes a file ({@link Path}, {@link File} or {@link FileChannel}, from its current position) as the request body.
+ * <p>
+ * When the request body supports it ({@link TransferableHttpRequestBody}), the file is handed to the HTTP client, which
+ * sends it with a known length and without reading it to memory; otherwise, the file is copied to the body output.
+ * A {@link FileChannel} belongs to the caller: it's not closed after the request was sent, and a retried request sends
+ * the same region again. Responses are not read by this converter
+ * (to download a response to a file, see the {@code Path} and {@code FileChannel} return types).
+ */
+public class OctetFileMessageConverter implements OctetStreamMessageConverter<Object> {
+
+	@Override
+	public boolean canRead(Type type) {
+		return false;
+	}
+
+	@Override
+	public Object read(HttpResponseMessage httpResponseMessage, Type expectedType) throws HttpMessageReadException {
+		throw new UnsupportedOperationException("OctetFileMessageConverter does not read HTTP responses.");
+	}
+
+	@Override
+	public boolean canWrite(Class<?> type) {
+		return Path.class.isAssignableFrom(type)
+			|| File.class.isAssignableFrom(type)
+			|| FileChannel.class.isAssignableFrom(type);
+	}
+
+	@Override
+	public void write(Object body, HttpRequestMessage httpRequestMessage) throws HttpMessageWriteException {
+		HttpRequestBody requestBody = httpRequestMessage.body();
+
+		try {
+			FileContent content = contentOf(body);
+
+			if (requestBody instanceof TransferableHttpRequestBody) {
+				((TransferableHttpRequestBody) requestBody).transferFrom(content);
+
+			} else {
+				try (FileContent c = content) {
+					c.transferTo(requestBody.output());
+				}
+			}
+
+		} catch (IOException e) {
+			throw new HttpMessageWriteException(e);
+		}
+	}
+
+	private FileContent contentOf(Object body) throws IOException {
+		if (body instanceof Path) {
+			return FileContent.of((Path) body);
+
+		} else if (body instanceof File) {
+			return FileContent.of((File) body);
+
+		} else if (body instanceof FileChannel) {
+			return FileContent.borrowed((FileChannel) body);
+
+		} else {
+			throw new HttpMessageWriteException("Unsupported file type: [" + body.getClass() + "]");
+		}
+	}
+}
@@ -34,30 +34,46 @@ import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageRe
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageWriteException;
 import com.github.ljtfreitas.restify.http.client.message.io.InputStreamContent;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseInputStream;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 
+/**
+ * Reads the response body as an {@link InputStream}.
+ * <p>
+ * By default, the whole body is read to memory and the response is closed as usual. Streaming is opt-in: methods that
+ * return {@link HttpResponseInputStream}, or any {@link InputStream} when {@code streaming} is enabled, get the live
+ * response stream. Its content is not buffered, and the connection is only released when the stream is closed.
+ */
 public class OctetInputStreamMessageConverter implements OctetStreamMessageConverter<InputStream> {
 
 	private final OctetByteArrayMessageConverter byteArrayMessageConverter;
 	private final int bufferSize;
+	private final boolean streaming;
 
 	public OctetInputStreamMessageConverter() {
 		this(InputStreamContent.DEFAULT_BUFFER_SIZE);
 	}
 
 	public OctetInputStreamMessageConverter(int bufferSize) {
+		this(bufferSize, false);
+	}
+
+	public OctetInputStreamMessageConverter(int bufferSize, boolean streaming) {
 		this.bufferSize = bufferSize;
+		this.streaming = streaming;
 		this.byteArrayMessageConverter = new OctetByteArrayMessageConverter(bufferSize);
 	}
 
 	@Override
 	public boolean canRead(Type type) {
-		return InputStream.class.equals(type);
+		return InputStream.class.equals(type) || HttpResponseInputStream.class.equals(type);
 	}
 
 	@Override
 	public InputStream read(HttpResponseMessage httpResponseMessage, Type expectedType) throws HttpMessageReadException {
-		return new ByteArrayInputStream(byteArrayMessageConverter.read(httpResponseMessage, expectedType));
+		return streaming || HttpResponseInputStream.class.equals(expectedType) ?
+				new HttpResponseInputStream(httpResponseMessage) :
+					new ByteArrayInputStream(byteArrayMessageConverter.read(httpResponseMessage, expectedType));
 	}
 
 	@Override
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -18,6 +19,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import com.github.ljtfreitas.restify.http.client.message.request.BufferedByteArrayHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.BufferedHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.BufferedHttpResponseBody;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -59,6 +61,19 @@ public class OctetByteArrayMessageConverterTest {
 		assertEquals(body, output);
 	}
 
+	@Test
+	public void shouldReadBufferedHttpResponseToByteArray() {
+		String body = "response";
+
+		BufferedHttpResponseBody bufferedBody = () -> ByteBuffer.wrap(body.getBytes());
+
+		when(response.body()).thenReturn(bufferedBody);
+
+		byte[] byteArray = converter.read(response, byte[].class);
+
+		assertEquals(body, new String(byteArray));
+	}
+
 	@Test
 	public void shouldCanWriteWhenTypeIsByteArray() {
 		assertTrue(converter.canWrite(byte[].class));
@@ -0,0 +1,125 @@
+package com.github.ljtfreitas.restify.http.client.message.converter.octet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.client.message.io.FileContent;
+import com.github.ljtfreitas.restify.http.client.message.request.BufferedByteArrayHttpRequestBody;
+import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.request.SimpleOutputStreamHttpRequestBody;
+
+@RunWith(MockitoJUnitRunner.class)
+public class OctetFileMessageConverterTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Mock
+	private HttpRequestMessage request;
+
+	private OctetFileMessageConverter converter;
+
+	private Path file;
+
+	@Before
+	public void setup() throws IOException {
+		converter = new OctetFileMessageConverter();
+
+		file = folder.newFile("upload.txt").toPath();
+		Files.write(file, "file content".getBytes());
+	}
+
+	@Test
+	public void shouldCanWriteWhenTypeIsAFile() {
+		assertTrue(converter.canWrite(file.getClass()));
+		assertTrue(converter.canWrite(File.class));
+		assertTrue(converter.canWrite(FileChannel.class));
+	}
+
+	@Test
+	public void shouldNotCanWriteWhenTypeNotIsAFile() {
+		assertFalse(converter.canWrite(String.class));
+	}
+
+	@Test
+	public void shouldNotCanRead() {
+		assertFalse(converter.canRead(Path.class));
+	}
+
+	@Test
+	public void shouldTransferFileToRequestBodyWithoutBufferingIt() {
+		BufferedByteArrayHttpRequestBody body = new BufferedByteArrayHttpRequestBody();
+
+		when(request.body()).thenReturn(body);
+
+		converter.write(file, request);
+
+		FileContent content = body.file().get();
+
+		assertEquals(0, content.position());
+		assertEquals(12, content.count());
+		assertEquals(12, body.contentLength());
+
+		assertEquals("file content", new String(body.asBytes()));
+		assertFalse(body.file().isPresent());
+	}
+
+	@Test
+	public void shouldTransferFileChannelFromItsCurrentPosition() throws IOException {
+		BufferedByteArrayHttpRequestBody body = new BufferedByteArrayHttpRequestBody();
+
+		when(request.body()).thenReturn(body);
+
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		channel.position(5);
+
+		converter.write(channel, request);
+
+		assertEquals(7, body.contentLength());
+		assertEquals("content", new String(body.asBytes()));
+	}
+
+	@Test
+	public void shouldNotCloseFileChannelOfTheCaller() throws IOException {
+		BufferedByteArrayHttpRequestBody body = new BufferedByteArrayHttpRequestBody();
+
+		when(request.body()).thenReturn(body);
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			converter.write(channel, request);
+
+			body.release();
+
+			assertTrue(channel.isOpen());
+		}
+	}
+
+	@Test
+	public void shouldCopyFileToOutputWhenRequestBodyCannotTransferIt() {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		when(request.body()).thenReturn(new SimpleOutputStreamHttpRequestBody(output));
+
+		converter.write(file.toFile(), request);
+
+		assertEquals("file content", new String(output.toByteArray()));
+	}
+}
@@ -21,6 +21,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import com.github.ljtfreitas.restify.http.client.message.request.BufferedByteArrayHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.BufferedHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseInputStream;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -64,6 +65,37 @@ public class OctetInputStreamMessageConverterTest {
 		assertEquals(body, output);
 	}
 
+	@Test
+	public void shouldBufferTheResponseBodyByDefault() {
+		when(response.body().input()).thenReturn(new ByteArrayInputStream("response".getBytes()));
+
+		InputStream stream = converter.read(response, InputStream.class);
+
+		assertFalse(stream instanceof HttpResponseInputStream);
+	}
+
+	@Test
+	public void shouldStreamTheResponseBodyWhenExpectedTypeIsHttpResponseInputStream() {
+		when(response.body().input()).thenReturn(new ByteArrayInputStream("response".getBytes()));
+
+		assertTrue(converter.canRead(HttpResponseInputStream.class));
+
+		InputStream stream = converter.read(response, HttpResponseInputStream.class);
+
+		assertTrue(stream instanceof HttpResponseInputStream);
+	}
+
+	@Test
+	public void shouldStreamTheResponseBodyWhenStreamingIsEnabled() {
+		when(response.body().input()).thenReturn(new ByteArrayInputStream("response".getBytes()));
+
+		converter = new OctetInputStreamMessageConverter(1024, true);
+
+		InputStream stream = converter.read(response, InputStream.class);
+
+		assertTrue(stream instanceof HttpResponseInputStream);
+	}
+
 	@Test
 	public void shouldCanWriteWhenTypeIsInputStream() {
 		assertTrue(converter.canWrite(InputStream.class));
@@ -18,6 +18,7 @@ public class OctetStreamMessageConverterSpiTest {
 		assertThat(services, contains(
 				instanceOf(OctetByteArrayMessageConverter.class),
 				instanceOf(OctetInputStreamMessageConverter.class),
+				instanceOf(OctetFileMessageConverter.class),
 				instanceOf(OctetSerializableMessageConverter.class)));
 	}
 }
@@ -31,7 +31,6 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class JavaDefaultMethodExecutor {
@@ -39,20 +38,32 @@ public class JavaDefaultMethodExecutor {
 	private static final Map<Method, MethodHandle> cache = new ConcurrentHashMap<>();
 
 	public static Object execute(Method method, Object target, Object[] args) throws Throwable {
-		MethodHandle handle = cache.compute(method,
-				(m, h) -> Optional.ofNullable(h).orElseGet(() -> bind(method, target)));
+		MethodHandle handle = cache.get(method);
 
-		return handle.invokeWithArguments(args);
+		if (handle == null) {
+			handle = cache.computeIfAbsent(method, m -> unreflect(method, target));
+		}
+
+		return bind(handle, method, target).invokeWithArguments(args);
+	}
+
+	private static MethodHandle bind(MethodHandle handle, Method method, Object target) {
+		try {
+			return handle.bindTo(target);
+
+		} catch (IllegalArgumentException | ClassCastException e) {
+			throw new MethodExecutionException("Error on bind MethodHandle of method [" + method + "], "
+					+ "to target type [" + target.getClass() + "]", e);
+		}
 	}
 
-	private static MethodHandle bind(Method method, Object target) {
+	private static MethodHandle unreflect(Method method, Object target) {
 		try {
 			Constructor<Lookup> constructor = Lookup.class.getDeclaredConstructor(Class.class, int.class);
 			constructor.setAccessible(true);
 
 			return constructor.newInstance(method.getDeclaringClass(), Lookup.PRIVATE)
-					.unreflectSpecial(method, method.getDeclaringClass())
-						.bindTo(target);
+					.unreflectSpecial(method, method.getDeclaringClass());
 
 		} catch (NoSuchMethodException | SecurityException | IllegalAccessException | InstantiationException | IllegalArgumentException
 				| InvocationTargetException e) {
@@ -31,9 +31,13 @@ import java.lang.reflect.Type;
 public class JavaType {
 
 	private final Type type;
+	private final boolean parameterized;
+
+	private Class<?> rawClassType;
 
 	private JavaType(Type type) {
 		this.type = type;
+		this.parameterized = type instanceof ParameterizedType;
 	}
 
 	public static JavaType of(Type type) {
@@ -45,7 +49,13 @@ public class JavaType {
 	}
 
 	private Class<?> rawClassType() {
-		return JavaTypeResolver.rawClassTypeOf(type);
+		Class<?> rawClassType = this.rawClassType;
+		if (rawClassType == null) {
+			// no volatile needed: a Class can be read through a data race, and a racing thread just resolves it again
+			rawClassType = JavaTypeResolver.rawClassTypeOf(type);
+			this.rawClassType = rawClassType;
+		}
+		return rawClassType;
 	}
 
 	public boolean voidType() {
@@ -67,7 +77,7 @@ public class JavaType {
 	}
 
 	public boolean parameterized() {
-		return type instanceof ParameterizedType;
+		return parameterized;
 	}
 
 	public <T extends Type> T as(Class<T> javaType) {
@@ -87,6 +97,11 @@ public class JavaType {
 		} else return false;
 	}
 
+	@Override
+	public int hashCode() {
+		return type.hashCode();
+	}
+
 	@Override
 	public String toString() {
 		return type.toString();
@@ -35,9 +35,23 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class JavaTypeResolver {
 
+	/*
+	 * resolved types of methods and parameters, per context class. ClassValue keeps the cache attached to the context class,
+	 * so it doesn't prevent the class (and its class loader) to be unloaded.
+	 */
+	private static final ClassValue<Map<Object, Type>> RESOLVED_TYPES = new ClassValue<Map<Object, Type>>() {
+		@Override
+		protected Map<Object, Type> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
 	private final Class<?> contextRawType;
 	private final Type context;
 
@@ -47,13 +61,18 @@ public class JavaTypeResolver {
 	}
 
 	public Type returnTypeOf(Method javaMethod) {
-		Type returnType = javaMethod.getGenericReturnType();
-		return doResolve(returnType);
+		return resolved(javaMethod, () -> doResolve(javaMethod.getGenericReturnType()));
 	}
 
 	public Type parameterizedTypeOf(Parameter parameter) {
-		Type parameterizedType = parameter.getParameterizedType();
-		return doResolve(parameterizedType);
+		return resolved(parameter, () -> doResolve(parameter.getParameterizedType()));
+	}
+
+	private Type resolved(Object member, Supplier<Type> resolver) {
+		Map<Object, Type> resolvedTypes = RESOLVED_TYPES.get(contextRawType);
+
+		Type type = resolvedTypes.get(member);
+		return type == null ? resolvedTypes.computeIfAbsent(member, m -> resolver.get()) : type;
 	}
 
 	private Type doResolve(Type type) {
@@ -44,7 +44,7 @@ public class SimpleGenericArrayType implements GenericArrayType {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(componentType);
+		return Objects.hashCode(componentType);
 	}
 
 	@Override
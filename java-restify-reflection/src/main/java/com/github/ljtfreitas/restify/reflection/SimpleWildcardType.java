@@ -52,7 +52,7 @@ public class SimpleWildcardType implements WildcardType {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(upperBounds, lowerBounds);
+		return Arrays.hashCode(lowerBounds) ^ Arrays.hashCode(upperBounds);
 	}
 
 	@Override
@@ -51,6 +51,28 @@ public class JavaDefaultMethodExecutorTest {
 		assertEquals("hello, Tiago", output);
 	}
 
+	@Test
+	public void shouldExecuteDefaultMethodOnEachGivenTarget() throws Throwable {
+		Method method = Whatever.class.getMethod("methodWithTarget");
+
+		Object first = JavaDefaultMethodExecutor.execute(method, new Whatever() {
+			@Override
+			public String name() {
+				return "first";
+			}
+		}, new Object[0]);
+
+		Object second = JavaDefaultMethodExecutor.execute(method, new Whatever() {
+			@Override
+			public String name() {
+				return "second";
+			}
+		}, new Object[0]);
+
+		assertEquals("hello, first", first);
+		assertEquals("hello, second", second);
+	}
+
 	@Test(expected = MethodExecutionException.class)
 	public void shouldThrowMethodExecutionExceptionWhenMethodCannotBeInvoked() throws Throwable {
 		Method method = Private.class.getMethod("method");
@@ -67,6 +89,14 @@ public class JavaDefaultMethodExecutorTest {
 		default String methodWithArguments(String name) {
 			return "hello, " + name;
 		}
+
+		default String methodWithTarget() {
+			return "hello, " + name();
+		}
+
+		default String name() {
+			return "";
+		}
 	}
 
 	private interface Private {
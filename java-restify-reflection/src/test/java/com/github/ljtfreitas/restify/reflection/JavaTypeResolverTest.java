@@ -4,6 +4,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 
 import java.lang.reflect.GenericArrayType;
@@ -92,6 +93,24 @@ public class JavaTypeResolverTest {
 		assertThat(wildcardType.getLowerBounds()[0], equalTo(String.class));
 	}
 
+	@Test
+	public void shouldReuseResolvedTypeOfSameMethodOnSameContext() throws Exception {
+		Method method = MyTyped.class.getMethod("method2");
+
+		Type first = new JavaTypeResolver(MyTyped.class).returnTypeOf(method);
+		Type second = new JavaTypeResolver(MyTyped.class).returnTypeOf(method);
+
+		assertSame(first, second);
+	}
+
+	@Test
+	public void shouldResolveSameMethodByEachClassContext() throws Exception {
+		Method method = Typed.class.getMethod("method");
+
+		assertEquals(String.class, new JavaTypeResolver(MyTyped.class).returnTypeOf(method));
+		assertEquals(Integer.class, new JavaTypeResolver(MyOtherTyped.class).returnTypeOf(method));
+	}
+
 	@Test
 	public void shouldGetRawClassOfClassType() {
 		assertEquals(String.class, JavaTypeResolver.rawClassTypeOf(String.class));
@@ -133,4 +152,7 @@ public class JavaTypeResolverTest {
 
 	interface MyTyped extends Typed<String> {
 	}
+
+	interface MyOtherTyped extends Typed<Integer> {
+	}
 }
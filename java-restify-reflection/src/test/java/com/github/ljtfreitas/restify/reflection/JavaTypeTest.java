@@ -38,6 +38,21 @@ public class JavaTypeTest {
 		assertEquals(Number.class, wildcardType.classType());
 	}
 
+	@Test
+	public void shouldHaveSameHashCodeOfEqualTypes() throws Exception {
+		JavaType parameterizedType = JavaType.parameterizedType(List.class, String.class);
+		JavaType genericType = JavaType.of(Generics.class.getMethod("list").getGenericReturnType());
+
+		assertEquals(parameterizedType, genericType);
+		assertEquals(parameterizedType.hashCode(), genericType.hashCode());
+
+		JavaType arrayType = JavaType.arrayType(parameterizedType.unwrap());
+		JavaType genericArrayType = JavaType.of(Generics.class.getMethod("array").getGenericReturnType());
+
+		assertEquals(arrayType, genericArrayType);
+		assertEquals(arrayType.hashCode(), genericArrayType.hashCode());
+	}
+
 	@Test
 	public void shouldCheckWhenTypeIsVoid() throws Exception {
 		JavaType type = JavaType.of(void.class);
@@ -138,4 +153,11 @@ public class JavaTypeTest {
 
 		assertNotEquals(type, that);
 	}
+
+	interface Generics {
+
+		List<String> list();
+
+		List<String>[] array();
+	}
 }
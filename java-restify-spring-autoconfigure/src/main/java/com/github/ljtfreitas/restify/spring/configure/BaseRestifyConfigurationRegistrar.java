@@ -28,6 +28,11 @@ package com.github.ljtfreitas.restify.spring.configure;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -36,11 +41,15 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
 import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.github.ljtfreitas.restify.spring.configure.RestifyConfigurationProperties.RestifyStartupProperties;
 
 public abstract class BaseRestifyConfigurationRegistrar implements ImportBeanDefinitionRegistrar, BeanFactoryAware, EnvironmentAware {
 
@@ -51,15 +60,55 @@ public abstract class BaseRestifyConfigurationRegistrar implements ImportBeanDef
 	protected BeanFactory beanFactory;
 
 	protected void doScan(List<String> packages, RestifyableTypeScanner scanner, BeanDefinitionRegistry registry) {
-		packages.forEach(p -> {
-			scanner.findCandidateComponents(p)
-				.stream()
-					.map(candidate -> new RestifyableType(candidate.getBeanClassName()))
-						.forEach(type -> create(type, registry));
-		});
+		RestifyStartupProperties startup = properties.startup();
+
+		List<Set<BeanDefinition>> candidates = (startup.isParallel() && packages.size() > 1) ?
+				scanConcurrently(packages, scanner, startup.getConcurrency()) :
+					packages.stream().map(scanner::findCandidateComponents).collect(Collectors.toList());
+
+		candidates.stream()
+			.flatMap(Set::stream)
+				.map(candidate -> new RestifyableType(candidate.getBeanClassName()))
+					.forEach(type -> create(type, startup, registry));
+
+		registerIfAbsent(RestifyStartupReport.BEAN_NAME, BeanDefinitionBuilder.genericBeanDefinition(RestifyStartupReport.class), registry);
+
+		if (startup.isParallel()) {
+			registerIfAbsent(RestifyContractPreloader.BEAN_NAME, BeanDefinitionBuilder.genericBeanDefinition(RestifyContractPreloader.class)
+					.addConstructorArgValue(startup.getConcurrency()), registry);
+		}
+	}
+
+	private List<Set<BeanDefinition>> scanConcurrently(List<String> packages, RestifyableTypeScanner scanner, int concurrency) {
+		ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(concurrency, packages.size())),
+				new CustomizableThreadFactory("restify-scanner-"));
+
+		// initializes the resource resolver and the metadata reader cache before sharing the scanner between threads
+		scanner.getResourceLoader();
+		scanner.getMetadataReaderFactory();
+
+		try {
+			List<CompletableFuture<Set<BeanDefinition>>> scans = packages.stream()
+					.map(p -> CompletableFuture.supplyAsync(() -> scanner.findCandidateComponents(p), pool))
+						.collect(Collectors.toList());
+
+			return scans.stream().map(CompletableFuture::join).collect(Collectors.toList());
+
+		} catch (CompletionException e) {
+			throw (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : e;
+
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private void registerIfAbsent(String name, BeanDefinitionBuilder builder, BeanDefinitionRegistry registry) {
+		if (!registry.containsBeanDefinition(name)) {
+			registry.registerBeanDefinition(name, builder.getBeanDefinition());
+		}
 	}
 
-	private void create(RestifyableType type, BeanDefinitionRegistry registry) {
+	private void create(RestifyableType type, RestifyStartupProperties startup, BeanDefinitionRegistry registry) {
 		RestifyApiClient restifyApiClient = properties.client(type);
 
 		String endpoint = type.endpoint().map(e -> resolve(e)).orElseGet(restifyApiClient::getEndpoint);
@@ -69,6 +118,8 @@ public abstract class BaseRestifyConfigurationRegistrar implements ImportBeanDef
 				.endpoint(endpoint)
 				.asyncExecutorServiceName(Async.EXECUTOR_SERVICE_BEAN_NAME)
 				.configurations(configurationsOf(type))
+				.contractReadingMode(startup.getContractReading())
+				.contractCache(startup.isContractCache())
 					.build();
 
 		registry.registerBeanDefinition(type.name(), bean);
@@ -30,6 +30,8 @@ import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 
+import com.github.ljtfreitas.restify.spring.configure.RestifyConfigurationProperties.RestifyStartupProperties;
+
 class RestifyApiClientProperties {
 
 	private static final String RESTIFY_PROPERTY_PREFIX = "restify.";
@@ -48,6 +50,12 @@ class RestifyApiClientProperties {
 		return result.orElseGet(RestifyApiClient::new);
 	}
 
+	public RestifyStartupProperties startup() {
+		BindResult<RestifyStartupProperties> result = binder.bind(RESTIFY_PROPERTY_PREFIX + "startup", RestifyStartupProperties.class);
+
+		return result.orElseGet(RestifyStartupProperties::new);
+	}
+
 	public String resolve(String expression) {
 		return ((ConfigurableEnvironment) environment).resolvePlaceholders(expression);
 	}
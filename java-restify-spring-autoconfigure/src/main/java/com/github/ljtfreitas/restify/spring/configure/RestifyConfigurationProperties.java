@@ -25,8 +25,14 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.spring.configure;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponseExceptionFactory;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader.ReadingMode;
+
 @ConfigurationProperties("restify")
 public class RestifyConfigurationProperties {
 
@@ -34,6 +40,8 @@ public class RestifyConfigurationProperties {
 
 	private RestifyAsyncProperties async = new RestifyAsyncProperties();
 
+	private RestifyStartupProperties startup = new RestifyStartupProperties();
+
 	public void setError(RestifyErrorProperties error) {
 		this.error = error;
 	}
@@ -50,10 +58,22 @@ public class RestifyConfigurationProperties {
 		return async;
 	}
 
+	public void setStartup(RestifyStartupProperties startup) {
+		this.startup = startup;
+	}
+
+	public RestifyStartupProperties getStartup() {
+		return startup;
+	}
+
 	public static class RestifyErrorProperties {
 
 		private boolean emptyOnNotFound = false;
 
+		private int bodyLimit = EndpointResponseExceptionFactory.DEFAULT_BODY_LIMIT;
+
+		private Collection<Integer> withoutBody = new ArrayList<>();
+
 		public void setEmptyOnNotFound(boolean emptyOnNotFound) {
 			this.emptyOnNotFound = emptyOnNotFound;
 		}
@@ -61,6 +81,22 @@ public class RestifyConfigurationProperties {
 		public boolean isEmptyOnNotFound() {
 			return emptyOnNotFound;
 		}
+
+		public void setBodyLimit(int bodyLimit) {
+			this.bodyLimit = bodyLimit;
+		}
+
+		public int getBodyLimit() {
+			return bodyLimit;
+		}
+
+		public void setWithoutBody(Collection<Integer> withoutBody) {
+			this.withoutBody = withoutBody;
+		}
+
+		public Collection<Integer> getWithoutBody() {
+			return withoutBody;
+		}
 	}
 
 	public static class RestifyAsyncProperties {
@@ -75,4 +111,47 @@ public class RestifyConfigurationProperties {
 			return timeout;
 		}
 	}
+
+	public static class RestifyStartupProperties {
+
+		private boolean parallel = false;
+
+		private int concurrency = Runtime.getRuntime().availableProcessors();
+
+		private ReadingMode contractReading = ReadingMode.EAGER;
+
+		private boolean contractCache = false;
+
+		public void setParallel(boolean parallel) {
+			this.parallel = parallel;
+		}
+
+		public boolean isParallel() {
+			return parallel;
+		}
+
+		public void setConcurrency(int concurrency) {
+			this.concurrency = concurrency;
+		}
+
+		public int getConcurrency() {
+			return concurrency;
+		}
+
+		public void setContractReading(ReadingMode contractReading) {
+			this.contractReading = contractReading;
+		}
+
+		public ReadingMode getContractReading() {
+			return contractReading;
+		}
+
+		public void setContractCache(boolean contractCache) {
+			this.contractCache = contractCache;
+		}
+
+		public boolean isContractCache() {
+			return contractCache;
+		}
+	}
 }
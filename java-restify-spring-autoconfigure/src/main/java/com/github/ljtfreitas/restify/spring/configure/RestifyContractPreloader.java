@@ -0,0 +1,99 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.spring.configure;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Reads the contracts of all {@link Restifyable} types on a bounded pool, before the first proxy is created.
+ * Factory beans whose contract can't be read here just read it again (and fail) on their own creation.
+ */
+public class RestifyContractPreloader implements BeanFactoryAware {
+
+	public static final String BEAN_NAME = "restifyContractPreloader";
+
+	private static final Logger log = LoggerFactory.getLogger(RestifyContractPreloader.class);
+
+	private final int concurrency;
+	private final AtomicBoolean preloaded = new AtomicBoolean(false);
+
+	private ListableBeanFactory beanFactory;
+
+	public RestifyContractPreloader(int concurrency) {
+		this.concurrency = Math.max(1, concurrency);
+	}
+
+	void preload() {
+		if (!preloaded.compareAndSet(false, true)) return;
+
+		Collection<RestifyProxyFactoryBean> factories = Arrays.stream(beanFactory.getBeanNamesForType(RestifyProxyFactoryBean.class, true, false))
+				.map(name -> beanFactory.getBean(name, RestifyProxyFactoryBean.class))
+					.collect(Collectors.toList());
+
+		if (factories.isEmpty()) return;
+
+		ExecutorService pool = Executors.newFixedThreadPool(Math.min(concurrency, factories.size()),
+				new CustomizableThreadFactory("restify-contract-preloader-"));
+
+		long start = System.nanoTime();
+
+		try {
+			CompletableFuture.allOf(factories.stream()
+					.map(factory -> CompletableFuture.runAsync(factory::prepare, pool))
+						.toArray(CompletableFuture[]::new))
+				.join();
+
+		} catch (CompletionException e) {
+			log.debug("Some @Restifyable contracts could not be preloaded; they will be read again on bean creation.", e.getCause());
+
+		} finally {
+			pool.shutdown();
+		}
+
+		log.info("Preloaded contracts of {} @Restifyable types in {} ms (concurrency: {})", factories.size(),
+				(System.nanoTime() - start) / 1_000_000, concurrency);
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = (ListableBeanFactory) beanFactory;
+	}
+}
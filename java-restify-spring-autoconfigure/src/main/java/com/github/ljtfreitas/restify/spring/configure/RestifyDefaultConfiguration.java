@@ -32,9 +32,11 @@ import org.springframework.context.annotation.Configuration;
 import com.github.ljtfreitas.restify.http.client.response.DefaultEndpointResponseErrorFallback;
 import com.github.ljtfreitas.restify.http.client.response.EmptyOnNotFoundEndpointResponseErrorFallback;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponseErrorFallback;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponseExceptionFactory;
 import com.github.ljtfreitas.restify.http.spring.client.call.handler.HttpHeadersEndpointCallHandlerAdapter;
 import com.github.ljtfreitas.restify.http.spring.client.call.handler.HttpStatusEndpointCallHandlerAdapter;
 import com.github.ljtfreitas.restify.http.spring.client.call.handler.ResponseEntityEndpointCallHandlerFactory;
+import com.github.ljtfreitas.restify.spring.configure.RestifyConfigurationProperties.RestifyErrorProperties;
 
 @Configuration
 public class RestifyDefaultConfiguration {
@@ -60,7 +62,13 @@ public class RestifyDefaultConfiguration {
 	@ConditionalOnMissingBean
 	@Bean
 	public EndpointResponseErrorFallback endpointResponseErrorFallback(RestifyConfigurationProperties properties) {
-		return properties.getError().isEmptyOnNotFound() ?
-				new EmptyOnNotFoundEndpointResponseErrorFallback() : new DefaultEndpointResponseErrorFallback();
+		RestifyErrorProperties error = properties.getError();
+
+		EndpointResponseExceptionFactory endpointResponseExceptionFactory = new EndpointResponseExceptionFactory(error.getBodyLimit(),
+				status -> error.getWithoutBody().contains(status.value()));
+
+		DefaultEndpointResponseErrorFallback fallback = new DefaultEndpointResponseErrorFallback(endpointResponseExceptionFactory);
+
+		return error.isEmptyOnNotFound() ? new EmptyOnNotFoundEndpointResponseErrorFallback(fallback) : fallback;
 	}
 }
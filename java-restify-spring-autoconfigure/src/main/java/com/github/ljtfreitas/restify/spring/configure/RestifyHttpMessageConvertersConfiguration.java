@@ -53,6 +53,7 @@ import com.github.ljtfreitas.restify.http.client.message.converter.json.JsonBMes
 import com.github.ljtfreitas.restify.http.client.message.converter.json.JsonMessageConverter;
 import com.github.ljtfreitas.restify.http.client.message.converter.json.JsonPMessageConverter;
 import com.github.ljtfreitas.restify.http.client.message.converter.octet.OctetByteArrayMessageConverter;
+import com.github.ljtfreitas.restify.http.client.message.converter.octet.OctetFileMessageConverter;
 import com.github.ljtfreitas.restify.http.client.message.converter.octet.OctetInputStreamMessageConverter;
 import com.github.ljtfreitas.restify.http.client.message.converter.octet.OctetSerializableMessageConverter;
 import com.github.ljtfreitas.restify.http.client.message.converter.text.ScalarMessageConverter;
@@ -306,6 +307,17 @@ public class RestifyHttpMessageConvertersConfiguration {
 			}
 		}
 
+		@Configuration
+		@ConditionalOnClass(OctetFileMessageConverter.class)
+		static class OctetFileHttpMesssageConverterConfiguration {
+
+			@ConditionalOnMissingBean
+			@Bean
+			public OctetFileMessageConverter octetFileMessageConverter() {
+				return new OctetFileMessageConverter();
+			}
+		}
+
 		@Configuration
 		@ConditionalOnClass(OctetSerializableMessageConverter.class)
 		static class OctetSerializableHttpMesssageConverterConfiguration {
@@ -31,6 +31,9 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 
+import com.github.ljtfreitas.restify.http.contract.metadata.ContractCache;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader.ReadingMode;
+
 class RestifyProxyBeanBuilder {
 
 	private final BeanDefinitionBuilder builder;
@@ -54,6 +57,16 @@ class RestifyProxyBeanBuilder {
 		return this;
 	}
 
+	RestifyProxyBeanBuilder contractReadingMode(ReadingMode contractReadingMode) {
+		builder.addPropertyValue("contractReadingMode", contractReadingMode);
+		return this;
+	}
+
+	RestifyProxyBeanBuilder contractCache(boolean cached) {
+		if (cached) builder.addPropertyValue("contractCache", ContractCache.shared());
+		return this;
+	}
+
 	RestifyProxyBeanBuilder configurations(Collection<RestifyProxyConfiguration> configurations) {
 		builder.addPropertyValue("configurations", configurations);
 		return this;
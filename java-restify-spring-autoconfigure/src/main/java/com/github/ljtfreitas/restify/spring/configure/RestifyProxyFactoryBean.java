@@ -26,6 +26,7 @@
 package com.github.ljtfreitas.restify.spring.configure;
 
 import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
@@ -35,9 +36,11 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.FactoryBean;
 
 import com.github.ljtfreitas.restify.http.RestifyProxyBuilder;
+import com.github.ljtfreitas.restify.http.RestifyProxyBuilder.ContractBuilder;
 import com.github.ljtfreitas.restify.http.client.call.handler.EndpointCallHandlerProvider;
 import com.github.ljtfreitas.restify.http.client.jdk.HttpClientRequestConfiguration;
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageConverter;
@@ -48,10 +51,14 @@ import com.github.ljtfreitas.restify.http.client.request.interceptor.EndpointReq
 import com.github.ljtfreitas.restify.http.client.request.interceptor.HttpClientRequestInterceptor;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponseErrorFallback;
 import com.github.ljtfreitas.restify.http.client.retry.RetryConfiguration;
+import com.github.ljtfreitas.restify.http.contract.metadata.ContractCache;
 import com.github.ljtfreitas.restify.http.contract.metadata.ContractExpressionResolver;
 import com.github.ljtfreitas.restify.http.contract.metadata.ContractReader;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader.ReadingMode;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethods;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
 
-public class RestifyProxyFactoryBean implements FactoryBean<Object> {
+public class RestifyProxyFactoryBean implements FactoryBean<Object>, BeanNameAware {
 
 	private Class<?> objectType;
 
@@ -67,6 +74,10 @@ public class RestifyProxyFactoryBean implements FactoryBean<Object> {
 
 	private ContractExpressionResolver contractExpressionResolver;
 
+	private ReadingMode contractReadingMode = ReadingMode.EAGER;
+
+	private ContractCache contractCache;
+
 	private EndpointRequestExecutor endpointRequestExecutor;
 
 	private Collection<EndpointRequestInterceptor> endpointRequestInterceptors = new ArrayList<>();
@@ -85,8 +96,59 @@ public class RestifyProxyFactoryBean implements FactoryBean<Object> {
 
 	private Collection<RestifyProxyConfiguration> configurations = new ArrayList<>();
 
+	private String beanName;
+
+	private RestifyStartupReport startupReport;
+
+	private RestifyContractPreloader contractPreloader;
+
+	private PreparedContractReader preparedContractReader;
+
 	@Override
 	public Object getObject() throws Exception {
+		Optional.ofNullable(contractPreloader).ifPresent(RestifyContractPreloader::preload);
+
+		boolean preloaded = preparedContractReader != null;
+		if (!preloaded) prepare();
+
+		long start = System.nanoTime();
+
+		Object proxy = doGetObject();
+
+		Optional.ofNullable(startupReport).ifPresent(r -> r.record(beanName, objectType, preparedContractReader.elapsed,
+				Duration.ofNanos(System.nanoTime() - start), preloaded));
+
+		return proxy;
+	}
+
+	void prepare() {
+		long start = System.nanoTime();
+
+		EndpointTarget target = new EndpointTarget(objectType, endpoint());
+
+		ContractReader reader = contract().reader();
+
+		EndpointMethods endpointMethods = reader.read(target);
+
+		this.preparedContractReader = new PreparedContractReader(target, endpointMethods, reader,
+				Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private ContractBuilder contract() {
+		ContractBuilder contract = new RestifyProxyBuilder()
+				.contract()
+					.using(contractReader())
+					.resolver(contractExpressionResolver());
+
+		if (contractReadingMode == ReadingMode.LAZY) contract.lazy();
+		else if (contractReadingMode == ReadingMode.PARALLEL) contract.parallel();
+
+		Optional.ofNullable(contractCache).ifPresent(contract::cached);
+
+		return contract;
+	}
+
+	private Object doGetObject() {
 		RestifyProxyBuilder builder = new RestifyProxyBuilder();
 
 		builder
@@ -97,7 +159,7 @@ public class RestifyProxyFactoryBean implements FactoryBean<Object> {
 					.using(httpClientRequestConfiguration())
 				.and()
 			.contract()
-				.using(contractReader())
+				.using(preparedContractReader)
 				.resolver(contractExpressionResolver())
 				.and()
 			.executor()
@@ -169,6 +231,14 @@ public class RestifyProxyFactoryBean implements FactoryBean<Object> {
 		this.contractExpressionResolver = contractExpressionResolver;
 	}
 
+	public void setContractReadingMode(ReadingMode contractReadingMode) {
+		this.contractReadingMode = contractReadingMode;
+	}
+
+	public void setContractCache(ContractCache contractCache) {
+		this.contractCache = contractCache;
+	}
+
 	public void setEndpointRequestExecutor(EndpointRequestExecutor endpointRequestExecutor) {
 		this.endpointRequestExecutor = endpointRequestExecutor;
 	}
@@ -205,6 +275,19 @@ public class RestifyProxyFactoryBean implements FactoryBean<Object> {
 		this.configurations = configurations;
 	}
 
+	public void setStartupReport(RestifyStartupReport startupReport) {
+		this.startupReport = startupReport;
+	}
+
+	public void setContractPreloader(RestifyContractPreloader contractPreloader) {
+		this.contractPreloader = contractPreloader;
+	}
+
+	@Override
+	public void setBeanName(String beanName) {
+		this.beanName = beanName;
+	}
+
 	private HttpClientRequestFactory httpClientRequestFactory() {
 		return configured(RestifyProxyConfiguration::httpClientRequestFactory)
 				.orElse(httpClientRequestFactory);
@@ -292,4 +375,24 @@ public class RestifyProxyFactoryBean implements FactoryBean<Object> {
 				.filter(Objects::nonNull)
 				.findFirst();
 	}
+
+	private static class PreparedContractReader implements ContractReader {
+
+		private final EndpointTarget target;
+		private final EndpointMethods endpointMethods;
+		private final ContractReader delegate;
+		private final Duration elapsed;
+
+		private PreparedContractReader(EndpointTarget target, EndpointMethods endpointMethods, ContractReader delegate, Duration elapsed) {
+			this.target = target;
+			this.endpointMethods = endpointMethods;
+			this.delegate = delegate;
+			this.elapsed = elapsed;
+		}
+
+		@Override
+		public EndpointMethods read(EndpointTarget endpointTarget) {
+			return target.equals(endpointTarget) ? endpointMethods : delegate.read(endpointTarget);
+		}
+	}
 }
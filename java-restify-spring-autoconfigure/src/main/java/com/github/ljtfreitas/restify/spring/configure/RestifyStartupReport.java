@@ -0,0 +1,151 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.spring.configure;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+public class RestifyStartupReport implements ApplicationListener<ContextRefreshedEvent> {
+
+	public static final String BEAN_NAME = "restifyStartupReport";
+
+	private static final Logger log = LoggerFactory.getLogger(RestifyStartupReport.class);
+
+	private final Map<String, RestifyClientStartup> clients = new ConcurrentHashMap<>();
+
+	void record(String name, Class<?> objectType, Duration contract, Duration build, boolean preloaded) {
+		RestifyClientStartup client = new RestifyClientStartup(name, objectType, contract, build, preloaded);
+
+		clients.put(name, client);
+
+		log.debug("@Restifyable bean created -> {}", client);
+	}
+
+	public Collection<RestifyClientStartup> clients() {
+		return clients.values().stream()
+				.sorted(Comparator.comparing(RestifyClientStartup::name))
+					.collect(Collectors.toList());
+	}
+
+	public Duration total() {
+		return clients.values().stream()
+				.map(RestifyClientStartup::total)
+					.reduce(Duration.ZERO, Duration::plus);
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		if (!clients.isEmpty()) {
+			log.info("{}", this);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+
+		report
+			.append("Restify startup report: [")
+				.append(clients.size())
+				.append(" clients created in ")
+				.append(total().toMillis())
+				.append(" ms]");
+
+		clients().forEach(c -> report.append("\n\t").append(c));
+
+		return report.toString();
+	}
+
+	public static class RestifyClientStartup {
+
+		private final String name;
+		private final Class<?> objectType;
+		private final Duration contract;
+		private final Duration build;
+		private final boolean preloaded;
+
+		private RestifyClientStartup(String name, Class<?> objectType, Duration contract, Duration build, boolean preloaded) {
+			this.name = name;
+			this.objectType = objectType;
+			this.contract = contract;
+			this.build = build;
+			this.preloaded = preloaded;
+		}
+
+		public String name() {
+			return name;
+		}
+
+		public Class<?> objectType() {
+			return objectType;
+		}
+
+		public Duration contract() {
+			return contract;
+		}
+
+		public Duration build() {
+			return build;
+		}
+
+		public Duration total() {
+			return contract.plus(build);
+		}
+
+		public boolean preloaded() {
+			return preloaded;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder report = new StringBuilder();
+
+			report
+				.append(name)
+					.append(" (")
+					.append(objectType.getName())
+					.append("): ")
+				.append("contract: ")
+					.append(contract.toMillis())
+					.append(" ms")
+					.append(preloaded ? " (preloaded)" : "")
+				.append(", build: ")
+					.append(build.toMillis())
+					.append(" ms");
+
+			return report.toString();
+		}
+	}
+}
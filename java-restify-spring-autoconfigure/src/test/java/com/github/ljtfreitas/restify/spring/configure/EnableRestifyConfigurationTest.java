@@ -1,6 +1,8 @@
 package com.github.ljtfreitas.restify.spring.configure;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
@@ -9,9 +11,13 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.mockserver.client.server.MockServerClient;
 import org.mockserver.junit.MockServerRule;
+import org.springframework.beans.PropertyValues;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Configuration;
 
+import com.github.ljtfreitas.restify.http.contract.metadata.ContractCache;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader.ReadingMode;
+import com.github.ljtfreitas.restify.spring.configure.RestifyStartupReport.RestifyClientStartup;
 import com.github.ljtfreitas.restify.spring.whatever.WhateverApi;
 
 public class EnableRestifyConfigurationTest {
@@ -47,6 +53,49 @@ public class EnableRestifyConfigurationTest {
 		});
 	}
 
+	@Test
+	public void shouldPreloadContractsAndPublishStartupReportWhenParallelStartupIsEnabled() {
+		ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+				.withUserConfiguration(TestRestifyConfiguration.class)
+				.withPropertyValues("restify.startup.parallel:true", "restify.startup.concurrency:2");
+
+		contextRunner.run(context -> {
+			assertTrue(context.containsBean(RestifyContractPreloader.BEAN_NAME));
+
+			WhateverApi whateverApi = context.getBean(WhateverApi.class);
+
+			assertEquals("It's works!", whateverApi.sample());
+
+			RestifyStartupReport report = context.getBean(RestifyStartupReport.class);
+
+			assertEquals(1, report.clients().size());
+
+			RestifyClientStartup client = report.clients().iterator().next();
+
+			assertEquals("whatever-api", client.name());
+			assertEquals(WhateverApi.class, client.objectType());
+			assertTrue(client.preloaded());
+		});
+	}
+
+	@Test
+	public void shouldReadContractsWithConfiguredReadingModeAndCache() {
+		ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+				.withUserConfiguration(TestRestifyConfiguration.class)
+				.withPropertyValues("restify.startup.contract-reading:lazy", "restify.startup.contract-cache:true");
+
+		contextRunner.run(context -> {
+			PropertyValues properties = context.getBeanFactory().getBeanDefinition("whatever-api").getPropertyValues();
+
+			assertEquals(ReadingMode.LAZY, properties.getPropertyValue("contractReadingMode").getValue());
+			assertSame(ContractCache.shared(), properties.getPropertyValue("contractCache").getValue());
+
+			WhateverApi whateverApi = context.getBean(WhateverApi.class);
+
+			assertEquals("It's works!", whateverApi.sample());
+		});
+	}
+
 	@Configuration
 	@EnableRestify(packages = "com.github.ljtfreitas.restify.spring.whatever")
 	static class TestRestifyConfiguration {
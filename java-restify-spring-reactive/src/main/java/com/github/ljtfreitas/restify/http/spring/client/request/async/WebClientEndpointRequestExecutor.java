@@ -37,6 +37,7 @@ import java.util.function.Supplier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.codec.CodecException;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.BodyExtractors;
@@ -129,14 +130,17 @@ public class WebClientEndpointRequestExecutor implements AsyncEndpointRequestExe
 	private <T> EndpointResponse<T> convert(ClientResponse response, T body) {
 		StatusCode statusCode = StatusCode.of(response.statusCode().value());
 
-		Headers headers = response.headers().asHttpHeaders()
-				.entrySet()
-				.stream()
-				.reduce(new Headers(), (a, b) -> a.add(b.getKey(), b.getValue()), (a, b) -> b);
+		Headers headers = headersOf(response.headers().asHttpHeaders());
 
 		return EndpointResponse.of(statusCode, body, headers);
 	}
 
+	private static Headers headersOf(HttpHeaders httpHeaders) {
+		Headers.Builder headers = new Headers.Builder();
+		httpHeaders.forEach(headers::add);
+		return headers.build();
+	}
+
 	private Throwable onError(Throwable source) {
 		if (source instanceof EndpointResponseException) {
 			return source;
@@ -165,8 +169,7 @@ public class WebClientEndpointRequestExecutor implements AsyncEndpointRequestExe
 		private static HttpErrorResponse create(ClientResponse response, InputStream body) {
 			StatusCode status = StatusCode.of(response.statusCode().value(), response.statusCode().getReasonPhrase());
 
-			Headers headers = response.headers().asHttpHeaders().entrySet().stream()
-					.reduce(new Headers(), (a, b) -> a.add(b.getKey(), b.getValue()), (a, b) -> b);
+			Headers headers = headersOf(response.headers().asHttpHeaders());
 
 			return new HttpErrorResponse(status, headers, body);
 		}
@@ -43,7 +43,8 @@ public class EndpointResponseConverter implements Converter<ResponseEntity<Objec
 	}
 
 	private Headers headersOf(HttpHeaders httpHeaders) {
-		return httpHeaders.entrySet().stream()
-				.reduce(new Headers(), (a, b) -> a.add(b.getKey(), b.getValue()), (a, b) -> b);
+		Headers.Builder headers = new Headers.Builder();
+		httpHeaders.forEach(headers::add);
+		return headers.build();
 	}
 }
@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.util.Optional;
 
 import org.springframework.http.RequestEntity;
 import org.springframework.web.client.RestClientResponseException;
@@ -54,8 +55,10 @@ public class HttpErrorResponse extends BaseHttpClientResponse {
 	public static HttpErrorResponse from(RequestEntity<Object> request, RestClientResponseException e) {
 		StatusCode statusCode = StatusCode.of(e.getRawStatusCode(), e.getStatusText());
 
-		Headers headers = new Headers();
-		e.getResponseHeaders().forEach((k, v) -> headers.add(k, v));
+		Headers.Builder headersBuilder = new Headers.Builder();
+		Optional.ofNullable(e.getResponseHeaders()).ifPresent(h -> h.forEach(headersBuilder::add));
+
+		Headers headers = headersBuilder.build();
 
 		InputStream body = new ByteArrayInputStream(e.getResponseBodyAsByteArray());
 
@@ -70,9 +73,9 @@ public class HttpErrorResponse extends BaseHttpClientResponse {
 		private ErrorHttpRequestMessage(RequestEntity<Object> request) {
 			this.request = request;
 
-			Headers headers = new Headers();
-			request.getHeaders().forEach((k, v) -> headers.add(k, v));
-			this.headers = headers;
+			Headers.Builder headers = new Headers.Builder();
+			request.getHeaders().forEach(headers::add);
+			this.headers = headers.build();
 		}
 
 		@Override
@@ -33,6 +33,7 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -67,6 +68,14 @@ public class SpringWebContractReader implements ContractReader {
 		return new EndpointMethods(doRead(target));
 	}
 
+	@Override
+	public Optional<Object> cacheKey() {
+		// other resolvers (like the Spring Environment) may resolve the same expression to different values
+		return expressionResolver instanceof SimpleContractExpressionResolver ?
+				Optional.of(expressionResolver) :
+					Optional.empty();
+	}
+
 	private Collection<EndpointMethod> doRead(EndpointTarget target) {
 		SpringWebJavaTypeMetadata javaTypeMetadata = new SpringWebJavaTypeMetadata(target.type());
 
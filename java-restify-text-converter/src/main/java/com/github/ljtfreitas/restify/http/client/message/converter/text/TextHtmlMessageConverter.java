@@ -32,7 +32,7 @@ import com.github.ljtfreitas.restify.http.client.message.ContentType;
 
 public class TextHtmlMessageConverter extends StringMessageConverter {
 
-	private static final ContentType TEXT_HTML_CONTENT_TYPE = ContentType.of("text/html");
+	private static final ContentType TEXT_HTML_CONTENT_TYPE = ContentType.TEXT_HTML;
 
 	@Override
 	public Collection<ContentType> contentTypes() {
@@ -32,7 +32,7 @@ import com.github.ljtfreitas.restify.http.client.message.ContentType;
 
 public class TextPlainMessageConverter extends StringMessageConverter {
 
-	public static final ContentType TEXT_PLAIN_CONTENT_TYPE = ContentType.of("text/plain");
+	public static final ContentType TEXT_PLAIN_CONTENT_TYPE = ContentType.TEXT_PLAIN;
 
 	@Override
 	public Collection<ContentType> contentTypes() {
@@ -14,6 +14,7 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.client.message.request.BufferedByteArrayHttpRequestBody;
 import com.github.ljtfreitas.restify.http.client.message.request.HttpRequestMessage;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
@@ -36,6 +37,8 @@ public class ScalarMessageConverterTest {
 		output = new BufferedByteArrayHttpRequestBody();
 
 		when(request.charset()).thenReturn(Charset.defaultCharset());
+
+		when(response.headers()).thenReturn(new Headers());
 	}
 
 	@Test
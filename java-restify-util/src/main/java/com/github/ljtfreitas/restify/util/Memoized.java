@@ -27,6 +27,13 @@ package com.github.ljtfreitas.restify.util;
 
 import java.util.function.Supplier;
 
+/**
+ * Supplier that keeps the first value it returns.
+ * <p>
+ * The value is cached without synchronization, so threads that race on the first call may each compute it, and other
+ * threads are only guaranteed to see the final fields of the value (and what they reference) as they were at the end
+ * of its constructor. So the value must be immutable, and computing it more than once must be harmless.
+ */
 public class Memoized<T> implements Supplier<T> {
 
 	private final Supplier<T> supplier;
@@ -38,7 +45,12 @@ public class Memoized<T> implements Supplier<T> {
 
 	@Override
 	public T get() {
-		if (state != null) return state; else return (state = supplier.get());
+		T state = this.state;
+		if (state == null) {
+			state = supplier.get();
+			this.state = state;
+		}
+		return state;
 	}
 
 	public static <T> Memoized<T> of(Supplier<T> supplier) {
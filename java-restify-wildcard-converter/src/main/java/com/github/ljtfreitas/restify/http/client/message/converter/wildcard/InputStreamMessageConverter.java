@@ -31,29 +31,46 @@ import java.io.InputStream;
 import java.lang.reflect.Type;
 
 import com.github.ljtfreitas.restify.http.client.message.converter.HttpMessageReadException;
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseInputStream;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 
+/**
+ * Reads the response body as an {@link InputStream}.
+ * <p>
+ * By default, the whole body is read to memory. Streaming is opt-in: methods that return {@link HttpResponseInputStream},
+ * or any {@link InputStream} when {@code streaming} is enabled, get the live response stream, which must be closed
+ * to release the connection.
+ */
 public class InputStreamMessageConverter implements WildcardMessageConverter<InputStream> {
 
 	private final ByteArrayMessageConverter byteArrayMessageConverter;
+	private final boolean streaming;
 
 	public InputStreamMessageConverter() {
 		this.byteArrayMessageConverter = new ByteArrayMessageConverter();
+		this.streaming = false;
 	}
 
 	public InputStreamMessageConverter(int bufferSize) {
+		this(bufferSize, false);
+	}
+
+	public InputStreamMessageConverter(int bufferSize, boolean streaming) {
 		this.byteArrayMessageConverter = new ByteArrayMessageConverter(bufferSize);
+		this.streaming = streaming;
 	}
 
 	@Override
 	public boolean canRead(Type type) {
-		return InputStream.class.equals(type);
+		return InputStream.class.equals(type) || HttpResponseInputStream.class.equals(type);
 	}
 
 	@Override
 	public InputStream read(HttpResponseMessage httpResponseMessage, Type expectedType)
 			throws HttpMessageReadException {
 
-		return new BufferedInputStream(new ByteArrayInputStream(byteArrayMessageConverter.read(httpResponseMessage, expectedType)));
+		return streaming || HttpResponseInputStream.class.equals(expectedType) ?
+				new HttpResponseInputStream(httpResponseMessage) :
+					new BufferedInputStream(new ByteArrayInputStream(byteArrayMessageConverter.read(httpResponseMessage, expectedType)));
 	}
 }
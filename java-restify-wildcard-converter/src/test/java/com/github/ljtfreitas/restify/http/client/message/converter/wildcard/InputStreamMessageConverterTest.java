@@ -18,6 +18,7 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseInputStream;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpResponseMessage;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -56,4 +57,35 @@ public class InputStreamMessageConverterTest {
 
 		assertEquals(body, output);
 	}
+
+	@Test
+	public void shouldBufferTheResponseBodyByDefault() {
+		when(response.body().input()).thenReturn(new ByteArrayInputStream("response".getBytes()));
+
+		InputStream stream = converter.read(response, InputStream.class);
+
+		assertFalse(stream instanceof HttpResponseInputStream);
+	}
+
+	@Test
+	public void shouldStreamTheResponseBodyWhenExpectedTypeIsHttpResponseInputStream() {
+		when(response.body().input()).thenReturn(new ByteArrayInputStream("response".getBytes()));
+
+		assertTrue(converter.canRead(HttpResponseInputStream.class));
+
+		InputStream stream = converter.read(response, HttpResponseInputStream.class);
+
+		assertTrue(stream instanceof HttpResponseInputStream);
+	}
+
+	@Test
+	public void shouldStreamTheResponseBodyWhenStreamingIsEnabled() {
+		when(response.body().input()).thenReturn(new ByteArrayInputStream("response".getBytes()));
+
+		converter = new InputStreamMessageConverter(1024, true);
+
+		InputStream stream = converter.read(response, InputStream.class);
+
+		assertTrue(stream instanceof HttpResponseInputStream);
+	}
 }
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http;
+
+import java.lang.reflect.Method;
+
+import com.github.ljtfreitas.restify.http.RestifyProxyHandler.ProxyMethodInvocation;
+
+/**
+ * Superclass of the proxies created with {@link ProxyEngine#BYTECODE}. The generated class overrides each endpoint method of
+ * the interface with a call to {@link #dispatch(int, Object[])}, using the index of the method; default methods are not
+ * overridden.
+ */
+public abstract class BytecodeProxy {
+
+	private final RestifyProxyHandler handler;
+	private final Method[] methods;
+	private final ProxyMethodInvocation[] invocations;
+
+	protected BytecodeProxy(RestifyProxyHandler handler, Method[] methods) {
+		this.handler = handler;
+		this.methods = methods;
+		this.invocations = new ProxyMethodInvocation[methods.length];
+	}
+
+	protected final Object dispatch(int index, Object[] args) throws Throwable {
+		ProxyMethodInvocation invocation = invocations[index];
+
+		if (invocation == null) {
+			// no volatile needed: invocations are lambdas, whose captured values are final fields, so a racing
+			// thread sees the invocation complete or looks it up again (and gets an equivalent one)
+			invocation = handler.invocationOf(methods[index]);
+			invocations[index] = invocation;
+		}
+
+		return invocation.invoke(this, args);
+	}
+
+	RestifyProxyHandler handler() {
+		return handler;
+	}
+
+	@Override
+	public String toString() {
+		return handler.toString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return handler.equals(obj);
+	}
+
+	@Override
+	public int hashCode() {
+		return handler.hashCode();
+	}
+}
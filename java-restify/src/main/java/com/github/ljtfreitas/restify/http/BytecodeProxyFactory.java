@@ -0,0 +1,117 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.matcher.ElementMatchers;
+
+class BytecodeProxyFactory {
+
+	private static final TypeCache<Class<?>> TYPES = new TypeCache.WithInlineExpunction<>(TypeCache.Sort.WEAK);
+
+	private static final ClassValue<Method[]> METHODS = new ClassValue<Method[]>() {
+		@Override
+		protected Method[] computeValue(Class<?> type) {
+			return Arrays.stream(type.getMethods())
+					.filter(m -> Modifier.isAbstract(m.getModifiers()))
+					.filter(m -> !isObjectMethod(m))
+						.toArray(Method[]::new);
+		}
+	};
+
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	private final RestifyProxyHandler handler;
+	private final ClassLoader classLoader;
+
+	public BytecodeProxyFactory(RestifyProxyHandler handler) {
+		this(handler, null);
+	}
+
+	public BytecodeProxyFactory(RestifyProxyHandler handler, ClassLoader classLoader) {
+		this.handler = handler;
+		this.classLoader = classLoader;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T create(Class<T> type) {
+		ClassLoader loader = Optional.ofNullable(classLoader).orElseGet(type::getClassLoader);
+
+		Method[] methods = METHODS.get(type);
+
+		Class<?> proxyType = TYPES.findOrInsert(loader, type, () -> generate(type, methods, loader), TYPES);
+
+		try {
+			return (T) proxyType.getConstructor(RestifyProxyHandler.class, Method[].class).newInstance(handler, methods);
+
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Cannot create a proxy of type [" + type + "].", e);
+		}
+	}
+
+	private Class<?> generate(Class<?> type, Method[] methods, ClassLoader loader) throws NoSuchMethodException {
+		Method dispatch = BytecodeProxy.class.getDeclaredMethod("dispatch", int.class, Object[].class);
+
+		DynamicType.Builder<?> builder = new ByteBuddy()
+				.subclass(BytecodeProxy.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
+					.implement(type)
+						.name(type.getName() + "$RestifyProxy$" + SEQUENCE.incrementAndGet());
+
+		for (int index = 0; index < methods.length; index++) {
+			builder = builder.method(ElementMatchers.is(methods[index]))
+					.intercept(MethodCall.invoke(dispatch)
+							.with(IntegerConstant.forValue(index), int.class)
+							.withArgumentArray()
+								.withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC));
+		}
+
+		return builder.make()
+				.load(loader, ClassLoadingStrategy.Default.INJECTION)
+					.getLoaded();
+	}
+
+	private static boolean isObjectMethod(Method method) {
+		try {
+			Object.class.getMethod(method.getName(), method.getParameterTypes());
+			return true;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+
+import com.github.ljtfreitas.restify.http.contract.metadata.GeneratedContractReaders;
+import com.github.ljtfreitas.restify.util.Try;
+
+/**
+ * Creates proxies with the implementation classes generated by the contract annotation processor, when they exist.
+ */
+class GeneratedProxyFactory {
+
+	private static final ClassValue<Optional<Constructor<?>>> constructors = new ClassValue<Optional<Constructor<?>>>() {
+		@Override
+		protected Optional<Constructor<?>> computeValue(Class<?> type) {
+			return constructorOf(type);
+		}
+	};
+
+	private final RestifyProxyHandler handler;
+
+	public GeneratedProxyFactory(RestifyProxyHandler handler) {
+		this.handler = handler;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> Optional<T> create(Class<T> type) {
+		return constructors.get(type).map(c -> (T) newInstance(c));
+	}
+
+	public static boolean generated(Class<?> type, Object proxy) {
+		return constructors.get(type).filter(c -> c.getDeclaringClass() == proxy.getClass()).isPresent();
+	}
+
+	private Object newInstance(Constructor<?> constructor) {
+		return Try.of(() -> constructor.newInstance(handler))
+				.error(e -> new IllegalStateException("Cannot create new instance of generated proxy type " + constructor.getDeclaringClass(), e))
+					.get();
+	}
+
+	private static Optional<Constructor<?>> constructorOf(Class<?> type) {
+		try {
+			Class<?> generated = Class.forName(GeneratedContractReaders.proxyNameOf(type.getName()), true, type.getClassLoader());
+
+			return type.isAssignableFrom(generated) && BytecodeProxy.class.isAssignableFrom(generated) ?
+					Optional.of(generated.getConstructor(RestifyProxyHandler.class)) :
+						Optional.empty();
+
+		} catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+			return Optional.empty();
+		}
+	}
+}
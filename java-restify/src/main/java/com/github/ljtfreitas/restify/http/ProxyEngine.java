@@ -0,0 +1,46 @@
+/*******************************************************************************
+ *
+ * MIT License
+ *
+ * Copyright (c) 2016 Tiago de Freitas Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ *******************************************************************************/
+package com.github.ljtfreitas.restify.http;
+
+/**
+ * How {@link RestifyProxyBuilder} creates the proxy objects. Interfaces with an implementation class generated by the contract
+ * annotation processor (java-restify-contract-processor) use that class, unless an engine is explicitly set on the builder.
+ */
+public enum ProxyEngine {
+
+	/**
+	 * A {@link java.lang.reflect.Proxy}; every call goes through {@link RestifyProxyHandler#invoke}. This is the default, when
+	 * the interface doesn't have a generated implementation class.
+	 */
+	JDK,
+
+	/**
+	 * A class generated at runtime for each interface, with Byte Buddy (an optional dependency that must be on the classpath).
+	 * Each endpoint method dispatches straight to its own invocation, by index, and default methods are invoked directly.
+	 */
+	BYTECODE;
+
+}
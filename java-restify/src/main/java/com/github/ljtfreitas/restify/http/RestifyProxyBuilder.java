@@ -38,11 +38,19 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLSocketFactory;
 
+import com.github.ljtfreitas.restify.http.client.cache.AsyncCachingEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.cache.CachingEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.cache.HttpCache;
+import com.github.ljtfreitas.restify.http.client.cache.HttpCacheStore;
+import com.github.ljtfreitas.restify.http.client.cache.InMemoryHttpCacheStore;
 import com.github.ljtfreitas.restify.http.client.call.DefaultEndpointCallFactory;
 import com.github.ljtfreitas.restify.http.client.call.EndpointCallFactory;
 import com.github.ljtfreitas.restify.http.client.call.EndpointMethodExecutor;
@@ -82,6 +90,7 @@ import com.github.ljtfreitas.restify.http.client.message.converter.text.TextMess
 import com.github.ljtfreitas.restify.http.client.message.converter.wildcard.WildcardMessageConverter;
 import com.github.ljtfreitas.restify.http.client.message.converter.xml.XmlMessageConverter;
 import com.github.ljtfreitas.restify.http.client.message.response.HttpStatusCode;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
 import com.github.ljtfreitas.restify.http.client.request.DefaultEndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestFactory;
@@ -96,6 +105,11 @@ import com.github.ljtfreitas.restify.http.client.request.async.interceptor.Async
 import com.github.ljtfreitas.restify.http.client.request.async.interceptor.AsyncInterceptedEndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.request.async.interceptor.AsyncInterceptedHttpClientRequestFactory;
 import com.github.ljtfreitas.restify.http.client.request.authentication.Authentication;
+import com.github.ljtfreitas.restify.http.client.request.coalescing.AsyncCoalescingEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.request.coalescing.CoalescingEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.request.download.AsyncFileDownloadEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.request.download.FileDownload;
+import com.github.ljtfreitas.restify.http.client.request.download.FileDownloadEndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.request.interceptor.AcceptVersionHeaderEndpointRequestInterceptor;
 import com.github.ljtfreitas.restify.http.client.request.interceptor.EndpointRequestInterceptor;
 import com.github.ljtfreitas.restify.http.client.request.interceptor.EndpointRequestInterceptorChain;
@@ -105,9 +119,12 @@ import com.github.ljtfreitas.restify.http.client.request.interceptor.HttpClientR
 import com.github.ljtfreitas.restify.http.client.request.interceptor.InterceptedEndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.request.interceptor.InterceptedHttpClientRequestFactory;
 import com.github.ljtfreitas.restify.http.client.request.interceptor.authentication.AuthenticationEndpoinRequestInterceptor;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestTiming;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestTimingListener;
 import com.github.ljtfreitas.restify.http.client.response.DefaultEndpointResponseErrorFallback;
 import com.github.ljtfreitas.restify.http.client.response.EmptyOnNotFoundEndpointResponseErrorFallback;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponseErrorFallback;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponseExceptionFactory;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponseReader;
 import com.github.ljtfreitas.restify.http.client.retry.RetryCondition.EndpointResponseRetryCondition;
 import com.github.ljtfreitas.restify.http.client.retry.RetryCondition.HeadersRetryCondition;
@@ -116,10 +133,13 @@ import com.github.ljtfreitas.restify.http.client.retry.RetryCondition.ThrowableR
 import com.github.ljtfreitas.restify.http.client.retry.RetryConfiguration;
 import com.github.ljtfreitas.restify.http.client.retry.RetryableEndpointRequestExecutor;
 import com.github.ljtfreitas.restify.http.client.retry.async.AsyncRetryableEndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.contract.metadata.CachedContractReader;
 import com.github.ljtfreitas.restify.http.contract.metadata.Contract;
+import com.github.ljtfreitas.restify.http.contract.metadata.ContractCache;
 import com.github.ljtfreitas.restify.http.contract.metadata.ContractExpressionResolver;
 import com.github.ljtfreitas.restify.http.contract.metadata.ContractReader;
 import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader;
+import com.github.ljtfreitas.restify.http.contract.metadata.DefaultContractReader.ReadingMode;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
 import com.github.ljtfreitas.restify.http.contract.metadata.SimpleContractExpressionResolver;
 import com.github.ljtfreitas.restify.spi.Provider;
@@ -141,12 +161,20 @@ public class RestifyProxyBuilder {
 
 	private final RetryBuilder retryBuilder = new RetryBuilder();
 
+	private final HttpCacheBuilder httpCacheBuilder = new HttpCacheBuilder();
+
+	private final TimingBuilder timingBuilder = new TimingBuilder();
+
+	private final DownloadBuilder downloadBuilder = new DownloadBuilder();
+
 	private final AsyncBuilder asyncBuilder = new AsyncBuilder();
 
 	private final Provider provider = new Provider();
 
 	private ClassLoader classloader = null;
 
+	private ProxyEngine engine = null;
+
 	public RestifyProxyBuilder client(HttpClientRequestFactory httpClientRequestFactory) {
 		this.httpClientRequestFactoryBuilder.httpClientRequestFactory = httpClientRequestFactory;
 		return this;
@@ -205,6 +233,22 @@ public class RestifyProxyBuilder {
 		return retryBuilder;
 	}
 
+	public HttpCacheBuilder cache() {
+		return httpCacheBuilder;
+	}
+
+	public RestifyProxyBuilder timing(EndpointRequestTimingListener... listeners) {
+		return this.timingBuilder.listeners(listeners);
+	}
+
+	public TimingBuilder timing() {
+		return timingBuilder;
+	}
+
+	public DownloadBuilder download() {
+		return downloadBuilder;
+	}
+
 	public RestifyProxyBuilder async(Executor executor) {
 		return this.asyncBuilder.using(executor);
 	}
@@ -218,6 +262,16 @@ public class RestifyProxyBuilder {
 		return this;
 	}
 
+	/**
+	 * The {@link ProxyEngine} used to create the proxies; {@link ProxyEngine#BYTECODE} requires Byte Buddy on the classpath.
+	 * When an engine is set, it's used also for interfaces with an implementation class generated by the contract annotation
+	 * processor.
+	 */
+	public RestifyProxyBuilder engine(ProxyEngine engine) {
+		this.engine = nonNull(engine, "ProxyEngine cannot be null.");
+		return this;
+	}
+
 	public <T> RestifyProxyBuilderOnTarget<T> target(Class<T> target) {
 		return new RestifyProxyBuilderOnTarget<>(target, null);
 	}
@@ -234,6 +288,54 @@ public class RestifyProxyBuilder {
 		return new RestifyProxyBuilderOnTarget<>(target, endpoint.toString());
 	}
 
+	/**
+	 * Creates a new proxy that shares the whole pipeline (contract, converters, handlers, HTTP client) of the given proxy,
+	 * bound to other endpoint. Only the contract is read again, and with a cached contract (see {@link ContractBuilder#cached()})
+	 * the cached reading is just bound to the new endpoint.
+	 */
+	public static <T> T rebind(T proxy, String endpoint) {
+		nonNull(proxy, "Proxy cannot be null.");
+
+		RestifyProxyHandler restifyProxyHandler = RestifyProxyHandler.of(proxy)
+				.orElseThrow(() -> new IllegalArgumentException("Object [" + proxy + "] is not a proxy created by RestifyProxyBuilder."));
+
+		EndpointTarget target = new EndpointTarget(restifyProxyHandler.javaType(), endpoint);
+
+		@SuppressWarnings("unchecked")
+		Class<T> type = (Class<T>) restifyProxyHandler.javaType();
+
+		ProxyEngine engine = GeneratedProxyFactory.generated(type, proxy) ? null :
+			proxy instanceof BytecodeProxy ? ProxyEngine.BYTECODE :
+				ProxyEngine.JDK;
+
+		return create(type, restifyProxyHandler.rebind(target), proxy.getClass().getClassLoader(), engine);
+	}
+
+	public static <T> T rebind(T proxy, URL endpoint) {
+		return rebind(proxy, endpoint.toString());
+	}
+
+	public static <T> T rebind(T proxy, URI endpoint) {
+		return rebind(proxy, endpoint.toString());
+	}
+
+	private static <T> T create(Class<T> type, RestifyProxyHandler restifyProxyHandler, ClassLoader classLoader, ProxyEngine engine) {
+		if (engine == null) {
+			Optional<T> generated = new GeneratedProxyFactory(restifyProxyHandler).create(type);
+
+			if (generated.isPresent()) return generated.get();
+
+			engine = ProxyEngine.JDK;
+		}
+
+		switch (engine) {
+			case BYTECODE:
+				return new BytecodeProxyFactory(restifyProxyHandler, classLoader).create(type);
+			default:
+				return new ProxyFactory(restifyProxyHandler, classLoader).create(type);
+		}
+	}
+
 	public class RestifyProxyBuilderOnTarget<T> {
 		private final Class<T> type;
 		private final String endpoint;
@@ -246,7 +348,7 @@ public class RestifyProxyBuilder {
 		public T build() {
 			RestifyProxyHandler restifyProxyHandler = doBuild();
 
-			return new ProxyFactory(restifyProxyHandler, classloader).create(type);
+			return create(type, restifyProxyHandler, classloader, engine);
 		}
 
 		private RestifyProxyHandler doBuild() {
@@ -255,7 +357,8 @@ public class RestifyProxyBuilder {
 			EndpointMethodExecutor endpointMethodExecutor = new EndpointMethodExecutor(
 					endpointRequestFactory(),
 					endpointCallHandlers(),
-					endpointCallFactory());
+					endpointCallFactory(),
+					timingBuilder.build());
 
 			Contract contract = contract();
 
@@ -271,7 +374,10 @@ public class RestifyProxyBuilder {
 		}
 
 		private EndpointCallFactory endpointCallFactory() {
-			EndpointRequestExecutor executor = retryable(intercepted(endpointRequestExecutor()));
+			EndpointRequestExecutor endpointRequestExecutor = endpointRequestExecutor();
+			// cache and coalescer run after the interceptors, so they see the headers added by them (like Authorization)
+			EndpointRequestExecutor executor = downloadable(retryable(intercepted(coalesced(cached(endpointRequestExecutor)))),
+					retryable(intercepted(endpointRequestExecutor)));
 			return executor instanceof AsyncEndpointRequestExecutor ?
 					asyncEndpointCallFactory(executor) :
 						defaultEndpointCallFactory(executor);
@@ -315,12 +421,34 @@ public class RestifyProxyBuilder {
 		private EndpointRequestExecutor asyncEndpointRequestExecutor(AsyncHttpClientRequestFactory asyncHttpClientRequestFactory,
 				EndpointRequestWriter writer, EndpointResponseReader reader) {
 			return new DefaultAsyncEndpointRequestExecutor(asyncBuilder.executor,
-					asyncHttpClientRequestFactory, writer, reader);
+					asyncHttpClientRequestFactory, writer, reader, timingBuilder.build());
 		}
 
 		private EndpointRequestExecutor endpointRequestExecutor(HttpClientRequestFactory httpClientRequestFactory,
 				EndpointRequestWriter writer, EndpointResponseReader reader) {
-			return new DefaultEndpointRequestExecutor(httpClientRequestFactory, writer, reader);
+			return new DefaultEndpointRequestExecutor(httpClientRequestFactory, writer, reader, timingBuilder.build());
+		}
+
+		private EndpointRequestExecutor downloadable(EndpointRequestExecutor delegate, EndpointRequestExecutor downloadExecutor) {
+			FileDownload fileDownload = downloadBuilder.build();
+			return delegate instanceof AsyncEndpointRequestExecutor ?
+					new AsyncFileDownloadEndpointRequestExecutor((AsyncEndpointRequestExecutor) delegate,
+							(AsyncEndpointRequestExecutor) downloadExecutor, fileDownload, asyncBuilder.executor) :
+						new FileDownloadEndpointRequestExecutor(delegate, downloadExecutor, fileDownload);
+		}
+
+		private EndpointRequestExecutor coalesced(EndpointRequestExecutor delegate) {
+			return delegate instanceof AsyncEndpointRequestExecutor ?
+					new AsyncCoalescingEndpointRequestExecutor((AsyncEndpointRequestExecutor) delegate) :
+						new CoalescingEndpointRequestExecutor(delegate);
+		}
+
+		private EndpointRequestExecutor cached(EndpointRequestExecutor delegate) {
+			HttpCache httpCache = httpCacheBuilder.build();
+			return httpCache == null ? delegate :
+				delegate instanceof AsyncEndpointRequestExecutor ?
+						new AsyncCachingEndpointRequestExecutor((AsyncEndpointRequestExecutor) delegate, httpCache) :
+							new CachingEndpointRequestExecutor(delegate, httpCache);
 		}
 
 		private EndpointRequestExecutor retryable(EndpointRequestExecutor delegate) {
@@ -353,14 +481,7 @@ public class RestifyProxyBuilder {
 		}
 
 		private Contract contract() {
-			return Optional.ofNullable(contractBuilder.contract)
-					.map(c -> new Contract(c))
-					.orElseGet(() -> new Contract(new DefaultContractReader(expressionResolver())));
-		}
-
-		private ContractExpressionResolver expressionResolver() {
-			return Optional.ofNullable(contractBuilder.resolver)
-					.orElseGet(() -> new SimpleContractExpressionResolver());
+			return new Contract(contractBuilder.reader());
 		}
 	}
 
@@ -368,17 +489,61 @@ public class RestifyProxyBuilder {
 
 		private ContractReader contract = null;
 		private ContractExpressionResolver resolver = null;
+		private ReadingMode mode = ReadingMode.EAGER;
+		private ForkJoinPool pool = ForkJoinPool.commonPool();
+		private ContractCache cache = null;
 
 		public ContractBuilder using(ContractReader contract) {
 			this.contract = contract;
 			return this;
 		}
 
+		public ContractBuilder lazy() {
+			this.mode = ReadingMode.LAZY;
+			return this;
+		}
+
+		public ContractBuilder parallel() {
+			this.mode = ReadingMode.PARALLEL;
+			return this;
+		}
+
+		public ContractBuilder parallel(ForkJoinPool pool) {
+			this.mode = ReadingMode.PARALLEL;
+			this.pool = nonNull(pool, "ForkJoinPool cannot be null.");
+			return this;
+		}
+
 		public ContractBuilder resolver(ContractExpressionResolver resolver) {
 			this.resolver = resolver;
 			return this;
 		}
 
+		public ContractBuilder cached() {
+			return cached(ContractCache.shared());
+		}
+
+		public ContractBuilder cached(ContractCache cache) {
+			this.cache = nonNull(cache, "ContractCache cannot be null.");
+			return this;
+		}
+
+		/**
+		 * The {@link ContractReader} of this configuration: the given reader, or a {@link DefaultContractReader} in the
+		 * configured reading mode, behind the {@link ContractCache} when it's enabled.
+		 */
+		public ContractReader reader() {
+			ContractReader reader = Optional.ofNullable(contract)
+					.orElseGet(() -> new DefaultContractReader(expressionResolver(), mode, pool));
+
+			return cache == null ? reader : new CachedContractReader(reader, expressionResolver(), cache);
+		}
+
+		private ContractExpressionResolver expressionResolver() {
+			return Optional.ofNullable(resolver)
+					.orElseGet(() -> new SimpleContractExpressionResolver());
+		}
+
 		public RestifyProxyBuilder and() {
 			return RestifyProxyBuilder.this;
 		}
@@ -609,6 +774,9 @@ public class RestifyProxyBuilder {
 
 		private EndpointResponseErrorFallback fallback = null;
 		private boolean emptyOnNotFound = false;
+		private int bodyLimit = EndpointResponseExceptionFactory.DEFAULT_BODY_LIMIT;
+		private Predicate<StatusCode> withoutBody = status -> false;
+		private boolean withoutBodyOnRetry = false;
 
 		private EndpointResponseErrorFallbackBuilder() {
 			this(null);
@@ -628,9 +796,57 @@ public class RestifyProxyBuilder {
 			return RestifyProxyBuilder.this;
 		}
 
+		/**
+		 * Maximum number of bytes of the error response body kept in the exception.
+		 */
+		public EndpointResponseErrorFallbackBuilder bodyLimit(int bodyLimit) {
+			this.bodyLimit = bodyLimit;
+			return this;
+		}
+
+		/**
+		 * Don't read the body of error responses with these statuses.
+		 */
+		public EndpointResponseErrorFallbackBuilder withoutBody(HttpStatusCode... statuses) {
+			Collection<StatusCode> collection = Arrays.stream(statuses).map(StatusCode::of).collect(Collectors.toSet());
+			return withoutBody(collection::contains);
+		}
+
+		public EndpointResponseErrorFallbackBuilder withoutBody(Predicate<StatusCode> predicate) {
+			this.withoutBody = this.withoutBody.or(predicate);
+			return this;
+		}
+
+		/**
+		 * Don't read the body of error responses whose statuses are retried by the {@link #retry()} configuration;
+		 * the body is not available in the exception of the last attempt either.
+		 */
+		public EndpointResponseErrorFallbackBuilder withoutBodyOnRetry() {
+			this.withoutBodyOnRetry = true;
+			return this;
+		}
+
+		public RestifyProxyBuilder and() {
+			return RestifyProxyBuilder.this;
+		}
+
 		private EndpointResponseErrorFallback build() {
 			return Optional.ofNullable(fallback)
-					.orElseGet(() -> emptyOnNotFound ? new EmptyOnNotFoundEndpointResponseErrorFallback() : new DefaultEndpointResponseErrorFallback());
+					.orElseGet(() -> {
+						DefaultEndpointResponseErrorFallback defaultFallback = new DefaultEndpointResponseErrorFallback(endpointResponseExceptionFactory());
+						return emptyOnNotFound ? new EmptyOnNotFoundEndpointResponseErrorFallback(defaultFallback) : defaultFallback;
+					});
+		}
+
+		private EndpointResponseExceptionFactory endpointResponseExceptionFactory() {
+			RetryConfiguration retryConfiguration = withoutBodyOnRetry ? retryBuilder.build() : null;
+
+			Predicate<StatusCode> withoutBody = retryConfiguration == null ? this.withoutBody :
+				this.withoutBody.or(status -> retryConfiguration.conditions().stream()
+						.filter(c -> c instanceof StatusCodeRetryCondition)
+						.anyMatch(c -> ((StatusCodeRetryCondition) c).test(status)));
+
+			return new EndpointResponseExceptionFactory(bodyLimit, withoutBody);
 		}
 	}
 
@@ -847,6 +1063,99 @@ public class RestifyProxyBuilder {
 		}
 	}
 
+	public class HttpCacheBuilder {
+
+		private boolean enabled = false;
+		private HttpCacheStore store = null;
+
+		public HttpCacheBuilder enabled() {
+			this.enabled = true;
+			return this;
+		}
+
+		public RestifyProxyBuilder disabled() {
+			this.enabled = false;
+			return RestifyProxyBuilder.this;
+		}
+
+		public HttpCacheBuilder enabled(boolean enabled) {
+			this.enabled = enabled;
+			return this;
+		}
+
+		public RestifyProxyBuilder using(HttpCacheStore store) {
+			this.enabled = (store != null);
+			this.store = store;
+			return RestifyProxyBuilder.this;
+		}
+
+		public RestifyProxyBuilder and() {
+			return RestifyProxyBuilder.this;
+		}
+
+		private HttpCache build() {
+			return enabled ? new HttpCache(Optional.ofNullable(store).orElseGet(InMemoryHttpCacheStore::new)) : null;
+		}
+	}
+
+	public class TimingBuilder {
+
+		private final Collection<EndpointRequestTimingListener> listeners = new ArrayList<>();
+
+		public TimingBuilder listener(EndpointRequestTimingListener listener) {
+			this.listeners.add(nonNull(listener, "Timing listener cannot be null."));
+			return this;
+		}
+
+		public RestifyProxyBuilder listeners(EndpointRequestTimingListener... listeners) {
+			Arrays.stream(listeners).forEach(this::listener);
+			return RestifyProxyBuilder.this;
+		}
+
+		public RestifyProxyBuilder and() {
+			return RestifyProxyBuilder.this;
+		}
+
+		private EndpointRequestTiming build() {
+			return EndpointRequestTiming.of(listeners);
+		}
+	}
+
+	public class DownloadBuilder {
+
+		private final FileDownload.Builder builder = new FileDownload.Builder();
+
+		private Executor executor;
+
+		public DownloadBuilder segments(int segments) {
+			builder.segments(segments);
+			return this;
+		}
+
+		public DownloadBuilder segmentSize(long segmentSize) {
+			builder.segmentSize(segmentSize);
+			return this;
+		}
+
+		public DownloadBuilder attempts(int attempts) {
+			builder.attempts(attempts);
+			return this;
+		}
+
+		public DownloadBuilder executor(Executor executor) {
+			this.executor = nonNull(executor, "Download executor cannot be null.");
+			return this;
+		}
+
+		public RestifyProxyBuilder and() {
+			return RestifyProxyBuilder.this;
+		}
+
+		private FileDownload build() {
+			return builder.executor(executor == null ? asyncBuilder.executor : executor).build();
+		}
+	}
+
 	public class RetryBuilder {
 
 		private final RetryConfigurationBuilder builder = new RetryConfigurationBuilder();
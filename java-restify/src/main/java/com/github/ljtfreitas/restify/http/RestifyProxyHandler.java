@@ -29,10 +29,13 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.ljtfreitas.restify.http.client.call.EndpointMethodExecutor;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointType;
 import com.github.ljtfreitas.restify.reflection.JavaDefaultMethodExecutor;
 import com.github.ljtfreitas.restify.util.Try;
@@ -41,6 +44,7 @@ public class RestifyProxyHandler implements InvocationHandler {
 
 	private final EndpointType endpointType;
 	private final EndpointMethodExecutor endpointMethodExecutor;
+	private final Map<Method, ProxyMethodInvocation> invocations = new ConcurrentHashMap<>();
 
 	public RestifyProxyHandler(EndpointType endpointType, EndpointMethodExecutor endpointMethodExecutor) {
 		this.endpointType = endpointType;
@@ -49,12 +53,46 @@ public class RestifyProxyHandler implements InvocationHandler {
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		ProxyMethodInvocation invocation = invocations.get(method);
+
+		if (invocation == null) {
+			invocation = invocations.computeIfAbsent(method, this::invocationOf);
+		}
+
+		return invocation.invoke(proxy, args);
+	}
+
+	public RestifyProxyHandler rebind(EndpointTarget target) {
+		return new RestifyProxyHandler(endpointType.rebind(target), endpointMethodExecutor);
+	}
+
+	Class<?> javaType() {
+		return endpointType.javaType();
+	}
+
+	static Optional<RestifyProxyHandler> of(Object proxy) {
+		if (proxy instanceof BytecodeProxy) {
+			return Optional.of(((BytecodeProxy) proxy).handler());
+		}
+
+		InvocationHandler handler = Proxy.isProxyClass(proxy.getClass()) ? Proxy.getInvocationHandler(proxy) : null;
+
+		return handler instanceof RestifyProxyHandler ? Optional.of((RestifyProxyHandler) handler) : Optional.empty();
+	}
+
+	ProxyMethodInvocation invocationOf(Method method) {
 		Optional<EndpointMethod> endpointMethod = endpointType.find(method);
 
-		return endpointMethod.isPresent() ? endpointMethodExecutor.execute(endpointMethod.get(), args)
-				: method.isDefault() ?
-					executeProxyMethod(method, proxy, args)
-						: executeObjectMethod(method, proxy, args);
+		if (endpointMethod.isPresent()) {
+			EndpointMethod target = endpointMethod.get();
+			return (proxy, args) -> endpointMethodExecutor.execute(target, args);
+
+		} else if (method.isDefault()) {
+			return (proxy, args) -> executeProxyMethod(method, proxy, args);
+
+		} else {
+			return (proxy, args) -> executeObjectMethod(method, proxy, args);
+		}
 	}
 
 	private Object executeProxyMethod(Method method, Object proxy, Object[] args) {
@@ -80,11 +118,8 @@ public class RestifyProxyHandler implements InvocationHandler {
 
 	@Override
 	public boolean equals(Object obj) {
-		if (endpointType.javaType().isAssignableFrom(obj.getClass())
-				&& Proxy.isProxyClass(obj.getClass())) {
-
-			RestifyProxyHandler that = (RestifyProxyHandler) Proxy.getInvocationHandler(obj);
-			return endpointType.equals(that.endpointType);
+		if (endpointType.javaType().isAssignableFrom(obj.getClass())) {
+			return of(obj).map(that -> endpointType.equals(that.endpointType)).orElse(false);
 
 		} else if (endpointType.getClass().isAssignableFrom(obj.getClass())) {
 			return endpointType.equals(obj);
@@ -97,4 +132,11 @@ public class RestifyProxyHandler implements InvocationHandler {
 		return endpointType.hashCode();
 	}
 
+	@FunctionalInterface
+	interface ProxyMethodInvocation {
+
+		Object invoke(Object proxy, Object[] args) throws Throwable;
+
+	}
+
 }
@@ -25,12 +25,18 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.call;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.ljtfreitas.restify.http.client.call.handler.EndpointCallHandler;
 import com.github.ljtfreitas.restify.http.client.call.handler.EndpointCallHandlers;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestPhase;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestTiming;
 import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 import com.github.ljtfreitas.restify.reflection.JavaType;
@@ -40,22 +46,35 @@ public class EndpointMethodExecutor {
 	private final EndpointRequestFactory endpointRequestFactory;
 	private final EndpointCallHandlers endpointCallHandlers;
 	private final EndpointCallFactory endpointCallFactory;
+	private final EndpointRequestTiming timing;
+	// keyed by Java method, so proxies rebound to other endpoints share the plans of the original proxy
+	private final Map<Method, EndpointMethodInvocation> invocations = new ConcurrentHashMap<>();
 
 	public EndpointMethodExecutor(EndpointRequestFactory endpointRequestFactory, EndpointCallHandlers endpointCallHandler,
 			EndpointCallFactory endpointCallFactory) {
+		this(endpointRequestFactory, endpointCallHandler, endpointCallFactory, EndpointRequestTiming.none());
+	}
+
+	public EndpointMethodExecutor(EndpointRequestFactory endpointRequestFactory, EndpointCallHandlers endpointCallHandler,
+			EndpointCallFactory endpointCallFactory, EndpointRequestTiming timing) {
 		this.endpointRequestFactory = endpointRequestFactory;
 		this.endpointCallHandlers = endpointCallHandler;
 		this.endpointCallFactory = endpointCallFactory;
+		this.timing = Optional.ofNullable(timing).orElseGet(EndpointRequestTiming::none);
 	}
 
 	public Object execute(EndpointMethod endpointMethod, Object[] args) {
-		EndpointCallHandler<Object, Object> handler = endpointCallHandlers.of(endpointMethod);
-
-		EndpointRequest endpointRequest = endpointRequestFactory.createWith(endpointMethod, args, rawTypeOf(handler.returnType()));
+		return invocationOf(endpointMethod).execute(endpointMethod, args);
+	}
 
-		EndpointCall<Object> call = endpointCallFactory.createWith(endpointRequest, handler.returnType());
+	private EndpointMethodInvocation invocationOf(EndpointMethod endpointMethod) {
+		EndpointMethodInvocation invocation = invocations.get(endpointMethod.javaMethod());
+		return invocation == null ? invocations.computeIfAbsent(endpointMethod.javaMethod(), m -> compile(endpointMethod)) : invocation;
+	}
 
-		return handler.handle(call, args);
+	private EndpointMethodInvocation compile(EndpointMethod endpointMethod) {
+		EndpointCallHandler<Object, Object> handler = endpointCallHandlers.of(endpointMethod);
+		return new EndpointMethodInvocation(handler, rawTypeOf(handler.returnType()));
 	}
 
 	private JavaType rawTypeOf(JavaType returnType) {
@@ -65,4 +84,29 @@ public class EndpointMethodExecutor {
 	private JavaType rawParameterizedTypeOf(JavaType returnType) {
 		return JavaType.of(returnType.parameterized() ? returnType.as(ParameterizedType.class).getActualTypeArguments()[0] : Object.class);
 	}
+
+	private class EndpointMethodInvocation {
+
+		private final EndpointCallHandler<Object, Object> handler;
+		private final JavaType handlerReturnType;
+		private final JavaType responseType;
+
+		private EndpointMethodInvocation(EndpointCallHandler<Object, Object> handler, JavaType responseType) {
+			this.handler = handler;
+			this.handlerReturnType = handler.returnType();
+			this.responseType = responseType;
+		}
+
+		private Object execute(EndpointMethod endpointMethod, Object[] args) {
+			long start = timing.start();
+
+			EndpointRequest endpointRequest = endpointRequestFactory.createWith(endpointMethod, args, responseType);
+
+			timing.end(endpointMethod, EndpointRequestPhase.CREATE, start);
+
+			EndpointCall<Object> call = endpointCallFactory.createWith(endpointRequest, handlerReturnType);
+
+			return handler.handle(call, args);
+		}
+	}
 }
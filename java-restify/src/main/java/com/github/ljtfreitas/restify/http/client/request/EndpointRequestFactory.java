@@ -25,19 +25,32 @@
  *******************************************************************************/
 package com.github.ljtfreitas.restify.http.client.request;
 
+import java.io.File;
+import java.lang.reflect.Method;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.ljtfreitas.restify.http.client.HttpException;
+import com.github.ljtfreitas.restify.http.client.message.Cookie;
 import com.github.ljtfreitas.restify.http.client.message.Cookies;
 import com.github.ljtfreitas.restify.http.client.message.Header;
 import com.github.ljtfreitas.restify.http.client.message.Headers;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethodParameter;
 import com.github.ljtfreitas.restify.reflection.JavaType;
 
 public class EndpointRequestFactory {
 
+	// keyed by Java method, so proxies rebound to other endpoints share the templates and metadata of the original proxy
+	private final Map<Method, Headers> templates = new ConcurrentHashMap<>();
+	private final Map<Method, EndpointRequestMetadata> metadata = new ConcurrentHashMap<>();
+
 	public EndpointRequest createWith(EndpointMethod endpointMethod, Object[] args) {
 		return newRequest(endpointMethod, args, endpointMethod.returnType());
 	}
@@ -56,9 +69,11 @@ public class EndpointRequestFactory {
 
 			EndpointVersion version = endpointMethod.version().map(EndpointVersion::of).orElse(null);
 
-			EndpointRequestMetadata metadata = new EndpointRequestMetadata(endpointMethod.metadata().all());
+			EndpointRequestMetadata metadata = metadataOf(endpointMethod);
+
+			Path destination = destinationOf(endpointMethod, args);
 
-			return new EndpointRequest(endpoint, endpointMethod.httpMethod(), headers, body, responseType, version, metadata);
+			return new EndpointRequest(endpoint, endpointMethod.httpMethod(), headers, body, responseType, version, metadata, destination);
 
 		} catch (URISyntaxException e) {
 			throw new HttpException(e);
@@ -71,26 +86,75 @@ public class EndpointRequestFactory {
 					.map(p -> args[p.position()]).orElse(null);
 	}
 
+	private Path destinationOf(EndpointMethod endpointMethod, Object[] args) {
+		return endpointMethod.parameters()
+				.destination()
+					.map(p -> args[p.position()])
+						.map(this::pathOf)
+							.orElse(null);
+	}
+
+	private Path pathOf(Object destination) {
+		if (destination instanceof Path) return (Path) destination;
+		else if (destination instanceof File) return ((File) destination).toPath();
+		else return Paths.get(destination.toString());
+	}
+
 	private Headers headersOf(EndpointMethod endpointMethod, Object[] args) {
-		Headers headers = endpointMethod.headers().all()
-				.stream()
-					.reduce(new Headers(), (a, b) -> a.add(new Header(b.name(), b.value())), (a, b) -> b)
-				.addAll(endpointMethod.parameters().header()
-						.stream()
-							.reduce(new Headers(),
-									(a, b) -> a.add(new Header(b.name(), b.resolve(args[b.position()]))), (a, b) -> b));
-
-		return cookiesOf(endpointMethod, args)
-				.map(headers::add)
-					.orElse(headers);
+		Headers template = templateOf(endpointMethod);
+
+		Collection<EndpointMethodParameter> headerParameters = endpointMethod.parameters().header();
+		Collection<EndpointMethodParameter> cookieParameters = endpointMethod.parameters().cookie();
+
+		if (headerParameters.isEmpty() && cookieParameters.isEmpty()) {
+			return template;
+		}
+
+		Headers.Builder headers = new Headers.Builder(template);
+
+		headerParameters.forEach(p -> headers.add(new Header(p.name(), p.resolve(args[p.position()]))));
+
+		cookiesOf(cookieParameters, args)
+			.ifPresent(headers::add);
+
+		return headers.build();
+	}
+
+	private EndpointRequestMetadata metadataOf(EndpointMethod endpointMethod) {
+		EndpointRequestMetadata endpointRequestMetadata = metadata.get(endpointMethod.javaMethod());
+
+		if (endpointRequestMetadata == null) {
+			endpointRequestMetadata = metadata.computeIfAbsent(endpointMethod.javaMethod(),
+					m -> new EndpointRequestMetadata(endpointMethod.metadata().all(), endpointMethod));
+		}
+
+		return endpointRequestMetadata.with(endpointMethod);
+	}
+
+	private Headers templateOf(EndpointMethod endpointMethod) {
+		Headers template = templates.get(endpointMethod.javaMethod());
+
+		if (template == null) {
+			template = templates.computeIfAbsent(endpointMethod.javaMethod(), m -> newTemplate(endpointMethod));
+		}
+
+		return template;
+	}
+
+	private Headers newTemplate(EndpointMethod endpointMethod) {
+		Headers.Builder headers = new Headers.Builder();
+
+		endpointMethod.headers().all()
+			.forEach(h -> headers.add(new Header(h.name(), h.value())));
+
+		return headers.build();
 	}
 
-	private Optional<Header> cookiesOf(EndpointMethod endpointMethod, Object[] args) {
-		Cookies cookies = endpointMethod.parameters().cookie()
-			.stream()
-				.reduce(new Cookies(),
-						(a, b) -> a.add(b.name(), b.resolve(args[b.position()])), (a, b) -> b);
+	private Optional<Header> cookiesOf(Collection<EndpointMethodParameter> cookieParameters, Object[] args) {
+		Cookie[] cookies = cookieParameters.stream()
+			.map(p -> new Cookie(p.name(), p.resolve(args[p.position()])))
+				.toArray(Cookie[]::new);
 
-		return cookies.empty() ? Optional.empty() : Optional.of(Header.cookie(cookies));
+		return cookies.length == 0 ? Optional.empty() : Optional.of(Header.cookie(new Cookies(cookies)));
 	}
 }
@@ -0,0 +1,152 @@
+package com.github.ljtfreitas.restify.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.github.ljtfreitas.restify.http.client.call.EndpointMethodExecutor;
+import com.github.ljtfreitas.restify.http.contract.metadata.ContractReader;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethods;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointType;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BytecodeProxyFactoryTest {
+
+	@Mock
+	private EndpointMethodExecutor endpointMethodExecutorMock;
+
+	private EndpointType endpointType;
+
+	private EndpointMethod endpointMethod;
+
+	private EndpointMethod sumMethod;
+
+	private TargetType targetType;
+
+	@Before
+	public void setup() throws Exception {
+		EndpointTarget target = new EndpointTarget(TargetType.class, "http://my.api.com");
+
+		endpointMethod = new EndpointMethod(TargetType.class.getMethod("method", String.class), "/{arg}", "GET");
+		sumMethod = new EndpointMethod(TargetType.class.getMethod("sum"), "/sum", "GET");
+
+		endpointType = Mockito.spy(new EndpointType(target, new EndpointMethods(Arrays.asList(endpointMethod, sumMethod))));
+
+		when(endpointMethodExecutorMock.execute(same(endpointMethod), any()))
+			.thenReturn("Result");
+
+		when(endpointMethodExecutorMock.execute(same(sumMethod), any()))
+			.thenReturn(42);
+
+		targetType = new BytecodeProxyFactory(new RestifyProxyHandler(endpointType, endpointMethodExecutorMock))
+				.create(TargetType.class);
+	}
+
+	@Test
+	public void shouldCreateProxyWithGeneratedClass() {
+		assertFalse(Proxy.isProxyClass(targetType.getClass()));
+		assertTrue(targetType instanceof BytecodeProxy);
+	}
+
+	@Test
+	public void shouldReuseGeneratedClassForTheSameType() {
+		TargetType other = new BytecodeProxyFactory(new RestifyProxyHandler(endpointType, endpointMethodExecutorMock))
+				.create(TargetType.class);
+
+		assertSame(targetType.getClass(), other.getClass());
+	}
+
+	@Test
+	public void shouldInvokeEndpointMethodWithArguments() {
+		String result = targetType.method("arg");
+
+		assertEquals("Result", result);
+
+		verify(endpointMethodExecutorMock)
+			.execute(same(endpointMethod), Mockito.eq(new Object[] { "arg" }));
+	}
+
+	@Test
+	public void shouldUnboxPrimitiveResultOfEndpointMethod() {
+		assertEquals(42, targetType.sum());
+	}
+
+	@Test
+	public void shouldFindEndpointMethodOnlyOnceForEachJavaMethod() throws Exception {
+		targetType.method("arg");
+		targetType.method("arg");
+
+		verify(endpointType, times(1)).find(TargetType.class.getMethod("method", String.class));
+
+		verify(endpointMethodExecutorMock, times(2))
+			.execute(same(endpointMethod), any());
+	}
+
+	@Test
+	public void shouldInvokeDefaultMethodDirectly() {
+		assertEquals("TargetType default method: Result", targetType.myDefaultMethod());
+	}
+
+	@Test
+	public void shouldInvokeObjectMethodsOnEndpointType() {
+		assertEquals(endpointType.toString(), targetType.toString());
+		assertEquals(endpointType.hashCode(), targetType.hashCode());
+		assertTrue(targetType.equals(targetType));
+	}
+
+	@Test
+	public void shouldRebindToOtherEndpointWithGeneratedClass() throws Exception {
+		EndpointMethod reboundEndpointMethod = new EndpointMethod(TargetType.class.getMethod("method", String.class), "http://other.api.com/{arg}", "GET");
+
+		EndpointTarget reboundTarget = new EndpointTarget(TargetType.class, "http://other.api.com");
+
+		ContractReader reader = Mockito.mock(ContractReader.class);
+		when(reader.read(reboundTarget))
+			.thenReturn(new EndpointMethods(Arrays.asList(reboundEndpointMethod)));
+
+		RestifyProxyHandler handler = new RestifyProxyHandler(new EndpointType(new EndpointTarget(TargetType.class, "http://my.api.com"),
+				Mockito.mock(EndpointMethods.class), reader), endpointMethodExecutorMock);
+
+		TargetType proxy = new BytecodeProxyFactory(handler).create(TargetType.class);
+
+		TargetType rebound = RestifyProxyBuilder.rebind(proxy, "http://other.api.com");
+
+		assertTrue(rebound instanceof BytecodeProxy);
+		assertNotEquals(proxy, rebound);
+
+		rebound.method("arg");
+
+		verify(endpointMethodExecutorMock)
+			.execute(same(reboundEndpointMethod), any());
+	}
+
+	public interface TargetType {
+
+		String method(String arg);
+
+		int sum();
+
+		default String myDefaultMethod() {
+			return "TargetType default method: " + method("default");
+		}
+	}
+}
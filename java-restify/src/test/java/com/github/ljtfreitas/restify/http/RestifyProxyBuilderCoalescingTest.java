@@ -0,0 +1,148 @@
+package com.github.ljtfreitas.restify.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.request.coalescing.Coalesce;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+
+public class RestifyProxyBuilderCoalescingTest {
+
+	private ExecutorService executor;
+
+	private ThreadLocal<String> credentials;
+
+	private Collection<String> authorizations;
+
+	private AtomicInteger executions;
+
+	private CountDownLatch entered;
+
+	private CountDownLatch release;
+
+	private MyApi myApi;
+
+	@Before
+	public void setup() {
+		executor = Executors.newFixedThreadPool(2);
+
+		credentials = new ThreadLocal<>();
+		authorizations = new ConcurrentLinkedQueue<>();
+		executions = new AtomicInteger();
+		entered = new CountDownLatch(2);
+		release = new CountDownLatch(1);
+
+		myApi = new RestifyProxyBuilder()
+				.executor()
+					.using(new BlockingEndpointRequestExecutor())
+					.interceptors()
+						.authentication(endpointRequest -> credentials.get())
+						.and()
+					.and()
+				.target(MyApi.class, "http://my.api.com")
+				.build();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void shouldNotShareResponseBetweenCallersWithCredentialsAddedByInterceptor() throws Exception {
+		Future<String> first = executor.submit(() -> find("Bearer first"));
+		Future<String> second = executor.submit(() -> find("Bearer second"));
+
+		assertTrue("both requests should reach the executor", entered.await(5, TimeUnit.SECONDS));
+
+		release.countDown();
+
+		assertEquals("Bearer first", first.get());
+		assertEquals("Bearer second", second.get());
+		assertEquals(2, executions.get());
+	}
+
+	@Test
+	public void shouldCoalesceRequestsWithSameCredentialsAddedByInterceptor() throws Exception {
+		Future<String> first = executor.submit(() -> find("Bearer same"));
+
+		while (executions.get() == 0) {
+			Thread.sleep(10);
+		}
+
+		CompletableFuture<Thread> follower = new CompletableFuture<>();
+
+		Future<String> second = executor.submit(() -> {
+			follower.complete(Thread.currentThread());
+			return find("Bearer same");
+		});
+
+		awaitParked(follower.get());
+
+		release.countDown();
+
+		assertEquals("Bearer same", first.get());
+		assertEquals("Bearer same", second.get());
+		assertEquals(1, executions.get());
+		assertEquals(1, authorizations.size());
+	}
+
+	private String find(String authorization) {
+		credentials.set(authorization);
+		return myApi.find();
+	}
+
+	private void awaitParked(Thread thread) throws InterruptedException {
+		while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+			Thread.sleep(10);
+		}
+	}
+
+	@Path("/resources")
+	interface MyApi {
+
+		@Get @Coalesce
+		String find();
+	}
+
+	private class BlockingEndpointRequestExecutor implements EndpointRequestExecutor {
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
+			String authorization = endpointRequest.headers().get("Authorization").map(Header::value).orElse(null);
+
+			authorizations.add(authorization);
+			executions.incrementAndGet();
+			entered.countDown();
+
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+
+			return (EndpointResponse<T>) EndpointResponse.of(StatusCode.ok(), authorization);
+		}
+	}
+}
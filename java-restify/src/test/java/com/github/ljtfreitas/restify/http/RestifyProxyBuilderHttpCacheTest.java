@@ -0,0 +1,94 @@
+package com.github.ljtfreitas.restify.http;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.message.Header;
+import com.github.ljtfreitas.restify.http.client.message.Headers;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+
+public class RestifyProxyBuilderHttpCacheTest {
+
+	private List<String> authorizations;
+
+	private String credentials;
+
+	private String cacheControl;
+
+	private MyApi myApi;
+
+	@Before
+	public void setup() {
+		authorizations = new ArrayList<>();
+
+		myApi = new RestifyProxyBuilder()
+				.executor()
+					.using(new RecordingEndpointRequestExecutor())
+					.interceptors()
+						.authentication(endpointRequest -> credentials)
+						.and()
+					.and()
+				.cache()
+					.enabled()
+					.and()
+				.target(MyApi.class, "http://my.api.com")
+				.build();
+	}
+
+	@Test
+	public void shouldVaryOnCredentialsAddedByInterceptor() {
+		cacheControl = "public, max-age=60";
+
+		assertEquals("Bearer first", find("Bearer first"));
+		assertEquals("Bearer first", find("Bearer first"));
+		assertEquals("Bearer second", find("Bearer second"));
+
+		assertEquals(2, authorizations.size());
+	}
+
+	@Test
+	public void shouldNotStoreResponseToRequestWithCredentialsAddedByInterceptor() {
+		cacheControl = "max-age=60";
+
+		assertEquals("Bearer first", find("Bearer first"));
+		assertEquals("Bearer first", find("Bearer first"));
+
+		assertEquals(2, authorizations.size());
+	}
+
+	private String find(String authorization) {
+		credentials = authorization;
+		return myApi.find();
+	}
+
+	@Path("/resources")
+	interface MyApi {
+
+		@Get
+		String find();
+	}
+
+	private class RecordingEndpointRequestExecutor implements EndpointRequestExecutor {
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
+			String authorization = endpointRequest.headers().get(Headers.AUTHORIZATION).map(Header::value).orElse(null);
+
+			authorizations.add(authorization);
+
+			return (EndpointResponse<T>) EndpointResponse.of(StatusCode.ok(), authorization,
+					new Headers(Header.of(Headers.CACHE_CONTROL, cacheControl), Header.of(Headers.VARY, Headers.AUTHORIZATION)));
+		}
+	}
+}
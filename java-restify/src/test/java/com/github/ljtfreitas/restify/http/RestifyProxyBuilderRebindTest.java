@@ -0,0 +1,140 @@
+package com.github.ljtfreitas.restify.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ljtfreitas.restify.http.client.call.EndpointCall;
+import com.github.ljtfreitas.restify.http.client.call.handler.EndpointCallHandler;
+import com.github.ljtfreitas.restify.http.client.call.handler.EndpointCallHandlerFactory;
+import com.github.ljtfreitas.restify.http.client.message.response.StatusCode;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
+import com.github.ljtfreitas.restify.http.client.request.EndpointRequestExecutor;
+import com.github.ljtfreitas.restify.http.client.response.EndpointResponse;
+import com.github.ljtfreitas.restify.http.contract.Get;
+import com.github.ljtfreitas.restify.http.contract.Path;
+import com.github.ljtfreitas.restify.http.contract.PathParameter;
+import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
+import com.github.ljtfreitas.restify.reflection.JavaType;
+
+public class RestifyProxyBuilderRebindTest {
+
+	private List<EndpointRequest> requests;
+
+	private AtomicInteger compiledHandlers;
+
+	private MyApi myApi;
+
+	@Before
+	public void setup() {
+		requests = new ArrayList<>();
+
+		compiledHandlers = new AtomicInteger();
+
+		myApi = new RestifyProxyBuilder()
+				.contract()
+					.cached()
+					.and()
+				.executor(new RecordingEndpointRequestExecutor())
+				.handlers(new CountingEndpointCallHandlerFactory())
+				.target(MyApi.class, "http://my.api.com")
+				.build();
+	}
+
+	@Test
+	public void shouldSendRequestsOfReboundProxyToNewEndpoint() {
+		MyApi reboundApi = RestifyProxyBuilder.rebind(myApi, "http://other.api.com");
+
+		assertEquals("result", myApi.get("first"));
+		assertEquals("result", reboundApi.get("second"));
+		assertEquals("result", myApi.get("third"));
+
+		assertEquals(URI.create("http://my.api.com/resources/first"), requests.get(0).endpoint());
+		assertEquals(URI.create("http://other.api.com/resources/second"), requests.get(1).endpoint());
+		assertEquals(URI.create("http://my.api.com/resources/third"), requests.get(2).endpoint());
+	}
+
+	@Test
+	public void shouldUseEndpointMethodOfReboundProxyOnRequestMetadata() {
+		MyApi reboundApi = RestifyProxyBuilder.rebind(myApi, "http://other.api.com");
+
+		myApi.get("first");
+		reboundApi.get("second");
+
+		assertEquals("http://my.api.com/resources/{id}",
+				requests.get(0).metadata().endpointMethod().map(EndpointMethod::path).orElse(null));
+		assertEquals("http://other.api.com/resources/{id}",
+				requests.get(1).metadata().endpointMethod().map(EndpointMethod::path).orElse(null));
+	}
+
+	@Test
+	public void shouldShareInvocationPlanHeadersAndMetadataBetweenReboundProxies() {
+		int tenants = 100;
+
+		for (int i = 0; i < tenants; i++) {
+			RestifyProxyBuilder.rebind(myApi, "http://tenant" + i + ".api.com").get("id");
+		}
+
+		assertEquals(1, compiledHandlers.get());
+
+		EndpointRequest first = requests.get(0);
+
+		for (int i = 0; i < tenants; i++) {
+			EndpointRequest request = requests.get(i);
+
+			assertEquals(URI.create("http://tenant" + i + ".api.com/resources/id"), request.endpoint());
+			assertSame(first.headers(), request.headers());
+			assertSame(first.metadata().all(), request.metadata().all());
+		}
+	}
+
+	@Path("/resources")
+	interface MyApi {
+
+		@Path("/{id}") @Get
+		String get(@PathParameter String id);
+	}
+
+	private class CountingEndpointCallHandlerFactory implements EndpointCallHandlerFactory<String, String> {
+
+		@Override
+		public boolean supports(EndpointMethod endpointMethod) {
+			return endpointMethod.returnType().is(String.class);
+		}
+
+		@Override
+		public EndpointCallHandler<String, String> create(EndpointMethod endpointMethod) {
+			compiledHandlers.incrementAndGet();
+
+			return new EndpointCallHandler<String, String>() {
+
+				@Override
+				public JavaType returnType() {
+					return JavaType.of(String.class);
+				}
+
+				@Override
+				public String handle(EndpointCall<String> call, Object[] args) {
+					return call.execute();
+				}
+			};
+		}
+	}
+
+	private class RecordingEndpointRequestExecutor implements EndpointRequestExecutor {
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T> EndpointResponse<T> execute(EndpointRequest endpointRequest) {
+			requests.add(endpointRequest);
+			return (EndpointResponse<T>) EndpointResponse.of(StatusCode.ok(), "result");
+		}
+	}
+}
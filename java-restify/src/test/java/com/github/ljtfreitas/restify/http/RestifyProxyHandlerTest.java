@@ -3,6 +3,7 @@ package com.github.ljtfreitas.restify.http;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,6 +18,7 @@ import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import com.github.ljtfreitas.restify.http.client.call.EndpointMethodExecutor;
+import com.github.ljtfreitas.restify.http.contract.metadata.ContractReader;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethods;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointTarget;
@@ -62,6 +64,17 @@ public class RestifyProxyHandlerTest {
 			.execute(same(endpointMethod), any());
 	}
 
+	@Test
+	public void shouldFindEndpointMethodOnlyOnceForEachJavaMethod() throws Exception {
+		targetType.method();
+		targetType.method();
+
+		verify(endpointType, times(1)).find(TargetType.class.getMethod("method"));
+
+		verify(endpointMethodExecutorMock, times(2))
+			.execute(same(endpointMethod), any());
+	}
+
 	@Test
 	public void shouldInvokeToStringMethodOnEndpointType() {
 		String targetTypeToString = targetType.toString();
@@ -83,6 +96,29 @@ public class RestifyProxyHandlerTest {
 		assertEquals(endpointType.equals(endpointType), targetTypeEquals);
 	}
 
+	@Test
+	public void shouldRebindToOtherEndpointUsingSameEndpointMethodExecutor() throws Exception {
+		EndpointMethod reboundEndpointMethod = new EndpointMethod(TargetType.class.getMethod("method"), "http://other.api.com", "GET");
+
+		EndpointTarget reboundTarget = new EndpointTarget(TargetType.class, "http://other.api.com");
+
+		ContractReader reader = Mockito.mock(ContractReader.class);
+		when(reader.read(reboundTarget))
+			.thenReturn(new EndpointMethods(Arrays.asList(reboundEndpointMethod)));
+
+		RestifyProxyHandler handler = new RestifyProxyHandler(new EndpointType(new EndpointTarget(TargetType.class, "http://my.api.com"),
+				Mockito.mock(EndpointMethods.class), reader), endpointMethodExecutorMock);
+
+		RestifyProxyHandler rebound = handler.rebind(reboundTarget);
+
+		TargetType reboundTargetType = (TargetType) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class[]{TargetType.class}, rebound);
+
+		reboundTargetType.method();
+
+		verify(endpointMethodExecutorMock)
+			.execute(same(reboundEndpointMethod), any());
+	}
+
 	@Test
 	public void shouldInvokeDefaultMethodOnInterfaceType() {
 		assertEquals("TargetType default method", targetType.myDefaultMethod());
@@ -4,10 +4,13 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.notNull;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -20,6 +23,8 @@ import com.github.ljtfreitas.restify.http.client.call.handler.EndpointCallHandle
 import com.github.ljtfreitas.restify.http.client.call.handler.EndpointCallHandlers;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequest;
 import com.github.ljtfreitas.restify.http.client.request.EndpointRequestFactory;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestPhase;
+import com.github.ljtfreitas.restify.http.client.request.timing.EndpointRequestTiming;
 import com.github.ljtfreitas.restify.http.contract.metadata.EndpointMethod;
 import com.github.ljtfreitas.restify.reflection.JavaType;
 
@@ -85,6 +90,31 @@ public class EndpointMethodExecutorTest {
 		verify(handler).handle(notNull(EndpointCall.class), eq(args));
 	}
 
+	@Test
+	public void shouldResolveEndpointCallHandlerOnlyOnceForEachEndpointMethod() throws Exception {
+		endpointMethodExecutor.execute(endpointMethod, new Object[]{"arg"});
+		endpointMethodExecutor.execute(endpointMethod, new Object[]{"other arg"});
+
+		verify(endpointCallHandlers, times(1)).of(endpointMethod);
+		verify(endpointCallFactory, times(2)).createWith(request, endpointMethod.returnType());
+	}
+
+	@Test
+	public void shouldNotifyTimingListenerOfEndpointRequestCreation() throws Exception {
+		List<EndpointRequestPhase> phases = new ArrayList<>();
+
+		EndpointMethodExecutor endpointMethodExecutor = new EndpointMethodExecutor(endpointRequestFactory, endpointCallHandlers,
+				endpointCallFactory, EndpointRequestTiming.of((m, phase, start, end) -> {
+					assertEquals(endpointMethod, m);
+					phases.add(phase);
+				}));
+
+		endpointMethodExecutor.execute(endpointMethod, new Object[]{"arg"});
+
+		assertEquals(1, phases.size());
+		assertEquals(EndpointRequestPhase.CREATE, phases.get(0));
+	}
+
 	interface SomeType {
 		String method();
 	}
@@ -3,9 +3,13 @@ package com.github.ljtfreitas.restify.http.client.request;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -370,8 +374,62 @@ public class EndpointRequestFactoryTest {
 		assertEquals("custom-header", customHeader.get().value());
 	}
 
+	@Test
+	public void shouldMergeEndpointMethodHeadersWithDynamicHeaderParameterWithoutChangingOtherRequests() throws Exception {
+		EndpointHeaders headers = new EndpointHeaders()
+				.put(new EndpointHeader("X-My-Header", "my-header"));
+
+		EndpointMethodParameters endpointMethodParameters = new EndpointMethodParameters()
+				.put(new EndpointMethodParameter(0, "X-My-Custom-Header", String.class, EndpointMethodParameterType.HEADER));
+
+		EndpointMethod endpointMethod = new EndpointMethod(TargetType.class.getMethod("header", new Class[]{String.class}),
+				"http://my.api.com/some", "GET", endpointMethodParameters, headers);
+
+		EndpointRequest first = endpointRequestFactory.createWith(endpointMethod, new Object[]{"first"});
+		EndpointRequest second = endpointRequestFactory.createWith(endpointMethod, new Object[]{"second"});
+
+		assertThat(first.headers().all(), hasSize(2));
+		assertEquals("my-header", first.headers().get("X-My-Header").get().value());
+		assertEquals("first", first.headers().get("X-My-Custom-Header").get().value());
+
+		assertThat(second.headers().all(), hasSize(2));
+		assertEquals("my-header", second.headers().get("X-My-Header").get().value());
+		assertEquals("second", second.headers().get("X-My-Custom-Header").get().value());
+	}
+
+	@Test
+	public void shouldReuseEndpointMethodHeadersWhenThereAreNoDynamicHeaders() throws Exception {
+		EndpointHeaders headers = new EndpointHeaders()
+				.put(new EndpointHeader("X-My-Header", "my-header"));
+
+		EndpointMethod endpointMethod = new EndpointMethod(TargetType.class.getMethod("simple"), "http://my.api.com/some",
+				"GET", new EndpointMethodParameters(), headers);
+
+		EndpointRequest first = endpointRequestFactory.createWith(endpointMethod, new Object[0]);
+		EndpointRequest second = endpointRequestFactory.createWith(endpointMethod, new Object[0]);
+
+		assertSame(first.headers(), second.headers());
+	}
+
+	@Test
+	public void shouldCreateEndpointRequestWithDestinationParameter() throws Exception {
+		EndpointMethodParameters endpointMethodParameters = new EndpointMethodParameters()
+				.put(new EndpointMethodParameter(0, "destination", File.class, EndpointMethodParameterType.DESTINATION, null));
+
+		EndpointMethod endpointMethod = new EndpointMethod(TargetType.class.getMethod("download", new Class[]{File.class}),
+				"http://my.api.com/some", "GET", endpointMethodParameters);
+
+		EndpointRequest endpointRequest = endpointRequestFactory.createWith(endpointMethod, new Object[]{new File("/tmp/some.file")});
+
+		assertEquals("http://my.api.com/some", endpointRequest.endpoint().toString());
+		assertEquals(Optional.of(Paths.get("/tmp/some.file")), endpointRequest.destination());
+		assertEquals(JavaType.of(Path.class), endpointRequest.responseType());
+	}
+
 	interface TargetType {
 
+		public Path download(File destination);
+
 		public String simple();
 
 		public String path(String path);